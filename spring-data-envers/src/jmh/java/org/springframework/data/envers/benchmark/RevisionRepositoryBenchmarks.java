@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.envers.benchmark;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.envers.Config;
+import org.springframework.data.envers.sample.Country;
+import org.springframework.data.envers.sample.CountryRepository;
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionSort;
+import org.springframework.data.history.Revisions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Benchmarks for Envers revision queries of {@link org.springframework.data.repository.history.RevisionRepository}.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 1, iterations = 3)
+@Measurement(time = 1, iterations = 3)
+@Timeout(time = 2)
+public class RevisionRepositoryBenchmarks {
+
+	private static final int REVISIONS = 50;
+	private static final PageRequest PAGE = PageRequest.of(1, 10, RevisionSort.desc());
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		AnnotationConfigApplicationContext context;
+		CountryRepository repository;
+		Long id;
+		Integer revision;
+
+		@Setup(Level.Trial)
+		public void doSetup() {
+
+			context = new AnnotationConfigApplicationContext(Config.class);
+			repository = context.getBean(CountryRepository.class);
+			TransactionTemplate transactionTemplate = new TransactionTemplate(
+					context.getBean(PlatformTransactionManager.class));
+
+			Country country = new Country();
+			country.code = "de";
+			country.name = "Deutschland";
+			country.timestamp = Instant.now();
+
+			for (int i = 0; i < REVISIONS; i++) {
+
+				country.name = "Deutschland " + i;
+				Country current = country;
+				country = transactionTemplate.execute(status -> repository.save(current));
+			}
+
+			id = country.id;
+			revision = repository.findLastChangeRevision(id).flatMap(Revision::getRevisionNumber).orElseThrow();
+		}
+
+		@TearDown(Level.Trial)
+		public void doTearDown() {
+			context.close();
+		}
+	}
+
+	@Benchmark
+	public Optional<Revision<Integer, Country>> findLastChangeRevision(BenchmarkParameters parameters) {
+		return parameters.repository.findLastChangeRevision(parameters.id);
+	}
+
+	@Benchmark
+	public Optional<Revision<Integer, Country>> findRevision(BenchmarkParameters parameters) {
+		return parameters.repository.findRevision(parameters.id, parameters.revision);
+	}
+
+	@Benchmark
+	public Revisions<Integer, Country> findRevisions(BenchmarkParameters parameters) {
+		return parameters.repository.findRevisions(parameters.id);
+	}
+
+	@Benchmark
+	public Page<Revision<Integer, Country>> findRevisionsPaged(BenchmarkParameters parameters) {
+		return parameters.repository.findRevisions(parameters.id, PAGE);
+	}
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares JMH JSON results of a build against baseline results and flags throughput and allocation regressions.
+ * Results are matched by benchmark name and parameters. A benchmark regresses if its score or its normalized allocation
+ * rate ({@code gc.alloc.rate.norm}, requires {@code -prof gc}) worsens by more than the configured relative threshold
+ * and by more than the combined score error of both runs:
+ *
+ * <pre class="code">
+ * java org.springframework.data.jpa.benchmark.BenchmarkComparison baseline.json current.json --threshold=0.1 --allocation-threshold=0.05
+ * </pre>
+ *
+ * The process exits with status {@literal 1} if a regression was detected so that builds can fail on regressions.
+ */
+public class BenchmarkComparison {
+
+	static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+	private static final String THRESHOLD_OPTION = "--threshold=";
+	private static final String ALLOCATION_THRESHOLD_OPTION = "--allocation-threshold=";
+
+	public static void main(String[] args) throws IOException {
+
+		if (args.length < 2) {
+			System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [--threshold=0.1]"
+					+ " [--allocation-threshold=0.1]");
+			System.exit(2);
+		}
+
+		double threshold = 0.1;
+		double allocationThreshold = 0.1;
+
+		for (int i = 2; i < args.length; i++) {
+
+			if (args[i].startsWith(THRESHOLD_OPTION)) {
+				threshold = Double.parseDouble(args[i].substring(THRESHOLD_OPTION.length()));
+			} else if (args[i].startsWith(ALLOCATION_THRESHOLD_OPTION)) {
+				allocationThreshold = Double.parseDouble(args[i].substring(ALLOCATION_THRESHOLD_OPTION.length()));
+			}
+		}
+
+		Map<String, Result> baseline = read(Path.of(args[0]));
+		Map<String, Result> current = read(Path.of(args[1]));
+
+		List<Change> changes = compare(baseline, current, threshold, allocationThreshold);
+
+		for (Change change : changes) {
+			System.out.println(change);
+		}
+
+		for (String missing : baseline.keySet()) {
+			if (!current.containsKey(missing)) {
+				System.out.printf("%-100s missing in current results%n", missing);
+			}
+		}
+
+		if (changes.stream().anyMatch(Change::regression)) {
+			System.out.println("Benchmark regressions detected");
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Read JMH JSON results keyed by benchmark name and parameters.
+	 *
+	 * @param file the JSON result file.
+	 * @return the results.
+	 * @throws IOException if the file cannot be read.
+	 */
+	static Map<String, Result> read(Path file) throws IOException {
+
+		JsonNode root = new ObjectMapper().readTree(file.toFile());
+		Map<String, Result> results = new LinkedHashMap<>();
+
+		for (JsonNode benchmark : root) {
+
+			JsonNode primary = benchmark.path("primaryMetric");
+			JsonNode allocation = benchmark.path("secondaryMetrics").path(ALLOCATION_METRIC);
+
+			Result result = new Result(getKey(benchmark), benchmark.path("mode").asText(),
+					new Metric(primary.path("score").asDouble(), primary.path("scoreError").asDouble(),
+							primary.path("scoreUnit").asText()),
+					allocation.isMissingNode() ? null
+							: new Metric(allocation.path("score").asDouble(), allocation.path("scoreError").asDouble(),
+									allocation.path("scoreUnit").asText()));
+
+			results.put(result.key(), result);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Compare current results against baseline results.
+	 *
+	 * @param baseline the baseline results.
+	 * @param current the current results.
+	 * @param threshold relative score change considered a regression.
+	 * @param allocationThreshold relative allocation change considered a regression.
+	 * @return the score and allocation changes of all benchmarks contained in both results.
+	 */
+	static List<Change> compare(Map<String, Result> baseline, Map<String, Result> current, double threshold,
+			double allocationThreshold) {
+
+		List<Change> changes = new ArrayList<>();
+
+		for (Result result : current.values()) {
+
+			Result base = baseline.get(result.key());
+
+			if (base == null) {
+				continue;
+			}
+
+			// throughput improves with higher scores, all other modes report time per operation
+			boolean higherIsBetter = "thrpt".equals(result.mode());
+			changes.add(Change.of(result.key(), result.mode(), base.score(), result.score(), higherIsBetter, threshold));
+
+			if (base.allocation() != null && result.allocation() != null) {
+				changes.add(Change.of(result.key(), ALLOCATION_METRIC, base.allocation(), result.allocation(), false,
+						allocationThreshold));
+			}
+		}
+
+		return changes;
+	}
+
+	private static String getKey(JsonNode benchmark) {
+
+		String name = benchmark.path("benchmark").asText();
+		JsonNode params = benchmark.path("params");
+
+		if (params.isMissingNode() || params.isEmpty()) {
+			return name;
+		}
+
+		Map<String, String> sorted = new TreeMap<>();
+
+		for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext();) {
+			Map.Entry<String, JsonNode> param = it.next();
+			sorted.put(param.getKey(), param.getValue().asText());
+		}
+
+		return name + " " + sorted;
+	}
+
+	/**
+	 * A single benchmark result.
+	 */
+	record Result(String key, String mode, Metric score, @Nullable Metric allocation) {
+	}
+
+	/**
+	 * A metric score with its error margin.
+	 */
+	record Metric(double score, double error, String unit) {
+	}
+
+	/**
+	 * Change of a metric between baseline and current results.
+	 */
+	record Change(String key, String metric, Metric baseline, Metric current, double relativeChange,
+			boolean regression) {
+
+		static Change of(String key, String metric, Metric baseline, Metric current, boolean higherIsBetter,
+				double threshold) {
+
+			double relativeChange = baseline.score() == 0 ? 0 : (current.score() - baseline.score()) / baseline.score();
+			double worsening = higherIsBetter ? -relativeChange : relativeChange;
+			boolean significant = Math.abs(current.score() - baseline.score()) > safeError(baseline) + safeError(current);
+
+			return new Change(key, metric, baseline, current, relativeChange, significant && worsening > threshold);
+		}
+
+		private static double safeError(Metric metric) {
+			return Double.isNaN(metric.error()) ? 0 : metric.error();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-100s %-20s %14.3f -> %14.3f %-10s %+7.1f%%%s", key, metric, baseline.score(),
+					current.score(), current.unit(), relativeChange * 100, regression ? "  REGRESSION" : "");
+		}
+	}
+
+}
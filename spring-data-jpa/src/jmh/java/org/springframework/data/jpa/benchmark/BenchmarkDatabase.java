@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.Properties;
+
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.data.jpa.benchmark.model.Person;
+import org.springframework.data.jpa.benchmark.repository.PersonCrudRepository;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Benchmark state providing a populated in-memory database and a {@link PersonCrudRepository} backed by a shared
+ * {@link EntityManager}. As in applications, each repository invocation outside of a
+ * {@link #transactionTemplate transaction} uses its own persistence context so that benchmarks measure queries rather
+ * than first-level cache hits.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+	static final int PERSONS = 1000;
+	static final int FIRSTNAMES = 10;
+	static final int LASTNAMES = 100;
+
+	@Param({ "h2", "hsqldb" }) String database;
+
+	EntityManagerFactory entityManagerFactory;
+	EntityManager entityManager;
+	TransactionTemplate transactionTemplate;
+	PersonCrudRepository repository;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		entityManagerFactory = createEntityManagerFactory(database);
+		entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+		transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+		repository = new JpaRepositoryFactory(entityManager).getRepository(PersonCrudRepository.class);
+
+		populate();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		entityManagerFactory.close();
+	}
+
+	static String firstname(int index) {
+		return "first-" + (index % FIRSTNAMES);
+	}
+
+	static String lastname(int index) {
+		return "last-" + (index % LASTNAMES);
+	}
+
+	private void populate() {
+
+		transactionTemplate.executeWithoutResult(status -> {
+
+			for (int i = 0; i < PERSONS; i++) {
+
+				Person person = new Person(firstname(i), lastname(i), "person-" + i + "@benchmark.com");
+				person.setAge(i % 80);
+				entityManager.persist(person);
+
+				if (i % 100 == 99) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+		});
+	}
+
+	private static EntityManagerFactory createEntityManagerFactory(String database) {
+
+		LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+		factoryBean.setPersistenceUnitName("benchmark");
+		factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factoryBean.setPersistenceProviderClass(HibernatePersistenceProvider.class);
+		factoryBean.setPersistenceXmlLocation("classpath*:META-INF/persistence-jmh.xml");
+		factoryBean.setMappingResources("classpath*:META-INF/orm-jmh.xml");
+
+		Properties properties = new Properties();
+
+		switch (database) {
+			case "h2" -> {
+				properties.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+				properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+			}
+			case "hsqldb" -> {
+				properties.put("jakarta.persistence.jdbc.url", "jdbc:hsqldb:mem:benchmark");
+				properties.put("hibernate.dialect", "org.hibernate.dialect.HSQLDialect");
+			}
+			default -> throw new IllegalArgumentException("Unsupported database: " + database);
+		}
+
+		properties.put("hibernate.hbm2ddl.auto", "create-drop");
+		properties.put("hibernate.xml_mapping_enabled", "false");
+
+		factoryBean.setJpaProperties(properties);
+		factoryBean.afterPropertiesSet();
+
+		return factoryBean.getObject();
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks with allocation profiling ({@code -prof gc}) and writes JSON results that can be compared against a
+ * baseline using {@link BenchmarkComparison}. Arguments are regular expressions selecting the benchmarks to run,
+ * defaulting to all benchmarks of this package. The result file defaults to {@code target/jmh-result.json} and can be
+ * changed through the {@code jmh.result} system property:
+ *
+ * <pre class="code">
+ * java -Djmh.result=target/current.json org.springframework.data.jpa.benchmark.BenchmarkRunner SimpleJpaRepository
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+	static final String DEFAULT_INCLUDE = BenchmarkRunner.class.getPackageName() + "\\..*Benchmarks";
+
+	public static void main(String[] args) throws RunnerException, IOException {
+
+		Path result = Path.of(System.getProperty("jmh.result", "target/jmh-result.json"));
+
+		if (result.getParent() != null) {
+			Files.createDirectories(result.getParent());
+		}
+
+		ChainedOptionsBuilder options = new OptionsBuilder() //
+				.addProfiler(GCProfiler.class) //
+				.resultFormat(ResultFormatType.JSON) //
+				.result(result.toString());
+
+		if (args.length == 0) {
+			options.include(DEFAULT_INCLUDE);
+		}
+
+		for (String include : args) {
+			options.include(include);
+		}
+
+		new Runner(options.build()).run();
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.jpa.benchmark.model.Person;
+
+/**
+ * Benchmarks for binding named, positional, {@code LIKE}, collection and expression parameters of declared queries.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 1, iterations = 3)
+@Measurement(time = 1, iterations = 3)
+@Timeout(time = 2)
+public class ParameterBindingBenchmarks {
+
+	private static final String FIRSTNAME = BenchmarkDatabase.firstname(1);
+	private static final String LASTNAME = BenchmarkDatabase.lastname(1);
+	private static final List<Integer> IDS = IntStream.rangeClosed(1, 50).boxed().toList();
+
+	@Benchmark
+	public List<Person> namedParameters(BenchmarkDatabase database) {
+		return database.repository.findByNamedParameters(FIRSTNAME, LASTNAME, 0, 80);
+	}
+
+	@Benchmark
+	public List<Person> likeParameter(BenchmarkDatabase database) {
+		return database.repository.findByLastnameContaining("-1");
+	}
+
+	@Benchmark
+	public List<Person> collectionParameter(BenchmarkDatabase database) {
+		return database.repository.findByIds(IDS);
+	}
+
+	@Benchmark
+	public List<Person> expressionParameter(BenchmarkDatabase database) {
+		return database.repository.findByExpression(LASTNAME);
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark;
+
+import java.util.List;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.jpa.benchmark.model.IPersonProjection;
+import org.springframework.data.jpa.benchmark.model.PersonDto;
+
+/**
+ * Benchmarks for interface and DTO projections including {@link jakarta.persistence.Tuple}-backed projections
+ * materialized through {@code TupleConverter}.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 1, iterations = 3)
+@Measurement(time = 1, iterations = 3)
+@Timeout(time = 2)
+public class ProjectionBenchmarks {
+
+	private static final String LASTNAME = BenchmarkDatabase.lastname(1);
+
+	@Benchmark
+	public List<IPersonProjection> derivedInterfaceProjection(BenchmarkDatabase database) {
+		return database.repository.findProjectedByLastname(LASTNAME);
+	}
+
+	@Benchmark
+	public List<PersonDto> derivedDtoProjection(BenchmarkDatabase database) {
+		return database.repository.findDtoByLastname(LASTNAME);
+	}
+
+	@Benchmark
+	public List<IPersonProjection> declaredTupleProjection(BenchmarkDatabase database) {
+		return database.repository.findTupleProjectedByLastname(LASTNAME);
+	}
+
+	@Benchmark
+	public List<IPersonProjection> nativeTupleProjection(BenchmarkDatabase database) {
+		return database.repository.findNativeProjectedByLastname(LASTNAME);
+	}
+
+	@Benchmark
+	public int declaredTupleProjectionAccess(BenchmarkDatabase database) {
+
+		int length = 0;
+
+		for (IPersonProjection projection : database.repository.findTupleProjectedByLastname(LASTNAME)) {
+			length += projection.getFirstname().length() + projection.getLastname().length();
+		}
+
+		return length;
+	}
+
+}
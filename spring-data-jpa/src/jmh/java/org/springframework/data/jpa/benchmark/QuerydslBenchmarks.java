@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.benchmark.model.Person;
+import org.springframework.data.jpa.benchmark.model.QPerson;
+
+import com.querydsl.core.types.Predicate;
+
+/**
+ * Benchmarks for {@link org.springframework.data.querydsl.QuerydslPredicateExecutor} methods.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 1, iterations = 3)
+@Measurement(time = 1, iterations = 3)
+@Timeout(time = 2)
+public class QuerydslBenchmarks {
+
+	private static final Predicate PREDICATE = QPerson.person.firstname.eq(BenchmarkDatabase.firstname(1))
+			.and(QPerson.person.age.goe(18));
+	private static final PageRequest PAGE = PageRequest.of(1, 20, Sort.by("id"));
+
+	@Benchmark
+	public Iterable<Person> findAllByPredicate(BenchmarkDatabase database) {
+		return database.repository.findAll(PREDICATE);
+	}
+
+	@Benchmark
+	public Page<Person> findAllByPredicatePaged(BenchmarkDatabase database) {
+		return database.repository.findAll(PREDICATE, PAGE);
+	}
+
+	@Benchmark
+	public long countByPredicate(BenchmarkDatabase database) {
+		return database.repository.count(PREDICATE);
+	}
+
+}
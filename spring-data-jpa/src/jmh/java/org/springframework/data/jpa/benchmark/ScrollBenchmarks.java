@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.benchmark.model.Person;
+import org.springframework.data.support.WindowIterator;
+
+/**
+ * Benchmarks for keyset and offset scrolling.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 1, iterations = 3)
+@Measurement(time = 1, iterations = 3)
+@Timeout(time = 5)
+public class ScrollBenchmarks {
+
+	@State(Scope.Benchmark)
+	public static class ScrollPositions {
+
+		ScrollPosition keyset;
+		ScrollPosition offset;
+
+		@Setup(Level.Trial)
+		public void doSetup(BenchmarkDatabase database) {
+
+			keyset = database.repository.findFirst20ByAgeGreaterThanOrderByIdAsc(0, ScrollPosition.keyset()).positionAt(19);
+			offset = ScrollPosition.offset(19);
+		}
+	}
+
+	@Benchmark
+	public Window<Person> keysetFirstWindow(BenchmarkDatabase database) {
+		return database.repository.findFirst20ByAgeGreaterThanOrderByIdAsc(0, ScrollPosition.keyset());
+	}
+
+	@Benchmark
+	public Window<Person> keysetNextWindow(BenchmarkDatabase database, ScrollPositions positions) {
+		return database.repository.findFirst20ByAgeGreaterThanOrderByIdAsc(0, positions.keyset);
+	}
+
+	@Benchmark
+	public Window<Person> offsetNextWindow(BenchmarkDatabase database, ScrollPositions positions) {
+		return database.repository.findFirst20ByAgeGreaterThanOrderByIdAsc(0, positions.offset);
+	}
+
+	@Benchmark
+	public void keysetScrollAll(BenchmarkDatabase database, Blackhole blackhole) {
+
+		WindowIterator<Person> iterator = WindowIterator
+				.of(position -> database.repository.findFirst20ByAgeGreaterThanOrderByIdAsc(0, position))
+				.startingAt(ScrollPosition.keyset());
+
+		iterator.forEachRemaining(blackhole::consume);
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.benchmark.model.Person;
+
+/**
+ * Benchmarks for CRUD and batch methods of {@link org.springframework.data.jpa.repository.support.SimpleJpaRepository}.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 1, iterations = 3)
+@Measurement(time = 1, iterations = 3)
+@Timeout(time = 2)
+public class SimpleJpaRepositoryBenchmarks {
+
+	private static final List<Integer> IDS = IntStream.rangeClosed(1, 20).boxed().toList();
+	private static final PageRequest PAGE = PageRequest.of(2, 20, Sort.by("lastname", "id"));
+	private static final AtomicLong sequence = new AtomicLong();
+
+	@Benchmark
+	public Optional<Person> findById(BenchmarkDatabase database) {
+		return database.repository.findById(IDS.get(0));
+	}
+
+	@Benchmark
+	public boolean existsById(BenchmarkDatabase database) {
+		return database.repository.existsById(IDS.get(0));
+	}
+
+	@Benchmark
+	public List<Person> findAllById(BenchmarkDatabase database) {
+		return database.repository.findAllById(IDS);
+	}
+
+	@Benchmark
+	public long count(BenchmarkDatabase database) {
+		return database.repository.count();
+	}
+
+	@Benchmark
+	public Page<Person> findAllPaged(BenchmarkDatabase database) {
+		return database.repository.findAll(PAGE);
+	}
+
+	@Benchmark
+	public List<Person> saveAllAndFlush(BenchmarkDatabase database) {
+
+		return database.transactionTemplate.execute(status -> {
+
+			List<Person> persons = new ArrayList<>(IDS.size());
+
+			for (int i = 0; i < IDS.size(); i++) {
+				persons.add(new Person("first", "last", "saved-" + sequence.incrementAndGet() + "@benchmark.com"));
+			}
+
+			List<Person> saved = database.repository.saveAllAndFlush(persons);
+			status.setRollbackOnly();
+
+			return saved;
+		});
+	}
+
+	@Benchmark
+	public void deleteAllByIdInBatch(BenchmarkDatabase database) {
+
+		database.transactionTemplate.executeWithoutResult(status -> {
+
+			database.repository.deleteAllByIdInBatch(IDS);
+			status.setRollbackOnly();
+		});
+	}
+
+}
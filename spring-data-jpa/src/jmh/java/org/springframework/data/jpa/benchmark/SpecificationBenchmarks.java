@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark;
+
+import java.util.List;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.benchmark.model.Person;
+import org.springframework.data.jpa.benchmark.model.PersonDto;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Benchmarks for {@link Specification} and Query by Example methods.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 1, iterations = 3)
+@Measurement(time = 1, iterations = 3)
+@Timeout(time = 2)
+public class SpecificationBenchmarks {
+
+	private static final String FIRSTNAME = BenchmarkDatabase.firstname(1);
+	private static final String LASTNAME = BenchmarkDatabase.lastname(1);
+	private static final PageRequest PAGE = PageRequest.of(1, 20, Sort.by("id"));
+
+	private static final Specification<Person> SPECIFICATION = (root, query, builder) -> builder.and(
+			builder.equal(root.get("firstname"), FIRSTNAME), builder.greaterThanOrEqualTo(root.get("age"), 18));
+
+	private static final Example<Person> EXAMPLE;
+	private static final Example<Person> MATCHING_EXAMPLE;
+
+	static {
+
+		Person probe = new Person(FIRSTNAME, LASTNAME, null);
+		EXAMPLE = Example.of(probe, ExampleMatcher.matching().withIgnorePaths("age", "decased"));
+		MATCHING_EXAMPLE = Example.of(new Person(null, "last-1", null),
+				ExampleMatcher.matching().withIgnorePaths("age", "decased")
+						.withStringMatcher(ExampleMatcher.StringMatcher.STARTING));
+	}
+
+	@Benchmark
+	public List<Person> findAllBySpecification(BenchmarkDatabase database) {
+		return database.repository.findAll(SPECIFICATION);
+	}
+
+	@Benchmark
+	public Page<Person> findAllBySpecificationPaged(BenchmarkDatabase database) {
+		return database.repository.findAll(SPECIFICATION, PAGE);
+	}
+
+	@Benchmark
+	public long countBySpecification(BenchmarkDatabase database) {
+		return database.repository.count(SPECIFICATION);
+	}
+
+	@Benchmark
+	public List<PersonDto> findBySpecificationProjected(BenchmarkDatabase database) {
+		return database.repository.findBy(SPECIFICATION, query -> query.as(PersonDto.class).all());
+	}
+
+	@Benchmark
+	public List<Person> findAllByExample(BenchmarkDatabase database) {
+		return database.repository.findAll(EXAMPLE);
+	}
+
+	@Benchmark
+	public Page<Person> findAllByMatchingExamplePaged(BenchmarkDatabase database) {
+		return database.repository.findAll(MATCHING_EXAMPLE, PAGE);
+	}
+
+	@Benchmark
+	public boolean existsByExample(BenchmarkDatabase database) {
+		return database.repository.exists(EXAMPLE);
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.benchmark.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.benchmark.model.IPersonProjection;
+import org.springframework.data.jpa.benchmark.model.Person;
+import org.springframework.data.jpa.benchmark.model.PersonDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository exercising CRUD, Specification, Query by Example, Querydsl, scrolling, projection and parameter binding
+ * code paths.
+ */
+public interface PersonCrudRepository extends JpaRepository<Person, Integer>, JpaSpecificationExecutor<Person>,
+		QuerydslPredicateExecutor<Person> {
+
+	Window<Person> findFirst20ByAgeGreaterThanOrderByIdAsc(int age, ScrollPosition position);
+
+	List<IPersonProjection> findProjectedByLastname(String lastname);
+
+	List<PersonDto> findDtoByLastname(String lastname);
+
+	@Query("SELECT p.firstname AS firstname, p.lastname AS lastname FROM Person p WHERE p.lastname = ?1")
+	List<IPersonProjection> findTupleProjectedByLastname(String lastname);
+
+	@Query(value = "SELECT firstname, lastname FROM person WHERE lastname = ?1", nativeQuery = true)
+	List<IPersonProjection> findNativeProjectedByLastname(String lastname);
+
+	@Query("SELECT p FROM Person p WHERE p.firstname = :firstname AND p.lastname = :lastname AND p.age BETWEEN :min AND :max")
+	List<Person> findByNamedParameters(@Param("firstname") String firstname, @Param("lastname") String lastname,
+			@Param("min") int min, @Param("max") int max);
+
+	@Query("SELECT p FROM Person p WHERE p.lastname LIKE %?1%")
+	List<Person> findByLastnameContaining(String lastname);
+
+	@Query("SELECT p FROM Person p WHERE p.id IN ?1")
+	List<Person> findByIds(Collection<Integer> ids);
+
+	@Query("SELECT p FROM Person p WHERE p.lastname = :#{#lastname}")
+	List<Person> findByExpression(@Param("lastname") String lastname);
+
+}
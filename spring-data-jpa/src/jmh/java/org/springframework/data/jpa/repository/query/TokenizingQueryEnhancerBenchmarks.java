@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+
+/**
+ * Benchmarks comparing {@link TokenizingQueryEnhancer} with {@link JSqlParserQueryEnhancer} for enhancer creation,
+ * sorting and count query derivation.
+ */
+@Testable
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 2)
+@Timeout(time = 2)
+public class TokenizingQueryEnhancerBenchmarks {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		@Param({ "simple", "setOperation", "reporting" }) String query;
+
+		DeclaredQuery declaredQuery;
+		QueryEnhancer jsqlParser;
+		QueryEnhancer tokenizing;
+		QueryEnhancer.QueryRewriteInformation rewriteInformation;
+
+		@Setup(Level.Iteration)
+		public void doSetup() {
+
+			String s = switch (query) {
+				case "simple" -> "select u.* from users u where u.lastname = :lastname";
+				case "setOperation" -> """
+						select SOME_COLUMN from SOME_TABLE where REPORTING_DATE = :REPORTING_DATE
+						except
+						select SOME_COLUMN from SOME_OTHER_TABLE where REPORTING_DATE = :REPORTING_DATE
+						union select SOME_COLUMN from SOME_OTHER_OTHER_TABLE""";
+				default -> """
+						with monthly as (
+							select o.customer_id, date_trunc('month', o.created_at) as month, sum(o.total) as revenue
+							from orders o
+							where o.created_at >= :from and o.created_at < :to and o.status <> 'CANCELLED'
+							group by o.customer_id, date_trunc('month', o.created_at)
+						)
+						select c.id, c.name, r.name as region, m.month, m.revenue,
+							rank() over (partition by r.id, m.month order by m.revenue desc) as regional_rank,
+							(select count(*) from support_tickets t where t.customer_id = c.id and t.opened_at >= :from) as tickets
+						from customers c
+							join regions r on r.id = c.region_id
+							left join monthly m on m.customer_id = c.id
+							left join lateral (select a.city from addresses a where a.customer_id = c.id limit 1) addr on true
+						where c.active = true and (c.segment in (:segments) or c.tier = 'GOLD')
+						order by m.month
+						limit 500""";
+			};
+
+			declaredQuery = DeclaredQuery.nativeQuery(s);
+			jsqlParser = QueryEnhancerFactories.jsqlparser().create(declaredQuery);
+			tokenizing = QueryEnhancerFactories.tokenizing().create(declaredQuery);
+			rewriteInformation = new DefaultQueryRewriteInformation(Sort.by("name", "revenue"),
+					ReturnedType.of(Object.class, Object.class, new SpelAwareProxyProjectionFactory()));
+		}
+	}
+
+	@Benchmark
+	public Object createJSqlParser(BenchmarkParameters p) {
+		return QueryEnhancerFactories.jsqlparser().create(p.declaredQuery);
+	}
+
+	@Benchmark
+	public Object createTokenizing(BenchmarkParameters p) {
+		return QueryEnhancerFactories.tokenizing().create(p.declaredQuery);
+	}
+
+	@Benchmark
+	public Object applySortJSqlParser(BenchmarkParameters p) {
+		return p.jsqlParser.rewrite(p.rewriteInformation);
+	}
+
+	@Benchmark
+	public Object applySortTokenizing(BenchmarkParameters p) {
+		return p.tokenizing.rewrite(p.rewriteInformation);
+	}
+
+	@Benchmark
+	public Object createCountQueryJSqlParser(BenchmarkParameters p) {
+		return p.jsqlParser.createCountQueryFor(null);
+	}
+
+	@Benchmark
+	public Object createCountQueryTokenizing(BenchmarkParameters p) {
+		return p.tokenizing.createCountQueryFor(null);
+	}
+
+}
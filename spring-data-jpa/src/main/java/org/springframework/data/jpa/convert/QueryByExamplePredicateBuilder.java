@@ -27,25 +27,37 @@ import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
 import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.SingularAttribute;
 
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.ExampleMatcher.MatchMode;
+import org.springframework.data.domain.ExampleMatcher.PropertySpecifier;
 import org.springframework.data.domain.ExampleMatcher.PropertyValueTransformer;
+import org.springframework.data.domain.ExampleMatcher.StringMatcher;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.data.support.ExampleMatcherAccessor;
 import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.data.util.Lazy;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -54,6 +66,9 @@ import org.springframework.util.StringUtils;
  * The builder includes any {@link SingularAttribute} of the {@link Example#getProbe()} applying {@link String} and
  * {@literal null} matching strategies configured on the {@link Example}. Ignored paths are no matter of their actual
  * value not considered. <br />
+ * Matcher decisions and attribute accessors are compiled per managed type, probe type and {@link ExampleMatcher}.
+ * Callers that query the same managed type repeatedly can pass a {@link PlanCache} to reuse compiled plans so that
+ * subsequent invocations only read the probe values.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -97,139 +112,352 @@ public class QueryByExamplePredicateBuilder {
 	 */
 	public static <T> @Nullable Predicate getPredicate(Root<T> root, CriteriaBuilder cb, Example<T> example,
 			EscapeCharacter escapeCharacter) {
+		return getPredicate(root, cb, example, escapeCharacter, null);
+	}
+
+	/**
+	 * Extract the {@link Predicate} representing the {@link Example} reusing compiled plans from the given
+	 * {@link PlanCache}.
+	 *
+	 * @param root must not be {@literal null}.
+	 * @param cb must not be {@literal null}.
+	 * @param example must not be {@literal null}.
+	 * @param escapeCharacter Must not be {@literal null}.
+	 * @param plans cache of compiled plans, can be {@literal null} to compile the plan for this invocation only.
+	 * @return {@literal null} indicates no constraints
+	 * @since 4.2
+	 */
+	public static <T> @Nullable Predicate getPredicate(Root<T> root, CriteriaBuilder cb, Example<T> example,
+			EscapeCharacter escapeCharacter, @Nullable PlanCache plans) {
 
 		Assert.notNull(root, "Root must not be null");
 		Assert.notNull(cb, "CriteriaBuilder must not be null");
 		Assert.notNull(example, "Example must not be null");
 
-		ExampleMatcher matcher = example.getMatcher();
+		PlanKey key = new PlanKey(root.getModel(), example.getProbeType(), example.getMatcher());
+		ExamplePlan plan = plans != null ? plans.get(key) : ExamplePlan.compile(key);
+
+		return plan.getPredicate(root, cb, example.getProbe(), escapeCharacter);
+	}
+
+	private static boolean isAssociation(Attribute<?, ?> attribute) {
+		return ASSOCIATION_TYPES.contains(attribute.getPersistentAttributeType());
+	}
 
-		List<Predicate> predicates = getPredicates("", cb, root, root.getModel(), example.getProbe(),
-				example.getProbeType(), matcher.getMatchMode(), new ExampleMatcherAccessor(matcher),
-				new PathNode("root", null, example.getProbe()), escapeCharacter);
+	/**
+	 * Cache of compiled plans. Plans reference the metamodel of the managed types they were compiled for, so caches
+	 * should be scoped to the owner of the metamodel, such as a repository, instead of being shared across
+	 * {@link jakarta.persistence.EntityManagerFactory entity manager factories}.
+	 * <p>
+	 * Plans for matchers using value transformers that capture state (such as capturing lambdas) are not cached as such
+	 * matchers are typically created for each invocation and never equal to each other.
+	 *
+	 * @since 4.2
+	 */
+	public static final class PlanCache {
 
-		if (predicates.isEmpty()) {
-			return null;
+		private static final int DEFAULT_CAPACITY = 32;
+
+		private final ConcurrentLruCache<PlanKey, ExamplePlan> plans;
+
+		/**
+		 * Create a new {@link PlanCache} with a default capacity.
+		 */
+		public PlanCache() {
+			this(DEFAULT_CAPACITY);
 		}
 
-		if (predicates.size() == 1) {
-			return predicates.iterator().next();
+		/**
+		 * Create a new {@link PlanCache} retaining up to {@code capacity} plans.
+		 *
+		 * @param capacity maximum number of cached plans, must be greater than zero.
+		 */
+		public PlanCache(int capacity) {
+
+			Assert.isTrue(capacity > 0, "Capacity must be greater than zero");
+
+			this.plans = new ConcurrentLruCache<>(capacity, ExamplePlan::compile);
 		}
 
-		Predicate[] array = predicates.toArray(new Predicate[0]);
+		ExamplePlan get(PlanKey key) {
+			return isCacheable(key.matcher()) ? plans.get(key) : ExamplePlan.compile(key);
+		}
 
-		return matcher.isAllMatching() ? cb.and(array) : cb.or(array);
+		/**
+		 * Return the number of cached plans.
+		 *
+		 * @return the number of cached plans.
+		 */
+		public int size() {
+			return plans.size();
+		}
+
+		private static boolean isCacheable(ExampleMatcher matcher) {
+
+			for (PropertySpecifier specifier : matcher.getPropertySpecifiers().getSpecifiers()) {
+
+				Class<?> transformerType = specifier.getPropertyValueTransformer().getClass();
+
+				// capturing lambdas are created per evaluation and identity-based equals never matches
+				if (transformerType.isSynthetic() && transformerType.getDeclaredFields().length > 0) {
+					return false;
+				}
+			}
+
+			return true;
+		}
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	static List<Predicate> getPredicates(String path, CriteriaBuilder cb, Path<?> from, ManagedType<?> type, Object value,
-			Class<?> probeType, MatchMode matchMode, ExampleMatcherAccessor exampleAccessor, PathNode currentNode,
-			EscapeCharacter escapeCharacter) {
+	/**
+	 * Cache key for {@link ExamplePlan}s.
+	 *
+	 * @param type the managed type of the query root.
+	 * @param probeType the type of the probe.
+	 * @param matcher the matcher to apply.
+	 */
+	private record PlanKey(ManagedType<?> type, Class<?> probeType, ExampleMatcher matcher) {
 
-		List<Predicate> predicates = new ArrayList<>();
-		DirectFieldAccessFallbackBeanWrapper beanWrapper = new DirectFieldAccessFallbackBeanWrapper(value);
+	}
 
-		for (SingularAttribute attribute : type.getSingularAttributes()) {
+	/**
+	 * Immutable plan to create {@link Predicate}s for probes of a particular type and {@link ExampleMatcher}. A plan
+	 * captures the matcher decisions for each attribute path so that applying the plan only requires reading the probe
+	 * values. Nested paths are compiled on first use as the metamodel may contain cyclic associations.
+	 */
+	private static class ExamplePlan {
 
-			String currentPath = !StringUtils.hasText(path) ? attribute.getName() : path + "." + attribute.getName();
+		private final Class<?> probeType;
+		private final boolean allMatching;
+		private final JoinType joinType;
+		private final boolean includeNulls;
+		private final TypePlan root;
 
-			if (exampleAccessor.isIgnoredPath(currentPath)) {
-				continue;
-			}
+		private ExamplePlan(PlanKey key) {
 
-			PropertyValueTransformer transformer = exampleAccessor.getValueTransformerForPath(currentPath);
-			Optional<Object> optionalValue = transformer
-					.apply(Optional.ofNullable(beanWrapper.getPropertyValue(attribute.getName())));
+			ExampleMatcher matcher = key.matcher();
+			ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(matcher);
 
-			if (optionalValue.isEmpty()) {
+			this.probeType = key.probeType();
+			this.allMatching = matcher.isAllMatching();
+			this.joinType = matcher.getMatchMode().equals(MatchMode.ALL) ? JoinType.INNER : JoinType.LEFT;
+			this.includeNulls = accessor.getNullHandler().equals(ExampleMatcher.NullHandler.INCLUDE);
+			this.root = new TypePlan("", key.type(), accessor);
+		}
 
-				if (exampleAccessor.getNullHandler().equals(ExampleMatcher.NullHandler.INCLUDE)) {
-					predicates.add(cb.isNull(from.get(attribute)));
-				}
-				continue;
-			}
+		static ExamplePlan compile(PlanKey key) {
+			return new ExamplePlan(key);
+		}
 
-			Object attributeValue = optionalValue.get();
+		@Nullable Predicate getPredicate(Path<?> root, CriteriaBuilder cb, Object probe, EscapeCharacter escapeCharacter) {
 
-			if (attributeValue == Optional.empty()) {
-				continue;
-			}
+			List<Predicate> predicates = new ArrayList<>();
+			addPredicates(predicates, cb, root, this.root, probe, new PathNode("root", null, probe), escapeCharacter);
 
-			if (attribute.getPersistentAttributeType().equals(PersistentAttributeType.EMBEDDED)
-					|| (isAssociation(attribute) && !(from instanceof From))) {
+			if (predicates.isEmpty()) {
+				return null;
+			}
 
-				predicates
-						.addAll(getPredicates(currentPath, cb, from.get(attribute.getName()), (ManagedType<?>) attribute.getType(),
-								attributeValue, probeType, matchMode, exampleAccessor, currentNode, escapeCharacter));
-				continue;
+			if (predicates.size() == 1) {
+				return predicates.get(0);
 			}
 
-			if (isAssociation(attribute)) {
+			Predicate[] array = predicates.toArray(new Predicate[0]);
+
+			return allMatching ? cb.and(array) : cb.or(array);
+		}
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		private void addPredicates(List<Predicate> predicates, CriteriaBuilder cb, Path<?> from, TypePlan type,
+				Object value, PathNode currentNode, EscapeCharacter escapeCharacter) {
 
-				PathNode node = currentNode.add(attribute.getName(), attributeValue);
-				if (node.spansCycle()) {
-					throw new InvalidDataAccessApiUsageException(
-							String.format("Path '%s' from root %s must not span a cyclic property reference%n%s", currentPath,
-									ClassUtils.getShortName(probeType), node));
+			for (AttributePlan attribute : type.attributes) {
+
+				Optional<Object> optionalValue = attribute.transformer
+						.apply(Optional.ofNullable(attribute.getValue(value)));
+
+				if (optionalValue.isEmpty()) {
+
+					if (includeNulls) {
+						predicates.add(cb.isNull(from.get(attribute.attribute)));
+					}
+					continue;
 				}
 
-				JoinType joinType = matchMode.equals(MatchMode.ALL) ? JoinType.INNER : JoinType.LEFT;
-				predicates.addAll(getPredicates(currentPath, cb, ((From<?, ?>) from).join(attribute.getName(), joinType),
-						(ManagedType<?>) attribute.getType(), attributeValue, probeType, matchMode, exampleAccessor, node,
-						escapeCharacter));
+				Object attributeValue = optionalValue.get();
 
-				continue;
-			}
+				if (attributeValue == Optional.empty()) {
+					continue;
+				}
 
-			if (attribute.getJavaType().equals(String.class)) {
+				if (attribute.kind == AttributeKind.EMBEDDED
+						|| (attribute.kind == AttributeKind.ASSOCIATION && !(from instanceof From))) {
 
-				Expression<String> expression = from.get(attribute);
-				if (exampleAccessor.isIgnoreCaseForPath(currentPath)) {
-					expression = cb.lower(expression);
-					attributeValue = attributeValue.toString().toLowerCase();
+					addPredicates(predicates, cb, from.get(attribute.name), attribute.getNested(), attributeValue, currentNode,
+							escapeCharacter);
+					continue;
 				}
 
-				switch (exampleAccessor.getStringMatcherForPath(currentPath)) {
-
-					case DEFAULT:
-					case EXACT:
-						predicates.add(cb.equal(expression, attributeValue));
-						break;
-					case CONTAINING:
-						predicates.add(cb.like( //
-								expression, //
-								"%" + escapeCharacter.escape(attributeValue.toString()) + "%", //
-								escapeCharacter.getEscapeCharacter() //
-						));
-						break;
-					case STARTING:
-						predicates.add(cb.like(//
-								expression, //
-								escapeCharacter.escape(attributeValue.toString()) + "%", //
-								escapeCharacter.getEscapeCharacter()) //
-						);
-						break;
-					case ENDING:
-						predicates.add(cb.like( //
-								expression, //
-								"%" + escapeCharacter.escape(attributeValue.toString()), //
-								escapeCharacter.getEscapeCharacter()) //
-						);
-						break;
-					default:
-						throw new IllegalArgumentException(
-								"Unsupported StringMatcher " + exampleAccessor.getStringMatcherForPath(currentPath));
+				if (attribute.kind == AttributeKind.ASSOCIATION) {
+
+					PathNode node = currentNode.add(attribute.name, attributeValue);
+					if (node.spansCycle()) {
+						throw new InvalidDataAccessApiUsageException(
+								String.format("Path '%s' from root %s must not span a cyclic property reference%n%s", attribute.path,
+										ClassUtils.getShortName(probeType), node));
+					}
+
+					addPredicates(predicates, cb, ((From<?, ?>) from).join(attribute.name, joinType), attribute.getNested(),
+							attributeValue, node, escapeCharacter);
+					continue;
+				}
+
+				if (attribute.kind == AttributeKind.STRING) {
+
+					Expression<String> expression = from.get(attribute.attribute);
+					if (attribute.ignoreCase) {
+						expression = cb.lower(expression);
+						attributeValue = attributeValue.toString().toLowerCase();
+					}
+
+					switch (attribute.stringMatcher) {
+
+						case DEFAULT:
+						case EXACT:
+							predicates.add(cb.equal(expression, attributeValue));
+							break;
+						case CONTAINING:
+							predicates.add(cb.like( //
+									expression, //
+									"%" + escapeCharacter.escape(attributeValue.toString()) + "%", //
+									escapeCharacter.getEscapeCharacter() //
+							));
+							break;
+						case STARTING:
+							predicates.add(cb.like(//
+									expression, //
+									escapeCharacter.escape(attributeValue.toString()) + "%", //
+									escapeCharacter.getEscapeCharacter()) //
+							);
+							break;
+						case ENDING:
+							predicates.add(cb.like( //
+									expression, //
+									"%" + escapeCharacter.escape(attributeValue.toString()), //
+									escapeCharacter.getEscapeCharacter()) //
+							);
+							break;
+						default:
+							throw new IllegalArgumentException("Unsupported StringMatcher " + attribute.stringMatcher);
+					}
+				} else {
+					predicates.add(cb.equal(from.get(attribute.attribute), attributeValue));
 				}
-			} else {
-				predicates.add(cb.equal(from.get(attribute), attributeValue));
 			}
 		}
+	}
 
-		return predicates;
+	/**
+	 * Compiled attributes of a {@link ManagedType} at a particular path. Ignored paths are not part of the plan.
+	 */
+	private static class TypePlan {
+
+		private final List<AttributePlan> attributes;
+
+		TypePlan(String path, ManagedType<?> type, ExampleMatcherAccessor accessor) {
+
+			List<AttributePlan> attributes = new ArrayList<>();
+
+			for (SingularAttribute<?, ?> attribute : type.getSingularAttributes()) {
+
+				String currentPath = !StringUtils.hasText(path) ? attribute.getName() : path + "." + attribute.getName();
+
+				if (!accessor.isIgnoredPath(currentPath)) {
+					attributes.add(new AttributePlan(attribute, currentPath, accessor));
+				}
+			}
+
+			this.attributes = List.copyOf(attributes);
+		}
 	}
 
-	private static boolean isAssociation(Attribute<?, ?> attribute) {
-		return ASSOCIATION_TYPES.contains(attribute.getPersistentAttributeType());
+	private enum AttributeKind {
+		EMBEDDED, ASSOCIATION, STRING, VALUE
+	}
+
+	/**
+	 * Compiled attribute along with the matcher decisions for its path and cached accessors to read the attribute value.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static class AttributePlan {
+
+		private final SingularAttribute attribute;
+		private final String name;
+		private final String path;
+		private final AttributeKind kind;
+		private final PropertyValueTransformer transformer;
+		private final boolean ignoreCase;
+		private final StringMatcher stringMatcher;
+		private final Lazy<TypePlan> nested;
+		private final Map<Class<?>, Function<Object, @Nullable Object>> readers = new ConcurrentHashMap<>(2);
+
+		AttributePlan(SingularAttribute<?, ?> attribute, String path, ExampleMatcherAccessor accessor) {
+
+			this.attribute = attribute;
+			this.name = attribute.getName();
+			this.path = path;
+			this.transformer = accessor.getValueTransformerForPath(path);
+
+			if (attribute.getPersistentAttributeType().equals(PersistentAttributeType.EMBEDDED)) {
+				this.kind = AttributeKind.EMBEDDED;
+			} else if (isAssociation(attribute)) {
+				this.kind = AttributeKind.ASSOCIATION;
+			} else if (attribute.getJavaType().equals(String.class)) {
+				this.kind = AttributeKind.STRING;
+			} else {
+				this.kind = AttributeKind.VALUE;
+			}
+
+			this.ignoreCase = kind == AttributeKind.STRING && accessor.isIgnoreCaseForPath(path);
+			this.stringMatcher = kind == AttributeKind.STRING ? accessor.getStringMatcherForPath(path)
+					: StringMatcher.DEFAULT;
+			this.nested = Lazy.of(() -> new TypePlan(path, (ManagedType<?>) attribute.getType(), accessor));
+		}
+
+		@Nullable Object getValue(Object source) {
+			return readers.computeIfAbsent(source.getClass(), this::createReader).apply(source);
+		}
+
+		TypePlan getNested() {
+			return nested.get();
+		}
+
+		/**
+		 * Create a reader for the attribute value following {@link DirectFieldAccessFallbackBeanWrapper} semantics:
+		 * Prefer the property getter and fall back to direct field access.
+		 */
+		private Function<Object, @Nullable Object> createReader(Class<?> type) {
+
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, name);
+
+			if (descriptor != null && descriptor.getReadMethod() != null) {
+
+				Method getter = descriptor.getReadMethod();
+				ReflectionUtils.makeAccessible(getter);
+
+				return source -> ReflectionUtils.invokeMethod(getter, source);
+			}
+
+			Field field = ReflectionUtils.findField(type, name);
+
+			if (field != null) {
+
+				ReflectionUtils.makeAccessible(field);
+
+				return source -> ReflectionUtils.getField(field, source);
+			}
+
+			return source -> new DirectFieldAccessFallbackBeanWrapper(source).getPropertyValue(name);
+		}
 	}
 
 	/**
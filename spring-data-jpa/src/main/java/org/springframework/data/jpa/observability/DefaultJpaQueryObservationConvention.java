@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.observability;
+
+import io.micrometer.common.KeyValues;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+import org.springframework.data.jpa.observability.JpaObservation.HighCardinalityKeys;
+import org.springframework.data.jpa.observability.JpaObservation.LowCardinalityKeys;
+import org.springframework.data.jpa.repository.query.QueryObserver.Cache;
+import org.springframework.data.jpa.repository.query.QueryObserver.Phase;
+
+/**
+ * Default {@link JpaQueryObservationConvention} implementation.
+ *
+ * @since 4.2
+ */
+public class DefaultJpaQueryObservationConvention implements JpaQueryObservationConvention {
+
+	/**
+	 * Shared instance of {@link DefaultJpaQueryObservationConvention}.
+	 */
+	public static final DefaultJpaQueryObservationConvention INSTANCE = new DefaultJpaQueryObservationConvention();
+
+	private static final String NONE = "none";
+
+	@Override
+	public String getName() {
+		return "spring.data.jpa.query";
+	}
+
+	@Override
+	public String getContextualName(JpaQueryObservationContext context) {
+
+		String method = getRepositoryMethod(context);
+		return context.getPhase() == Phase.INVOCATION ? method : method + " " + getPhase(context);
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(JpaQueryObservationContext context) {
+
+		Cache cache = context.getCache();
+
+		return KeyValues.of(LowCardinalityKeys.REPOSITORY_METHOD.withValue(getRepositoryMethod(context)),
+				LowCardinalityKeys.PHASE.withValue(getPhase(context)),
+				LowCardinalityKeys.CACHE.withValue(cache != null ? cache.name().toLowerCase(Locale.ROOT).replace('_', '-') : NONE),
+				LowCardinalityKeys.CACHE_OUTCOME.withValue(cache != null ? context.isCacheHit() ? "hit" : "miss" : NONE));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(JpaQueryObservationContext context) {
+
+		if (context.getRows() == -1) {
+			return KeyValues.empty();
+		}
+
+		return KeyValues.of(HighCardinalityKeys.RESULT_ROWS.withValue(Long.toString(context.getRows())));
+	}
+
+	private static String getRepositoryMethod(JpaQueryObservationContext context) {
+
+		Method method = context.getQueryMethod().getMethod();
+		return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+	}
+
+	private static String getPhase(JpaQueryObservationContext context) {
+		return context.getPhase().name().toLowerCase(Locale.ROOT);
+	}
+
+}
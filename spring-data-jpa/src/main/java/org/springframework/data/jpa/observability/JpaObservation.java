@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.observability;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented observations of Spring Data JPA repositories.
+ *
+ * @since 4.2
+ */
+public enum JpaObservation implements ObservationDocumentation {
+
+	/**
+	 * Timer for a phase of a repository query method invocation.
+	 */
+	QUERY {
+
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultJpaQueryObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeys.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeys.values();
+		}
+	};
+
+	/**
+	 * Low cardinality keys of {@link #QUERY}.
+	 */
+	public enum LowCardinalityKeys implements KeyName {
+
+		/**
+		 * The repository query method as {@code <repository interface>.<method name>}.
+		 */
+		REPOSITORY_METHOD {
+			@Override
+			public String asString() {
+				return "spring.data.repository.method";
+			}
+		},
+
+		/**
+		 * The observed phase of the query method invocation: {@code invocation}, {@code preparation}, {@code execution} or
+		 * {@code conversion}.
+		 */
+		PHASE {
+			@Override
+			public String asString() {
+				return "spring.data.jpa.query.phase";
+			}
+		},
+
+		/**
+		 * The cache consulted within the observed phase: {@code result}, {@code part-tree}, {@code sorted-query} or
+		 * {@code none}.
+		 */
+		CACHE {
+			@Override
+			public String asString() {
+				return "spring.data.jpa.query.cache";
+			}
+		},
+
+		/**
+		 * The outcome of the cache lookup: {@code hit}, {@code miss} or {@code none} if no cache was consulted.
+		 */
+		CACHE_OUTCOME {
+			@Override
+			public String asString() {
+				return "spring.data.jpa.query.cache.outcome";
+			}
+		}
+	}
+
+	/**
+	 * High cardinality keys of {@link #QUERY}.
+	 */
+	public enum HighCardinalityKeys implements KeyName {
+
+		/**
+		 * The number of rows returned or affected by the query. Present for the {@code execution} phase of non-streaming
+		 * queries.
+		 */
+		RESULT_ROWS {
+			@Override
+			public String asString() {
+				return "spring.data.jpa.query.result.rows";
+			}
+		}
+	}
+
+}
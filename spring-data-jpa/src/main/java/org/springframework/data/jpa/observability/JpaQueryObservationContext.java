@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.observability;
+
+import io.micrometer.observation.Observation;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.jpa.repository.query.JpaQueryMethod;
+import org.springframework.data.jpa.repository.query.QueryObserver.Cache;
+import org.springframework.data.jpa.repository.query.QueryObserver.Phase;
+
+/**
+ * {@link Observation.Context} of a {@link Phase} of a repository query method invocation.
+ *
+ * @since 4.2
+ */
+public class JpaQueryObservationContext extends Observation.Context {
+
+	private final JpaQueryMethod queryMethod;
+	private final Phase phase;
+	private @Nullable Cache cache;
+	private boolean cacheHit;
+	private long rows = -1;
+
+	/**
+	 * Creates a new {@link JpaQueryObservationContext}.
+	 *
+	 * @param queryMethod the invoked query method.
+	 * @param phase the observed phase.
+	 */
+	public JpaQueryObservationContext(JpaQueryMethod queryMethod, Phase phase) {
+
+		this.queryMethod = queryMethod;
+		this.phase = phase;
+	}
+
+	public JpaQueryMethod getQueryMethod() {
+		return queryMethod;
+	}
+
+	public Phase getPhase() {
+		return phase;
+	}
+
+	/**
+	 * @return the cache consulted within the observed phase or {@literal null} if no cache was consulted.
+	 */
+	public @Nullable Cache getCache() {
+		return cache;
+	}
+
+	/**
+	 * @return whether the {@link #getCache() cache} contained the requested entry.
+	 */
+	public boolean isCacheHit() {
+		return cacheHit;
+	}
+
+	void setCacheAccess(Cache cache, boolean hit) {
+
+		this.cache = cache;
+		this.cacheHit = hit;
+	}
+
+	/**
+	 * @return the number of rows returned or affected by the query or {@code -1} if unknown.
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	void setRows(long rows) {
+		this.rows = rows;
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.jpa.repository.query.JpaQueryMethod;
+import org.springframework.data.jpa.repository.query.QueryObserver;
+import org.springframework.util.Assert;
+
+/**
+ * {@link QueryObserver} reporting query method invocations as Micrometer {@link Observation observations} documented by
+ * {@link JpaObservation#QUERY}. Each {@link Phase} is reported as an observation that is a child of the enclosing phase
+ * so that registering a {@code DefaultMeterObservationHandler} yields a timer per repository method and phase and
+ * tracing handlers yield nested spans. Cache lookups are reported through the {@code cache} and {@code cache.outcome}
+ * keys of the phase performing the lookup.
+ * <p>
+ * Register an instance as bean to apply it to all JPA repositories:
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * QueryObserver jpaQueryObserver(ObservationRegistry registry) {
+ * 	return new ObservationQueryObserver(registry);
+ * }
+ * </pre>
+ *
+ * @since 4.2
+ */
+public class ObservationQueryObserver implements QueryObserver {
+
+	private final ObservationRegistry registry;
+	private final @Nullable JpaQueryObservationConvention convention;
+
+	/**
+	 * Creates a new {@link ObservationQueryObserver} using the {@link DefaultJpaQueryObservationConvention}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 */
+	public ObservationQueryObserver(ObservationRegistry registry) {
+		this(registry, null);
+	}
+
+	/**
+	 * Creates a new {@link ObservationQueryObserver} using the given {@link JpaQueryObservationConvention}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param convention the custom convention to use, can be {@literal null} to use the
+	 *          {@link DefaultJpaQueryObservationConvention}.
+	 */
+	public ObservationQueryObserver(ObservationRegistry registry, @Nullable JpaQueryObservationConvention convention) {
+
+		Assert.notNull(registry, "ObservationRegistry must not be null");
+
+		this.registry = registry;
+		this.convention = convention;
+	}
+
+	@Override
+	public Recording start(JpaQueryMethod method, Phase phase) {
+
+		if (registry.isNoop()) {
+			return Recording.NONE;
+		}
+
+		JpaQueryObservationContext context = new JpaQueryObservationContext(method, phase);
+		Observation observation = JpaObservation.QUERY
+				.observation(convention, DefaultJpaQueryObservationConvention.INSTANCE, () -> context, registry).start();
+
+		return new ObservationRecording(observation, context, observation.openScope());
+	}
+
+	@Override
+	public void cacheAccessed(Cache cache, boolean hit) {
+
+		Observation observation = registry.getCurrentObservation();
+
+		if (observation != null && observation.getContext() instanceof JpaQueryObservationContext context) {
+			context.setCacheAccess(cache, hit);
+		}
+	}
+
+	private record ObservationRecording(Observation observation, JpaQueryObservationContext context,
+			Observation.Scope scope) implements Recording {
+
+		@Override
+		public void rows(long rows) {
+			context.setRows(rows);
+		}
+
+		@Override
+		public void error(Throwable error) {
+			observation.error(error);
+		}
+
+		@Override
+		public void close() {
+
+			scope.close();
+			observation.stop();
+		}
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Micrometer Observation support for Spring Data JPA repositories.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.data.jpa.observability;
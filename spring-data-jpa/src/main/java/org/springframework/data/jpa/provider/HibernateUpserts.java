@@ -0,0 +1,407 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.provider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.hibernate.type.Type;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Upserts entities through JDBC batches bypassing the Hibernate persistence context. Statements are derived from the
+ * {@link EntityPersister} mapping of the entity and rendered in the upsert syntax of the configured {@link Dialect}:
+ * {@code INSERT … ON CONFLICT} for PostgreSQL, {@code INSERT … ON DUPLICATE KEY UPDATE} for MySQL and MariaDB and
+ * {@code MERGE} for all other databases.
+ * <p>
+ * Entities without identifier are assigned an identifier by their generator if it generates values before executing
+ * the insert. Entities using identity columns are inserted and assigned the generated keys returned by the JDBC driver.
+ * Versioned entities are rejected as upsert statements cannot check and increment their version.
+ *
+ * @since 4.2
+ */
+final class HibernateUpserts {
+
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	private static final Map<EntityPersister, Statements> STATEMENTS = new ConcurrentReferenceHashMap<>();
+
+	private HibernateUpserts() {}
+
+	/**
+	 * Upsert the given entities of the given entity type.
+	 *
+	 * @param session the session providing the connection to use.
+	 * @param entityType the entity type.
+	 * @param entities the entities to upsert.
+	 */
+	static void upsertAll(SessionImplementor session, Class<?> entityType, List<?> entities) {
+
+		SessionFactoryImplementor factory = session.getFactory();
+		EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(entityType);
+		Statements statements = STATEMENTS.computeIfAbsent(persister,
+				it -> Statements.create(it, factory.getJdbcServices().getDialect()));
+
+		Generator generator = persister.getGenerator();
+		List<Object> upserts = new ArrayList<>(entities.size());
+		List<Object> inserts = new ArrayList<>();
+
+		for (Object entity : entities) {
+
+			if (persister.getIdentifier(entity, session) != null) {
+				upserts.add(entity);
+			} else if (!generator.generatedOnExecution() && generator instanceof BeforeExecutionGenerator beforeExecution) {
+
+				persister.setIdentifier(entity, beforeExecution.generate(session, entity, null, EventType.INSERT), session);
+				upserts.add(entity);
+			} else {
+				inserts.add(entity);
+			}
+		}
+
+		if (!inserts.isEmpty()) {
+			statements.getRequiredInsert();
+		}
+
+		int batchSize = getBatchSize(session);
+
+		session.doWork(connection -> {
+
+			if (!upserts.isEmpty()) {
+				execute(connection, statements, upserts, false, batchSize, session);
+			}
+
+			if (!inserts.isEmpty()) {
+				execute(connection, statements, inserts, true, batchSize, session);
+			}
+		});
+	}
+
+	/**
+	 * Use the JDBC batch size configured for the session or session factory and fall back to
+	 * {@link #DEFAULT_BATCH_SIZE} if batching is not configured.
+	 */
+	private static int getBatchSize(SessionImplementor session) {
+
+		Integer batchSize = session.getJdbcBatchSize();
+
+		if (batchSize == null || batchSize < 2) {
+			batchSize = session.getFactory().getSessionFactoryOptions().getJdbcBatchSize();
+		}
+
+		return batchSize > 1 ? batchSize : DEFAULT_BATCH_SIZE;
+	}
+
+	private static void execute(Connection connection, Statements statements, List<Object> entities,
+			boolean generateKeys, int batchSize, SessionImplementor session) throws SQLException {
+
+		EntityPersister persister = statements.persister();
+
+		try (PreparedStatement statement = generateKeys
+				? connection.prepareStatement(statements.getRequiredInsert(), statements.generatedKeyColumns())
+				: connection.prepareStatement(statements.upsert())) {
+
+			for (int offset = 0; offset < entities.size(); offset += batchSize) {
+
+				List<Object> batch = entities.subList(offset, Math.min(offset + batchSize, entities.size()));
+
+				for (Object entity : batch) {
+					bind(statement, statements, entity, !generateKeys, session);
+					statement.addBatch();
+				}
+
+				statement.executeBatch();
+
+				if (generateKeys) {
+					assignGeneratedKeys(statement, persister, batch, session);
+				}
+			}
+		}
+	}
+
+	private static void bind(PreparedStatement statement, Statements statements, Object entity, boolean includeIdentifier,
+			SessionImplementor session) throws SQLException {
+
+		EntityPersister persister = statements.persister();
+		Type[] types = persister.getPropertyTypes();
+		Object[] values = persister.getValues(entity);
+		int index = 1;
+
+		if (includeIdentifier) {
+
+			persister.getIdentifierType().nullSafeSet(statement, persister.getIdentifier(entity, session), index, session);
+			index += statements.identifierColumnSpan();
+		}
+
+		for (int i = 0; i < statements.properties().length; i++) {
+
+			int property = statements.properties()[i];
+
+			types[property].nullSafeSet(statement, values[property], index, session);
+			index += statements.propertyColumnSpans()[i];
+		}
+	}
+
+	/**
+	 * Assign the keys generated for the given batch to its entities.
+	 *
+	 * @throws SQLException if the driver does not return a generated key for each entity of the batch.
+	 */
+	static void assignGeneratedKeys(PreparedStatement statement, EntityPersister persister, List<Object> batch,
+			SessionImplementor session) throws SQLException {
+
+		Class<?> identifierType = persister.getIdentifierType().getReturnedClass();
+
+		try (ResultSet keys = statement.getGeneratedKeys()) {
+
+			int assigned = 0;
+
+			for (Object entity : batch) {
+
+				if (!keys.next()) {
+					throw new SQLException("Expected %d generated keys for inserted %s entities but received %d"
+							.formatted(batch.size(), persister.getEntityName(), assigned));
+				}
+
+				persister.setIdentifier(entity, keys.getObject(1, identifierType), session);
+				assigned++;
+			}
+		}
+	}
+
+	/**
+	 * Upsert syntax variants.
+	 */
+	enum Syntax {
+
+		ON_CONFLICT, ON_DUPLICATE_KEY, MERGE, MERGE_FROM_DUAL, TERMINATED_MERGE;
+
+		static Syntax of(Dialect dialect) {
+
+			if (dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect) {
+				return ON_CONFLICT;
+			}
+
+			if (dialect instanceof MySQLDialect) {
+				return ON_DUPLICATE_KEY;
+			}
+
+			if (dialect instanceof OracleDialect) {
+				return MERGE_FROM_DUAL;
+			}
+
+			if (dialect instanceof SQLServerDialect) {
+				return TERMINATED_MERGE;
+			}
+
+			return MERGE;
+		}
+	}
+
+	/**
+	 * SQL statements and column layout for an entity type.
+	 *
+	 * @param persister the entity persister.
+	 * @param upsert the upsert statement binding identifier and property columns.
+	 * @param insert the insert statement binding property columns for entities using identity columns, can be
+	 *          {@literal null} if the entity does not use a single identifier column.
+	 * @param generatedKeyColumns the identifier columns to retrieve after inserting.
+	 * @param identifierColumnSpan the number of identifier columns.
+	 * @param properties the indexes of the persistent properties to bind.
+	 * @param propertyColumnSpans the number of columns per bound property.
+	 */
+	record Statements(EntityPersister persister, String upsert, @Nullable String insert, String[] generatedKeyColumns,
+			int identifierColumnSpan, int[] properties, int[] propertyColumnSpans) {
+
+		static Statements create(EntityPersister persister, Dialect dialect) {
+
+			if (!(persister instanceof SingleTableEntityPersister entityPersister) || entityPersister.getTableSpan() != 1
+					|| persister.isInherited() || persister.hasSubclasses()) {
+				throw new UnsupportedOperationException(
+						"Upserting entities is only supported for entities mapped to a single table without inheritance: "
+								+ persister.getEntityName());
+			}
+
+			if (persister.isVersioned()) {
+				throw new UnsupportedOperationException(
+						"Upserting versioned entities is not supported: " + persister.getEntityName());
+			}
+
+			String table = entityPersister.getTableName();
+			String[] identifierColumns = entityPersister.getIdentifierColumnNames();
+
+			Type[] types = persister.getPropertyTypes();
+			boolean[] insertable = persister.getPropertyInsertability();
+			boolean[] updatable = persister.getPropertyUpdateability();
+
+			List<String> columns = new ArrayList<>(List.of(identifierColumns));
+			List<String> propertyColumns = new ArrayList<>();
+			List<String> updateColumns = new ArrayList<>();
+			List<Integer> properties = new ArrayList<>();
+			List<Integer> propertyColumnSpans = new ArrayList<>();
+
+			for (int i = 0; i < types.length; i++) {
+
+				String[] names = entityPersister.getPropertyColumnNames(i);
+
+				if (!insertable[i] || types[i].isCollectionType() || names.length == 0) {
+					continue;
+				}
+
+				properties.add(i);
+				propertyColumnSpans.add(names.length);
+				propertyColumns.addAll(List.of(names));
+
+				if (updatable[i]) {
+					updateColumns.addAll(List.of(names));
+				}
+			}
+
+			columns.addAll(propertyColumns);
+
+			String upsert = render(Syntax.of(dialect), table, identifierColumns, columns, updateColumns);
+			String insert = identifierColumns.length == 1 && !propertyColumns.isEmpty()
+					? "insert into %s (%s) values (%s)".formatted(table, String.join(", ", propertyColumns),
+							placeholders(propertyColumns.size()))
+					: null;
+
+			String[] generatedKeyColumns = new String[identifierColumns.length];
+
+			for (int i = 0; i < identifierColumns.length; i++) {
+				generatedKeyColumns[i] = unquote(identifierColumns[i]);
+			}
+
+			return new Statements(persister, upsert, insert, generatedKeyColumns, identifierColumns.length,
+					properties.stream().mapToInt(Integer::intValue).toArray(),
+					propertyColumnSpans.stream().mapToInt(Integer::intValue).toArray());
+		}
+
+		static String render(Syntax syntax, String table, String[] identifierColumns, List<String> columns,
+				List<String> updateColumns) {
+
+			String columnList = String.join(", ", columns);
+
+			return switch (syntax) {
+				case ON_CONFLICT -> "insert into %s (%s) values (%s) on conflict (%s) %s".formatted(table, columnList,
+						placeholders(columns.size()), String.join(", ", identifierColumns),
+						updateColumns.isEmpty() ? "do nothing"
+								: "do update set " + assignments(updateColumns, "", "excluded.%s"));
+				case ON_DUPLICATE_KEY -> "insert into %s (%s) values (%s) on duplicate key update %s".formatted(table,
+						columnList, placeholders(columns.size()),
+						updateColumns.isEmpty() ? assignments(List.of(identifierColumns), "", "%s")
+								: assignments(updateColumns, "", "values(%s)"));
+				case MERGE, MERGE_FROM_DUAL, TERMINATED_MERGE -> renderMerge(syntax, table, identifierColumns, columns,
+						updateColumns);
+			};
+		}
+
+		private static String renderMerge(Syntax syntax, String table, String[] identifierColumns, List<String> columns,
+				List<String> updateColumns) {
+
+			StringBuilder merge = new StringBuilder("merge into ").append(table).append(" t using ");
+
+			if (syntax == Syntax.MERGE_FROM_DUAL) {
+
+				StringJoiner selection = new StringJoiner(", ", "(select ", " from dual) s");
+				columns.forEach(column -> selection.add("? " + column));
+				merge.append(selection);
+			} else {
+				merge.append("(values (").append(placeholders(columns.size())).append(")) s (")
+						.append(String.join(", ", columns)).append(")");
+			}
+
+			StringJoiner condition = new StringJoiner(" and ", " on (", ")");
+
+			for (String identifierColumn : identifierColumns) {
+				condition.add("t.%1$s = s.%1$s".formatted(identifierColumn));
+			}
+
+			merge.append(condition);
+
+			if (!updateColumns.isEmpty()) {
+				merge.append(" when matched then update set ").append(assignments(updateColumns, "t.", "s.%s"));
+			}
+
+			StringJoiner values = new StringJoiner(", ", " values (", ")");
+			columns.forEach(column -> values.add("s." + column));
+
+			merge.append(" when not matched then insert (").append(String.join(", ", columns)).append(")").append(values);
+
+			if (syntax == Syntax.TERMINATED_MERGE) {
+				merge.append(';');
+			}
+
+			return merge.toString();
+		}
+
+		String getRequiredInsert() {
+
+			if (insert == null) {
+				throw new UnsupportedOperationException(
+						"Cannot upsert entities of type %s without identifier".formatted(persister.getEntityName()));
+			}
+
+			return insert;
+		}
+
+		private static String assignments(List<String> columns, String targetPrefix, String valueTemplate) {
+
+			StringJoiner joiner = new StringJoiner(", ");
+
+			for (String column : columns) {
+				joiner.add(targetPrefix + column + " = " + valueTemplate.formatted(column));
+			}
+
+			return joiner.toString();
+		}
+
+		private static String placeholders(int count) {
+			return String.join(", ", Collections.nCopies(count, "?"));
+		}
+
+		private static String unquote(String column) {
+
+			if (column.length() > 1 && "\"`[".indexOf(column.charAt(0)) != -1) {
+				return column.substring(1, column.length() - 1);
+			}
+
+			return column;
+		}
+	}
+
+}
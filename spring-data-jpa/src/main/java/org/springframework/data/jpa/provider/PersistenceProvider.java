@@ -21,6 +21,9 @@ import static org.springframework.data.jpa.provider.PersistenceProvider.Constant
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.metamodel.IdentifiableType;
 import jakarta.persistence.metamodel.Metamodel;
 import jakarta.persistence.metamodel.SingularAttribute;
@@ -42,8 +45,11 @@ import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ScrollableCursor;
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaExpression;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.aop.framework.AopProxyUtils;
@@ -121,6 +127,11 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 			return "org.hibernate.comment";
 		}
 
+		@Override
+		public String getFetchSizeHintKey() {
+			return "org.hibernate.fetchSize";
+		}
+
 		@Override
 		public long getResultCount(Query resultQuery, LongSupplier countSupplier) {
 
@@ -132,6 +143,54 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 			return super.getResultCount(resultQuery, countSupplier);
 		}
 
+		@Override
+		public @Nullable Expression<Long> createWindowFunctionCount(CriteriaBuilder builder, Expression<?> argument) {
+
+			if (builder instanceof HibernateCriteriaBuilder hcb) {
+				return hcb.count(argument, hcb.createWindow());
+			}
+
+			return super.createWindowFunctionCount(builder, argument);
+		}
+
+		@Override
+		public void upsertAll(EntityManager entityManager, Class<?> entityType, List<?> entities) {
+			HibernateUpserts.upsertAll(entityManager.unwrap(SessionImplementor.class), entityType, entities);
+		}
+
+		@Override
+		public boolean supportsRowValueComparison() {
+			return true;
+		}
+
+		@Override
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		public @Nullable Predicate createRowValueComparison(CriteriaBuilder builder,
+				List<? extends Expression<?>> expressions, List<?> values, boolean greaterThan) {
+
+			if (!(builder instanceof HibernateCriteriaBuilder hcb)) {
+				return super.createRowValueComparison(builder, expressions, values, greaterThan);
+			}
+
+			JpaExpression<?>[] left = new JpaExpression<?>[expressions.size()];
+			JpaExpression<?>[] right = new JpaExpression<?>[expressions.size()];
+
+			for (int i = 0; i < left.length; i++) {
+
+				if (!(expressions.get(i) instanceof JpaExpression<?> expression)) {
+					return super.createRowValueComparison(builder, expressions, values, greaterThan);
+				}
+
+				left[i] = expression;
+				right[i] = hcb.value(values.get(i), (Expression) expression);
+			}
+
+			JpaExpression<Comparable> lhs = hcb.tuple(Comparable.class, left);
+			JpaExpression<Comparable> rhs = hcb.tuple(Comparable.class, right);
+
+			return greaterThan ? hcb.greaterThan(lhs, rhs) : hcb.lessThan(lhs, rhs);
+		}
+
 	},
 
 	/**
@@ -195,6 +254,11 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 			return QueryHints.HINT;
 		}
 
+		@Override
+		public String getFetchSizeHintKey() {
+			return QueryHints.JDBC_FETCH_SIZE;
+		}
+
 		@Override
 		public String getCommentHintValue(String comment) {
 			return "/* " + comment + " */";
@@ -446,6 +510,64 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 		return countSupplier.getAsLong();
 	}
 
+	/**
+	 * Create a {@code count(…) over ()} window function expression counting all rows of the result using the Criteria
+	 * API. Window functions are not part of the JPA Criteria API so providers can return {@literal null} if they do not
+	 * support window functions.
+	 *
+	 * @param builder the criteria builder to use.
+	 * @param argument the count argument.
+	 * @return the window function expression or {@literal null} if not supported.
+	 * @since 4.2
+	 */
+	public @Nullable Expression<Long> createWindowFunctionCount(CriteriaBuilder builder, Expression<?> argument) {
+		return null;
+	}
+
+	/**
+	 * Insert or update the given entities using batched native statements that bypass the persistence context.
+	 * Entities that are already associated with the persistence context are not updated.
+	 *
+	 * @param entityManager the entity manager to obtain the connection from.
+	 * @param entityType the entity type.
+	 * @param entities the entities to upsert.
+	 * @throws UnsupportedOperationException if the persistence provider or the entity mapping does not support upserts.
+	 * @since 4.2
+	 */
+	public void upsertAll(EntityManager entityManager, Class<?> entityType, List<?> entities) {
+		throw new UnsupportedOperationException(
+				"Upserting entities is not supported for this PersistenceProvider: " + name());
+	}
+
+	/**
+	 * Return whether the query language of this provider supports row value comparisons such as
+	 * {@code (x.a, x.b) > (:a, :b)}. Providers supporting row value comparisons are expected to emulate them if the
+	 * underlying database does not support row value constructors.
+	 *
+	 * @return {@literal true} if row value comparisons can be used in queries.
+	 * @since 4.2
+	 */
+	public boolean supportsRowValueComparison() {
+		return false;
+	}
+
+	/**
+	 * Create a row value comparison {@code (x.a, x.b, …) > (?, ?, …)} using the Criteria API. Row value comparisons are
+	 * not part of the JPA Criteria API so providers can return {@literal null} if they do not support row value
+	 * comparisons.
+	 *
+	 * @param builder the criteria builder to use.
+	 * @param expressions the expressions forming the left-hand side row value.
+	 * @param values the values forming the right-hand side row value, must match {@code expressions} in size.
+	 * @param greaterThan {@literal true} to compare using {@code >}, {@literal false} to compare using {@code <}.
+	 * @return the row value comparison predicate or {@literal null} if not supported.
+	 * @since 4.2
+	 */
+	public @Nullable Predicate createRowValueComparison(CriteriaBuilder builder,
+			List<? extends Expression<?>> expressions, List<?> values, boolean greaterThan) {
+		return null;
+	}
+
 	/**
 	 * Holds the PersistenceProvider specific interface names.
 	 *
@@ -468,6 +590,17 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 
 	}
 
+	/**
+	 * Returns the query hint to configure the JDBC fetch size.
+	 *
+	 * @return the query hint key or {@literal null} if the persistence provider does not support configuring the fetch
+	 *         size through a query hint.
+	 * @since 4.2
+	 */
+	public @Nullable String getFetchSizeHintKey() {
+		return null;
+	}
+
 	public CloseableIterator<Object> executeQueryWithResultStream(Query jpaQuery) {
 		throw new UnsupportedOperationException(
 				"Streaming results is not implement for this PersistenceProvider: " + name());
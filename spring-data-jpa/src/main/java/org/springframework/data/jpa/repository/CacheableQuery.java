@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to cache the results of a repository query method keyed by the arguments of the method invocation.
+ * Repeated invocations with equal arguments return the cached result without querying the database.
+ * <p>
+ * Cached results are invalidated when entities of the repository domain type, the returned entity type or one of the
+ * types listed in {@link #invalidatedBy()} are persisted, updated or removed. Changes are detected through
+ * {@link org.springframework.data.jpa.repository.support.QueryResultCacheEntityListener} that needs to be registered
+ * for the involved entities, through {@link Modifying modifying} query methods and through bulk operations of the
+ * domain type. Entities are cached by their identifier and loaded for each caller, using a single query per entity
+ * type for collection results, so that callers obtain instances of their own persistence context. Other results,
+ * such as DTO projections, are shared across transactions and callers and must therefore not be modified. Caching is
+ * intended for read-mostly data such as reference data or configuration. Modifying, streaming, paging, scrolling and
+ * locking query methods cannot be cached.
+ *
+ * @since 4.2
+ * @see org.springframework.data.jpa.repository.query.QueryResultCaches
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface CacheableQuery {
+
+	/**
+	 * The maximum number of results to cache. The least recently used result is evicted when exceeding the maximum size.
+	 *
+	 * @return the maximum number of cached results, must be greater than zero.
+	 */
+	int maxSize() default 1000;
+
+	/**
+	 * Time after which a cached result expires. Results do not expire if the time to live is zero or negative.
+	 *
+	 * @return the time to live in {@link #timeUnit()}.
+	 */
+	long timeToLive() default -1;
+
+	/**
+	 * The {@link TimeUnit} to use for {@link #timeToLive()}.
+	 *
+	 * @return the time unit, defaults to {@link TimeUnit#SECONDS}.
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+	/**
+	 * Additional entity types whose changes invalidate cached results, typically entities that are joined or filtered on
+	 * by the query.
+	 *
+	 * @return the entity types.
+	 */
+	Class<?>[] invalidatedBy() default {};
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Value object to configure the chunked execution of bulk updates and deletes through
+ * {@link JpaSpecificationExecutor#update(org.springframework.data.jpa.domain.UpdateSpecification, ChunkedExecution)}
+ * and
+ * {@link JpaSpecificationExecutor#delete(org.springframework.data.jpa.domain.DeleteSpecification, ChunkedExecution)}.
+ * <p>
+ * Chunked execution splits a bulk statement into keyset windows over the entity identifiers. Each window covers at
+ * most {@link #getChunkSize() chunk size} rows in identifier order and is executed in its own transaction so that row
+ * locks are held only for the duration of a single chunk. {@link Progress} is reported after each chunk. The upper
+ * bound of the last completed chunk can be passed to {@link #startAfter(Object)} to resume an execution that failed.
+ * <pre class="code">
+ * repository.delete(DeleteSpecification.where(olderThan(cutoff)),
+ * 		ChunkedExecution.ofSize(10_000).withThrottle(Duration.ofMillis(50)).onProgress(progress -> …));
+ * </pre>
+ *
+ * @since 4.2
+ */
+public final class ChunkedExecution {
+
+	private static final Consumer<Progress> NO_OP = progress -> {};
+
+	private final int chunkSize;
+	private final Duration throttle;
+	private final @Nullable Object startAfter;
+	private final Consumer<Progress> progressListener;
+
+	private ChunkedExecution(int chunkSize, Duration throttle, @Nullable Object startAfter,
+			Consumer<Progress> progressListener) {
+
+		this.chunkSize = chunkSize;
+		this.throttle = throttle;
+		this.startAfter = startAfter;
+		this.progressListener = progressListener;
+	}
+
+	/**
+	 * Create a new {@link ChunkedExecution} covering at most {@code chunkSize} rows per chunk.
+	 *
+	 * @param chunkSize the number of rows per chunk, must be greater than zero.
+	 * @return a new {@link ChunkedExecution}.
+	 */
+	public static ChunkedExecution ofSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero");
+
+		return new ChunkedExecution(chunkSize, Duration.ZERO, null, NO_OP);
+	}
+
+	/**
+	 * Pause for the given {@link Duration} between chunks to leave room for concurrent transactions.
+	 *
+	 * @param throttle the pause between chunks, must not be {@literal null} or negative.
+	 * @return a new {@link ChunkedExecution}.
+	 */
+	public ChunkedExecution withThrottle(Duration throttle) {
+
+		Assert.notNull(throttle, "Throttle must not be null");
+		Assert.isTrue(!throttle.isNegative(), "Throttle must not be negative");
+
+		return new ChunkedExecution(chunkSize, throttle, startAfter, progressListener);
+	}
+
+	/**
+	 * Start with rows whose identifier is greater than the given one, typically the {@link Progress#upperBound() upper
+	 * bound} of the last completed chunk of a previous execution.
+	 *
+	 * @param id the exclusive lower bound, can be {@literal null} to start with the first row.
+	 * @return a new {@link ChunkedExecution}.
+	 */
+	public ChunkedExecution startAfter(@Nullable Object id) {
+		return new ChunkedExecution(chunkSize, throttle, id, progressListener);
+	}
+
+	/**
+	 * Register a listener that is notified after each completed chunk.
+	 *
+	 * @param progressListener the listener, must not be {@literal null}.
+	 * @return a new {@link ChunkedExecution}.
+	 */
+	public ChunkedExecution onProgress(Consumer<Progress> progressListener) {
+
+		Assert.notNull(progressListener, "Progress listener must not be null");
+
+		return new ChunkedExecution(chunkSize, throttle, startAfter, progressListener);
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public Duration getThrottle() {
+		return throttle;
+	}
+
+	public @Nullable Object getStartAfter() {
+		return startAfter;
+	}
+
+	public Consumer<Progress> getProgressListener() {
+		return progressListener;
+	}
+
+	@Override
+	public String toString() {
+		return "ChunkedExecution[chunkSize=%d, throttle=%s, startAfter=%s]".formatted(chunkSize, throttle, startAfter);
+	}
+
+	/**
+	 * Progress of a chunked execution reported after each completed chunk.
+	 *
+	 * @param chunk the number of the completed chunk, starting with {@code 1}.
+	 * @param lowerBound the exclusive identifier lower bound of the chunk, {@literal null} for the first chunk.
+	 * @param upperBound the inclusive identifier upper bound of the chunk, {@literal null} for the last chunk.
+	 * @param affected the number of rows affected by the chunk.
+	 * @param totalAffected the number of rows affected by all chunks completed so far.
+	 */
+	public record Progress(int chunk, @Nullable Object lowerBound, @Nullable Object upperBound, long affected,
+			long totalAffected) {
+
+		/**
+		 * @return {@literal true} if this was the last chunk of the execution.
+		 */
+		public boolean isLast() {
+			return upperBound == null;
+		}
+	}
+
+}
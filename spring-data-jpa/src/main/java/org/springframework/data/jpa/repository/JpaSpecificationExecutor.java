@@ -178,6 +178,25 @@ public interface JpaSpecificationExecutor<T> {
 	 */
 	long update(UpdateSpecification<T> spec);
 
+	/**
+	 * Updates entities by the {@link UpdateSpecification} in chunks and returns the number of rows updated.
+	 * <p>
+	 * The bulk update is split into keyset windows over the entity identifiers, each covering at most
+	 * {@link ChunkedExecution#getChunkSize() chunk size} rows. Each chunk runs in its own transaction if a transaction
+	 * manager is available and in the surrounding transaction otherwise. Chunks that completed before a failure remain
+	 * committed. Invocations within a transaction are rejected if chunks run in transactions of their own as chunks
+	 * would otherwise wait for locks held by the surrounding transaction. The persistence context is not synchronized
+	 * with the result of the bulk update.
+	 *
+	 * @param spec the {@link UpdateSpecification} to use for the update query must not be {@literal null}.
+	 * @param execution the chunked execution settings, must not be {@literal null}.
+	 * @return the number of entities updated.
+	 * @throws InvalidDataAccessApiUsageException if the entity uses a composite identifier or chunks run in
+	 *           transactions of their own and a transaction is active.
+	 * @since 4.2
+	 */
+	long update(UpdateSpecification<T> spec, ChunkedExecution execution);
+
 	/**
 	 * Deletes by the {@link PredicateSpecification} and returns the number of rows deleted.
 	 * <p>
@@ -206,6 +225,25 @@ public interface JpaSpecificationExecutor<T> {
 	 */
 	long delete(DeleteSpecification<T> spec);
 
+	/**
+	 * Deletes by the {@link DeleteSpecification} in chunks and returns the number of rows deleted.
+	 * <p>
+	 * The bulk delete is split into keyset windows over the entity identifiers, each covering at most
+	 * {@link ChunkedExecution#getChunkSize() chunk size} rows. Each chunk runs in its own transaction if a transaction
+	 * manager is available and in the surrounding transaction otherwise. Chunks that completed before a failure remain
+	 * committed. Invocations within a transaction are rejected if chunks run in transactions of their own as chunks
+	 * would otherwise wait for locks held by the surrounding transaction. The persistence context is not synchronized
+	 * with the result of the bulk delete.
+	 *
+	 * @param spec the {@link DeleteSpecification} to use for the delete query, must not be {@literal null}.
+	 * @param execution the chunked execution settings, must not be {@literal null}.
+	 * @return the number of entities deleted.
+	 * @throws InvalidDataAccessApiUsageException if the entity uses a composite identifier or chunks run in
+	 *           transactions of their own and a transaction is active.
+	 * @since 4.2
+	 */
+	long delete(DeleteSpecification<T> spec, ChunkedExecution execution);
+
 	/**
 	 * Returns entities matching the given {@link Specification} applying the {@code queryFunction} that defines the query
 	 * and its result type.
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.util.List;
+
+/**
+ * Interface to allow upserting entities through batched native upsert statements. Repository interfaces opt in to
+ * upserts by extending this interface in addition to {@link JpaRepository}:
+ *
+ * <pre class="code">
+ * interface CustomerRepository extends JpaRepository&lt;Customer, Long&gt;, JpaUpsertExecutor&lt;Customer&gt; {}
+ * </pre>
+ *
+ * @param <T> the domain type the repository manages.
+ * @since 4.2
+ */
+public interface JpaUpsertExecutor<T> {
+
+	/**
+	 * Inserts or updates all given entities using batched native upsert statements ({@code INSERT … ON CONFLICT},
+	 * {@code MERGE} or the equivalent of the database) instead of deciding between {@code persist} and {@code merge} per
+	 * entity. Entities with an identifier are upserted without loading them first. Entities without identifier are
+	 * inserted and are assigned the identifier by the identifier generator or the generated key returned by the
+	 * database.
+	 * <p>
+	 * This kind of operation bypasses the persistence context: the given entities do not become managed and entities
+	 * that are already managed are not updated. Pending changes are flushed before upserting. It will NOT honor cascade
+	 * semantics of JPA, nor will it emit JPA lifecycle events. Versioned entities are rejected as upserts cannot check
+	 * their version.
+	 *
+	 * @param entities entities to be upserted. Must not be {@literal null}.
+	 * @return the given entities.
+	 * @throws UnsupportedOperationException if the persistence provider or the entity mapping does not support upserts.
+	 * @throws org.springframework.dao.DataAccessException if upserting fails or the database does not return a
+	 *           generated key for every inserted entity.
+	 */
+	<S extends T> List<S> upsertAll(Iterable<S> entities);
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to explicitly route repository methods to the read replica or to the primary database when
+ * {@link org.springframework.data.jpa.repository.config.EnableJpaRepositories#readReplicaRouting() read replica
+ * routing} is enabled. Declared on a repository interface, the annotation applies to all of its methods unless a method
+ * declares the annotation itself.
+ * <p>
+ * Methods without this annotation are routed to the read replica if they are read-only by their
+ * {@link org.springframework.transaction.annotation.Transactional#readOnly() transaction definition} or, for query
+ * methods, by their name.
+ *
+ * @since 4.2
+ * @see org.springframework.data.jpa.repository.support.ReadReplicaRoutingDataSource
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Inherited
+@Documented
+public @interface ReadReplica {
+
+	/**
+	 * Whether to route the method to the read replica. Use {@literal false} to keep methods that would otherwise be
+	 * considered read-only on the primary database, e.g. to read data that has just been written by another process.
+	 *
+	 * @return whether to route to the read replica.
+	 */
+	boolean value() default true;
+
+}
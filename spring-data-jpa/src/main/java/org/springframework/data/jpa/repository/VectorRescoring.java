@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to enable two-phase vector search for a search method returning
+ * {@link org.springframework.data.domain.SearchResults} or a collection of
+ * {@link org.springframework.data.domain.SearchResult}.
+ * <p>
+ * The database is queried for an oversampled candidate set (the result limit multiplied by {@link #oversampling()})
+ * using the database-side distance function which is typically backed by an approximate vector index. Candidates are
+ * then re-ranked in process by computing the exact distance between the query
+ * {@link org.springframework.data.domain.Vector} and the vector property of each candidate before applying
+ * {@code Score}/{@code Range<Score>} thresholds and the original result limit.
+ * <p>
+ * Re-ranking requires the search method to return entities so that the vector property can be read. Results of
+ * projecting search methods and searches using a scoring function without an in-process distance implementation are
+ * returned in database order.
+ *
+ * @since 4.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface VectorRescoring {
+
+	/**
+	 * Factor by which the result limit is multiplied to obtain the number of candidates to fetch from the database.
+	 *
+	 * @return the oversampling factor, must be greater than zero.
+	 */
+	int oversampling() default 4;
+
+	/**
+	 * The vector property to compute exact distances for. Derived search methods use the property of the {@code Near}
+	 * or {@code Within} keyword if left empty. Declared queries must specify the property.
+	 *
+	 * @return the property path of the vector property.
+	 */
+	String property() default "";
+
+}
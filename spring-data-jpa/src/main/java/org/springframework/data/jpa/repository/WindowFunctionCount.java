@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to obtain the total number of elements of a {@link org.springframework.data.domain.Page} through a
+ * {@code count(*) over ()} window function that is selected along with the page content instead of running a separate
+ * count query.
+ * <p>
+ * Can be used on derived and string-based query methods returning a {@code Page} as well as on re-declared
+ * {@link JpaSpecificationExecutor#findAll(org.springframework.data.jpa.domain.Specification, org.springframework.data.domain.Pageable)}
+ * methods. JPQL queries require a persistence provider that supports window functions in its query language (such as
+ * Hibernate). Queries using {@code DISTINCT}, grouping, set operations, constructor expressions, locking or entity
+ * graphs as well as queries whose result cannot be read as plain rows fall back to a separate count query.
+ *
+ * @since 4.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface WindowFunctionCount {
+
+}
@@ -67,6 +67,9 @@ public class AotRepositoryFragmentSupport {
 		ConfigurableConversionService conversionService = new DefaultConversionService();
 
 		conversionService.addConverter(JpaResultConverters.BlobToByteArrayConverter.INSTANCE);
+		conversionService.addConverter(JpaResultConverters.BlobToInputStreamConverter.INSTANCE);
+		conversionService.addConverter(JpaResultConverters.BlobToReadableByteChannelConverter.INSTANCE);
+		conversionService.addConverter(JpaResultConverters.ClobToReaderConverter.INSTANCE);
 		conversionService.removeConvertible(Collection.class, Object.class);
 		conversionService.removeConvertible(Object.class, Optional.class);
 
@@ -29,6 +29,7 @@ import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.jpa.repository.query.QueryEnhancerSelector;
+import org.springframework.data.jpa.repository.query.QueryValidationMode;
 import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
 import org.springframework.data.repository.config.BootstrapMode;
 import org.springframework.data.repository.config.DefaultRepositoryBaseClass;
@@ -191,4 +192,173 @@ public @interface EnableJpaRepositories {
 	 */
 	Class<? extends QueryEnhancerSelector> queryEnhancerSelector() default QueryEnhancerSelector.DefaultQueryEnhancerSelector.class;
 
+	/**
+	 * Configures how declared queries are validated. {@link QueryValidationMode#IMMEDIATE} (default) validates each query
+	 * on the bootstrap thread, {@link QueryValidationMode#PARALLEL} validates queries concurrently and awaits the outcome
+	 * before the repository is handed out and {@link QueryValidationMode#DEFERRED} validates queries in the background
+	 * once all singletons are instantiated and logs failures instead of failing the bootstrap.
+	 *
+	 * @return the query validation mode.
+	 * @since 4.2
+	 */
+	QueryValidationMode queryValidation() default QueryValidationMode.IMMEDIATE;
+
+	/**
+	 * Configures a file to record successfully validated queries in so that unchanged queries are not validated again on
+	 * subsequent application starts. Recorded queries are keyed by the query string, the persistence provider version
+	 * and the mapped metamodel. Empty (default) to disable caching.
+	 *
+	 * @return the location of the query validation cache file.
+	 * @since 4.2
+	 */
+	String queryValidationCache() default "";
+
+	/**
+	 * Configures whether to bootstrap repositories in parallel. If enabled, the query methods of each repository are
+	 * resolved concurrently and repositories are initialized in the background if the application context provides a
+	 * {@link org.springframework.context.ConfigurableApplicationContext#BOOTSTRAP_EXECUTOR_BEAN_NAME bootstrap
+	 * executor}. Startup timings per repository are reported through the application context's
+	 * {@link org.springframework.core.metrics.ApplicationStartup} as {@code spring.data.jpa.repository.queries} steps.
+	 * Defaults to {@literal false}.
+	 *
+	 * @return whether to bootstrap repositories in parallel.
+	 * @since 4.2
+	 */
+	boolean parallelBootstrap() default false;
+
+	/**
+	 * Configures whether to defer the creation of repository queries until a query method is first invoked. Deriving
+	 * queries from method names, introspecting declared queries and validating them then happens on first use, so that
+	 * invalid queries surface on first invocation instead of during bootstrap. Defaults to {@literal false}.
+	 *
+	 * @return whether to create repository queries lazily.
+	 * @since 4.2
+	 * @see #warmUpQueries()
+	 */
+	boolean lazyQueryCreation() default false;
+
+	/**
+	 * Configures the names of query methods whose queries are created once all singletons are instantiated, i.e. before
+	 * the application context has finished its bootstrap, when using {@link #lazyQueryCreation() lazy query creation}.
+	 * A method name applies to all repositories declaring a query method with that name and all its overloads,
+	 * {@code *} selects all query methods.
+	 *
+	 * @return the names of query methods to warm up.
+	 * @since 4.2
+	 */
+	String[] warmUpQueries() default {};
+
+	/**
+	 * Configures whether to render {@link org.springframework.data.jpa.domain.Specification}s passed to
+	 * {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor} methods to JPQL strings with bind
+	 * parameters instead of building a Criteria query for each invocation. Rendered queries are cached by the structure
+	 * of the specification so that the query plan cache of the persistence provider can be used. Specifications using
+	 * Criteria API features that cannot be rendered are executed through the Criteria API. Defaults to
+	 * {@literal false}.
+	 *
+	 * @return whether to render specifications to JPQL.
+	 * @since 4.2
+	 */
+	boolean renderSpecifications() default false;
+
+	/**
+	 * Configures whether to cache the JPQL serialized for
+	 * {@link org.springframework.data.querydsl.QuerydslPredicateExecutor} queries by the structure of the query so that
+	 * queries differing only in their constants are not serialized again. Queries whose constants cannot be mapped back
+	 * reliably are serialized on each invocation. Defaults to {@literal false}.
+	 *
+	 * @return whether to cache serialized Querydsl queries.
+	 * @since 4.2
+	 */
+	boolean cacheQuerydslQueries() default false;
+
+	/**
+	 * Configures whether to execute query methods declaring a {@link java.util.concurrent.CompletableFuture} or
+	 * {@link java.util.concurrent.Future} return type asynchronously. Each invocation runs in its own transaction (and
+	 * {@link jakarta.persistence.EntityManager}) on the {@link #asyncQueryExecutorRef() configured executor}. Transactions
+	 * are read-only unless the method is annotated with {@link org.springframework.data.jpa.repository.Modifying}.
+	 * Defaults to {@literal false} to execute such methods on the calling thread.
+	 *
+	 * @return whether to execute query methods returning futures asynchronously.
+	 * @since 4.2
+	 * @see org.springframework.data.jpa.repository.support.AsyncQueries
+	 */
+	boolean asyncQueryExecution() default false;
+
+	/**
+	 * Configures the name of the {@link java.util.concurrent.Executor} bean to run
+	 * {@link #asyncQueryExecution() asynchronous query methods} on. Defaults to the
+	 * {@link org.springframework.data.jpa.util.BackgroundExecutor#shared() shared background executor} that limits the
+	 * number of concurrently running queries.
+	 *
+	 * @return the bean name of the executor to use for asynchronous query methods.
+	 * @since 4.2
+	 */
+	String asyncQueryExecutorRef() default "";
+
+	/**
+	 * Configures whether to batch concurrent {@code findById} invocations of repositories backed by
+	 * {@link org.springframework.data.jpa.repository.support.SimpleJpaRepository}. Lookups that do not participate in a
+	 * surrounding transaction, do not run with an {@link jakarta.persistence.EntityManager} bound to the thread and do
+	 * not declare a lock mode, query hints or entity graph are collected for {@link #idLookupBatchWindow()}
+	 * milliseconds or until reaching {@link #idLookupMaxBatchSize()} identifiers and resolved with a single {@code IN}
+	 * query without starting a repository transaction. Entities returned from batched lookups are detached. Defaults to
+	 * {@literal false}.
+	 *
+	 * @return whether to batch concurrent lookups by identifier.
+	 * @since 4.2
+	 * @see org.springframework.data.jpa.repository.support.IdLookupBatcher
+	 */
+	boolean batchIdLookups() default false;
+
+	/**
+	 * Configures the time in milliseconds to collect concurrent lookups for a batch when {@link #batchIdLookups()
+	 * batching lookups by identifier}.
+	 *
+	 * @return the batch window in milliseconds, must be greater than zero.
+	 * @since 4.2
+	 */
+	long idLookupBatchWindow() default 5;
+
+	/**
+	 * Configures the maximum number of identifiers per batch when {@link #batchIdLookups() batching lookups by
+	 * identifier}.
+	 *
+	 * @return the maximum batch size, must be greater than zero.
+	 * @since 4.2
+	 */
+	int idLookupMaxBatchSize() default 100;
+
+	/**
+	 * Configures whether to route read-only repository methods that are invoked outside of a transaction to the read
+	 * replica of a {@link org.springframework.data.jpa.repository.support.ReadReplicaRoutingDataSource}. Methods are
+	 * read-only if annotated with {@link org.springframework.data.jpa.repository.ReadReplica}, if their
+	 * {@link org.springframework.transaction.annotation.Transactional} definition is read-only or, for query methods, if
+	 * their name starts with a reading prefix such as {@code find} or {@code count}. Defaults to {@literal false}.
+	 *
+	 * @return whether to route read-only methods to the read replica.
+	 * @since 4.2
+	 */
+	boolean readReplicaRouting() default false;
+
+	/**
+	 * Configures the name of the {@link org.springframework.data.jpa.repository.support.ReplicationLagMonitor} bean to
+	 * consult before routing to the read replica. Reads following a write of the same thread use the primary database
+	 * until the reported replication lag has elapsed. Without a monitor, the replication lag is assumed to be the
+	 * {@link #maxReplicationLag() maximum replication lag}.
+	 *
+	 * @return the bean name of the replication lag monitor.
+	 * @since 4.2
+	 */
+	String replicationLagMonitorRef() default "";
+
+	/**
+	 * Configures the maximum replication lag in milliseconds up to which read-only methods are routed to the read
+	 * replica. Reads use the primary database while the replication lag exceeds the maximum.
+	 *
+	 * @return the maximum replication lag in milliseconds.
+	 * @since 4.2
+	 */
+	long maxReplicationLag() default 1000;
+
 }
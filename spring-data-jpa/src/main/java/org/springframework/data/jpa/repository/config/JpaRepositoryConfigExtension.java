@@ -26,6 +26,7 @@ import jakarta.persistence.PersistenceUnit;
 import jakarta.persistence.spi.PersistenceUnitInfo;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -67,6 +68,8 @@ import org.springframework.data.aot.AotContext;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.aot.AotEntityManagerFactoryCreator;
 import org.springframework.data.jpa.repository.aot.JpaRepositoryContributor;
+import org.springframework.data.jpa.repository.query.QueryResultCaches;
+import org.springframework.data.jpa.repository.query.QueryValidationMode;
 import org.springframework.data.jpa.repository.support.DefaultJpaContext;
 import org.springframework.data.jpa.repository.support.JpaEvaluationContextExtension;
 import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
@@ -157,6 +160,52 @@ public class JpaRepositoryConfigExtension extends RepositoryConfigurationExtensi
 		if (source instanceof AnnotationRepositoryConfigurationSource) {
 			builder.addPropertyValue("queryEnhancerSelector",
 					source.getAttribute("queryEnhancerSelector", Class.class).orElse(null));
+			source.getAttribute("queryValidation", QueryValidationMode.class)
+					.ifPresent(it -> builder.addPropertyValue("queryValidation", it));
+			source.getAttribute("queryValidationCache").ifPresent(it -> builder.addPropertyValue("queryValidationCache", it));
+
+			if (source.getAttribute("lazyQueryCreation", Boolean.class).orElse(false)) {
+				builder.addPropertyValue("lazyQueryCreation", true);
+				builder.addPropertyValue("warmUpQueries",
+						source.getAttribute("warmUpQueries", String[].class).orElse(new String[0]));
+			}
+
+			if (source.getAttribute("parallelBootstrap", Boolean.class).orElse(false)) {
+				builder.addPropertyValue("parallelBootstrap", true);
+				builder.getRawBeanDefinition().setBackgroundInit(true);
+			}
+
+			if (source.getAttribute("renderSpecifications", Boolean.class).orElse(false)) {
+				builder.addPropertyValue("renderSpecifications", true);
+			}
+
+			if (source.getAttribute("cacheQuerydslQueries", Boolean.class).orElse(false)) {
+				builder.addPropertyValue("cacheQuerydslQueries", true);
+			}
+
+			if (source.getAttribute("asyncQueryExecution", Boolean.class).orElse(false)) {
+
+				builder.addPropertyValue("asyncQueryExecution", true);
+				source.getAttribute("asyncQueryExecutorRef")
+						.ifPresent(it -> builder.addPropertyReference("asyncQueryExecutor", it));
+			}
+
+			if (source.getAttribute("batchIdLookups", Boolean.class).orElse(false)) {
+
+				builder.addPropertyValue("idLookupBatchWindow",
+						Duration.ofMillis(source.getAttribute("idLookupBatchWindow", Long.class).orElse(5L)));
+				source.getAttribute("idLookupMaxBatchSize", Integer.class)
+						.ifPresent(it -> builder.addPropertyValue("idLookupMaxBatchSize", it));
+			}
+
+			if (source.getAttribute("readReplicaRouting", Boolean.class).orElse(false)) {
+
+				builder.addPropertyValue("readReplicaRouting", true);
+				source.getAttribute("replicationLagMonitorRef")
+						.ifPresent(it -> builder.addPropertyReference("replicationLagMonitor", it));
+				source.getAttribute("maxReplicationLag", Long.class)
+						.ifPresent(it -> builder.addPropertyValue("maxReplicationLag", Duration.ofMillis(it)));
+			}
 		}
 	}
 
@@ -225,6 +274,11 @@ public class JpaRepositoryConfigExtension extends RepositoryConfigurationExtensi
 		registerIfNotAlreadyRegistered(() -> new RootBeanDefinition(JPA_METAMODEL_CACHE_CLEANUP_CLASSNAME), registry,
 				JPA_METAMODEL_CACHE_CLEANUP_CLASSNAME, source);
 
+		// Registry of query result caches shared by the repositories and entity listeners of the context
+
+		registerIfNotAlreadyRegistered(() -> new RootBeanDefinition(QueryResultCaches.class), registry,
+				QueryResultCaches.class.getName(), source);
+
 		// EvaluationContextExtension for JPA specific SpEL functions
 
 		registerIfNotAlreadyRegistered(() -> {
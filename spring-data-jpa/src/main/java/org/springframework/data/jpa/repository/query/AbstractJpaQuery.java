@@ -24,20 +24,34 @@ import jakarta.persistence.TupleElement;
 import jakarta.persistence.TypedQuery;
 
 import java.lang.reflect.Constructor;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.SearchResults;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Vector;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.CacheableQuery;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.VectorRescoring;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.CollectionExecution;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.ModifyingExecution;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.PagedExecution;
@@ -45,6 +59,9 @@ import org.springframework.data.jpa.repository.query.JpaQueryExecution.Procedure
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.SingleEntityExecution;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.SlicedExecution;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.StreamExecution;
+import org.springframework.data.jpa.repository.query.JpaQueryExecution.WindowFunctionCountPagedExecution;
+import org.springframework.data.jpa.repository.query.QueryObserver.Phase;
+import org.springframework.data.jpa.repository.query.QueryObserver.Recording;
 import org.springframework.data.jpa.repository.support.QueryHints;
 import org.springframework.data.jpa.util.JpaMetamodel;
 import org.springframework.data.jpa.util.TupleBackedMap;
@@ -57,6 +74,7 @@ import org.springframework.data.util.Lazy;
 import org.springframework.lang.Contract;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Abstract base class to implement {@link RepositoryQuery}s.
@@ -79,6 +97,10 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 	private final JpaMetamodel metamodel;
 	private final PersistenceProvider provider;
 	private final Lazy<JpaQueryExecution> execution;
+	private final QueryResultCache.References resultReferences;
+	private @Nullable QueryResultCaches resultCaches;
+	private @Nullable QueryResultCache resultCache;
+	private QueryObserver observer = QueryObserver.NONE;
 
 	final Lazy<ParameterBinder> parameterBinder = Lazy.of(this::createBinder);
 
@@ -99,22 +121,46 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 		this.provider = PersistenceProvider.fromEntityManager(em);
 		this.execution = Lazy.of(() -> {
 
-			if (method.isStreamQuery()) {
+			if (method.isProcedureQuery()) {
+				return new ProcedureExecution(method.isCollectionQuery(), method.isStreamQuery());
+			} else if (method.isStreamQuery()) {
 				return new StreamExecution();
-			} else if (method.isProcedureQuery()) {
-				return new ProcedureExecution(method.isCollectionQuery());
 			} else if (method.isCollectionQuery() || method.isSearchQuery()) {
 				return new CollectionExecution();
 			} else if (method.isSliceQuery()) {
 				return new SlicedExecution();
 			} else if (method.isPageQuery()) {
-				return new PagedExecution(this.provider);
+				return method.isWindowFunctionCount() ? new WindowFunctionCountPagedExecution(this.provider)
+						: new PagedExecution(this.provider);
 			} else if (method.isModifyingQuery()) {
 				return null;
 			} else {
 				return new SingleEntityExecution();
 			}
 		});
+		this.resultReferences = new EntityReferences(em);
+	}
+
+	private static @Nullable QueryResultCache createResultCache(JpaQueryMethod method, JpaMetamodel metamodel,
+			QueryResultCaches resultCaches) {
+
+		CacheableQuery cacheable = method.getCacheableQuery();
+
+		if (cacheable == null) {
+			return null;
+		}
+
+		Set<Class<?>> entityTypes = new LinkedHashSet<>();
+		entityTypes.add(method.getEntityInformation().getJavaType());
+		entityTypes.addAll(Arrays.asList(cacheable.invalidatedBy()));
+
+		Class<?> returnedType = method.getReturnedObjectType();
+		if (metamodel.isJpaManaged(returnedType)) {
+			entityTypes.add(returnedType);
+		}
+
+		return resultCaches.create(ClassUtils.getQualifiedMethodName(method.getMethod()), entityTypes,
+				cacheable.maxSize(), Duration.of(cacheable.timeToLive(), cacheable.timeUnit().toChronoUnit()));
 	}
 
 	@Override
@@ -149,9 +195,88 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 		return metamodel;
 	}
 
+	/**
+	 * Configures the {@link QueryObserver} to report the phases of query method invocations to.
+	 *
+	 * @param observer must not be {@literal null}.
+	 * @since 4.2
+	 */
+	void setQueryObserver(QueryObserver observer) {
+
+		Assert.notNull(observer, "QueryObserver must not be null");
+
+		this.observer = observer;
+	}
+
+	/**
+	 * Configures the {@link QueryResultCaches} to register the result cache of a
+	 * {@link org.springframework.data.jpa.repository.CacheableQuery cacheable} query method with and to invalidate
+	 * after running a modifying query. Results are not cached without a registry.
+	 *
+	 * @param resultCaches must not be {@literal null}.
+	 * @since 4.2
+	 */
+	void setQueryResultCaches(QueryResultCaches resultCaches) {
+
+		Assert.notNull(resultCaches, "QueryResultCaches must not be null");
+
+		this.resultCaches = resultCaches;
+		this.resultCache = createResultCache(method, metamodel, resultCaches);
+	}
+
+	/**
+	 * Returns the {@link QueryObserver} to report cache accesses to.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 4.2
+	 */
+	QueryObserver getQueryObserver() {
+		return observer;
+	}
+
 	@Override
 	public @Nullable Object execute(Object[] parameters) {
 
+		if (observer == QueryObserver.NONE) {
+			return doExecuteCached(parameters);
+		}
+
+		return observe(Phase.INVOCATION, () -> doExecuteCached(parameters));
+	}
+
+	private @Nullable Object doExecuteCached(Object[] parameters) {
+
+		QueryResultCache resultCache = this.resultCache;
+
+		if (resultCache != null) {
+
+			if (observer == QueryObserver.NONE) {
+				return resultCache.get(parameters, () -> doExecute(parameters), resultReferences);
+			}
+
+			boolean[] loaded = new boolean[1];
+			Object result = resultCache.get(parameters, () -> {
+				loaded[0] = true;
+				return doExecute(parameters);
+			}, resultReferences);
+
+			observer.cacheAccessed(QueryObserver.Cache.RESULT, !loaded[0]);
+			return result;
+		}
+
+		Object result = doExecute(parameters);
+
+		QueryResultCaches resultCaches = this.resultCaches;
+
+		if (resultCaches != null && method.isModifyingQuery()) {
+			resultCaches.invalidate(method.getEntityInformation().getJavaType());
+		}
+
+		return result;
+	}
+
+	private @Nullable Object doExecute(Object[] parameters) {
+
 		JpaParametersParameterAccessor accessor = obtainParameterAccessor(parameters);
 		return doExecute(getExecution(accessor), accessor);
 	}
@@ -163,11 +288,80 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 	 */
 	private @Nullable Object doExecute(JpaQueryExecution execution, JpaParametersParameterAccessor accessor) {
 
-		Object result = execution.execute(this, accessor);
-
 		ResultProcessor withDynamicProjection = method.getResultProcessor().withDynamicProjection(accessor);
-		return withDynamicProjection.processResult(result,
-				new LazyTupleConverter(withDynamicProjection.getReturnedType(), method.isNativeQuery()));
+		LazyTupleConverter converter = new LazyTupleConverter(withDynamicProjection.getReturnedType(),
+				method.isNativeQuery());
+
+		if (observer == QueryObserver.NONE) {
+			return withDynamicProjection.processResult(execution.execute(this, accessor), converter);
+		}
+
+		Object result = observe(Phase.EXECUTION, () -> execution.execute(this, accessor));
+		return observe(Phase.CONVERSION, () -> withDynamicProjection.processResult(result, converter));
+	}
+
+	/**
+	 * Run the given action as {@link Phase} observed through the configured {@link QueryObserver}.
+	 */
+	private <T extends @Nullable Object> T observe(Phase phase, Supplier<T> action) {
+
+		Recording recording = observer.start(method, phase);
+
+		try {
+
+			T result = action.get();
+
+			if (phase == Phase.EXECUTION) {
+
+				long rows = getRowCount(result);
+				if (rows != -1) {
+					recording.rows(rows);
+				}
+			}
+
+			return result;
+		} catch (RuntimeException | Error e) {
+			recording.error(e);
+			throw e;
+		} finally {
+			recording.close();
+		}
+	}
+
+	/**
+	 * Returns the number of rows contained in or affected by the given execution result or {@code -1} if unknown.
+	 */
+	private long getRowCount(@Nullable Object result) {
+
+		if (result == null) {
+			return 0;
+		}
+
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+
+		if (result instanceof Slice<?> slice) {
+			return slice.getNumberOfElements();
+		}
+
+		if (result instanceof Window<?> window) {
+			return window.size();
+		}
+
+		if (result instanceof SearchResults<?> searchResults) {
+			return searchResults.getContent().size();
+		}
+
+		if (result instanceof Stream<?>) {
+			return -1;
+		}
+
+		if (method.isModifyingQuery() && result instanceof Number affected) {
+			return affected.longValue();
+		}
+
+		return 1;
 	}
 
 	private JpaParametersParameterAccessor obtainParameterAccessor(Object[] values) {
@@ -187,7 +381,7 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 
 			ReturnedType returnedType = method.getResultProcessor().withDynamicProjection(accessor).getReturnedType();
 			return new JpaQueryExecution.SearchResultExecution(execution == null ? new SingleEntityExecution() : execution,
-					returnedType, accessor.getScoringFunction(), accessor.normalizeSimilarity());
+					returnedType, accessor.getScoringFunction(), accessor.normalizeSimilarity(), getRescoring(accessor));
 		}
 
 		if (execution != null) {
@@ -201,6 +395,37 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 		return new SingleEntityExecution();
 	}
 
+	private JpaQueryExecution.SearchResultExecution.@Nullable Rescoring getRescoring(
+			JpaParametersParameterAccessor accessor) {
+
+		VectorRescoring rescoring = method.getVectorRescoring();
+		Vector vector = accessor.getVector();
+
+		if (rescoring == null || vector == null) {
+			return null;
+		}
+
+		String property = StringUtils.hasText(rescoring.property()) ? rescoring.property() : getVectorProperty();
+
+		if (property == null) {
+			throw new InvalidDataAccessApiUsageException(
+					"@VectorRescoring on declared query method %s must specify the vector property".formatted(method));
+		}
+
+		return new JpaQueryExecution.SearchResultExecution.Rescoring(rescoring.oversampling(), property,
+				vector.toFloatArray(), accessor.getScore(), accessor.getScoreRange());
+	}
+
+	/**
+	 * Returns the dot-path of the vector property used by a vector search query.
+	 *
+	 * @return the vector property or {@literal null} if the property cannot be derived from the query.
+	 * @since 4.2
+	 */
+	protected @Nullable String getVectorProperty() {
+		return null;
+	}
+
 	/**
 	 * Applies the declared query hints to the given query.
 	 *
@@ -263,6 +488,15 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 	}
 
 	protected Query createQuery(JpaParametersParameterAccessor parameters) {
+
+		if (observer == QueryObserver.NONE) {
+			return doCreateConfiguredQuery(parameters);
+		}
+
+		return observe(Phase.PREPARATION, () -> doCreateConfiguredQuery(parameters));
+	}
+
+	private Query doCreateConfiguredQuery(JpaParametersParameterAccessor parameters) {
 		return applyLockMode(applyEntityGraphConfiguration(applyHints(doCreateQuery(parameters), method), method), method);
 	}
 
@@ -288,7 +522,38 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 		return query;
 	}
 
+	/**
+	 * Creates a {@link Query} that selects the total number of matching rows through a {@code count(*) over ()} window
+	 * function as additional, last column of each result row. Returns {@literal null} if the query cannot be rewritten in
+	 * which case the total is obtained through a separate count query.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the window function count query or {@literal null} if not supported for this query.
+	 * @since 4.2
+	 */
+	protected @Nullable Query createWindowFunctionCountQuery(JpaParametersParameterAccessor accessor) {
+
+		// JPQL does not define window functions, FOR UPDATE cannot be combined with window functions and entity graphs
+		// require a single entity selection
+		if ((!method.isNativeQuery() && !PersistenceProvider.HIBERNATE.equals(provider))
+				|| method.getLockModeType() != null || method.getEntityGraph() != null) {
+			return null;
+		}
+
+		Query query = doCreateWindowFunctionCountQuery(accessor);
+		return query != null ? applyHints(query, method) : null;
+	}
+
 	protected Query createCountQuery(JpaParametersParameterAccessor values) {
+
+		if (observer == QueryObserver.NONE) {
+			return doCreateConfiguredCountQuery(values);
+		}
+
+		return observe(Phase.PREPARATION, () -> doCreateConfiguredCountQuery(values));
+	}
+
+	private Query doCreateConfiguredCountQuery(JpaParametersParameterAccessor values) {
 		Query countQuery = doCreateCountQuery(values);
 		return method.applyHintsToCountQuery() ? applyHints(countQuery, method) : countQuery;
 	}
@@ -319,6 +584,19 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 	 */
 	protected abstract Query doCreateQuery(JpaParametersParameterAccessor accessor);
 
+	/**
+	 * Creates a {@link Query} selecting the result along with a {@code count(*) over ()} window function for the given
+	 * values. Subclasses supporting window function counts override this method. The default implementation returns
+	 * {@literal null}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the query or {@literal null} if the query cannot be rewritten.
+	 * @since 4.2
+	 */
+	protected @Nullable Query doCreateWindowFunctionCountQuery(JpaParametersParameterAccessor accessor) {
+		return null;
+	}
+
 	/**
 	 * Creates a {@link TypedQuery} for counting using the given values.
 	 *
@@ -149,6 +149,43 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 		return parameterBinder.get().bindAndPrepare(query, accessor);
 	}
 
+	@Override
+	protected @Nullable Query doCreateWindowFunctionCountQuery(JpaParametersParameterAccessor accessor) {
+
+		Sort sort = accessor.getSort();
+		ResultProcessor processor = getQueryMethod().getResultProcessor().withDynamicProjection(accessor);
+		ReturnedType returnedType = getReturnedType(processor);
+		QueryProvider sortedQuery = getSortedQuery(sort, returnedType);
+		String queryString = WindowFunctionCountQueries.addWindowFunctionCount(
+				potentiallyRewriteQuery(sortedQuery.getQueryString(), sort, accessor.getPageable()));
+
+		if (queryString == null) {
+			return null;
+		}
+
+		Query query = createWindowFunctionCountJpaQuery(queryString, returnedType);
+		return query != null ? parameterBinder.get().bindAndPrepare(query, accessor) : null;
+	}
+
+	/**
+	 * Creates a JPA query for the given query string that selects a {@code count(*) over ()} window function as last
+	 * column. Returns {@literal null} if the result rows cannot be read as plain {@code Object[]} rows.
+	 *
+	 * @param queryString the rewritten query string.
+	 * @param returnedType the returned type.
+	 * @return the query or {@literal null} if the result of the query must be read as a specific type.
+	 * @since 4.2
+	 */
+	protected @Nullable Query createWindowFunctionCountJpaQuery(String queryString, ReturnedType returnedType) {
+
+		if (!this.query.hasConstructorExpression() && !this.query.isDefaultProjection()
+				&& getTypeToRead(returnedType) != null) {
+			return null;
+		}
+
+		return getEntityManager().createQuery(queryString);
+	}
+
 	/**
 	 * Post-process {@link ReturnedType} to determine if the query is projecting by checking the projection and property
 	 * assignability.
@@ -324,9 +361,13 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 		@Override
 		public QueryProvider getSorted(EntityQuery query, Sort sort, ReturnedType returnedType) {
 
+			QueryObserver observer = getQueryObserver();
+
 			if (sort.isUnsorted()) {
 
 				QueryProvider cachedQuery = this.cachedQuery;
+				observer.cacheAccessed(QueryObserver.Cache.SORTED_QUERY, cachedQuery != null);
+
 				if (cachedQuery == null) {
 					this.cachedQuery = cachedQuery = queryCache.get(new CachableQuery(query, sort, returnedType));
 				}
@@ -334,7 +375,13 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 				return cachedQuery;
 			}
 
-			return queryCache.get(new CachableQuery(query, sort, returnedType));
+			CachableQuery key = new CachableQuery(query, sort, returnedType);
+
+			if (observer != QueryObserver.NONE) {
+				observer.cacheAccessed(QueryObserver.Cache.SORTED_QUERY, queryCache.contains(key));
+			}
+
+			return queryCache.get(key);
 		}
 	}
 
@@ -126,8 +126,13 @@ class DtoProjectionTransformerDelegate {
 		}
 
 		@Override
-		public String render() {
-			return delegate instanceof QueryRenderer ? ((QueryRenderer) delegate).render() : delegate.toString();
+		void render(StringBuilder builder) {
+
+			if (delegate instanceof QueryRenderer renderer) {
+				renderer.render(builder);
+			} else {
+				builder.append(delegate);
+			}
 		}
 	}
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.util.Lazy;
+import org.springframework.data.util.ProxyUtils;
+
+/**
+ * {@link QueryResultCache.References} keeping entities as their type and identifier. A single reference is resolved
+ * through {@link EntityManager#find(Class, Object)} and the references of a collection result are resolved through a
+ * single query per entity type so that each caller obtains the instances of its own persistence context. Other result
+ * elements are kept as they are.
+ *
+ * @since 4.2
+ */
+class EntityReferences implements QueryResultCache.References {
+
+	/**
+	 * Maximum number of identifiers per query as databases limit the number of elements of an {@code IN} list.
+	 */
+	static final int MAX_IDS_PER_QUERY = 1000;
+
+	private final EntityManager em;
+	private final Lazy<Set<Class<?>>> entityTypes;
+
+	/**
+	 * Creates new {@link EntityReferences} for the given {@link EntityManager}.
+	 *
+	 * @param em must not be {@literal null}.
+	 */
+	EntityReferences(EntityManager em) {
+
+		this.em = em;
+		this.entityTypes = Lazy.of(() -> em.getMetamodel().getEntities().stream().map(EntityType::getJavaType)
+				.filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet()));
+	}
+
+	@Override
+	public Object toReference(Object element) {
+
+		Class<?> type = ProxyUtils.getUserClass(element);
+
+		if (!entityTypes.get().contains(type)) {
+			return element;
+		}
+
+		Object id = em.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(element);
+		return id != null ? new EntityReference(type, id) : element;
+	}
+
+	@Override
+	public @Nullable Object resolve(Object reference) {
+		return reference instanceof EntityReference entity ? em.find(entity.type(), entity.id()) : reference;
+	}
+
+	@Override
+	public List<@Nullable Object> resolveAll(List<Object> references) {
+
+		Map<Class<?>, Set<Object>> identifiers = new LinkedHashMap<>();
+
+		for (Object reference : references) {
+			if (reference instanceof EntityReference entity) {
+				identifiers.computeIfAbsent(entity.type(), it -> new LinkedHashSet<>()).add(entity.id());
+			}
+		}
+
+		Map<Class<?>, Map<Object, Object>> entities = new HashMap<>(identifiers.size());
+		identifiers.forEach((type, ids) -> entities.put(type, load(type, ids)));
+
+		List<@Nullable Object> resolved = new ArrayList<>(references.size());
+
+		for (Object reference : references) {
+			resolved.add(reference instanceof EntityReference entity ? entities.get(entity.type()).get(entity.id())
+					: reference);
+		}
+
+		return resolved;
+	}
+
+	/**
+	 * Load the entities of the given type by their identifiers. Entities with a composite or embedded identifier are
+	 * loaded one by one.
+	 *
+	 * @return the loaded entities by their identifier.
+	 */
+	private Map<Object, Object> load(Class<?> type, Set<Object> ids) {
+
+		Map<Object, Object> entities = new HashMap<>(ids.size());
+		SingularAttribute<?, ?> idAttribute = ids.size() > 1 ? getBasicIdAttribute(type) : null;
+
+		if (idAttribute == null) {
+
+			for (Object id : ids) {
+
+				Object entity = em.find(type, id);
+
+				if (entity != null) {
+					entities.put(id, entity);
+				}
+			}
+
+			return entities;
+		}
+
+		PersistenceUnitUtil util = em.getEntityManagerFactory().getPersistenceUnitUtil();
+		List<Object> remaining = new ArrayList<>(ids);
+
+		for (int i = 0; i < remaining.size(); i += MAX_IDS_PER_QUERY) {
+
+			List<Object> chunk = remaining.subList(i, Math.min(i + MAX_IDS_PER_QUERY, remaining.size()));
+
+			for (Object entity : findAllById(type, idAttribute.getName(), chunk)) {
+				entities.put(util.getIdentifier(entity), entity);
+			}
+		}
+
+		return entities;
+	}
+
+	/**
+	 * Run a query selecting the entities with the given identifiers. The query does not flush the persistence context,
+	 * in line with {@link EntityManager#find(Class, Object)}.
+	 */
+	private <T> List<T> findAllById(Class<T> type, String idAttribute, List<Object> ids) {
+
+		CriteriaQuery<T> query = em.getCriteriaBuilder().createQuery(type);
+		Root<T> root = query.from(type);
+		query.select(root).where(root.get(idAttribute).in(ids));
+
+		return em.createQuery(query).setFlushMode(FlushModeType.COMMIT).getResultList();
+	}
+
+	private @Nullable SingularAttribute<?, ?> getBasicIdAttribute(Class<?> type) {
+
+		EntityType<?> entityType = em.getMetamodel().entity(type);
+
+		if (!entityType.hasSingleIdAttribute()) {
+			return null;
+		}
+
+		for (SingularAttribute<?, ?> attribute : entityType.getSingularAttributes()) {
+			if (attribute.isId()) {
+				return attribute.getPersistentAttributeType() == PersistentAttributeType.BASIC ? attribute : null;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Reference to an entity by its type and identifier.
+	 */
+	private record EntityReference(Class<?> type, Object id) {
+
+	}
+
+}
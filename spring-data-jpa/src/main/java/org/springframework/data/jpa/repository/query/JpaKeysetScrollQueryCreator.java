@@ -28,6 +28,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.JpqlQueryTemplates;
 import org.springframework.data.repository.query.ReturnedType;
@@ -45,6 +46,7 @@ class JpaKeysetScrollQueryCreator extends JpaQueryCreator {
 	private final JpaEntityInformation<?, ?> entityInformation;
 	private final KeysetScrollPosition scrollPosition;
 	private final ParameterMetadataProvider provider;
+	private final PersistenceProvider persistenceProvider;
 	private final List<ParameterBinding> syntheticBindings = new ArrayList<>();
 
 	public JpaKeysetScrollQueryCreator(PartTree tree, ReturnedType type, ParameterMetadataProvider provider,
@@ -57,6 +59,7 @@ class JpaKeysetScrollQueryCreator extends JpaQueryCreator {
 		this.entityInformation = entityInformation;
 		this.scrollPosition = scrollPosition;
 		this.provider = provider;
+		this.persistenceProvider = PersistenceProvider.fromEntityManager(em);
 	}
 
 	@Override
@@ -83,7 +86,7 @@ class JpaKeysetScrollQueryCreator extends JpaQueryCreator {
 	protected JpqlQueryBuilder.AbstractJpqlQuery createQuery(JpqlQueryBuilder.@Nullable Predicate predicate, Sort sort) {
 
 		KeysetScrollSpecification<Object> keysetSpec = new KeysetScrollSpecification<>(scrollPosition, sort,
-				entityInformation);
+				entityInformation, persistenceProvider);
 
 		JpqlQueryBuilder.Select query = buildQuery(keysetSpec.sort());
 
@@ -25,6 +25,8 @@ import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Score;
 import org.springframework.data.domain.ScoringFunction;
 import org.springframework.data.domain.Similarity;
+import org.springframework.data.expression.ValueEvaluationContext;
+import org.springframework.data.expression.ValueEvaluationContextProvider;
 import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
@@ -42,6 +44,9 @@ public class JpaParametersParameterAccessor extends ParametersParameterAccessor
 
 	private final JpaParameters parameters;
 
+	private @Nullable ValueEvaluationContextProvider evaluationContextProvider;
+	private @Nullable ValueEvaluationContext evaluationContext;
+
 	/**
 	 * Creates a new {@link ParametersParameterAccessor}.
 	 *
@@ -66,6 +71,28 @@ public class JpaParametersParameterAccessor extends ParametersParameterAccessor
 		return super.getValues();
 	}
 
+	/**
+	 * Returns the {@link ValueEvaluationContext} for the values of this accessor. The context is created lazily on first
+	 * access and shared across all expressions evaluated for the same invocation.
+	 *
+	 * @param provider the provider to create the evaluation context.
+	 * @return the evaluation context.
+	 * @since 4.2
+	 */
+	ValueEvaluationContext getEvaluationContext(ValueEvaluationContextProvider provider) {
+
+		ValueEvaluationContext evaluationContext = this.evaluationContext;
+
+		if (evaluationContext == null || this.evaluationContextProvider != provider) {
+
+			evaluationContext = provider.getEvaluationContext(getValues());
+			this.evaluationContextProvider = provider;
+			this.evaluationContext = evaluationContext;
+		}
+
+		return evaluationContext;
+	}
+
 	/**
 	 * Apply potential unwrapping to {@code parameterValue}.
 	 *
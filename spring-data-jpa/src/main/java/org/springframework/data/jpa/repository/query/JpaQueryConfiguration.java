@@ -29,14 +29,36 @@ public class JpaQueryConfiguration {
 	private final QueryEnhancerSelector selector;
 	private final EscapeCharacter escapeCharacter;
 	private final ValueExpressionDelegate valueExpressionDelegate;
+	private final QueryValidator queryValidator;
+	private final QueryObserver queryObserver;
+	private final QueryResultCaches queryResultCaches;
 
 	public JpaQueryConfiguration(QueryRewriterProvider queryRewriter, QueryEnhancerSelector selector,
 			ValueExpressionDelegate valueExpressionDelegate, EscapeCharacter escapeCharacter) {
+		this(queryRewriter, selector, valueExpressionDelegate, escapeCharacter, QueryValidator.immediate());
+	}
+
+	/**
+	 * @since 4.2
+	 */
+	public JpaQueryConfiguration(QueryRewriterProvider queryRewriter, QueryEnhancerSelector selector,
+			ValueExpressionDelegate valueExpressionDelegate, EscapeCharacter escapeCharacter,
+			QueryValidator queryValidator) {
+		this(queryRewriter, selector, valueExpressionDelegate, escapeCharacter, queryValidator, QueryObserver.NONE,
+				new QueryResultCaches());
+	}
+
+	private JpaQueryConfiguration(QueryRewriterProvider queryRewriter, QueryEnhancerSelector selector,
+			ValueExpressionDelegate valueExpressionDelegate, EscapeCharacter escapeCharacter, QueryValidator queryValidator,
+			QueryObserver queryObserver, QueryResultCaches queryResultCaches) {
 
 		this.queryRewriter = queryRewriter;
 		this.selector = selector;
 		this.escapeCharacter = escapeCharacter;
 		this.valueExpressionDelegate = valueExpressionDelegate;
+		this.queryValidator = queryValidator;
+		this.queryObserver = queryObserver;
+		this.queryResultCaches = queryResultCaches;
 	}
 
 	public QueryRewriter getQueryRewriter(JpaQueryMethod queryMethod) {
@@ -55,4 +77,61 @@ public class JpaQueryConfiguration {
 		return valueExpressionDelegate;
 	}
 
+	/**
+	 * @since 4.2
+	 */
+	public QueryValidator getQueryValidator() {
+		return queryValidator;
+	}
+
+	/**
+	 * Create a copy of this configuration using the given {@link QueryValidator}.
+	 *
+	 * @param queryValidator must not be {@literal null}.
+	 * @return a new {@link JpaQueryConfiguration}.
+	 * @since 4.2
+	 */
+	public JpaQueryConfiguration withQueryValidator(QueryValidator queryValidator) {
+		return new JpaQueryConfiguration(queryRewriter, selector, valueExpressionDelegate, escapeCharacter, queryValidator,
+				queryObserver, queryResultCaches);
+	}
+
+	/**
+	 * @since 4.2
+	 */
+	public QueryObserver getQueryObserver() {
+		return queryObserver;
+	}
+
+	/**
+	 * Create a copy of this configuration using the given {@link QueryObserver}.
+	 *
+	 * @param queryObserver must not be {@literal null}.
+	 * @return a new {@link JpaQueryConfiguration}.
+	 * @since 4.2
+	 */
+	public JpaQueryConfiguration withQueryObserver(QueryObserver queryObserver) {
+		return new JpaQueryConfiguration(queryRewriter, selector, valueExpressionDelegate, escapeCharacter, queryValidator,
+				queryObserver, queryResultCaches);
+	}
+
+	/**
+	 * @since 4.2
+	 */
+	public QueryResultCaches getQueryResultCaches() {
+		return queryResultCaches;
+	}
+
+	/**
+	 * Create a copy of this configuration using the given {@link QueryResultCaches}.
+	 *
+	 * @param queryResultCaches must not be {@literal null}.
+	 * @return a new {@link JpaQueryConfiguration}.
+	 * @since 4.2
+	 */
+	public JpaQueryConfiguration withQueryResultCaches(QueryResultCaches queryResultCaches) {
+		return new JpaQueryConfiguration(queryRewriter, selector, valueExpressionDelegate, escapeCharacter, queryValidator,
+				queryObserver, queryResultCaches);
+	}
+
 }
@@ -19,13 +19,16 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import jakarta.persistence.StoredProcedureQuery;
 import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 
@@ -35,6 +38,7 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Score;
 import org.springframework.data.domain.ScoringFunction;
 import org.springframework.data.domain.ScrollPosition;
@@ -50,6 +54,7 @@ import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -79,6 +84,9 @@ public abstract class JpaQueryExecution {
 		ConfigurableConversionService conversionService = new DefaultConversionService();
 
 		conversionService.addConverter(JpaResultConverters.BlobToByteArrayConverter.INSTANCE);
+		conversionService.addConverter(JpaResultConverters.BlobToInputStreamConverter.INSTANCE);
+		conversionService.addConverter(JpaResultConverters.BlobToReadableByteChannelConverter.INSTANCE);
+		conversionService.addConverter(JpaResultConverters.ClobToReaderConverter.INSTANCE);
 		conversionService.removeConvertible(Collection.class, Object.class);
 		conversionService.removeConvertible(Object.class, Optional.class);
 
@@ -144,37 +152,62 @@ public abstract class JpaQueryExecution {
 
 	static class SearchResultExecution extends JpaQueryExecution {
 
+		private static final String DISTANCE_ALIAS = "distance";
+
 		private final JpaQueryExecution delegate;
 		private final ReturnedType returnedType;
 		private final ScoringFunction function;
 		private final boolean normalizeSimilarity;
 		private final SimilarityNormalizer normalizer;
+		private final @Nullable Rescoring rescoring;
 
 		SearchResultExecution(JpaQueryExecution delegate, ReturnedType returnedType, ScoringFunction function,
 				boolean normalizeSimilarity) {
+			this(delegate, returnedType, function, normalizeSimilarity, null);
+		}
+
+		SearchResultExecution(JpaQueryExecution delegate, ReturnedType returnedType, ScoringFunction function,
+				boolean normalizeSimilarity, @Nullable Rescoring rescoring) {
 
 			this.delegate = delegate;
 			this.returnedType = returnedType;
 			this.function = function;
 			this.normalizeSimilarity = normalizeSimilarity;
 			this.normalizer = normalizeSimilarity ? SimilarityNormalizer.get(function) : SimilarityNormalizer.IDENTITY;
+			this.rescoring = rescoring;
 		}
 
 		@Override
 		protected @Nullable Object doExecute(AbstractJpaQuery query, JpaParametersParameterAccessor accessor) {
 
+			if (rescoring != null && delegate instanceof CollectionExecution && !returnedType.needsCustomConstruction()
+					&& VectorDistances.supports(function)) {
+				return rescore(query, accessor, rescoring);
+			}
+
 			Object result = delegate.execute(query, accessor);
 
 			if (result instanceof Tuple || result instanceof Object[]) {
-				return map(result);
+				return map(result, DistanceColumn.resolve(result));
 			}
 
 			if (result instanceof Collection<?> c) {
 
 				List<SearchResult<Object>> objects = new ArrayList<>(c.size());
+				DistanceColumn column = null;
 
 				for (Object o : c) {
-					objects.add(o instanceof Tuple || o instanceof Object[] ? map(o) : new SearchResult<>(o, 0));
+
+					if (o instanceof Tuple || o instanceof Object[]) {
+
+						if (column == null) {
+							column = DistanceColumn.resolve(o);
+						}
+
+						objects.add(map(o, column));
+					} else {
+						objects.add(new SearchResult<>(o, 0));
+					}
 				}
 
 				return new SearchResults<>(objects);
@@ -183,37 +216,201 @@ public abstract class JpaQueryExecution {
 			return result;
 		}
 
-		private @Nullable SearchResult<Object> map(Object result) {
+		/**
+		 * Fetch an oversampled candidate set, compute exact distances between the query vector and the vector property of
+		 * each candidate and return the closest candidates that satisfy the score threshold.
+		 */
+		private SearchResults<Object> rescore(AbstractJpaQuery query, JpaParametersParameterAccessor accessor,
+				Rescoring rescoring) {
 
-			if (result instanceof Tuple t) {
+			Query jpaQuery = query.createQuery(accessor);
+			int limit = jpaQuery.getMaxResults();
 
-				Object value = returnedType.needsCustomConstruction() ? t : t.get(0);
-				try {
-					return new SearchResult<>(value, getScore(t.get("distance", Number.class).doubleValue()));
-				} catch (RuntimeException e) {
-					return new SearchResult<>(value, getScore(0));
-				}
+			if (limit != Integer.MAX_VALUE) {
+				jpaQuery.setMaxResults(rescoring.getCandidates(limit));
 			}
 
-			if (result instanceof Object[] objects) {
+			List<?> rows = jpaQuery.getResultList();
+			List<Candidate> candidates = new ArrayList<>(rows.size());
+			float[] target = rescoring.vector();
+			DistanceColumn column = rows.isEmpty() ? DistanceColumn.ABSENT : DistanceColumn.resolve(rows.get(0));
 
-				Object value = returnedType.needsCustomConstruction() ? objects : objects[0];
-				try {
+			for (Object row : rows) {
 
-					return new SearchResult<>(value, getScore(((Number) (objects[objects.length - 1])).doubleValue()));
-				} catch (RuntimeException e) {
-					return new SearchResult<>(value, getScore(0));
+				Object value = getValue(row);
+				float[] candidate = value != null ? VectorDistances.toFloatArray(rescoring.readVector(value)) : null;
+				double distance = candidate != null ? VectorDistances.distance(function, target, candidate)
+						: column.getDistance(row);
+
+				if (rescoring.matches(distance, normalizer)) {
+					candidates.add(new Candidate(value, distance));
 				}
 			}
 
+			candidates.sort(Comparator.comparingDouble(Candidate::distance));
+
+			int size = Math.min(limit, candidates.size());
+			List<SearchResult<Object>> results = new ArrayList<>(size);
+
+			for (int i = 0; i < size; i++) {
+
+				Candidate candidate = candidates.get(i);
+				results.add(new SearchResult<>(candidate.value(), getScore(candidate.distance())));
+			}
+
+			return new SearchResults<>(results);
+		}
+
+		private @Nullable SearchResult<Object> map(Object result, DistanceColumn column) {
+
+			if (result instanceof Tuple || result instanceof Object[]) {
+				return new SearchResult<>(getValue(result), getScore(column.getDistance(result)));
+			}
+
 			return null;
 		}
 
+		@SuppressWarnings("NullAway")
+		private @Nullable Object getValue(@Nullable Object row) {
+
+			if (returnedType.needsCustomConstruction()) {
+				return row;
+			}
+
+			if (row instanceof Tuple t) {
+				return t.get(0);
+			}
+
+			if (row instanceof Object[] objects) {
+				return objects[0];
+			}
+
+			return row;
+		}
+
 		private Score getScore(double score) {
 			return normalizeSimilarity ? Similarity.raw(normalizer.getSimilarity(score), function)
 					: Score.of(score, function);
 		}
 
+		private record Candidate(@Nullable Object value, double distance) {
+
+		}
+
+		/**
+		 * Position of the {@code distance} column within a result row. Resolved once per result as all rows share the same
+		 * shape.
+		 */
+		record DistanceColumn(int index) {
+
+			static final DistanceColumn ABSENT = new DistanceColumn(-1);
+
+			static DistanceColumn resolve(@Nullable Object row) {
+
+				if (row instanceof Tuple tuple) {
+
+					List<TupleElement<?>> elements = tuple.getElements();
+
+					for (int i = 0; i < elements.size(); i++) {
+						if (DISTANCE_ALIAS.equals(elements.get(i).getAlias())) {
+							return new DistanceColumn(i);
+						}
+					}
+
+					return ABSENT;
+				}
+
+				if (row instanceof Object[] objects && objects.length > 0) {
+					return new DistanceColumn(objects.length - 1);
+				}
+
+				return ABSENT;
+			}
+
+			double getDistance(@Nullable Object row) {
+
+				if (index == -1) {
+					return 0;
+				}
+
+				Object value = null;
+
+				if (row instanceof Tuple tuple) {
+					value = tuple.get(index);
+				} else if (row instanceof Object[] objects && objects.length > index) {
+					value = objects[index];
+				}
+
+				return value instanceof Number number ? number.doubleValue() : 0;
+			}
+
+		}
+
+		/**
+		 * Parameters for in-process re-ranking of vector search results.
+		 *
+		 * @param oversampling factor by which the result limit is multiplied to obtain the number of candidates.
+		 * @param property the dot-path of the vector property.
+		 * @param vector the query vector.
+		 * @param score the score threshold, can be {@literal null}.
+		 * @param range the score range, can be {@literal null}.
+		 * @since 4.2
+		 * @see org.springframework.data.jpa.repository.VectorRescoring
+		 */
+		record Rescoring(int oversampling, String property, float[] vector, @Nullable Score score,
+				@Nullable Range<Score> range) {
+
+			Rescoring {
+				Assert.isTrue(oversampling > 0, "Oversampling factor must be greater than zero");
+				Assert.hasText(property, "Vector property must not be empty");
+			}
+
+			int getCandidates(int limit) {
+				return (int) Math.min(Integer.MAX_VALUE, (long) limit * oversampling);
+			}
+
+			@Nullable
+			Object readVector(Object entity) {
+				return new DirectFieldAccessFallbackBeanWrapper(entity).getPropertyValue(property);
+			}
+
+			/**
+			 * Check whether the given distance satisfies the score threshold. Mirrors the predicates rendered by
+			 * {@link JpaQueryCreator}: a lower similarity bound translates into an upper distance bound and vice versa.
+			 */
+			boolean matches(double distance, SimilarityNormalizer normalizer) {
+
+				if (score != null && distance > normalizer.getScore(score.getValue())) {
+					return false;
+				}
+
+				if (range != null) {
+
+					Range.Bound<Score> lower = range.getLowerBound();
+					Range.Bound<Score> upper = range.getUpperBound();
+
+					if (lower.isBounded()) {
+
+						double bound = normalizer.getScore(lower.getValue().get().getValue());
+						if (lower.isInclusive() ? distance > bound : distance >= bound) {
+							return false;
+						}
+					}
+
+					if (upper.isBounded()) {
+
+						double bound = normalizer.getScore(upper.getValue().get().getValue());
+						if (upper.isInclusive() ? distance < bound : distance <= bound) {
+							return false;
+						}
+					}
+				}
+
+				return true;
+			}
+
+		}
+
 	}
 
 	/**
@@ -326,6 +523,45 @@ public abstract class JpaQueryExecution {
 		}
 	}
 
+	/**
+	 * {@link PagedExecution} obtaining the total through a {@code count(*) over ()} window function selected along with
+	 * the page content. Falls back to {@link PagedExecution} if the query cannot be rewritten.
+	 *
+	 * @since 4.2
+	 * @see org.springframework.data.jpa.repository.WindowFunctionCount
+	 */
+	static class WindowFunctionCountPagedExecution extends PagedExecution {
+
+		WindowFunctionCountPagedExecution(PersistenceProvider provider) {
+			super(provider);
+		}
+
+		@Override
+		protected Object doExecute(AbstractJpaQuery repositoryQuery, JpaParametersParameterAccessor accessor) {
+
+			Query query = repositoryQuery.createWindowFunctionCountQuery(accessor);
+
+			if (query == null) {
+				return super.doExecute(repositoryQuery, accessor);
+			}
+
+			List<?> rows = query.getResultList();
+			List<@Nullable Object> content = new ArrayList<>(rows.size());
+
+			for (Object row : rows) {
+				content.add(WindowFunctionCountQueries.getContent(row));
+			}
+
+			return PageableExecutionUtils.getPage(content, accessor.getPageable(), () -> {
+
+				Long total = rows.isEmpty() ? null : WindowFunctionCountQueries.getTotal(rows.get(0));
+
+				// requested page lies beyond the last row
+				return total != null ? total : doCount(repositoryQuery, accessor);
+			});
+		}
+	}
+
 	/**
 	 * Executes a {@link AbstractStringBasedJpaQuery} to return a single entity.
 	 */
@@ -459,11 +695,23 @@ public abstract class JpaQueryExecution {
 	static class ProcedureExecution extends JpaQueryExecution {
 
 		private final boolean collectionQuery;
+		private final boolean streamQuery;
 
 		private static final String NO_SURROUNDING_TRANSACTION = "You're trying to execute a @Procedure method without a surrounding transaction that keeps the connection open so that the ResultSet can actually be consumed; Make sure the consumer code uses @Transactional or any other way of declaring a (read-only) transaction";
 
 		ProcedureExecution(boolean collectionQuery) {
+			this(collectionQuery, false);
+		}
+
+		/**
+		 * @param collectionQuery whether the procedure result set is returned as collection.
+		 * @param streamQuery whether the procedure result set is returned as {@link java.util.stream.Stream}. The result
+		 *          is read completely before the procedure call is closed.
+		 * @since 4.2
+		 */
+		ProcedureExecution(boolean collectionQuery, boolean streamQuery) {
 			this.collectionQuery = collectionQuery;
+			this.streamQuery = streamQuery;
 		}
 
 		@Override
@@ -485,12 +733,22 @@ public abstract class JpaQueryExecution {
 						throw new InvalidDataAccessApiUsageException(NO_SURROUNDING_TRANSACTION);
 					}
 
+					if (streamQuery) {
+						return procedure.getResultList().stream();
+					}
+
 					if (!Map.class.isAssignableFrom(returnType)) {
 						return collectionQuery ? procedure.getResultList() : procedure.getSingleResult();
 					}
 				}
 
-				return query.extractOutputValue(procedure);
+				Object outputValue = query.extractOutputValue(procedure);
+
+				if (streamQuery) {
+					return toStream(outputValue);
+				}
+
+				return outputValue;
 			} finally {
 
 				if (procedure instanceof AutoCloseable ac) {
@@ -500,6 +758,19 @@ public abstract class JpaQueryExecution {
 				}
 			}
 		}
+
+		/**
+		 * Exposes the output value of a procedure that did not return a result set, such as a {@code REF_CURSOR} output
+		 * parameter, as {@link Stream}.
+		 */
+		private static Stream<?> toStream(@Nullable Object outputValue) {
+
+			if (outputValue == null) {
+				return Stream.empty();
+			}
+
+			return outputValue instanceof Collection<?> collection ? collection.stream() : Stream.of(outputValue);
+		}
 	}
 
 	/**
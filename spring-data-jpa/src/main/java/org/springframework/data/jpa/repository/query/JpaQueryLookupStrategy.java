@@ -90,12 +90,21 @@ public final class JpaQueryLookupStrategy {
 		public final RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 				NamedQueries namedQueries) {
 			JpaQueryMethod queryMethod = queryMethodFactory.build(method, metadata, factory);
-			return resolveQuery(queryMethod, configuration, em, namedQueries);
+			return configure(resolveQuery(queryMethod, configuration, em, namedQueries), configuration);
 		}
 
 		protected abstract RepositoryQuery resolveQuery(JpaQueryMethod method, JpaQueryConfiguration configuration,
 				EntityManager em, NamedQueries namedQueries);
 
+		static RepositoryQuery configure(RepositoryQuery query, JpaQueryConfiguration configuration) {
+
+			if (query instanceof AbstractJpaQuery jpaQuery) {
+				jpaQuery.setQueryObserver(configuration.getQueryObserver());
+				jpaQuery.setQueryResultCaches(configuration.getQueryResultCaches());
+			}
+
+			return query;
+		}
 	}
 
 	/**
@@ -304,6 +313,34 @@ public final class JpaQueryLookupStrategy {
 		}
 	}
 
+	/**
+	 * {@link QueryLookupStrategy} that defers query creation through a delegate strategy until the query is first used.
+	 * Lazily created queries are validated immediately upon creation regardless of the configured
+	 * {@link QueryValidationMode} as there is no bootstrap phase left to await or defer validation to.
+	 *
+	 * @since 4.2
+	 */
+	private static class LazyQueryLookupStrategy extends AbstractQueryLookupStrategy {
+
+		private final AbstractQueryLookupStrategy delegate;
+
+		LazyQueryLookupStrategy(EntityManager em, JpaQueryMethodFactory queryMethodFactory,
+				AbstractQueryLookupStrategy delegate, JpaQueryConfiguration configuration) {
+
+			super(em, queryMethodFactory, configuration.withQueryValidator(
+					configuration.getQueryValidator().withMode(QueryValidationMode.IMMEDIATE)));
+
+			this.delegate = delegate;
+		}
+
+		@Override
+		protected RepositoryQuery resolveQuery(JpaQueryMethod method, JpaQueryConfiguration configuration, EntityManager em,
+				NamedQueries namedQueries) {
+			return new LazyJpaQuery(method,
+					() -> configure(delegate.resolveQuery(method, configuration, em, namedQueries), configuration));
+		}
+	}
+
 	/**
 	 * Creates a {@link QueryLookupStrategy} for the given {@link EntityManager} and {@link Key}.
 	 *
@@ -314,10 +351,34 @@ public final class JpaQueryLookupStrategy {
 	 */
 	public static QueryLookupStrategy create(EntityManager em, JpaQueryMethodFactory queryMethodFactory,
 			@Nullable Key key, JpaQueryConfiguration configuration) {
+		return create(em, queryMethodFactory, key, configuration, false);
+	}
+
+	/**
+	 * Creates a {@link QueryLookupStrategy} for the given {@link EntityManager} and {@link Key}. Lazy query creation
+	 * returns {@link LazyJpaQuery} instances that create the actual query on first use.
+	 *
+	 * @param em must not be {@literal null}.
+	 * @param queryMethodFactory must not be {@literal null}.
+	 * @param key may be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @param lazy whether to defer query creation until the query is first used.
+	 * @since 4.2
+	 */
+	public static QueryLookupStrategy create(EntityManager em, JpaQueryMethodFactory queryMethodFactory,
+			@Nullable Key key, JpaQueryConfiguration configuration, boolean lazy) {
 
 		Assert.notNull(em, "EntityManager must not be null");
 		Assert.notNull(configuration, "JpaQueryConfiguration must not be null");
 
+		AbstractQueryLookupStrategy strategy = doCreate(em, queryMethodFactory, key, configuration);
+
+		return lazy ? new LazyQueryLookupStrategy(em, queryMethodFactory, strategy, configuration) : strategy;
+	}
+
+	private static AbstractQueryLookupStrategy doCreate(EntityManager em, JpaQueryMethodFactory queryMethodFactory,
+			@Nullable Key key, JpaQueryConfiguration configuration) {
+
 		return switch (key != null ? key : Key.CREATE_IF_NOT_FOUND) {
 			case CREATE -> new CreateQueryLookupStrategy(em, queryMethodFactory, configuration);
 			case USE_DECLARED_QUERY -> new DeclaredQueryLookupStrategy(em, queryMethodFactory, configuration);
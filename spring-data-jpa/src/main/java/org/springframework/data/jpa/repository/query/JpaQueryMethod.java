@@ -33,6 +33,7 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.jpa.provider.QueryExtractor;
+import org.springframework.data.jpa.repository.CacheableQuery;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Meta;
@@ -40,6 +41,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.QueryRewriter;
+import org.springframework.data.jpa.repository.VectorRescoring;
+import org.springframework.data.jpa.repository.WindowFunctionCount;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameters;
@@ -90,6 +93,9 @@ public class JpaQueryMethod extends QueryMethod {
 	private final Lazy<Boolean> isProcedureQuery;
 	private final Lazy<JpaEntityMetadata<?>> entityMetadata;
 	private final Lazy<Optional<Meta>> metaAnnotation;
+	private final Lazy<Boolean> isWindowFunctionCount;
+	private final Lazy<VectorRescoring> vectorRescoring;
+	private final Lazy<CacheableQuery> cacheableQuery;
 
 	/**
 	 * Creates a {@link JpaQueryMethod}.
@@ -148,11 +154,22 @@ public class JpaQueryMethod extends QueryMethod {
 		this.entityMetadata = Lazy.of(() -> new DefaultJpaEntityMetadata<>(getDomainClass()));
 		this.metaAnnotation = Lazy
 				.of(() -> Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Meta.class)));
+		this.isWindowFunctionCount = Lazy
+				.of(() -> AnnotatedElementUtils.hasAnnotation(method, WindowFunctionCount.class));
+		this.vectorRescoring = Lazy.of(() -> AnnotatedElementUtils.findMergedAnnotation(method, VectorRescoring.class));
 
 		if (isModifyingQuery() && getParameters().hasSpecialParameter()) {
 			throw QueryCreationException.create(this,
 					String.format("Modifying method must not contain %s", Parameters.TYPES));
 		}
+
+		this.cacheableQuery = Lazy.of(() -> AnnotatedElementUtils.findMergedAnnotation(method, CacheableQuery.class));
+
+		if (cacheableQuery.getNullable() != null && (isModifyingQuery() || isStreamQuery() || isPageQuery()
+				|| isSliceQuery() || isScrollQuery() || lockModeType.getNullable() != null)) {
+			throw QueryCreationException.create(this, "Modifying, streaming, paging, scrolling and locking query methods"
+					+ " must not be annotated with @CacheableQuery");
+		}
 	}
 
 	private static Class<?> potentiallyUnwrapReturnTypeFor(RepositoryMetadata metadata, Method method) {
@@ -230,6 +247,39 @@ public class JpaQueryMethod extends QueryMethod {
 		return hints != null ? hints.forCounting() : false;
 	}
 
+	/**
+	 * Returns whether the total of a page query shall be obtained through a {@code count(*) over ()} window function
+	 * selected along with the page content.
+	 *
+	 * @return {@literal true} if the method is annotated with {@link WindowFunctionCount}.
+	 * @since 4.2
+	 */
+	boolean isWindowFunctionCount() {
+		return isWindowFunctionCount.get();
+	}
+
+	/**
+	 * Returns the {@link CacheableQuery} annotation if the results of the method shall be cached.
+	 *
+	 * @return the {@link CacheableQuery} annotation or {@literal null} if the method is not annotated.
+	 * @since 4.2
+	 */
+	@Nullable
+	CacheableQuery getCacheableQuery() {
+		return cacheableQuery.getNullable();
+	}
+
+	/**
+	 * Returns the {@link VectorRescoring} annotation if search results shall be re-ranked in process.
+	 *
+	 * @return the {@link VectorRescoring} annotation or {@literal null} if the method is not annotated.
+	 * @since 4.2
+	 */
+	@Nullable
+	VectorRescoring getVectorRescoring() {
+		return isSearchQuery() ? vectorRescoring.getNullable() : null;
+	}
+
 	/**
 	 * Returns the {@link QueryExtractor}.
 	 *
@@ -242,9 +292,10 @@ public class JpaQueryMethod extends QueryMethod {
 	/**
 	 * Returns the {@link Method}.
 	 *
-	 * @return
+	 * @return the underlying repository method.
+	 * @since 4.2
 	 */
-	Method getMethod() {
+	public Method getMethod() {
 		return method;
 	}
 
@@ -16,16 +16,25 @@
 package org.springframework.data.jpa.repository.query;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.CleanupFailureDataAccessException;
 import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StreamUtils;
 
 /**
@@ -43,7 +52,8 @@ public final class JpaResultConverters {
 	private JpaResultConverters() {}
 
 	/**
-	 * Converts the given {@link Blob} into a {@code byte[]}.
+	 * Converts the given {@link Blob} into a {@code byte[]}. The target array is sized from {@link Blob#length()} so that
+	 * the content is copied only once.
 	 *
 	 * @author Thomas Darimont
 	 */
@@ -52,6 +62,7 @@ public final class JpaResultConverters {
 
 		INSTANCE;
 
+		private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
 
 		@Override
 		public byte @Nullable[] convert(@Nullable Blob source) {
@@ -67,9 +78,19 @@ public final class JpaResultConverters {
 
 				if (blobStream != null) {
 
-					ByteArrayOutputStream baos = new ByteArrayOutputStream();
-					StreamUtils.copy(blobStream, baos);
-					return baos.toByteArray();
+					long length = source.length();
+
+					if (length < 0 || length > MAX_ARRAY_LENGTH) {
+
+						ByteArrayOutputStream baos = new ByteArrayOutputStream();
+						StreamUtils.copy(blobStream, baos);
+						return baos.toByteArray();
+					}
+
+					byte[] bytes = new byte[(int) length];
+					int read = blobStream.readNBytes(bytes, 0, bytes.length);
+
+					return read == bytes.length ? bytes : Arrays.copyOf(bytes, read);
 				}
 
 			} catch (SQLException | IOException e) {
@@ -87,4 +108,166 @@ public final class JpaResultConverters {
 			return null;
 		}
 	}
+
+	/**
+	 * Converts the given {@link Blob} into an {@link InputStream} streaming its content without materializing it. The
+	 * stream is only readable while the underlying connection is held, typically within the surrounding transaction.
+	 * Closing the stream {@link Blob#free() frees} the {@link Blob}. Streams that are still open when the transaction
+	 * completes are closed.
+	 *
+	 * @since 4.2
+	 */
+	@SuppressWarnings("NullAway")
+	public enum BlobToInputStreamConverter implements Converter<Blob, @Nullable InputStream> {
+
+		INSTANCE;
+
+		@Override
+		public @Nullable InputStream convert(@Nullable Blob source) {
+
+			if (source == null) {
+				return null;
+			}
+
+			try {
+
+				InputStream blobStream = source.getBinaryStream();
+				return blobStream != null ? bindToTransaction(new BlobInputStream(blobStream, source)) : null;
+			} catch (SQLException e) {
+				throw new DataRetrievalFailureException("Couldn't retrieve data from blob", e);
+			}
+		}
+	}
+
+	/**
+	 * Converts the given {@link Blob} into a {@link ReadableByteChannel} streaming its content without materializing it.
+	 * The same lifecycle as for {@link BlobToInputStreamConverter} applies.
+	 *
+	 * @since 4.2
+	 */
+	@SuppressWarnings("NullAway")
+	public enum BlobToReadableByteChannelConverter implements Converter<Blob, @Nullable ReadableByteChannel> {
+
+		INSTANCE;
+
+		@Override
+		public @Nullable ReadableByteChannel convert(@Nullable Blob source) {
+
+			InputStream stream = BlobToInputStreamConverter.INSTANCE.convert(source);
+			return stream != null ? Channels.newChannel(stream) : null;
+		}
+	}
+
+	/**
+	 * Converts the given {@link Clob} into a {@link Reader} streaming its content without materializing it. The stream is
+	 * only readable while the underlying connection is held, typically within the surrounding transaction. Closing the
+	 * reader {@link Clob#free() frees} the {@link Clob}. Readers that are still open when the transaction completes are
+	 * closed.
+	 *
+	 * @since 4.2
+	 */
+	@SuppressWarnings("NullAway")
+	public enum ClobToReaderConverter implements Converter<Clob, @Nullable Reader> {
+
+		INSTANCE;
+
+		@Override
+		public @Nullable Reader convert(@Nullable Clob source) {
+
+			if (source == null) {
+				return null;
+			}
+
+			try {
+
+				Reader reader = source.getCharacterStream();
+				return reader != null ? bindToTransaction(new ClobReader(reader, source)) : null;
+			} catch (SQLException e) {
+				throw new DataRetrievalFailureException("Couldn't retrieve data from clob", e);
+			}
+		}
+	}
+
+	private static <T extends AutoCloseable> T bindToTransaction(T resource) {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					try {
+						resource.close();
+					} catch (Exception e) {
+						// ignore, the LOB is invalid after transaction completion anyway
+					}
+				}
+			});
+		}
+
+		return resource;
+	}
+
+	private static class BlobInputStream extends FilterInputStream {
+
+		private final Blob blob;
+		private boolean closed;
+
+		BlobInputStream(InputStream delegate, Blob blob) {
+			super(delegate);
+			this.blob = blob;
+		}
+
+		@Override
+		public void close() throws IOException {
+
+			if (closed) {
+				return;
+			}
+
+			closed = true;
+
+			try {
+				super.close();
+			} finally {
+				try {
+					blob.free();
+				} catch (SQLException | UnsupportedOperationException e) {
+					// ignore, freeing is optional and the blob is released with its connection
+				}
+			}
+		}
+	}
+
+	private static class ClobReader extends FilterReader {
+
+		private final Clob clob;
+		private boolean closed;
+
+		ClobReader(Reader delegate, Clob clob) {
+			super(delegate);
+			this.clob = clob;
+		}
+
+		@Override
+		public void close() throws IOException {
+
+			if (closed) {
+				return;
+			}
+
+			closed = true;
+
+			try {
+				super.close();
+			} finally {
+				try {
+					clob.free();
+				} catch (SQLException | UnsupportedOperationException e) {
+					// ignore, freeing is optional and the clob is released with its connection
+				}
+			}
+		}
+	}
+
 }
@@ -184,6 +184,20 @@ public final class JpqlQueryBuilder {
 		return new FunctionExpression(function, Arrays.asList(arguments));
 	}
 
+	/**
+	 * Create a row value (tuple) expression {@code (…, …)} from the given {@code expressions}.
+	 *
+	 * @param expressions tuple elements.
+	 * @return an expression representing a row value.
+	 * @since 4.2
+	 */
+	public static Expression tuple(List<Expression> expressions) {
+
+		Assert.notEmpty(expressions, "Tuple expressions must not be empty");
+
+		return new TupleExpression(List.copyOf(expressions));
+	}
+
 	/**
 	 * Nest the given {@link Predicate}.
 	 *
@@ -1397,6 +1411,32 @@ public final class JpqlQueryBuilder {
 
 	}
 
+	record TupleExpression(List<Expression> expressions) implements Expression {
+
+		@Override
+		public String render(RenderContext context) {
+
+			StringBuilder builder = new StringBuilder();
+
+			for (Expression expression : expressions) {
+
+				if (!builder.isEmpty()) {
+					builder.append(", ");
+				}
+
+				builder.append(expression.render(context));
+			}
+
+			return "(%s)".formatted(builder);
+		}
+
+		@Override
+		public String toString() {
+			return render(RenderContext.EMPTY);
+		}
+
+	}
+
 	record OperatorPredicate(Expression path, String operator, Expression predicate) implements Predicate {
 
 		@Override
@@ -82,6 +82,13 @@ public class KeysetScrollDelegate {
 			return null;
 		}
 
+		// (a, b, id) > (?, ?, ?) allows using a single index range scan instead of an OR expansion
+		P rowValueComparison = createRowValueComparison(keysetValues, sort, strategy);
+
+		if (rowValueComparison != null) {
+			return rowValueComparison;
+		}
+
 		List<P> or = new ArrayList<>();
 		int i = 0;
 
@@ -126,6 +133,42 @@ public class KeysetScrollDelegate {
 		return strategy.or(or);
 	}
 
+	/**
+	 * Create a row value comparison if all sort orders share the same direction, use native null handling and all keyset
+	 * values are present and not {@literal null}. Returns {@literal null} if the keyset cannot be represented as row value
+	 * comparison or if the {@link QueryStrategy} does not support row value comparisons.
+	 */
+	private static <E, P> @Nullable P createRowValueComparison(Map<String, Object> keysetValues, Sort sort,
+			QueryStrategy<E, P> strategy) {
+
+		List<Order> orders = sort.toList();
+
+		// single-column keysets render a plain comparison anyway
+		if (orders.size() < 2) {
+			return null;
+		}
+
+		boolean ascending = orders.get(0).isAscending();
+		List<E> propertyExpressions = new ArrayList<>(orders.size());
+		List<Object> values = new ArrayList<>(orders.size());
+
+		for (Order order : orders) {
+
+			Object value = keysetValues.get(order.getProperty());
+
+			if (order.isAscending() != ascending || order.getNullHandling() != Sort.NullHandling.NATIVE
+					|| value == null) {
+				return null;
+			}
+
+			QueryUtils.checkSortExpression(order);
+			propertyExpressions.add(strategy.createExpression(order.getProperty()));
+			values.add(value);
+		}
+
+		return strategy.compare(orders, propertyExpressions, values);
+	}
+
 	protected Sort getSortOrders(Sort sort) {
 		return sort;
 	}
@@ -235,6 +278,25 @@ public class KeysetScrollDelegate {
 		 */
 		P compare(String property, E propertyExpression, @Nullable Object value);
 
+		/**
+		 * Create a row value comparison object {@code (a, b, …) > (?, ?, …)} for the given {@code orders}. All orders
+		 * share the same direction and use native null handling and all {@code values} are not {@literal null}. The
+		 * comparison uses {@code >} for ascending and {@code <} for descending orders.
+		 * <p>
+		 * Strategies that cannot express row value comparisons return {@literal null} to fall back to a disjunction of
+		 * per-property comparisons.
+		 *
+		 * @param orders the sort orders, must not be {@literal null}.
+		 * @param propertyExpressions expressions for each order, must not be {@literal null}.
+		 * @param values the keyset values for each order, must not be {@literal null}.
+		 * @return an object representing the row value comparison predicate or {@literal null} if row value comparisons
+		 *         are not supported.
+		 * @since 4.2
+		 */
+		default @Nullable P compare(List<Order> orders, List<E> propertyExpressions, List<Object> values) {
+			return null;
+		}
+
 		/**
 		 * AND-combine the {@code intermediate} predicates.
 		 *
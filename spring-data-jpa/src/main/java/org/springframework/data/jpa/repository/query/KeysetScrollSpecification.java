@@ -24,6 +24,7 @@ import jakarta.persistence.criteria.Root;
 import jakarta.persistence.metamodel.Bindable;
 import jakarta.persistence.metamodel.Metamodel;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.jspecify.annotations.Nullable;
@@ -33,6 +34,7 @@ import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.repository.query.KeysetScrollDelegate.QueryStrategy;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 
@@ -43,13 +45,29 @@ import org.springframework.data.jpa.repository.support.JpaEntityInformation;
  * @author Christoph Strobl
  * @since 3.1
  */
-public record KeysetScrollSpecification<T>(KeysetScrollPosition position, Sort sort,
-		JpaEntityInformation<?, ?> entity) implements Specification<T> {
+public record KeysetScrollSpecification<T>(KeysetScrollPosition position, Sort sort, JpaEntityInformation<?, ?> entity,
+		PersistenceProvider provider) implements Specification<T> {
 
 	public KeysetScrollSpecification(KeysetScrollPosition position, Sort sort, JpaEntityInformation<?, ?> entity) {
+		this(position, sort, entity, PersistenceProvider.GENERIC_JPA);
+	}
+
+	/**
+	 * Create a new {@link KeysetScrollSpecification} using row value comparisons if supported by the given
+	 * {@link PersistenceProvider}.
+	 *
+	 * @param position must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param provider must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public KeysetScrollSpecification(KeysetScrollPosition position, Sort sort, JpaEntityInformation<?, ?> entity,
+			PersistenceProvider provider) {
 
 		this.position = position;
 		this.entity = entity;
+		this.provider = provider;
 		this.sort = createSort(position, sort, entity);
 	}
 
@@ -73,7 +91,7 @@ public record KeysetScrollSpecification<T>(KeysetScrollPosition position, Sort s
 	public @Nullable Predicate createPredicate(Root<?> root, CriteriaBuilder criteriaBuilder) {
 
 		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(position.getDirection());
-		return delegate.createPredicate(position, sort, new CriteriaBuilderStrategy(root, criteriaBuilder));
+		return delegate.createPredicate(position, sort, new CriteriaBuilderStrategy(root, criteriaBuilder, provider));
 	}
 
 	public JpqlQueryBuilder.@Nullable Predicate createJpqlPredicate(Metamodel metamodel, Bindable<?> from,
@@ -81,7 +99,8 @@ public record KeysetScrollSpecification<T>(KeysetScrollPosition position, Sort s
 			ParameterFactory factory) {
 
 		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(position.getDirection());
-		return delegate.createPredicate(position, sort, new JpqlStrategy(metamodel, from, entity, factory));
+		return delegate.createPredicate(position, sort, new JpqlStrategy(metamodel, from, entity, factory,
+				provider.supportsRowValueComparison()));
 	}
 
 	/**
@@ -104,8 +123,8 @@ public record KeysetScrollSpecification<T>(KeysetScrollPosition position, Sort s
 	}
 
 	@SuppressWarnings("rawtypes")
-	record CriteriaBuilderStrategy(From<?, ?> from,
-			CriteriaBuilder cb) implements QueryStrategy<Expression<Comparable>, Predicate> {
+	record CriteriaBuilderStrategy(From<?, ?> from, CriteriaBuilder cb,
+			PersistenceProvider provider) implements QueryStrategy<Expression<Comparable>, Predicate> {
 
 		@Override
 		public Expression<Comparable> createExpression(String property) {
@@ -130,6 +149,12 @@ public record KeysetScrollSpecification<T>(KeysetScrollPosition position, Sort s
 			return value == null ? cb.isNull(propertyExpression) : cb.equal(propertyExpression, value);
 		}
 
+		@Override
+		public @Nullable Predicate compare(List<Order> orders, List<Expression<Comparable>> propertyExpressions,
+				List<Object> values) {
+			return provider.createRowValueComparison(cb, propertyExpressions, values, orders.get(0).isAscending());
+		}
+
 		@Override
 		public Predicate and(List<Predicate> intermediate) {
 			return cb.and(intermediate.toArray(new Predicate[0]));
@@ -141,8 +166,8 @@ public record KeysetScrollSpecification<T>(KeysetScrollPosition position, Sort s
 		}
 	}
 
-	record JpqlStrategy(Metamodel metamodel, Bindable<?> from, JpqlQueryBuilder.Entity entity,
-			ParameterFactory factory) implements QueryStrategy<JpqlQueryBuilder.Expression, JpqlQueryBuilder.Predicate> {
+	record JpqlStrategy(Metamodel metamodel, Bindable<?> from, JpqlQueryBuilder.Entity entity, ParameterFactory factory,
+			boolean rowValueComparison) implements QueryStrategy<JpqlQueryBuilder.Expression, JpqlQueryBuilder.Predicate> {
 
 		@Override
 		public JpqlQueryBuilder.Expression createExpression(String property) {
@@ -181,6 +206,25 @@ public record KeysetScrollSpecification<T>(KeysetScrollPosition position, Sort s
 			return value == null ? where.isNull() : where.eq(factory.capture(property, value));
 		}
 
+		@Override
+		public JpqlQueryBuilder.@Nullable Predicate compare(List<Order> orders,
+				List<JpqlQueryBuilder.Expression> propertyExpressions, List<Object> values) {
+
+			if (!rowValueComparison) {
+				return null;
+			}
+
+			List<JpqlQueryBuilder.Expression> parameters = new ArrayList<>(orders.size());
+			for (int i = 0; i < orders.size(); i++) {
+				parameters.add(factory.capture(orders.get(i).getProperty(), values.get(i)));
+			}
+
+			JpqlQueryBuilder.WhereStep where = JpqlQueryBuilder.where(JpqlQueryBuilder.tuple(propertyExpressions));
+			JpqlQueryBuilder.Expression keyset = JpqlQueryBuilder.tuple(parameters);
+
+			return orders.get(0).isAscending() ? where.gt(keyset) : where.lt(keyset);
+		}
+
 		@Override
 		public JpqlQueryBuilder.@Nullable Predicate and(List<JpqlQueryBuilder.Predicate> intermediate) {
 			return JpqlQueryBuilder.and(intermediate);
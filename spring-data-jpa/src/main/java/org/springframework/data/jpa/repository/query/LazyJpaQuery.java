@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryQuery} that defers creation of the actual query until it is first executed or explicitly
+ * {@link #initialize() initialized}. Parsing the query method name, introspecting declared queries and validating
+ * them happens upon materialization so that errors surface on first use instead of during repository creation.
+ *
+ * @since 4.2
+ * @see JpaQueryLookupStrategy#create(jakarta.persistence.EntityManager, JpaQueryMethodFactory,
+ *      org.springframework.data.repository.query.QueryLookupStrategy.Key, JpaQueryConfiguration, boolean)
+ */
+public class LazyJpaQuery implements RepositoryQuery {
+
+	private final JpaQueryMethod method;
+	private final Supplier<RepositoryQuery> factory;
+	private final List<Consumer<RepositoryQuery>> initializationCallbacks = new ArrayList<>();
+	private volatile @Nullable RepositoryQuery delegate;
+
+	/**
+	 * Creates a new {@link LazyJpaQuery} for the given {@link JpaQueryMethod}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param factory supplier creating the actual query, must not be {@literal null}.
+	 */
+	LazyJpaQuery(JpaQueryMethod method, Supplier<RepositoryQuery> factory) {
+
+		this.method = method;
+		this.factory = factory;
+	}
+
+	@Override
+	public @Nullable Object execute(Object[] parameters) {
+		return initialize().execute(parameters);
+	}
+
+	@Override
+	public JpaQueryMethod getQueryMethod() {
+		return method;
+	}
+
+	/**
+	 * @return the repository method backing this query.
+	 */
+	public Method getMethod() {
+		return method.getMethod();
+	}
+
+	/**
+	 * Create the actual query if it was not created yet.
+	 *
+	 * @return the actual query.
+	 */
+	public RepositoryQuery initialize() {
+
+		RepositoryQuery query = this.delegate;
+
+		if (query == null) {
+
+			synchronized (this) {
+
+				query = this.delegate;
+
+				if (query == null) {
+
+					query = factory.get();
+
+					for (Consumer<RepositoryQuery> callback : initializationCallbacks) {
+						callback.accept(query);
+					}
+
+					initializationCallbacks.clear();
+					this.delegate = query;
+				}
+			}
+		}
+
+		return query;
+	}
+
+	/**
+	 * Register a callback to be invoked with the actual query once it is created and before it is used. The callback is
+	 * invoked right away if the actual query was already created.
+	 *
+	 * @param callback must not be {@literal null}.
+	 */
+	public void onInitialization(Consumer<RepositoryQuery> callback) {
+
+		Assert.notNull(callback, "Callback must not be null");
+
+		RepositoryQuery query;
+
+		synchronized (this) {
+
+			query = this.delegate;
+
+			if (query == null) {
+				initializationCallbacks.add(callback);
+				return;
+			}
+		}
+
+		callback.accept(query);
+	}
+
+	/**
+	 * @return {@literal true} if the actual query was already created.
+	 */
+	public boolean isInitialized() {
+		return delegate != null;
+	}
+
+}
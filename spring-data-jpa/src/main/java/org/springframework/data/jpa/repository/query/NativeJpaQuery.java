@@ -104,6 +104,17 @@ class NativeJpaQuery extends AbstractStringBasedJpaQuery {
 		return type == null ? em.createNativeQuery(query) : em.createNativeQuery(query, type);
 	}
 
+	@Override
+	protected @Nullable Query createWindowFunctionCountJpaQuery(String queryString, ReturnedType returnedType) {
+
+		// entity and result set mappings cannot account for the additional count column
+		if (!ObjectUtils.isEmpty(sqlResultSetMapping) || getTypeToQueryFor(returnedType) != null) {
+			return null;
+		}
+
+		return getEntityManager().createNativeQuery(queryString);
+	}
+
 	private @Nullable Class<?> getTypeToQueryFor(ReturnedType returnedType) {
 
 		Class<?> result = queryForEntity ? returnedType.getDomainType() : null;
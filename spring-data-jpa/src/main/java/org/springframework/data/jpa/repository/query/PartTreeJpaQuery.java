@@ -125,6 +125,25 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 		return queryPreparer.createQuery(accessor);
 	}
 
+	@Override
+	protected @Nullable String getVectorProperty() {
+
+		for (PartTree.OrPart parts : tree) {
+			for (Part part : parts) {
+				if (part.getType() == Type.NEAR || part.getType() == Type.WITHIN) {
+					return part.getProperty().toDotPath();
+				}
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	protected @Nullable Query doCreateWindowFunctionCountQuery(JpaParametersParameterAccessor accessor) {
+		return tree.isCountProjection() ? null : queryPreparer.createWindowFunctionCountQuery(accessor);
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public TypedQuery<Long> doCreateCountQuery(JpaParametersParameterAccessor accessor) {
@@ -250,6 +269,36 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 			return restrictMaxResultsIfNecessary(invokeBinding(binder, query, accessor), scrollPosition);
 		}
 
+		/**
+		 * Creates a new {@link Query} for the given parameter values that additionally selects a
+		 * {@code count(*) over ()} window function. Returns {@literal null} if the derived query cannot be rewritten.
+		 */
+		public @Nullable Query createWindowFunctionCountQuery(JpaParametersParameterAccessor accessor) {
+
+			Sort sort = getDynamicSort(accessor);
+			JpqlQueryCreator creator = createCreator(sort, accessor);
+
+			if (creator.useTupleQuery()) {
+				return null;
+			}
+
+			String jpql = WindowFunctionCountQueries.addWindowFunctionCount(creator.createQuery(sort));
+
+			if (jpql == null) {
+				return null;
+			}
+
+			Query query;
+
+			try {
+				query = em.createQuery(jpql);
+			} catch (Exception e) {
+				throw new BadJpqlGrammarException(e.getMessage(), jpql, e);
+			}
+
+			return restrictMaxResultsIfNecessary(invokeBinding(creator.getBinder(), query, accessor), null);
+		}
+
 		/**
 		 * Restricts the max results of the given {@link Query} if the current {@code tree} marks this {@code query} as
 		 * limited.
@@ -289,6 +338,8 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 
 			JpqlQueryCreator jpqlQueryCreator = cache.get(sort, accessor); // this caching thingy is broken due to IS NULL
 																																			// rendering for
+			getQueryObserver().cacheAccessed(QueryObserver.Cache.PART_TREE, jpqlQueryCreator != null);
+
 			if (jpqlQueryCreator != null) {
 				return jpqlQueryCreator;
 			}
@@ -390,6 +441,8 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 		protected JpqlQueryCreator createCreator(Sort sort, JpaParametersParameterAccessor accessor) {
 
 			JpqlQueryCreator cached = cache.get(Sort.unsorted(), accessor);
+			getQueryObserver().cacheAccessed(QueryObserver.Cache.PART_TREE, cached != null);
+
 			if (cached != null) {
 				return cached;
 			}
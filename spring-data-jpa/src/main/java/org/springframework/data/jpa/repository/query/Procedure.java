@@ -57,4 +57,12 @@ public @interface Procedure {
 	 * Whether the procedure returns a Ref Cursor from the database - defaults to {@code false}.
 	 */
 	boolean refCursor() default false;
+
+	/**
+	 * The number of rows to fetch from the database per round trip when reading a result set or Ref Cursor returned by
+	 * the procedure. Defaults to {@code 0} to use the persistence provider default.
+	 *
+	 * @since 4.2
+	 */
+	int fetchSize() default 0;
 }
@@ -80,6 +80,18 @@ public class QueryEnhancerFactories {
 			}
 		},
 
+		TOKENIZING {
+			@Override
+			public boolean supports(DeclaredQuery query) {
+				return query.isNative();
+			}
+
+			@Override
+			public QueryEnhancer create(QueryProvider query) {
+				return new TokenizingQueryEnhancer(query);
+			}
+		},
+
 		HQL {
 			@Override
 			public boolean supports(DeclaredQuery query) {
@@ -141,6 +153,20 @@ public class QueryEnhancerFactories {
 		return BuiltinQueryEnhancerFactories.JSQLPARSER;
 	}
 
+	/**
+	 * Returns a {@link QueryEnhancerFactory} for native queries that tokenizes the query once and splices {@code ORDER BY}
+	 * items and count projections into the original query string instead of parsing and re-rendering it. This factory
+	 * requires no additional libraries and handles the query shapes commonly used with sorting and pagination (including
+	 * CTEs, set operations and trailing {@code LIMIT}/{@code FETCH}/{@code FOR UPDATE} clauses) at a fraction of the cost
+	 * of a full parser.
+	 *
+	 * @return a {@link QueryEnhancerFactory} using a token-based enhancer for native queries.
+	 * @since 4.2
+	 */
+	public static QueryEnhancerFactory tokenizing() {
+		return BuiltinQueryEnhancerFactories.TOKENIZING;
+	}
+
 	/**
 	 * Returns a {@link QueryEnhancerFactory} using HQL (Hibernate Query Language) parser.
 	 *
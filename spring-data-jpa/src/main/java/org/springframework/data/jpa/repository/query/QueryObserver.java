@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+/**
+ * Callback interface to observe the invocation of repository query methods. Invocations are broken down into
+ * {@link Phase phases} so that the time spent creating the query can be told apart from the time spent in the database
+ * and the time spent converting results.
+ * <p>
+ * Phases are started and stopped on the invoking thread in a nested fashion: the {@link Phase#INVOCATION invocation}
+ * encloses all other phases and {@link Phase#EXECUTION execution} encloses the {@link Phase#PREPARATION preparation} of
+ * the queries it runs. Implementations are expected to track the currently active phase to attribute
+ * {@link #cacheAccessed(Cache, boolean) cache accesses} to it. Observers are called on the hot path of each query method
+ * invocation and should be cheap. {@link #NONE} disables observation entirely.
+ *
+ * @since 4.2
+ * @see org.springframework.data.jpa.observability.ObservationQueryObserver
+ */
+public interface QueryObserver {
+
+	/**
+	 * {@link QueryObserver} that does not observe anything.
+	 */
+	QueryObserver NONE = new QueryObserver() {
+
+		@Override
+		public Recording start(JpaQueryMethod method, Phase phase) {
+			return Recording.NONE;
+		}
+
+		@Override
+		public void cacheAccessed(Cache cache, boolean hit) {}
+	};
+
+	/**
+	 * Start recording the given {@link Phase} of a query method invocation.
+	 *
+	 * @param method the invoked query method.
+	 * @param phase the phase to start.
+	 * @return the recording to {@link Recording#close() close} once the phase is completed.
+	 */
+	Recording start(JpaQueryMethod method, Phase phase);
+
+	/**
+	 * Record the outcome of a cache lookup performed within the currently active phase.
+	 *
+	 * @param cache the cache that was accessed.
+	 * @param hit whether the cache contained the requested entry.
+	 */
+	void cacheAccessed(Cache cache, boolean hit);
+
+	/**
+	 * Phases of a query method invocation.
+	 */
+	enum Phase {
+
+		/**
+		 * The entire query method invocation including result caching.
+		 */
+		INVOCATION,
+
+		/**
+		 * Creation of the JPA query: query derivation, sort rewriting, parameter binding and application of hints, entity
+		 * graphs and lock modes.
+		 */
+		PREPARATION,
+
+		/**
+		 * Running the query against the database including the preparation of the queries that are run.
+		 */
+		EXECUTION,
+
+		/**
+		 * Conversion of the query result into the method return type, for example projections.
+		 */
+		CONVERSION
+	}
+
+	/**
+	 * Caches consulted during a query method invocation.
+	 */
+	enum Cache {
+
+		/**
+		 * The result cache of {@link org.springframework.data.jpa.repository.CacheableQuery cacheable query methods}.
+		 */
+		RESULT,
+
+		/**
+		 * The cache of derived queries for a given sort order and parameter nullability.
+		 */
+		PART_TREE,
+
+		/**
+		 * The cache of declared queries rewritten for a given sort order.
+		 */
+		SORTED_QUERY
+	}
+
+	/**
+	 * A started {@link Phase}.
+	 */
+	interface Recording extends AutoCloseable {
+
+		/**
+		 * {@link Recording} that does not record anything.
+		 */
+		Recording NONE = new Recording() {
+
+			@Override
+			public void rows(long rows) {}
+
+			@Override
+			public void error(Throwable error) {}
+
+			@Override
+			public void close() {}
+		};
+
+		/**
+		 * Record the number of rows returned or affected by the query. Called for {@link Phase#EXECUTION} only if the
+		 * number of rows is known, i.e. not for streaming queries.
+		 *
+		 * @param rows the number of result rows.
+		 */
+		void rows(long rows);
+
+		/**
+		 * Record an error that terminated the phase.
+		 *
+		 * @param error the error.
+		 */
+		void error(Throwable error);
+
+		/**
+		 * Stop the recording.
+		 */
+		@Override
+		void close();
+	}
+
+}
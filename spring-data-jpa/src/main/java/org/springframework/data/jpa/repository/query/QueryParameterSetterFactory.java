@@ -18,10 +18,16 @@ package org.springframework.data.jpa.repository.query;
 import jakarta.persistence.Query;
 import jakarta.persistence.TemporalType;
 
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.expression.ValueEvaluationContext;
 import org.springframework.data.expression.ValueEvaluationContextProvider;
 import org.springframework.data.expression.ValueExpression;
@@ -32,9 +38,14 @@ import org.springframework.data.jpa.repository.query.ParameterBinding.MethodInvo
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.spel.EvaluationContextProvider;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Encapsulates different strategies for the creation of a {@link QueryParameterSetter} from a {@link Query} and a
@@ -154,7 +165,10 @@ abstract class QueryParameterSetterFactory {
 	}
 
 	/**
-	 * Handles bindings that are SpEL expressions by evaluating the expression to obtain a value.
+	 * Handles bindings that are SpEL expressions by evaluating the expression to obtain a value. All expressions bound
+	 * for the same invocation share a single, lazily created evaluation context. SpEL expressions are parsed with the
+	 * SpEL compiler enabled and simple {@code #parameter} or {@code #parameter.property} expressions read the method
+	 * argument directly.
 	 *
 	 * @author Jens Schauder
 	 * @author Oliver Gierke
@@ -186,20 +200,161 @@ abstract class QueryParameterSetterFactory {
 				return null;
 			}
 
-			return createSetter(values -> evaluateExpression(e.expression(), values), binding, null);
+			BoundExpression expression = BoundExpression.of(e.expression());
+
+			return createSetter(values -> expression.evaluate(values, evaluationContextProvider), binding, null);
+		}
+	}
+
+	/**
+	 * A {@link ValueExpression} prepared for repeated evaluation against {@link JpaParametersParameterAccessor}s.
+	 *
+	 * @since 4.2
+	 */
+	static class BoundExpression {
+
+		private static final SpelExpressionParser COMPILING_PARSER = new SpelExpressionParser(new SpelParserConfiguration(
+				SpelCompilerMode.MIXED, BoundExpression.class.getClassLoader()));
+
+		private static final Pattern PARAMETER_REFERENCE = Pattern
+				.compile("#([a-zA-Z_$][\\w$]*)(?:\\.([a-zA-Z_$][\\w$]*))?");
+
+		private static final Object UNRESOLVED = new Object();
+
+		private final ValueExpression expression;
+		private final @Nullable Expression compiled;
+		private final @Nullable String variable;
+		private final @Nullable String property;
+
+		private volatile int parameterIndex = -1;
+		private volatile @Nullable PropertyReader propertyReader;
+
+		private BoundExpression(ValueExpression expression, @Nullable Expression compiled, @Nullable String variable,
+				@Nullable String property) {
+
+			this.expression = expression;
+			this.compiled = compiled;
+			this.variable = variable;
+			this.property = property;
 		}
 
 		/**
-		 * Evaluates the given {@link Expression} against the given values.
+		 * Prepare the given {@link ValueExpression}. Property placeholders and composite expressions are evaluated through
+		 * the {@link ValueExpression} itself.
 		 *
 		 * @param expression must not be {@literal null}.
+		 * @return the prepared expression.
+		 */
+		static BoundExpression of(ValueExpression expression) {
+
+			String expressionString = expression.getExpressionString();
+
+			if (expression.isLiteral() || expressionString.contains("${") || expressionString.contains("#{")) {
+				return new BoundExpression(expression, null, null, null);
+			}
+
+			Expression compiled;
+
+			try {
+				compiled = COMPILING_PARSER.parseExpression(expressionString);
+			} catch (ParseException e) {
+				return new BoundExpression(expression, null, null, null);
+			}
+
+			Matcher matcher = PARAMETER_REFERENCE.matcher(expressionString.trim());
+
+			if (matcher.matches() && !"this".equals(matcher.group(1)) && !"root".equals(matcher.group(1))) {
+				return new BoundExpression(expression, compiled, matcher.group(1), matcher.group(2));
+			}
+
+			return new BoundExpression(expression, compiled, null, null);
+		}
+
+		/**
+		 * Evaluate the expression against the given accessor using the evaluation context shared across the invocation.
+		 *
 		 * @param accessor must not be {@literal null}.
+		 * @param evaluationContextProvider must not be {@literal null}.
 		 * @return the result of the evaluation.
 		 */
-		private @Nullable Object evaluateExpression(ValueExpression expression, JpaParametersParameterAccessor accessor) {
+		@Nullable Object evaluate(JpaParametersParameterAccessor accessor,
+				ValueEvaluationContextProvider evaluationContextProvider) {
+
+			if (variable != null) {
+
+				Object value = readParameter(accessor);
+
+				if (value != UNRESOLVED) {
+					return value;
+				}
+			}
+
+			ValueEvaluationContext evaluationContext = accessor.getEvaluationContext(evaluationContextProvider);
+			EvaluationContext context = compiled != null ? evaluationContext.getEvaluationContext() : null;
+
+			return compiled != null && context != null ? compiled.getValue(context) : expression.evaluate(evaluationContext);
+		}
+
+		private @Nullable Object readParameter(JpaParametersParameterAccessor accessor) {
+
+			int index = this.parameterIndex;
+
+			if (index == -1) {
+				index = findParameterIndex(accessor.getParameters());
+				this.parameterIndex = index;
+			}
+
+			Object[] values = accessor.getValues();
+
+			if (index < 0 || index >= values.length) {
+				return UNRESOLVED;
+			}
+
+			Object value = values[index];
+
+			if (property == null) {
+				return value;
+			}
+
+			if (value == null) {
+				return UNRESOLVED;
+			}
+
+			PropertyReader reader = this.propertyReader;
+
+			if (reader == null || reader.type() != value.getClass()) {
+				reader = PropertyReader.of(value.getClass(), property);
+				this.propertyReader = reader;
+			}
+
+			return reader.getter() != null ? ReflectionUtils.invokeMethod(reader.getter(), value) : UNRESOLVED;
+		}
+
+		private int findParameterIndex(JpaParameters parameters) {
+
+			for (JpaParameter parameter : parameters) {
+				if (!parameter.isSpecialParameter() && variable != null
+						&& variable.equals(parameter.getName().orElse(null))) {
+					return parameter.getIndex();
+				}
+			}
+
+			return -2;
+		}
+
+		/**
+		 * Cached public getter for a property of a type.
+		 */
+		private record PropertyReader(Class<?> type, @Nullable Method getter) {
+
+			static PropertyReader of(Class<?> type, String property) {
 
-			ValueEvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(accessor.getValues());
-			return expression.evaluate(evaluationContext);
+				PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+				Method getter = descriptor != null ? descriptor.getReadMethod() : null;
+
+				return new PropertyReader(type,
+						getter != null && Modifier.isPublic(getter.getDeclaringClass().getModifiers()) ? getter : null);
+			}
 		}
 	}
 
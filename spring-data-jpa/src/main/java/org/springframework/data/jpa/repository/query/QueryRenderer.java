@@ -48,9 +48,7 @@ abstract class QueryRenderer implements QueryTokenStream {
 	 * Creates a QueryRenderer from a collection of {@link QueryToken}.
 	 */
 	static QueryRenderer from(Collection<? extends QueryToken> tokens) {
-		List<QueryToken> tokensToUse = new ArrayList<>(Math.max(tokens.size(), 32));
-		tokensToUse.addAll(tokens);
-		return new TokenRenderer(tokensToUse);
+		return new TokenRenderer(new ArrayList<>(tokens));
 	}
 
 	/**
@@ -86,7 +84,38 @@ abstract class QueryRenderer implements QueryTokenStream {
 	/**
 	 * @return the rendered query.
 	 */
-	abstract String render();
+	String render() {
+
+		StringBuilder builder = new StringBuilder(estimateLength());
+		render(builder);
+
+		return builder.toString();
+	}
+
+	/**
+	 * Render the query into the given {@link StringBuilder}. Nested renderers append to the same builder so that
+	 * rendering a query does not create intermediate strings. Whitespace is determined relative to the length of the
+	 * builder when starting to render.
+	 *
+	 * @param builder the builder to append to.
+	 */
+	abstract void render(StringBuilder builder);
+
+	/**
+	 * Estimate the length of the rendered query to pre-size the {@link StringBuilder} used for rendering.
+	 *
+	 * @return the estimated length.
+	 */
+	int estimateLength() {
+
+		int length = 0;
+
+		for (QueryToken token : this) {
+			length += token.value().length() + 1;
+		}
+
+		return length;
+	}
 
 	/**
 	 * @return the rendered query.
@@ -101,32 +130,50 @@ abstract class QueryRenderer implements QueryTokenStream {
 			return qr.render();
 		}
 
-		StringBuilder results = null;
-		boolean previousExpression = false;
-
 		Iterator<QueryToken> iterator = tokenStream.iterator();
-		while (iterator.hasNext()) {
-			QueryToken token = iterator.next();
 
-			if (results == null) {
-				if (iterator.hasNext()) {
-					results = new StringBuilder();
-				} else {
-					return token.value();
-				}
-			}
+		if (!iterator.hasNext()) {
+			return "";
+		}
 
-			if (previousExpression) {
-				if (!results.isEmpty() && results.charAt(results.length() - 1) != ' ') {
-					results.append(' ');
-				}
-			}
+		QueryToken first = iterator.next();
 
-			previousExpression = token.isExpression();
-			results.append(token.value());
+		if (!iterator.hasNext()) {
+			return first.value();
 		}
 
-		return results != null ? results.toString() : "";
+		StringBuilder builder = new StringBuilder(64);
+		builder.append(first.value());
+		renderTokens(iterator, first.isExpression(), 0, builder);
+
+		return builder.toString();
+	}
+
+	/**
+	 * Render the remaining tokens of the given {@link Iterator} into {@code builder}.
+	 */
+	private static void renderTokens(Iterator<QueryToken> iterator, boolean previousExpression, int start,
+			StringBuilder builder) {
+
+		while (iterator.hasNext()) {
+			previousExpression = appendToken(iterator.next(), previousExpression, start, builder);
+		}
+	}
+
+	/**
+	 * Append a single token separating it from a preceding expression by a space.
+	 *
+	 * @return whether the appended token is an expression.
+	 */
+	private static boolean appendToken(QueryToken token, boolean previousExpression, int start, StringBuilder builder) {
+
+		if (previousExpression && builder.length() > start && builder.charAt(builder.length() - 1) != ' ') {
+			builder.append(' ');
+		}
+
+		builder.append(token.value());
+
+		return token.isExpression();
 	}
 
 	/**
@@ -216,7 +263,7 @@ abstract class QueryRenderer implements QueryTokenStream {
 
 		static CompositeRenderer combine(QueryRenderer root, QueryRenderer nested) {
 
-			List<QueryRenderer> queryRenderers = new ArrayList<>(32);
+			List<QueryRenderer> queryRenderers = new ArrayList<>(8);
 			queryRenderers.add(root);
 			queryRenderers.add(nested);
 
@@ -228,25 +275,51 @@ abstract class QueryRenderer implements QueryTokenStream {
 		}
 
 		@Override
-		String render() {
-
-			StringBuilder builder = new StringBuilder(64);
-			String lastAppended = null;
+		void render(StringBuilder builder) {
 
+			int start = builder.length();
+			int lastAppended = -1;
 			boolean lastExpression = false;
-			for (QueryRenderer queryRenderer : nested) {
 
-				if (lastAppended != null && (lastExpression || queryRenderer.isExpression()) && !builder.isEmpty()
-						&& (!lastAppended.endsWith(" ") && !lastAppended.endsWith("("))) {
+			for (int i = 0; i < nested.size(); i++) {
+
+				QueryRenderer queryRenderer = nested.get(i);
+
+				if (lastAppended != -1 && (lastExpression || queryRenderer.isExpression()) && builder.length() > start
+						&& !endsWithSpaceOrParenthesis(builder, lastAppended)) {
 					builder.append(' ');
 				}
 
-				lastAppended = queryRenderer.render();
-				builder.append(lastAppended);
+				lastAppended = builder.length();
+				queryRenderer.render(builder);
 				lastExpression = queryRenderer.isExpression();
 			}
+		}
+
+		/**
+		 * Return whether the output appended since {@code from} ends with a space or opening parenthesis.
+		 */
+		private static boolean endsWithSpaceOrParenthesis(StringBuilder builder, int from) {
+
+			if (builder.length() == from) {
+				return false;
+			}
 
-			return builder.toString();
+			char last = builder.charAt(builder.length() - 1);
+
+			return last == ' ' || last == '(';
+		}
+
+		@Override
+		int estimateLength() {
+
+			int length = 0;
+
+			for (int i = 0; i < nested.size(); i++) {
+				length += nested.get(i).estimateLength() + 1;
+			}
+
+			return length;
 		}
 
 		/**
@@ -347,7 +420,30 @@ abstract class QueryRenderer implements QueryTokenStream {
 
 		@Override
 		String render() {
-			return render(tokens);
+			return tokens.size() == 1 ? tokens.get(0).value() : super.render();
+		}
+
+		@Override
+		void render(StringBuilder builder) {
+
+			int start = builder.length();
+			boolean previousExpression = false;
+
+			for (int i = 0; i < tokens.size(); i++) {
+				previousExpression = appendToken(tokens.get(i), previousExpression, start, builder);
+			}
+		}
+
+		@Override
+		int estimateLength() {
+
+			int length = 0;
+
+			for (int i = 0; i < tokens.size(); i++) {
+				length += tokens.get(i).value().length() + 1;
+			}
+
+			return length;
 		}
 
 		@Override
@@ -401,8 +497,8 @@ abstract class QueryRenderer implements QueryTokenStream {
 		}
 
 		@Override
-		String render() {
-			return render(tokens);
+		void render(StringBuilder builder) {
+			renderTokens(tokens.iterator(), false, builder.length(), builder);
 		}
 
 		@Override
@@ -577,8 +673,13 @@ abstract class QueryRenderer implements QueryTokenStream {
 		}
 
 		@Override
-		String render() {
-			return delegate.render();
+		void render(StringBuilder builder) {
+			delegate.render(builder);
+		}
+
+		@Override
+		int estimateLength() {
+			return delegate.estimateLength();
 		}
 
 		@Override
@@ -631,8 +732,13 @@ abstract class QueryRenderer implements QueryTokenStream {
 		}
 
 		@Override
-		String render() {
-			return delegate.render();
+		void render(StringBuilder builder) {
+			delegate.render(builder);
+		}
+
+		@Override
+		int estimateLength() {
+			return delegate.estimateLength();
 		}
 
 		@Override
@@ -686,6 +792,14 @@ abstract class QueryRenderer implements QueryTokenStream {
 			return "";
 		}
 
+		@Override
+		void render(StringBuilder builder) {}
+
+		@Override
+		int estimateLength() {
+			return 0;
+		}
+
 		@Override
 		QueryRenderer append(QueryTokenStream tokens) {
 
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache for the results of a single query method keyed by the method arguments. Results are evicted in least
+ * recently used order when exceeding the maximum size and expire after an optional time to live. The cache is
+ * invalidated through {@link QueryResultCaches#invalidate(Class)} of its registry when entities of one of its entity
+ * types change.
+ * <p>
+ * A result is only cached if the cache has not been invalidated while running the query, so that results read
+ * concurrently with a change cannot outlive the invalidation.
+ * <p>
+ * Results are kept as {@link References references}, such as entity identifiers, that are resolved for each caller so
+ * that callers do not share mutable instances. The references of a collection result are resolved together and the
+ * collection is copied for each caller.
+ *
+ * @since 4.2
+ * @see org.springframework.data.jpa.repository.CacheableQuery
+ */
+public final class QueryResultCache {
+
+	private static final Object UNRESOLVED = new Object();
+
+	private final QueryResultCaches registry;
+	private final String name;
+	private final Set<Class<?>> entityTypes;
+	private final long timeToLive;
+	private final Map<Key, Entry> entries;
+	private final AtomicLong generation = new AtomicLong();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	/**
+	 * Creates a new {@link QueryResultCache}.
+	 *
+	 * @param registry the registry the cache is registered with.
+	 * @param name the cache name, typically identifying the query method.
+	 * @param entityTypes entity types whose changes invalidate the cache.
+	 * @param maxSize the maximum number of cached results.
+	 * @param timeToLive time after which cached results expire, results do not expire if zero or negative.
+	 */
+	QueryResultCache(QueryResultCaches registry, String name, Set<Class<?>> entityTypes, int maxSize,
+			Duration timeToLive) {
+
+		Assert.notNull(registry, "QueryResultCaches must not be null");
+		Assert.hasText(name, "Name must not be null or empty");
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+
+		this.registry = registry;
+		this.name = name;
+		this.entityTypes = Set.copyOf(entityTypes);
+		this.timeToLive = timeToLive.isNegative() ? 0 : timeToLive.toNanos();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+
+				if (size() > maxSize) {
+					evictions.increment();
+					return true;
+				}
+
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Return the cached result for the given arguments or obtain and cache it through {@code loader} keeping its
+	 * elements as they are.
+	 *
+	 * @param arguments the query method arguments.
+	 * @param loader the callback to run the query.
+	 * @return the query result.
+	 */
+	@Nullable
+	Object get(Object[] arguments, Supplier<@Nullable Object> loader) {
+		return get(arguments, loader, References.NONE);
+	}
+
+	/**
+	 * Return the cached result for the given arguments or obtain and cache it through {@code loader}. The cache is
+	 * bypassed if the current transaction has changed entities of the cache's entity types so that uncommitted state
+	 * does not leak to other transactions.
+	 *
+	 * @param arguments the query method arguments.
+	 * @param loader the callback to run the query.
+	 * @param references converts result elements to the form kept in the cache and back.
+	 * @return the query result.
+	 */
+	@Nullable
+	Object get(Object[] arguments, Supplier<@Nullable Object> loader, References references) {
+
+		if (registry.isInvalidatedInCurrentTransaction(this)) {
+			return loader.get();
+		}
+
+		Key key = new Key(arguments.clone());
+		long now = System.nanoTime();
+		Entry entry;
+
+		synchronized (entries) {
+
+			entry = entries.get(key);
+
+			if (entry != null && entry.isExpired(now)) {
+				entries.remove(key);
+				entry = null;
+			}
+		}
+
+		if (entry != null) {
+
+			Object value = resolve(entry.value(), references);
+
+			if (value != UNRESOLVED) {
+				hits.increment();
+				return value;
+			}
+
+			synchronized (entries) {
+				entries.remove(key, entry);
+			}
+		}
+
+		misses.increment();
+
+		long generation = this.generation.get();
+		Object value = loader.get();
+		Object cached = toReferences(value, references);
+
+		synchronized (entries) {
+
+			if (this.generation.get() == generation) {
+				entries.put(key, new Entry(cached, timeToLive > 0 ? System.nanoTime() + timeToLive : 0));
+			}
+		}
+
+		return value;
+	}
+
+	private static @Nullable Object toReferences(@Nullable Object value, References references) {
+
+		if (!(value instanceof List<?> list)) {
+			return value != null ? references.toReference(value) : null;
+		}
+
+		List<@Nullable Object> cached = new ArrayList<>(list.size());
+
+		for (Object element : list) {
+			cached.add(element != null ? references.toReference(element) : null);
+		}
+
+		return Collections.unmodifiableList(cached);
+	}
+
+	private static @Nullable Object resolve(@Nullable Object cached, References references) {
+
+		if (!(cached instanceof List<?> list)) {
+			return cached != null ? resolveElement(cached, references) : null;
+		}
+
+		List<Object> elements = new ArrayList<>(list.size());
+
+		for (Object element : list) {
+			if (element != null) {
+				elements.add(element);
+			}
+		}
+
+		Iterator<@Nullable Object> resolved = references.resolveAll(elements).iterator();
+		List<@Nullable Object> value = new ArrayList<>(list.size());
+
+		for (Object element : list) {
+
+			if (element == null) {
+				value.add(null);
+				continue;
+			}
+
+			Object resolvedElement = resolved.next();
+
+			if (resolvedElement == null) {
+				return UNRESOLVED;
+			}
+
+			value.add(resolvedElement);
+		}
+
+		return value;
+	}
+
+	private static Object resolveElement(Object reference, References references) {
+
+		Object resolved = references.resolve(reference);
+		return resolved != null ? resolved : UNRESOLVED;
+	}
+
+	/**
+	 * Remove all cached results.
+	 */
+	public void invalidate() {
+
+		generation.incrementAndGet();
+
+		synchronized (entries) {
+
+			if (!entries.isEmpty()) {
+				entries.clear();
+				invalidations.increment();
+			}
+		}
+	}
+
+	/**
+	 * Return whether changes to entities of the given type invalidate this cache. Changes to subtypes and supertypes of
+	 * the cache's entity types invalidate the cache as bulk operations on a supertype affect its subtypes as well.
+	 *
+	 * @param entityType the changed entity type.
+	 * @return {@literal true} if the cache depends on the given entity type.
+	 */
+	public boolean dependsOn(Class<?> entityType) {
+
+		for (Class<?> type : entityTypes) {
+			if (type.isAssignableFrom(entityType) || entityType.isAssignableFrom(type)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the cache name identifying the query method.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Return the current statistics of this cache. Hits and misses are also reported to the configured
+	 * {@link QueryObserver} as {@link QueryObserver.Cache#RESULT result cache} accesses.
+	 *
+	 * @return the current statistics of this cache.
+	 */
+	public Statistics getStatistics() {
+
+		int size;
+
+		synchronized (entries) {
+			size = entries.size();
+		}
+
+		return new Statistics(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), size);
+	}
+
+	@Override
+	public String toString() {
+		return "QueryResultCache[" + name + "]";
+	}
+
+	/**
+	 * Statistics of a {@link QueryResultCache}.
+	 *
+	 * @param hits number of lookups served from the cache.
+	 * @param misses number of lookups that ran the query.
+	 * @param evictions number of results evicted due to the maximum size.
+	 * @param invalidations number of times cached results were invalidated due to entity changes.
+	 * @param size the current number of cached results.
+	 */
+	public record Statistics(long hits, long misses, long evictions, long invalidations, int size) {
+
+		/**
+		 * @return the ratio of lookups served from the cache, {@code 0} if the cache was not used yet.
+		 */
+		public double hitRatio() {
+
+			long requests = hits + misses;
+			return requests == 0 ? 0 : (double) hits / requests;
+		}
+
+	}
+
+	/**
+	 * Converts the elements of query results to the form kept in the cache and back.
+	 */
+	interface References {
+
+		/**
+		 * Keeps elements as they are so that all callers obtain the same instances.
+		 */
+		References NONE = new References() {
+
+			@Override
+			public Object toReference(Object element) {
+				return element;
+			}
+
+			@Override
+			public Object resolve(Object reference) {
+				return reference;
+			}
+		};
+
+		/**
+		 * Convert the given result element to the form kept in the cache.
+		 *
+		 * @param element the result element.
+		 * @return the reference to cache.
+		 */
+		Object toReference(Object element);
+
+		/**
+		 * Resolve the given reference obtained from {@link #toReference(Object)} for the current caller.
+		 *
+		 * @param reference the cached reference.
+		 * @return the result element or {@literal null} if the referenced element does not exist anymore.
+		 */
+		@Nullable
+		Object resolve(Object reference);
+
+		/**
+		 * Resolve the given references obtained from {@link #toReference(Object)} for the current caller.
+		 * Implementations are expected to resolve the references in bulk, the default implementation resolves them one
+		 * by one.
+		 *
+		 * @param references the cached references.
+		 * @return the result elements in the order of the given references. Elements are {@literal null} if the
+		 *         referenced element does not exist anymore.
+		 */
+		default List<@Nullable Object> resolveAll(List<Object> references) {
+
+			List<@Nullable Object> resolved = new ArrayList<>(references.size());
+
+			for (Object reference : references) {
+				resolved.add(resolve(reference));
+			}
+
+			return resolved;
+		}
+
+	}
+
+	private record Entry(@Nullable Object value, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return expiresAt != 0 && now - expiresAt >= 0;
+		}
+
+	}
+
+	/**
+	 * Cache key comparing method arguments by their contents including arguments that are arrays.
+	 */
+	private record Key(Object[] arguments) {
+
+		@Override
+		public boolean equals(Object o) {
+			return this == o || (o instanceof Key other && Arrays.deepEquals(arguments, other.arguments));
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.deepHashCode(arguments);
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.deepToString(arguments);
+		}
+
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of the {@link QueryResultCache}s of {@link org.springframework.data.jpa.repository.CacheableQuery cacheable}
+ * query methods. Each application context holds its own registry so that invalidations do not affect caches of other
+ * contexts. {@code @EnableJpaRepositories} registers the registry as bean that is used by all repositories of the
+ * context. Entity changes are propagated to the registry through {@link #invalidate(Class)}, typically from
+ * {@link org.springframework.data.jpa.repository.support.QueryResultCacheEntityListener}.
+ * <p>
+ * Bulk operations of {@link org.springframework.data.jpa.repository.support.SimpleJpaRepository} and modifying query
+ * methods invalidate the caches of their domain type as they bypass entity lifecycle callbacks.
+ * <p>
+ * Invalidation happens immediately, i.e. when the change is flushed, and once more after completion of the current
+ * transaction as other transactions may have cached results that do not reflect the change before it was committed.
+ * Until then, the transaction that changed an entity bypasses the caches depending on it.
+ *
+ * @since 4.2
+ */
+public class QueryResultCaches {
+
+	private final Set<QueryResultCache> caches = Collections.newSetFromMap(new WeakHashMap<>());
+
+	/**
+	 * Create and register a new {@link QueryResultCache}. The registry holds on to the cache as long as it is referenced
+	 * by its query method.
+	 *
+	 * @param name the cache name, typically identifying the query method.
+	 * @param entityTypes entity types whose changes invalidate the cache.
+	 * @param maxSize the maximum number of cached results.
+	 * @param timeToLive time after which cached results expire.
+	 * @return the registered cache.
+	 */
+	QueryResultCache create(String name, Set<Class<?>> entityTypes, int maxSize, Duration timeToLive) {
+
+		QueryResultCache cache = new QueryResultCache(this, name, entityTypes, maxSize, timeToLive);
+
+		synchronized (caches) {
+			caches.add(cache);
+		}
+
+		return cache;
+	}
+
+	/**
+	 * Return all registered caches, e.g. to inspect their {@link QueryResultCache#getStatistics() statistics}.
+	 *
+	 * @return the registered caches.
+	 */
+	public List<QueryResultCache> getCaches() {
+
+		synchronized (caches) {
+			return List.copyOf(caches);
+		}
+	}
+
+	/**
+	 * Invalidate all caches depending on the given entity type. If called within a transaction, the caches are
+	 * invalidated again after completion of the transaction and the transaction bypasses them in the meantime.
+	 *
+	 * @param entityType the type of the changed entity, must not be {@literal null}.
+	 */
+	public void invalidate(Class<?> entityType) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+
+		synchronized (caches) {
+			if (caches.isEmpty()) {
+				return;
+			}
+		}
+
+		invalidateCaches(entityType);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+
+			if (pending == null) {
+
+				pending = new PendingInvalidations();
+				TransactionSynchronizationManager.bindResource(this, pending);
+				TransactionSynchronizationManager.registerSynchronization(pending);
+			}
+
+			pending.entityTypes.add(entityType);
+		}
+	}
+
+	/**
+	 * Return whether the current transaction has changed entities the given cache depends on.
+	 */
+	boolean isInvalidatedInCurrentTransaction(QueryResultCache cache) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return false;
+		}
+
+		PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+
+		if (pending == null) {
+			return false;
+		}
+
+		for (Class<?> entityType : pending.entityTypes) {
+			if (cache.dependsOn(entityType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void invalidateCaches(Class<?> entityType) {
+
+		for (QueryResultCache cache : getCaches()) {
+			if (cache.dependsOn(entityType)) {
+				cache.invalidate();
+			}
+		}
+	}
+
+	/**
+	 * Entity types changed within the current transaction, invalidated once more after its completion.
+	 */
+	private class PendingInvalidations implements TransactionSynchronization {
+
+		private final Set<Class<?>> entityTypes = new HashSet<>();
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(QueryResultCaches.this);
+			entityTypes.forEach(QueryResultCaches.this::invalidateCaches);
+		}
+
+		@Override
+		public String toString() {
+			return "PendingInvalidations " + entityTypes;
+		}
+
+	}
+
+}
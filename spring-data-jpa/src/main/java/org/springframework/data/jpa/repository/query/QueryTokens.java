@@ -16,7 +16,10 @@
 package org.springframework.data.jpa.repository.query;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.antlr.v4.runtime.Token;
@@ -30,6 +33,29 @@ import org.antlr.v4.runtime.tree.TerminalNode;
  */
 class QueryTokens {
 
+	/**
+	 * Keywords and punctuation that occur in most queries. Tokens for these are shared instead of allocating a token per
+	 * occurrence. Declared before the token constants below as these are created through the same factory methods.
+	 */
+	private static final String[] COMMON_TOKENS = { "select", "from", "where", "and", "or", "not", "as", "in", "is",
+			"null", "join", "left", "inner", "outer", "fetch", "on", "order", "by", "group", "having", "distinct", "asc",
+			"desc", "like", "between", "exists", "case", "when", "then", "else", "end", "new", "count", "lower", "upper",
+			"true", "false", "union", "all", "update", "delete", "set", "limit", "offset", ",", ".", "(", ")", "=", "<>",
+			"!=", "<", ">", "<=", ">=", "*", "+", "-", "/", ":", "?" };
+
+	private static final Map<String, QueryToken> TOKENS = new HashMap<>(COMMON_TOKENS.length * 4);
+	private static final Map<String, QueryToken> EXPRESSIONS = new HashMap<>(COMMON_TOKENS.length * 4);
+
+	static {
+
+		for (String token : COMMON_TOKENS) {
+			for (String variant : new String[] { token, token.toUpperCase(Locale.ROOT) }) {
+				TOKENS.putIfAbsent(variant, new SimpleQueryToken(variant));
+				EXPRESSIONS.putIfAbsent(variant, new ExpressionToken(variant));
+			}
+		}
+	}
+
 	/**
 	 * Commonly use tokens.
 	 */
@@ -79,7 +105,9 @@ class QueryTokens {
 	 * Creates a {@link QueryToken token} from a string {@code token}.
 	 */
 	static QueryToken token(String token) {
-		return new SimpleQueryToken(token);
+
+		QueryToken common = TOKENS.get(token);
+		return common != null ? common : new SimpleQueryToken(token);
 	}
 
 	/**
@@ -100,7 +128,9 @@ class QueryTokens {
 	 * Creates a {@link QueryToken token} from a string {@code expression}.
 	 */
 	static QueryToken expression(String expression) {
-		return new ExpressionToken(expression);
+
+		QueryToken common = EXPRESSIONS.get(expression);
+		return common != null ? common : new ExpressionToken(expression);
 	}
 
 	/**
@@ -321,7 +321,7 @@ public abstract class QueryUtils {
 	 * @param order the order object to build the clause for. Must not be {@literal null}.
 	 * @return a String containing an order clause. Guaranteed to be not {@literal null}.
 	 */
-	private static String getOrderClause(Set<String> joinAliases, Set<String> selectionAlias, @Nullable String alias,
+	static String getOrderClause(Set<String> joinAliases, Set<String> selectionAlias, @Nullable String alias,
 			Order order) {
 
 		String property = order.getProperty();
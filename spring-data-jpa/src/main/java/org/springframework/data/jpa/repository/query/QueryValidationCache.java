@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * File-backed cache of successfully validated queries. Entries are hashes of the query string combined with a
+ * fingerprint of the persistence provider and its metamodel so that changes to the provider version or the mapped
+ * entities invalidate previously recorded queries.
+ * <p>
+ * Entries that were neither looked up nor added while the application was running are pruned the next time the cache
+ * file is written so that queries that were changed or removed do not accumulate.
+ *
+ * @since 4.2
+ * @see QueryValidator#withCache(Path)
+ */
+class QueryValidationCache {
+
+	private static final Log logger = LogFactory.getLog(QueryValidationCache.class);
+
+	private static final Map<Path, QueryValidationCache> CACHES = new ConcurrentHashMap<>();
+	private static final Map<EntityManagerFactory, String> FINGERPRINTS = new ConcurrentReferenceHashMap<>();
+
+	private final Path file;
+	private final Set<String> validated = ConcurrentHashMap.newKeySet();
+	private final Set<String> used = ConcurrentHashMap.newKeySet();
+	private Set<String> persisted = Set.of();
+
+	private QueryValidationCache(Path file) {
+
+		this.file = file;
+
+		if (Files.isReadable(file)) {
+
+			try {
+				for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+					if (!line.isBlank()) {
+						validated.add(line.trim());
+					}
+				}
+				persisted = Set.copyOf(validated);
+			} catch (IOException e) {
+				logger.warn("Cannot read query validation cache from '%s'".formatted(file), e);
+			}
+		}
+	}
+
+	/**
+	 * Obtain the cache for the given file. Caches are shared per file.
+	 *
+	 * @param file the cache file.
+	 * @return the cache for the given file.
+	 */
+	static QueryValidationCache of(Path file) {
+		return CACHES.computeIfAbsent(file.toAbsolutePath().normalize(), QueryValidationCache::new);
+	}
+
+	/**
+	 * Compute the cache key for the given query.
+	 *
+	 * @param entityManagerFactory the {@link EntityManagerFactory} the query is validated against.
+	 * @param queryString the query string.
+	 * @return the cache key.
+	 */
+	String getKey(EntityManagerFactory entityManagerFactory, String queryString) {
+		return sha256(FINGERPRINTS.computeIfAbsent(entityManagerFactory, QueryValidationCache::fingerprint) + "\n"
+				+ queryString);
+	}
+
+	boolean contains(String key) {
+
+		if (!validated.contains(key)) {
+			return false;
+		}
+
+		used.add(key);
+		return true;
+	}
+
+	void add(String key) {
+
+		validated.add(key);
+		used.add(key);
+	}
+
+	/**
+	 * Write the entries used since the cache was loaded if they differ from the contents of the cache file. Failures to
+	 * write the file are logged as the cache only serves to speed up validation.
+	 */
+	synchronized void persist() {
+
+		Set<String> entries = new TreeSet<>(used);
+
+		if (entries.equals(persisted)) {
+			return;
+		}
+
+		persisted = entries;
+
+		try {
+
+			Path directory = file.getParent();
+			if (directory != null) {
+				Files.createDirectories(directory);
+			}
+
+			Path temp = Files.createTempFile(directory != null ? directory : Path.of("."), file.getFileName().toString(),
+					".tmp");
+			Files.write(temp, entries, StandardCharsets.UTF_8);
+
+			try {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			logger.warn("Cannot write query validation cache to '%s'".formatted(file), e);
+		}
+	}
+
+	/**
+	 * Compute a fingerprint of the persistence provider version and the mapped metamodel.
+	 */
+	static String fingerprint(EntityManagerFactory entityManagerFactory) {
+
+		EntityManagerFactory target = unwrap(entityManagerFactory);
+		Package providerPackage = target.getClass().getPackage();
+
+		StringBuilder builder = new StringBuilder(target.getClass().getName()).append(':')
+				.append(providerPackage != null ? providerPackage.getImplementationVersion() : null);
+
+		List<ManagedType<?>> types = new ArrayList<>(target.getMetamodel().getManagedTypes());
+		types.sort(Comparator.comparing(it -> it.getJavaType() != null ? it.getJavaType().getName() : ""));
+
+		for (ManagedType<?> type : types) {
+
+			builder.append('\n').append(type.getJavaType() != null ? type.getJavaType().getName() : null);
+
+			if (type instanceof EntityType<?> entityType) {
+				builder.append('(').append(entityType.getName()).append(')');
+			}
+
+			List<Attribute<?, ?>> attributes = new ArrayList<>(type.getAttributes());
+			attributes.sort(Comparator.comparing(Attribute::getName));
+
+			for (Attribute<?, ?> attribute : attributes) {
+				builder.append(' ').append(attribute.getName()).append(':').append(attribute.getJavaType().getName())
+						.append(':').append(attribute.getPersistentAttributeType());
+			}
+		}
+
+		return sha256(builder.toString());
+	}
+
+	private static EntityManagerFactory unwrap(EntityManagerFactory entityManagerFactory) {
+
+		try {
+			EntityManagerFactory target = entityManagerFactory.unwrap(EntityManagerFactory.class);
+			return target != null ? target : entityManagerFactory;
+		} catch (RuntimeException e) {
+			return entityManagerFactory;
+		}
+	}
+
+	private static String sha256(String value) {
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
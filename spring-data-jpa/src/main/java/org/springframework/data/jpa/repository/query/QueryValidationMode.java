@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+/**
+ * Defines how declared queries are validated against the persistence provider when creating repository queries.
+ *
+ * @since 4.2
+ * @see QueryValidator
+ */
+public enum QueryValidationMode {
+
+	/**
+	 * Validate each query on the bootstrap thread when the repository query is created. Invalid queries fail the
+	 * repository creation right away.
+	 */
+	IMMEDIATE,
+
+	/**
+	 * Validate queries concurrently with the creation of further repositories. Within an application context, the
+	 * outcome is awaited once all singletons are instantiated so that queries of all repositories are validated in
+	 * parallel. Invalid queries still fail the application context startup. Repositories that are created lazily or
+	 * outside of an application context await validation before they are handed out.
+	 */
+	PARALLEL,
+
+	/**
+	 * Validate queries in the background once the application context has instantiated all singletons. Invalid queries
+	 * are logged and reported through {@link QueryValidator#awaitValidation()} but do not prevent the repository from
+	 * being created.
+	 */
+	DEFERRED
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.jpa.util.BackgroundExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Validates declared query strings by creating a {@link jakarta.persistence.Query} through a dedicated
+ * {@link EntityManager}. Depending on the {@link QueryValidationMode}, validation happens immediately, in parallel or
+ * deferred to a background phase.
+ * <p>
+ * Optionally, successfully validated queries can be recorded in a {@link #withCache(Path) cache file} keyed by a hash
+ * of the query string, the persistence provider version and the mapped metamodel so that unchanged queries are not
+ * validated again on subsequent application starts.
+ *
+ * @since 4.2
+ */
+public class QueryValidator {
+
+	private static final Log logger = LogFactory.getLog(QueryValidator.class);
+
+	private final QueryValidationMode mode;
+	private final Executor executor;
+	private final @Nullable QueryValidationCache cache;
+
+	private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+	private final List<Runnable> deferred = new ArrayList<>();
+
+	private QueryValidator(QueryValidationMode mode, Executor executor, @Nullable QueryValidationCache cache) {
+
+		this.mode = mode;
+		this.executor = executor;
+		this.cache = cache;
+	}
+
+	/**
+	 * Create a new {@link QueryValidator} validating queries immediately on the calling thread.
+	 *
+	 * @return a new {@link QueryValidator}.
+	 */
+	public static QueryValidator immediate() {
+		return create(QueryValidationMode.IMMEDIATE);
+	}
+
+	/**
+	 * Create a new {@link QueryValidator} for the given {@link QueryValidationMode} using the
+	 * {@link BackgroundExecutor#shared() shared background executor} to run parallel and deferred validations.
+	 *
+	 * @param mode must not be {@literal null}.
+	 * @return a new {@link QueryValidator}.
+	 */
+	public static QueryValidator create(QueryValidationMode mode) {
+		return create(mode, BackgroundExecutor.shared());
+	}
+
+	/**
+	 * Create a new {@link QueryValidator} for the given {@link QueryValidationMode} using the given {@link Executor} to
+	 * run parallel and deferred validations.
+	 *
+	 * @param mode must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @return a new {@link QueryValidator}.
+	 */
+	public static QueryValidator create(QueryValidationMode mode, Executor executor) {
+
+		Assert.notNull(mode, "QueryValidationMode must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		return new QueryValidator(mode, executor, null);
+	}
+
+	/**
+	 * Create a new {@link QueryValidator} that records successfully validated queries in the given file and skips
+	 * validation of queries that are already recorded. Validators using the same file share their cache.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @return a new {@link QueryValidator}.
+	 */
+	public QueryValidator withCache(Path file) {
+
+		Assert.notNull(file, "Cache file must not be null");
+
+		return new QueryValidator(mode, executor, QueryValidationCache.of(file));
+	}
+
+	/**
+	 * Create a new {@link QueryValidator} using the given {@link QueryValidationMode} while retaining the executor and
+	 * cache of this validator.
+	 *
+	 * @param mode must not be {@literal null}.
+	 * @return this validator if it uses the given mode already, a new {@link QueryValidator} otherwise.
+	 */
+	public QueryValidator withMode(QueryValidationMode mode) {
+
+		Assert.notNull(mode, "QueryValidationMode must not be null");
+
+		return this.mode == mode ? this : new QueryValidator(mode, executor, cache);
+	}
+
+	/**
+	 * @return the {@link QueryValidationMode} of this validator.
+	 */
+	public QueryValidationMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Validate the given query string.
+	 *
+	 * @param entityManagerFactory the {@link EntityManagerFactory} to obtain a validating {@link EntityManager} from.
+	 * @param queryString the query to validate.
+	 * @param exceptionTranslator function to translate a validation failure into the exception to report.
+	 */
+	void validate(EntityManagerFactory entityManagerFactory, String queryString,
+			Function<RuntimeException, ? extends RuntimeException> exceptionTranslator) {
+
+		QueryValidationCache cache = this.cache;
+		String key = cache != null ? cache.getKey(entityManagerFactory, queryString) : null;
+
+		if (cache != null && key != null && cache.contains(key)) {
+			return;
+		}
+
+		Runnable validation = () -> {
+
+			try (EntityManager validatingEm = entityManagerFactory.createEntityManager()) {
+				validatingEm.createQuery(queryString);
+			} catch (RuntimeException e) {
+
+				// Needed as there's ambiguities in how an invalid query string shall be expressed by the persistence provider
+				// https://download.oracle.com/javaee-archive/jpa-spec.java.net/users/2012/07/0404.html
+				throw exceptionTranslator.apply(e);
+			}
+
+			if (cache != null && key != null) {
+				cache.add(key);
+			}
+		};
+
+		switch (mode) {
+			case IMMEDIATE -> validation.run();
+			case PARALLEL -> submit(validation);
+			case DEFERRED -> {
+				synchronized (deferred) {
+					deferred.add(validation);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Start validation of queries whose validation was deferred. Failures are logged and reported through
+	 * {@link #awaitValidation()}.
+	 */
+	public void startDeferredValidation() {
+
+		List<Runnable> validations;
+
+		synchronized (deferred) {
+			validations = List.copyOf(deferred);
+			deferred.clear();
+		}
+
+		if (validations.isEmpty()) {
+			return;
+		}
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>(validations.size());
+
+		for (Runnable validation : validations) {
+			futures.add(submit(validation).whenComplete((it, ex) -> {
+				if (ex != null) {
+					logger.error("Deferred query validation failed", unwrap(ex));
+				}
+			}));
+		}
+
+		QueryValidationCache cache = this.cache;
+		if (cache != null) {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((it, ex) -> cache.persist());
+		}
+	}
+
+	/**
+	 * Await the outcome of pending validations and persist the cache, if any. Rethrows the first validation failure
+	 * with any further failures added as {@link Throwable#addSuppressed(Throwable) suppressed} exceptions.
+	 */
+	public void awaitValidation() {
+
+		List<CompletableFuture<Void>> futures;
+
+		synchronized (pending) {
+			futures = List.copyOf(pending);
+			pending.clear();
+		}
+
+		RuntimeException failure = null;
+
+		for (CompletableFuture<Void> future : futures) {
+
+			try {
+				future.join();
+			} catch (CompletionException e) {
+
+				RuntimeException cause = unwrap(e);
+
+				if (failure == null) {
+					failure = cause;
+				} else {
+					failure.addSuppressed(cause);
+				}
+			}
+		}
+
+		if (cache != null) {
+			cache.persist();
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private CompletableFuture<Void> submit(Runnable validation) {
+
+		CompletableFuture<Void> future = CompletableFuture.runAsync(validation, executor);
+
+		synchronized (pending) {
+			pending.add(future);
+		}
+
+		return future;
+	}
+
+	private static RuntimeException unwrap(Throwable ex) {
+
+		Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+		return cause instanceof RuntimeException re ? re : new CompletionException(cause);
+	}
+
+}
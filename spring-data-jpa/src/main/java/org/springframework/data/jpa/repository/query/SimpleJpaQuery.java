@@ -49,33 +49,31 @@ class SimpleJpaQuery extends AbstractStringBasedJpaQuery {
 
 		super(method, em, query, countQuery, queryConfiguration);
 
-		validateQuery(getQuery(), "Query validation failed for '%s'", method);
+		QueryValidator validator = queryConfiguration.getQueryValidator();
+
+		validateQuery(validator, getQuery(), "Query validation failed for '%s'", method);
 
 		if (method.isPageQuery()) {
-			validateQuery(getCountQuery(), "Count query validation failed for '%s'", method);
+			validateQuery(validator, getCountQuery(), "Count query validation failed for '%s'", method);
 		}
 	}
 
 	/**
-	 * Validates the given query for syntactical correctness.
+	 * Validates the given query for syntactical correctness using the given {@link QueryValidator}.
 	 *
+	 * @param validator
 	 * @param query
 	 * @param errorMessage
 	 */
-	private void validateQuery(QueryProvider query, String errorMessage, JpaQueryMethod method) {
+	private void validateQuery(QueryValidator validator, QueryProvider query, String errorMessage,
+			JpaQueryMethod method) {
 
 		if (getQueryMethod().isProcedureQuery()) {
 			return;
 		}
 
 		String queryString = query.getQueryString();
-		try (EntityManager validatingEm = getEntityManager().getEntityManagerFactory().createEntityManager()) {
-			validatingEm.createQuery(queryString);
-		} catch (RuntimeException e) {
-
-			// Needed as there's ambiguities in how an invalid query string shall be expressed by the persistence provider
-			// https://download.oracle.com/javaee-archive/jpa-spec.java.net/users/2012/07/0404.html
-			throw QueryCreationException.create(method, errorMessage.formatted(queryString), e);
-		}
+		validator.validate(getEntityManager().getEntityManagerFactory(), queryString,
+				e -> QueryCreationException.create(method, errorMessage.formatted(queryString), e));
 	}
 }
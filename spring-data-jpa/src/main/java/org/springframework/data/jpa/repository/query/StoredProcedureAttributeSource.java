@@ -70,7 +70,7 @@ enum StoredProcedureAttributeSource {
 				procedure);
 
 		if (namedStoredProc != null) {
-			return newProcedureAttributesFrom(method, namedStoredProc, procedure);
+			return newProcedureAttributesFrom(method, namedStoredProc, procedure).withFetchSize(procedure.fetchSize());
 		}
 
 		String procedureName = deriveProcedureNameFrom(method, procedure);
@@ -79,7 +79,8 @@ enum StoredProcedureAttributeSource {
 					"Could not determine name of procedure for @Procedure annotated method: " + method);
 		}
 
-		return new StoredProcedureAttributes(procedureName, createOutputProcedureParameterFrom(method, procedure));
+		return new StoredProcedureAttributes(procedureName, createOutputProcedureParameterFrom(method, procedure))
+				.withFetchSize(procedure.fetchSize());
 	}
 
 	/**
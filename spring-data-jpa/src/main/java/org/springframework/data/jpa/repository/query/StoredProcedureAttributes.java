@@ -47,6 +47,7 @@ class StoredProcedureAttributes {
 	private final boolean namedStoredProcedure;
 	private final String procedureName;
 	private final List<ProcedureParameter> outputProcedureParameters;
+	private final int fetchSize;
 
 	/**
 	 * Creates a new {@link StoredProcedureAttributes}.
@@ -73,6 +74,7 @@ class StoredProcedureAttributes {
 
 		this.procedureName = procedureName;
 		this.namedStoredProcedure = namedStoredProcedure;
+		this.fetchSize = 0;
 
 		if (namedStoredProcedure) {
 			this.outputProcedureParameters = outputProcedureParameters;
@@ -81,6 +83,28 @@ class StoredProcedureAttributes {
 		}
 	}
 
+	private StoredProcedureAttributes(StoredProcedureAttributes source, int fetchSize) {
+
+		this.procedureName = source.procedureName;
+		this.namedStoredProcedure = source.namedStoredProcedure;
+		this.outputProcedureParameters = source.outputProcedureParameters;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Returns a copy of these {@link StoredProcedureAttributes} using the given fetch size.
+	 *
+	 * @param fetchSize the number of rows to fetch per round trip, {@code 0} to use the provider default.
+	 * @return
+	 * @since 4.2
+	 */
+	StoredProcedureAttributes withFetchSize(int fetchSize) {
+
+		Assert.isTrue(fetchSize >= 0, "Fetch size must not be negative");
+
+		return fetchSize == this.fetchSize ? this : new StoredProcedureAttributes(this, fetchSize);
+	}
+
 	private List<ProcedureParameter> getParametersWithCompletedNames(List<ProcedureParameter> procedureParameters) {
 
 		return IntStream.range(0, procedureParameters.size()) //
@@ -123,6 +147,16 @@ class StoredProcedureAttributes {
 		return namedStoredProcedure;
 	}
 
+	/**
+	 * Returns the number of rows to fetch per round trip.
+	 *
+	 * @return the fetch size or {@code 0} to use the provider default.
+	 * @since 4.2
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
 	/**
 	 * @return Returns the stored procedure output parameter list
 	 */
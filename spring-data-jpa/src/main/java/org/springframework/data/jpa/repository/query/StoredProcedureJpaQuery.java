@@ -25,9 +25,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
-
 import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.util.Assert;
@@ -88,7 +89,24 @@ class StoredProcedureJpaQuery extends AbstractJpaQuery {
 
 	@Override
 	protected StoredProcedureQuery createQuery(JpaParametersParameterAccessor accessor) {
-		return applyHints(doCreateQuery(accessor), getQueryMethod());
+		return applyFetchSize(applyHints(doCreateQuery(accessor), getQueryMethod()));
+	}
+
+	private StoredProcedureQuery applyFetchSize(StoredProcedureQuery query) {
+
+		int fetchSize = procedureAttributes.getFetchSize();
+
+		if (fetchSize == 0) {
+			return query;
+		}
+
+		String fetchSizeHint = PersistenceProvider.fromEntityManager(getEntityManager()).getFetchSizeHintKey();
+
+		if (fetchSizeHint != null) {
+			query.setHint(fetchSizeHint, fetchSize);
+		}
+
+		return query;
 	}
 
 	@Override
@@ -247,6 +265,7 @@ class StoredProcedureJpaQuery extends AbstractJpaQuery {
 	 * @return true if the stored procedure will use a ResultSet to return data and not output parameters
 	 */
 	private boolean isResultSetProcedure() {
-		return getQueryMethod().isCollectionQuery() || getQueryMethod().isQueryForEntity();
+		return getQueryMethod().isCollectionQuery() || getQueryMethod().isStreamQuery()
+				|| getQueryMethod().isQueryForEntity();
 	}
 }
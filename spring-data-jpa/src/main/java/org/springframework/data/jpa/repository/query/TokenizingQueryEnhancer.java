@@ -0,0 +1,834 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link QueryEnhancer} for native queries that tokenizes the query once to locate the top-level {@code SELECT},
+ * {@code FROM}, {@code ORDER BY} and trailing ({@code LIMIT}, {@code OFFSET}, {@code FETCH}, {@code FOR}) clause
+ * boundaries instead of parsing the full statement. Sorting and count queries are applied by splicing fragments into
+ * the original query string so that vendor-specific SQL the tokenizer does not understand is retained as-is.
+ * <p>
+ * The tokenizer skips string literals, quoted identifiers, dollar-quoted strings, comments and bind parameters and
+ * tracks parenthesis depth so that subqueries, window function specifications and common table expressions do not
+ * affect clause detection. Count queries for set operations ({@code UNION}, {@code EXCEPT}, {@code INTERSECT}) and
+ * parenthesized queries are created by counting the rows of the query used as derived table.
+ *
+ * @since 4.2
+ * @see QueryEnhancerFactories#tokenizing()
+ */
+class TokenizingQueryEnhancer implements QueryEnhancer {
+
+	/**
+	 * Words that terminate a table reference and therefore cannot be a table alias.
+	 */
+	private static final Set<String> NON_ALIAS_WORDS = Set.of("where", "join", "inner", "left", "right", "full",
+			"cross", "natural", "outer", "on", "using", "group", "order", "having", "limit", "offset", "fetch", "for",
+			"union", "except", "intersect", "minus", "window", "with", "tablesample", "start", "connect", "qualify", "set",
+			"straight_join", "lateral", "end", "null", "true", "false", "from", "and", "or", "not", "is", "as", "into",
+			"values", "returning");
+
+	private final QueryProvider query;
+	private final String queryString;
+	private final StatementType statementType;
+	private final boolean hasConstructorExpression;
+	private final @Nullable String primaryAlias;
+	private final String projection;
+	private final Set<String> joinAliases;
+	private final Set<String> selectionAliases;
+	private final @Nullable SelectClauses select;
+
+	TokenizingQueryEnhancer(QueryProvider query) {
+
+		this.query = query;
+		this.queryString = query.getQueryString();
+		this.hasConstructorExpression = QueryUtils.hasConstructorExpression(queryString);
+
+		Analysis analysis = new Analysis(queryString, tokenize(queryString));
+
+		this.statementType = analysis.statementType;
+		this.select = analysis.select;
+		this.primaryAlias = analysis.primaryAlias;
+		this.projection = analysis.projection;
+		this.joinAliases = Collections.unmodifiableSet(analysis.joinAliases);
+		this.selectionAliases = Collections.unmodifiableSet(analysis.selectionAliases);
+	}
+
+	@Override
+	public boolean isSelectQuery() {
+		return statementType == StatementType.SELECT;
+	}
+
+	@Override
+	public boolean hasConstructorExpression() {
+		return hasConstructorExpression;
+	}
+
+	@Override
+	public @Nullable String detectAlias() {
+		return primaryAlias;
+	}
+
+	@Override
+	public String getProjection() {
+		return projection;
+	}
+
+	Set<String> getJoinAliases() {
+		return joinAliases;
+	}
+
+	Set<String> getSelectionAliases() {
+		return selectionAliases;
+	}
+
+	@Override
+	public QueryProvider getQuery() {
+		return query;
+	}
+
+	@Override
+	public String rewrite(QueryRewriteInformation rewriteInformation) {
+
+		Sort sort = rewriteInformation.getSort();
+
+		if (!isSelectQuery() && sort.isSorted()) {
+			throw new IllegalStateException(
+					"Cannot apply sorting to %s statement. Sorting is only supported for SELECT statements."
+							.formatted(statementType));
+		}
+
+		SelectClauses select = this.select;
+
+		if (sort.isUnsorted() || select == null) {
+			return queryString;
+		}
+
+		StringJoiner orderBy = new StringJoiner(", ");
+
+		for (Sort.Order order : sort) {
+			orderBy.add(select.plain() //
+					? QueryUtils.getOrderClause(joinAliases, selectionAliases, primaryAlias, order) //
+					: QueryUtils.getOrderClause(Collections.emptySet(), Collections.emptySet(), null, order));
+		}
+
+		StringBuilder builder = new StringBuilder(queryString.length() + orderBy.length() + 16);
+		builder.append(queryString, 0, select.orderByEnd()).setLength(stripTrailing(builder));
+		builder.append(select.orderBy() != -1 ? ", " : " order by ").append(orderBy);
+
+		if (select.orderByEnd() != queryString.length()) {
+
+			char next = queryString.charAt(select.orderByEnd());
+
+			if (!Character.isWhitespace(next) && next != ')' && next != ';') {
+				builder.append(' ');
+			}
+
+			builder.append(queryString, select.orderByEnd(), queryString.length());
+		}
+
+		return builder.toString();
+	}
+
+	@Override
+	public String createCountQueryFor(@Nullable String countProjection) {
+
+		SelectClauses select = this.select;
+
+		if (select == null) {
+			throw new IllegalStateException(
+					"Cannot derive count query for %s statement. Count queries are only supported for SELECT statements."
+							.formatted(statementType));
+		}
+
+		if (!select.plain()) {
+
+			String subquery = select.orderBy() != -1 && select.orderByEnd() == select.contentEnd()
+					? queryString.substring(0, select.orderBy()).stripTrailing()
+					: queryString.substring(0, select.contentEnd());
+
+			return "select count(" + (StringUtils.hasText(countProjection) ? countProjection : "*") + ") from ("
+					+ subquery + select.suffix() + ") count_query";
+		}
+
+		String countExpression;
+
+		if (StringUtils.hasText(countProjection)) {
+			countExpression = countProjection;
+		} else if (select.singleColumn() != null) {
+			countExpression = (select.distinct() ? "distinct " : "") + select.singleColumn();
+		} else if (select.distinct()) {
+			countExpression = "distinct " + (primaryAlias != null ? primaryAlias + "." : "") + "*";
+		} else {
+			countExpression = "1";
+		}
+
+		StringBuilder builder = new StringBuilder(queryString.length());
+		builder.append(queryString, 0, select.select()).append("select count(").append(countExpression).append(')');
+
+		int end = select.orderBy() != -1 ? select.orderBy() : select.contentEnd();
+		if (select.projectionEnd() < end) {
+			builder.append(' ').append(queryString, select.projectionEnd(), end).setLength(stripTrailing(builder));
+		}
+
+		if (select.orderBy() != -1 && select.orderByEnd() < select.contentEnd()) {
+			builder.append(' ').append(queryString, select.orderByEnd(), select.contentEnd());
+		}
+
+		return builder.append(select.suffix()).toString();
+	}
+
+	private static int stripTrailing(StringBuilder builder) {
+
+		int length = builder.length();
+		while (length > 0 && Character.isWhitespace(builder.charAt(length - 1))) {
+			length--;
+		}
+
+		return length;
+	}
+
+	/**
+	 * Split the given SQL into tokens while skipping whitespace and comments.
+	 *
+	 * @param sql the SQL to tokenize.
+	 * @return the tokens.
+	 */
+	static List<Token> tokenize(String sql) {
+
+		List<Token> tokens = new ArrayList<>(Math.max(16, sql.length() / 5));
+		int length = sql.length();
+		int depth = 0;
+
+		for (int i = 0; i < length;) {
+
+			char c = sql.charAt(i);
+			char next = i + 1 < length ? sql.charAt(i + 1) : 0;
+			int start = i;
+
+			if (Character.isWhitespace(c)) {
+				i++;
+				continue;
+			}
+
+			if (c == '-' && next == '-') {
+				int eol = sql.indexOf('\n', i);
+				i = eol == -1 ? length : eol + 1;
+				continue;
+			}
+
+			if (c == '/' && next == '*') {
+				int end = sql.indexOf("*/", i + 2);
+				i = end == -1 ? length : end + 2;
+				continue;
+			}
+
+			TokenType type;
+
+			if (c == '\'') {
+				i = skipQuoted(sql, i, '\'');
+				type = TokenType.LITERAL;
+			} else if (c == '"' || c == '`') {
+				i = skipQuoted(sql, i, c);
+				type = TokenType.QUOTED_IDENTIFIER;
+			} else if (c == '$' && (next == '$' || Character.isLetter(next))) {
+				i = skipDollarQuoted(sql, i);
+				type = TokenType.LITERAL;
+			} else if (Character.isLetter(c) || c == '_') {
+				i = skipIdentifier(sql, i + 1);
+				type = TokenType.WORD;
+			} else if (Character.isDigit(c)) {
+				i++;
+				while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+					i++;
+				}
+				type = TokenType.LITERAL;
+			} else if ((c == ':' || c == '@') && (Character.isLetter(next) || next == '_')) {
+				i = skipIdentifier(sql, i + 2);
+				type = TokenType.PARAMETER;
+			} else if (c == '?') {
+				i++;
+				while (i < length && Character.isDigit(sql.charAt(i))) {
+					i++;
+				}
+				type = TokenType.PARAMETER;
+			} else if (c == '(') {
+				tokens.add(new Token(TokenType.OPEN, i, ++i, depth++));
+				continue;
+			} else if (c == ')') {
+				depth = Math.max(0, depth - 1);
+				tokens.add(new Token(TokenType.CLOSE, i, ++i, depth));
+				continue;
+			} else {
+				i += c == ':' && next == ':' ? 2 : 1;
+				type = c == ',' ? TokenType.COMMA
+						: c == '.' ? TokenType.DOT : c == ';' ? TokenType.SEMICOLON : TokenType.OPERATOR;
+			}
+
+			tokens.add(new Token(type, start, i, depth));
+		}
+
+		return tokens;
+	}
+
+	private static int skipIdentifier(String sql, int start) {
+
+		int i = start;
+		while (i < sql.length() && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_'
+				|| sql.charAt(i) == '$' || sql.charAt(i) == '#')) {
+			i++;
+		}
+
+		return i;
+	}
+
+	private static int skipQuoted(String sql, int start, char quote) {
+
+		int i = start + 1;
+
+		while (i < sql.length()) {
+
+			if (sql.charAt(i) == quote) {
+
+				// doubled quote is an escaped quote
+				if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+					i += 2;
+					continue;
+				}
+
+				return i + 1;
+			}
+
+			i++;
+		}
+
+		return i;
+	}
+
+	private static int skipDollarQuoted(String sql, int start) {
+
+		int tagEnd = sql.indexOf('$', start + 1);
+
+		if (tagEnd == -1) {
+			return sql.length();
+		}
+
+		String tag = sql.substring(start, tagEnd + 1);
+
+		for (int i = start + 1; i < tagEnd; i++) {
+			if (!Character.isLetterOrDigit(sql.charAt(i)) && sql.charAt(i) != '_') {
+				// not a dollar-quoted string but e.g. a positional parameter such as $1
+				return skipIdentifier(sql, start + 1);
+			}
+		}
+
+		int end = sql.indexOf(tag, tagEnd + 1);
+		return end == -1 ? sql.length() : end + tag.length();
+	}
+
+	/**
+	 * Type of the analyzed statement.
+	 */
+	enum StatementType {
+		SELECT, INSERT, UPDATE, DELETE, MERGE, OTHER
+	}
+
+	enum TokenType {
+		WORD, QUOTED_IDENTIFIER, LITERAL, PARAMETER, OPEN, CLOSE, COMMA, DOT, SEMICOLON, OPERATOR
+	}
+
+	/**
+	 * A token of the query.
+	 *
+	 * @param type the token type.
+	 * @param start start offset (inclusive).
+	 * @param end end offset (exclusive).
+	 * @param depth parenthesis nesting depth, parentheses themselves are reported with the depth of their enclosing
+	 *          context.
+	 */
+	record Token(TokenType type, int start, int end, int depth) {
+	}
+
+	/**
+	 * Character offsets of the top-level clauses of a {@code SELECT} query.
+	 *
+	 * @param plain whether the query is a single {@code SELECT}, optionally using common table expressions, that can be
+	 *          rewritten in place. Set operations and parenthesized queries are not plain.
+	 * @param select offset of the {@code SELECT} keyword of a plain query.
+	 * @param projectionEnd offset of the first clause following the projection.
+	 * @param distinct whether the projection is {@code DISTINCT}.
+	 * @param singleColumn the column if the projection consists of a single column reference.
+	 * @param orderBy offset of the top-level {@code ORDER BY} keyword or {@code -1} if absent.
+	 * @param orderByEnd offset where the order by clause ends or would have to be inserted.
+	 * @param contentEnd offset after the last token excluding a terminating semicolon and parentheses enclosing the
+	 *          entire query.
+	 * @param suffix the closing parentheses of parentheses enclosing the entire query.
+	 */
+	record SelectClauses(boolean plain, int select, int projectionEnd, boolean distinct, @Nullable String singleColumn,
+			int orderBy, int orderByEnd, int contentEnd, String suffix) {
+	}
+
+	/**
+	 * Analysis of a tokenized query determining its statement type, clause boundaries and aliases.
+	 */
+	private static class Analysis {
+
+		private final String sql;
+		private final List<Token> tokens;
+
+		/**
+		 * Depth of the statement, i.e. the number of parentheses enclosing the entire statement.
+		 */
+		private int base;
+
+		/**
+		 * Index after the last token of the statement excluding enclosing parentheses and a terminating semicolon.
+		 */
+		private int end;
+
+		StatementType statementType = StatementType.OTHER;
+		@Nullable SelectClauses select;
+		@Nullable String primaryAlias;
+		String projection = "";
+		Set<String> joinAliases = new LinkedHashSet<>();
+		Set<String> selectionAliases = new LinkedHashSet<>();
+
+		Analysis(String sql, List<Token> tokens) {
+
+			this.sql = sql;
+			this.tokens = tokens;
+
+			this.end = tokens.size();
+			while (end > 0 && tokens.get(end - 1).type() == TokenType.SEMICOLON) {
+				end--;
+			}
+
+			if (end == 0) {
+				return;
+			}
+
+			// unwrap parentheses enclosing the entire statement
+			while (end - base > 2 && tokens.get(base).type() == TokenType.OPEN && skipParenthesized(base) == end) {
+				base++;
+				end--;
+			}
+
+			int main = base;
+
+			if (isKeyword(base, "with")) {
+
+				main = -1;
+				for (int i = base + 1; i < end; i++) {
+					if (tokens.get(i).depth() == base && getStatementType(i) != StatementType.OTHER) {
+						main = i;
+						break;
+					}
+				}
+			}
+
+			if (main == -1) {
+				return;
+			}
+
+			if (tokens.get(main).type() == TokenType.OPEN) {
+
+				// parenthesized query such as (select …) union (select …)
+				if (isKeyword(main + 1, "select")) {
+					this.statementType = StatementType.SELECT;
+					this.select = new SelectClauses(false, -1, -1, false, null, findTrailingOrderBy(main), orderByEnd(main),
+							contentEnd(), suffix());
+				}
+
+				return;
+			}
+
+			this.statementType = getStatementType(main);
+
+			if (this.statementType == StatementType.SELECT) {
+				analyzeSelect(main);
+			}
+		}
+
+		private void analyzeSelect(int select) {
+
+			int projectionStart = select + 1;
+			boolean distinct = false;
+
+			if (isKeyword(projectionStart, "distinct")) {
+				distinct = true;
+				projectionStart++;
+			} else if (isKeyword(projectionStart, "all")) {
+				projectionStart++;
+			}
+
+			int projectionEnd = -1;
+			int from = -1;
+			int firstSelectEnd = -1;
+			boolean setOperation = false;
+
+			for (int i = projectionStart; i < end; i++) {
+
+				if (tokens.get(i).depth() != base || tokens.get(i).type() != TokenType.WORD || isQualified(i)) {
+					continue;
+				}
+
+				if (isSetOperator(i)) {
+
+					setOperation = true;
+					if (firstSelectEnd == -1) {
+						firstSelectEnd = i;
+					}
+				} else if (from == -1 && projectionEnd == -1 && isKeyword(i, "from")) {
+					from = i;
+				}
+
+				if (projectionEnd == -1 && isClauseKeyword(i)) {
+					projectionEnd = i;
+				}
+			}
+
+			if (projectionEnd == -1) {
+				projectionEnd = end;
+			}
+
+			if (firstSelectEnd == -1) {
+				firstSelectEnd = end;
+			}
+
+			if (projectionEnd > projectionStart) {
+				this.projection = sql.substring(tokens.get(projectionStart).start(), tokens.get(projectionEnd - 1).end());
+			}
+
+			String singleColumn = analyzeProjection(projectionStart, projectionEnd);
+
+			if (from != -1) {
+				analyzeFrom(from, firstSelectEnd, !setOperation);
+			}
+
+			int orderBy = findTrailingOrderBy(select);
+			int projectionEndOffset = projectionEnd < end ? tokens.get(projectionEnd).start() : contentEnd();
+
+			this.select = new SelectClauses(!setOperation, tokens.get(select).start(), projectionEndOffset, distinct,
+					singleColumn, orderBy, orderByEnd(select), contentEnd(), suffix());
+		}
+
+		/**
+		 * Determine selection aliases and return the column if the projection consists of a single column reference.
+		 */
+		private @Nullable String analyzeProjection(int start, int end) {
+
+			int itemCount = 0;
+			String singleColumn = null;
+			int itemStart = start;
+
+			for (int i = start; i <= end; i++) {
+
+				if (i < end && (tokens.get(i).type() != TokenType.COMMA || tokens.get(i).depth() != base)) {
+					continue;
+				}
+
+				itemCount++;
+
+				int itemEnd = i;
+				String alias = detectSelectionAlias(itemStart, itemEnd);
+
+				if (alias != null) {
+					selectionAliases.add(alias);
+					itemEnd -= isKeyword(itemEnd - 2, "as") ? 2 : 1;
+				}
+
+				singleColumn = isColumnReference(itemStart, itemEnd)
+						? sql.substring(tokens.get(itemStart).start(), tokens.get(itemEnd - 1).end())
+						: null;
+				itemStart = i + 1;
+			}
+
+			return itemCount == 1 ? singleColumn : null;
+		}
+
+		private @Nullable String detectSelectionAlias(int start, int end) {
+
+			if (end - start < 2 || !isIdentifier(end - 1)) {
+				return null;
+			}
+
+			Token previous = tokens.get(end - 2);
+
+			if (isKeyword(end - 2, "as")) {
+				return getText(end - 1);
+			}
+
+			if (previous.type() == TokenType.WORD || previous.type() == TokenType.QUOTED_IDENTIFIER
+					|| previous.type() == TokenType.CLOSE || previous.type() == TokenType.LITERAL
+					|| previous.type() == TokenType.PARAMETER) {
+				return getText(end - 1);
+			}
+
+			return null;
+		}
+
+		private boolean isColumnReference(int start, int end) {
+
+			if (end <= start) {
+				return false;
+			}
+
+			for (int i = start; i < end; i++) {
+
+				boolean identifierExpected = (i - start) % 2 == 0;
+				if (identifierExpected ? !isIdentifier(i) : tokens.get(i).type() != TokenType.DOT) {
+					return false;
+				}
+			}
+
+			return (end - start) % 2 == 1;
+		}
+
+		/**
+		 * Collect the primary alias and join aliases of the {@code FROM} clause starting at the given token.
+		 */
+		private void analyzeFrom(int from, int end, boolean detectPrimaryAlias) {
+
+			String alias = detectTableAlias(from + 1, end);
+
+			if (detectPrimaryAlias) {
+				this.primaryAlias = alias;
+			}
+
+			for (int i = from + 1; i < end; i++) {
+
+				Token token = tokens.get(i);
+
+				if (token.depth() != base) {
+					continue;
+				}
+
+				if (token.type() == TokenType.WORD && !isQualified(i) && isClauseKeyword(i)) {
+					break;
+				}
+
+				if (token.type() == TokenType.COMMA || isKeyword(i, "join")) {
+
+					String joinAlias = detectTableAlias(i + 1, end);
+					if (joinAlias != null) {
+						joinAliases.add(joinAlias);
+					}
+				}
+			}
+		}
+
+		private @Nullable String detectTableAlias(int start, int end) {
+
+			int i = start;
+
+			if (isKeyword(i, "lateral")) {
+				i++;
+			}
+
+			if (i >= end) {
+				return null;
+			}
+
+			if (tokens.get(i).type() == TokenType.OPEN) {
+				i = skipParenthesized(i);
+			} else if (isIdentifier(i)) {
+
+				i++;
+				while (i + 1 < end && tokens.get(i).type() == TokenType.DOT && isIdentifier(i + 1)) {
+					i += 2;
+				}
+
+				// table function
+				if (i < end && tokens.get(i).type() == TokenType.OPEN) {
+					i = skipParenthesized(i);
+				}
+			} else {
+				return null;
+			}
+
+			if (isKeyword(i, "as")) {
+				i++;
+			}
+
+			return i < end && isIdentifier(i) ? getText(i) : null;
+		}
+
+		/**
+		 * Find the top-level {@code ORDER BY} that applies to the entire query.
+		 */
+		private int findTrailingOrderBy(int start) {
+
+			int orderBy = -1;
+
+			for (int i = start; i < end; i++) {
+
+				if (tokens.get(i).depth() != base || isQualified(i)) {
+					continue;
+				}
+
+				if (isSetOperator(i)) {
+					orderBy = -1;
+				} else if (isKeyword(i, "order") && isKeyword(i + 1, "by")) {
+					orderBy = tokens.get(i).start();
+				}
+			}
+
+			return orderBy;
+		}
+
+		/**
+		 * Find the offset at which the top-level {@code ORDER BY} clause ends, i.e. the first trailing clause or the end
+		 * of the query.
+		 */
+		private int orderByEnd(int start) {
+
+			int trailing = -1;
+
+			for (int i = start; i < end; i++) {
+
+				if (tokens.get(i).depth() != base || isQualified(i)) {
+					continue;
+				}
+
+				if (isSetOperator(i) || isKeyword(i, "order")) {
+					trailing = -1;
+				} else if (trailing == -1 && isTrailingKeyword(i)) {
+					trailing = tokens.get(i).start();
+				}
+			}
+
+			return trailing != -1 ? trailing : contentEnd();
+		}
+
+		private int contentEnd() {
+			return tokens.get(end - 1).end();
+		}
+
+		private String suffix() {
+			return base == 0 ? "" : sql.substring(tokens.get(end).start(), tokens.get(end + base - 1).end());
+		}
+
+		private int skipParenthesized(int open) {
+
+			int depth = tokens.get(open).depth();
+
+			for (int i = open + 1; i < tokens.size(); i++) {
+				if (tokens.get(i).type() == TokenType.CLOSE && tokens.get(i).depth() == depth) {
+					return i + 1;
+				}
+			}
+
+			return tokens.size();
+		}
+
+		private StatementType getStatementType(int index) {
+
+			if (isKeyword(index, "select")) {
+				return StatementType.SELECT;
+			}
+
+			if (isKeyword(index, "insert")) {
+				return StatementType.INSERT;
+			}
+
+			if (isKeyword(index, "update")) {
+				return StatementType.UPDATE;
+			}
+
+			if (isKeyword(index, "delete")) {
+				return StatementType.DELETE;
+			}
+
+			if (isKeyword(index, "merge")) {
+				return StatementType.MERGE;
+			}
+
+			return StatementType.OTHER;
+		}
+
+		private boolean isSetOperator(int index) {
+			return isKeyword(index, "union") || isKeyword(index, "except") || isKeyword(index, "intersect")
+					|| isKeyword(index, "minus");
+		}
+
+		private boolean isClauseKeyword(int index) {
+			return isKeyword(index, "from") || isKeyword(index, "where") || isKeyword(index, "group")
+					|| isKeyword(index, "having") || isKeyword(index, "window") || isKeyword(index, "qualify")
+					|| (isKeyword(index, "order") && isKeyword(index + 1, "by")) || isTrailingKeyword(index)
+					|| isSetOperator(index) || isKeyword(index, "into");
+		}
+
+		private boolean isTrailingKeyword(int index) {
+			return isKeyword(index, "limit") || isKeyword(index, "offset") || isKeyword(index, "fetch")
+					|| isKeyword(index, "for") || isKeyword(index, "option");
+		}
+
+		private boolean isIdentifier(int index) {
+
+			if (index < 0 || index >= end) {
+				return false;
+			}
+
+			Token token = tokens.get(index);
+
+			if (token.type() == TokenType.QUOTED_IDENTIFIER) {
+				return true;
+			}
+
+			return token.type() == TokenType.WORD
+					&& !NON_ALIAS_WORDS.contains(getText(index).toLowerCase(Locale.ROOT));
+		}
+
+		/**
+		 * Returns whether the word at the given index is part of a qualified name such as {@code t.limit}.
+		 */
+		private boolean isQualified(int index) {
+			return (index > 0 && tokens.get(index - 1).type() == TokenType.DOT)
+					|| (index + 1 < tokens.size() && tokens.get(index + 1).type() == TokenType.DOT);
+		}
+
+		private boolean isKeyword(int index, String keyword) {
+
+			if (index < 0 || index >= end) {
+				return false;
+			}
+
+			Token token = tokens.get(index);
+
+			return token.type() == TokenType.WORD && token.end() - token.start() == keyword.length()
+					&& sql.regionMatches(true, token.start(), keyword, 0, keyword.length());
+		}
+
+		private String getText(int index) {
+
+			Token token = tokens.get(index);
+			return sql.substring(token.start(), token.end());
+		}
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.ScoringFunction;
+import org.springframework.data.domain.Vector;
+import org.springframework.data.domain.VectorScoringFunctions;
+
+/**
+ * Exact in-process distance computation for the distance functions used by vector search queries. Distances are
+ * computed on the same scale as the corresponding database functions ({@code cosine_distance},
+ * {@code euclidean_distance}, {@code taxicab_distance}, {@code hamming_distance} and {@code negative_inner_product})
+ * so that they can be normalized and compared against score thresholds the same way.
+ * <p>
+ * Loops accumulate into independent partial sums to break the dependency chain of floating-point additions which lets
+ * the JIT compiler pipeline and vectorize the computation.
+ *
+ * @since 4.2
+ */
+abstract class VectorDistances {
+
+	private VectorDistances() {}
+
+	/**
+	 * Returns whether an in-process distance computation is available for the given {@link ScoringFunction}.
+	 *
+	 * @param function the scoring function.
+	 * @return {@literal true} if {@link #distance(ScoringFunction, float[], float[])} supports the scoring function.
+	 */
+	static boolean supports(ScoringFunction function) {
+		return function == VectorScoringFunctions.COSINE || function == VectorScoringFunctions.EUCLIDEAN
+				|| function == VectorScoringFunctions.TAXICAB || function == VectorScoringFunctions.HAMMING
+				|| function == VectorScoringFunctions.DOT_PRODUCT;
+	}
+
+	/**
+	 * Convert a vector property value into a {@code float} array.
+	 *
+	 * @param value the property value.
+	 * @return the {@code float} array or {@literal null} if the value is not a supported vector type.
+	 */
+	static float @Nullable [] toFloatArray(@Nullable Object value) {
+
+		if (value instanceof float[] floats) {
+			return floats;
+		}
+
+		if (value instanceof Vector vector) {
+			return vector.toFloatArray();
+		}
+
+		if (value instanceof double[] doubles) {
+
+			float[] floats = new float[doubles.length];
+			for (int i = 0; i < doubles.length; i++) {
+				floats[i] = (float) doubles[i];
+			}
+			return floats;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Compute the distance between two vectors of equal dimension.
+	 *
+	 * @param function the scoring function, must be {@link #supports(ScoringFunction) supported}.
+	 * @param a the first vector.
+	 * @param b the second vector.
+	 * @return the distance.
+	 * @throws IllegalArgumentException if the vectors differ in their dimension or the scoring function is not supported.
+	 */
+	static double distance(ScoringFunction function, float[] a, float[] b) {
+
+		if (a.length != b.length) {
+			throw new IllegalArgumentException(
+					"Vector dimensions do not match: %d and %d".formatted(a.length, b.length));
+		}
+
+		if (!(function instanceof VectorScoringFunctions vectorFunction)) {
+			throw new IllegalArgumentException("Unsupported scoring function " + function.getName());
+		}
+
+		return switch (vectorFunction) {
+			case COSINE -> cosine(a, b);
+			case EUCLIDEAN -> Math.sqrt(squaredEuclidean(a, b));
+			case TAXICAB -> taxicab(a, b);
+			case HAMMING -> hamming(a, b);
+			case DOT_PRODUCT -> -dot(a, b);
+			default -> throw new IllegalArgumentException("Unsupported scoring function " + function.getName());
+		};
+	}
+
+	static double dot(float[] a, float[] b) {
+
+		int length = a.length;
+		int upperBound = length & ~3;
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+
+		int i = 0;
+		for (; i < upperBound; i += 4) {
+			s0 += a[i] * b[i];
+			s1 += a[i + 1] * b[i + 1];
+			s2 += a[i + 2] * b[i + 2];
+			s3 += a[i + 3] * b[i + 3];
+		}
+
+		for (; i < length; i++) {
+			s0 += a[i] * b[i];
+		}
+
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	static double cosine(float[] a, float[] b) {
+
+		int length = a.length;
+		int upperBound = length & ~1;
+		double dot0 = 0, dot1 = 0, a0 = 0, a1 = 0, b0 = 0, b1 = 0;
+
+		int i = 0;
+		for (; i < upperBound; i += 2) {
+
+			dot0 += a[i] * b[i];
+			a0 += a[i] * a[i];
+			b0 += b[i] * b[i];
+
+			dot1 += a[i + 1] * b[i + 1];
+			a1 += a[i + 1] * a[i + 1];
+			b1 += b[i + 1] * b[i + 1];
+		}
+
+		for (; i < length; i++) {
+			dot0 += a[i] * b[i];
+			a0 += a[i] * a[i];
+			b0 += b[i] * b[i];
+		}
+
+		double norm = Math.sqrt(a0 + a1) * Math.sqrt(b0 + b1);
+		return norm == 0 ? 1 : 1 - ((dot0 + dot1) / norm);
+	}
+
+	static double squaredEuclidean(float[] a, float[] b) {
+
+		int length = a.length;
+		int upperBound = length & ~3;
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+
+		int i = 0;
+		for (; i < upperBound; i += 4) {
+
+			float d0 = a[i] - b[i];
+			float d1 = a[i + 1] - b[i + 1];
+			float d2 = a[i + 2] - b[i + 2];
+			float d3 = a[i + 3] - b[i + 3];
+
+			s0 += d0 * d0;
+			s1 += d1 * d1;
+			s2 += d2 * d2;
+			s3 += d3 * d3;
+		}
+
+		for (; i < length; i++) {
+			float d = a[i] - b[i];
+			s0 += d * d;
+		}
+
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	static double taxicab(float[] a, float[] b) {
+
+		int length = a.length;
+		int upperBound = length & ~3;
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+
+		int i = 0;
+		for (; i < upperBound; i += 4) {
+			s0 += Math.abs(a[i] - b[i]);
+			s1 += Math.abs(a[i + 1] - b[i + 1]);
+			s2 += Math.abs(a[i + 2] - b[i + 2]);
+			s3 += Math.abs(a[i + 3] - b[i + 3]);
+		}
+
+		for (; i < length; i++) {
+			s0 += Math.abs(a[i] - b[i]);
+		}
+
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	static double hamming(float[] a, float[] b) {
+
+		int count = 0;
+		for (int i = 0; i < a.length; i++) {
+			if (a[i] != b[i]) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Utility methods to rewrite {@code SELECT} queries so that they additionally select the total number of matching rows
+ * through a {@code count(*) over ()} window function and to split the resulting rows into content and total.
+ *
+ * @since 4.2
+ * @see org.springframework.data.jpa.repository.WindowFunctionCount
+ */
+abstract class WindowFunctionCountQueries {
+
+	static final String WINDOW_FUNCTION_COUNT = "count(*) over ()";
+
+	/**
+	 * Top-level keywords that change the cardinality of the result so that the window function would not count the rows
+	 * of the actual result.
+	 */
+	private static final Set<String> UNSUPPORTED_KEYWORDS = Set.of("distinct", "group", "having", "union", "intersect",
+			"except", "minus", "new");
+
+	private WindowFunctionCountQueries() {}
+
+	/**
+	 * Rewrite the given {@code query} to select {@code count(*) over ()} as last selection item.
+	 *
+	 * @param query the query to rewrite.
+	 * @return the rewritten query or {@literal null} if the query cannot be rewritten because it is not a {@code SELECT}
+	 *         query with a {@code FROM} clause or because it uses {@code DISTINCT}, grouping, set operations or a
+	 *         constructor expression.
+	 */
+	static @Nullable String addWindowFunctionCount(String query) {
+
+		int from = findTopLevelFrom(query);
+
+		if (from == -1) {
+			return null;
+		}
+
+		return query.substring(0, from).stripTrailing() + ", " + WINDOW_FUNCTION_COUNT + " " + query.substring(from);
+	}
+
+	/**
+	 * Extract the actual content from a row returned by a query rewritten through
+	 * {@link #addWindowFunctionCount(String)}.
+	 *
+	 * @param row the result row.
+	 * @return the row without its trailing count column.
+	 */
+	static @Nullable Object getContent(@Nullable Object row) {
+
+		if (!(row instanceof Object[] array) || array.length < 2) {
+			return row;
+		}
+
+		return array.length == 2 ? array[0] : Arrays.copyOf(array, array.length - 1);
+	}
+
+	/**
+	 * Extract the total from a row returned by a query rewritten through {@link #addWindowFunctionCount(String)}.
+	 *
+	 * @param row the result row.
+	 * @return the total or {@literal null} if the row does not contain a count column.
+	 */
+	static @Nullable Long getTotal(@Nullable Object row) {
+
+		if (row instanceof Object[] array && array.length > 1 && array[array.length - 1] instanceof Number total) {
+			return total.longValue();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Find the position of the top-level {@code FROM} keyword of a {@code SELECT} query while skipping literals, quoted
+	 * identifiers, comments and parenthesized expressions.
+	 *
+	 * @param query the query to inspect.
+	 * @return the position of the {@code FROM} keyword or {@code -1} if the query is not eligible for rewriting.
+	 */
+	private static int findTopLevelFrom(String query) {
+
+		int length = query.length();
+		int depth = 0;
+		int from = -1;
+		boolean first = true;
+
+		for (int i = 0; i < length;) {
+
+			char c = query.charAt(i);
+
+			if (c == '\'' || c == '"' || c == '`') {
+				i = skipQuoted(query, i, c);
+				continue;
+			}
+
+			if (c == '-' && i + 1 < length && query.charAt(i + 1) == '-') {
+				int eol = query.indexOf('\n', i);
+				i = eol == -1 ? length : eol + 1;
+				continue;
+			}
+
+			if (c == '/' && i + 1 < length && query.charAt(i + 1) == '*') {
+				int end = query.indexOf("*/", i + 2);
+				i = end == -1 ? length : end + 2;
+				continue;
+			}
+
+			if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+			} else if (Character.isJavaIdentifierStart(c)) {
+
+				int start = i;
+				while (i < length && Character.isJavaIdentifierPart(query.charAt(i))) {
+					i++;
+				}
+
+				if (depth != 0 || isQualified(query, start)) {
+					continue;
+				}
+
+				String word = query.substring(start, i).toLowerCase(Locale.ROOT);
+
+				if (first) {
+
+					if (!word.equals("select")) {
+						return -1;
+					}
+
+					first = false;
+					continue;
+				}
+
+				if (UNSUPPORTED_KEYWORDS.contains(word)) {
+					return -1;
+				}
+
+				if (from == -1 && word.equals("from")) {
+					from = start;
+				}
+
+				continue;
+			} else if (!Character.isWhitespace(c) && first) {
+				return -1;
+			}
+
+			i++;
+		}
+
+		return from;
+	}
+
+	private static boolean isQualified(String query, int position) {
+
+		if (position == 0) {
+			return false;
+		}
+
+		char previous = query.charAt(position - 1);
+		return previous == '.' || previous == ':' || previous == '?' || previous == '#';
+	}
+
+	private static int skipQuoted(String query, int start, char quote) {
+
+		int i = start + 1;
+
+		while (i < query.length()) {
+
+			if (query.charAt(i) == quote) {
+
+				// doubled quote is an escaped quote
+				if (i + 1 < query.length() && query.charAt(i + 1) == quote) {
+					i += 2;
+					continue;
+				}
+
+				return i + 1;
+			}
+
+			i++;
+		}
+
+		return i;
+	}
+
+}
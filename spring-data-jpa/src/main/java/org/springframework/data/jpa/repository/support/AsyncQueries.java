@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.util.Assert;
+
+/**
+ * Utility to fan out and join asynchronous repository query methods returning {@link CompletableFuture}:
+ *
+ * <pre class="code">
+ * CompletableFuture&lt;Customer&gt; customer = customers.findAsyncById(id);
+ * CompletableFuture&lt;List&lt;Order&gt;&gt; orders = orders.findAsyncByCustomerId(id);
+ *
+ * AsyncQueries.awaitAll(customer, orders);
+ *
+ * return new CustomerView(customer.join(), orders.join());
+ * </pre>
+ *
+ * Joining fails fast: The first failing query cancels all other queries and its exception is rethrown. Cancelling
+ * prevents queued queries from running while queries that are already running complete in the background.
+ *
+ * @since 4.2
+ * @see org.springframework.data.jpa.repository.config.EnableJpaRepositories#asyncQueryExecution()
+ */
+public final class AsyncQueries {
+
+	private AsyncQueries() {}
+
+	/**
+	 * Wait for all given futures to complete.
+	 *
+	 * @param futures must not be {@literal null}.
+	 * @throws RuntimeException the exception of the first failing future.
+	 */
+	public static void awaitAll(CompletableFuture<?>... futures) {
+		await(null, futures);
+	}
+
+	/**
+	 * Wait for all given futures to complete within the given {@link Duration}. Futures that have not completed within
+	 * the timeout are cancelled.
+	 *
+	 * @param timeout must not be {@literal null}.
+	 * @param futures must not be {@literal null}.
+	 * @throws QueryTimeoutException if the futures did not complete in time.
+	 * @throws RuntimeException the exception of the first failing future.
+	 */
+	public static void awaitAll(Duration timeout, CompletableFuture<?>... futures) {
+
+		Assert.notNull(timeout, "Timeout must not be null");
+		await(timeout, futures);
+	}
+
+	private static void await(@Nullable Duration timeout, CompletableFuture<?>... futures) {
+
+		Assert.notNull(futures, "Futures must not be null");
+
+		for (CompletableFuture<?> future : futures) {
+			future.whenComplete((result, ex) -> {
+				if (ex != null) {
+					cancel(futures);
+				}
+			});
+		}
+
+		CompletableFuture<Void> all = CompletableFuture.allOf(futures);
+
+		try {
+
+			if (timeout != null) {
+				all.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+			} else {
+				all.get();
+			}
+		} catch (TimeoutException e) {
+
+			cancel(futures);
+			throw new QueryTimeoutException("Queries did not complete within %s".formatted(timeout), e);
+		} catch (InterruptedException e) {
+
+			cancel(futures);
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while awaiting queries");
+		} catch (ExecutionException | CancellationException e) {
+			throw getFirstFailure(futures);
+		}
+	}
+
+	private static void cancel(CompletableFuture<?>... futures) {
+
+		for (CompletableFuture<?> future : futures) {
+			future.cancel(true);
+		}
+	}
+
+	private static RuntimeException getFirstFailure(CompletableFuture<?>... futures) {
+
+		RuntimeException cancellation = null;
+
+		for (CompletableFuture<?> future : futures) {
+
+			if (!future.isCompletedExceptionally()) {
+				continue;
+			}
+
+			try {
+				future.join();
+			} catch (CancellationException e) {
+				cancellation = cancellation != null ? cancellation : e;
+			} catch (CompletionException e) {
+
+				Throwable cause = e.getCause();
+
+				if (cause instanceof RuntimeException runtimeException) {
+					return runtimeException;
+				}
+
+				if (cause instanceof Error error) {
+					throw error;
+				}
+
+				return e;
+			}
+		}
+
+		return cancellation != null ? cancellation : new CancellationException("Queries were cancelled");
+	}
+
+}
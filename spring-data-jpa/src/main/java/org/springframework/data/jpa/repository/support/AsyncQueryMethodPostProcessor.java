@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * {@link RepositoryProxyPostProcessor} to run query methods declaring a {@link CompletableFuture} or {@link Future}
+ * return type on an {@link Executor}. Each invocation runs in its own transaction and therefore with its own
+ * {@link jakarta.persistence.EntityManager}. Transactions are read-only unless the query method is annotated with
+ * {@link Modifying @Modifying}. Methods annotated with {@link Async @Async} are left to Spring's asynchronous method
+ * execution.
+ * <p>
+ * Cancelling a returned future before the query starts prevents its execution. Cancelling a running query completes
+ * the future but does not interrupt the query, which runs to completion and holds its connection until then. Use a
+ * query timeout, e.g. through the {@code jakarta.persistence.query.timeout} query hint, to bound the execution time of
+ * queries.
+ *
+ * @since 4.2
+ */
+class AsyncQueryMethodPostProcessor implements RepositoryProxyPostProcessor {
+
+	private final Executor executor;
+	private final Supplier<PlatformTransactionManager> transactionManager;
+
+	/**
+	 * @param executor must not be {@literal null}.
+	 * @param transactionManager must not be {@literal null}.
+	 */
+	AsyncQueryMethodPostProcessor(Executor executor, Supplier<PlatformTransactionManager> transactionManager) {
+
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.notNull(transactionManager, "PlatformTransactionManager supplier must not be null");
+
+		this.executor = executor;
+		this.transactionManager = SingletonSupplier.of(transactionManager);
+	}
+
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		// run before any other interceptor so that thread-bound state is set up on the executing thread
+		factory.addAdvice(0, new AsyncQueryMethodInterceptor(repositoryInformation, executor, transactionManager));
+	}
+
+	/**
+	 * {@link MethodInterceptor} dispatching asynchronous query methods to the {@link Executor}.
+	 */
+	static class AsyncQueryMethodInterceptor implements MethodInterceptor {
+
+		private final RepositoryInformation repositoryInformation;
+		private final Executor executor;
+		private final Supplier<PlatformTransactionManager> transactionManager;
+		private final ConcurrentMap<Method, Optional<TransactionTemplate>> transactionTemplates = new ConcurrentHashMap<>();
+
+		AsyncQueryMethodInterceptor(RepositoryInformation repositoryInformation, Executor executor,
+				Supplier<PlatformTransactionManager> transactionManager) {
+
+			this.repositoryInformation = repositoryInformation;
+			this.executor = executor;
+			this.transactionManager = transactionManager;
+		}
+
+		@Override
+		public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+
+			TransactionTemplate template = transactionTemplates
+					.computeIfAbsent(invocation.getMethod(), it -> Optional.ofNullable(createTransactionTemplate(it)))
+					.orElse(null);
+
+			if (template == null) {
+				return invocation.proceed();
+			}
+
+			return CompletableFuture.supplyAsync(() -> template.execute(status -> proceed(invocation)), executor);
+		}
+
+		private @Nullable TransactionTemplate createTransactionTemplate(Method method) {
+
+			Class<?> returnType = method.getReturnType();
+
+			if ((returnType != CompletableFuture.class && returnType != Future.class)
+					|| !repositoryInformation.isQueryMethod(method) || AnnotatedElementUtils.hasAnnotation(method, Async.class)
+					|| AnnotatedElementUtils.hasAnnotation(repositoryInformation.getRepositoryInterface(), Async.class)) {
+				return null;
+			}
+
+			TransactionTemplate template = new TransactionTemplate(transactionManager.get());
+			template.setReadOnly(!AnnotatedElementUtils.hasAnnotation(method, Modifying.class));
+			template.setName(ClassUtils.getQualifiedMethodName(method, repositoryInformation.getRepositoryInterface()));
+
+			return template;
+		}
+
+		private static @Nullable Object proceed(MethodInvocation invocation) {
+
+			try {
+
+				Object result = invocation.proceed();
+
+				// the query result is wrapped into a completed future by the repository proxy
+				return result instanceof Future<?> future ? future.get() : result;
+			} catch (ExecutionException e) {
+				throw new CompletionException(e.getCause());
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new CompletionException(e);
+			}
+		}
+	}
+
+}
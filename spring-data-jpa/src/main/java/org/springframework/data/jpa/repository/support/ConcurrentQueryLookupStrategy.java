@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+
+/**
+ * {@link QueryLookupStrategy} that resolves all query methods of a repository concurrently using an {@link Executor}
+ * once the first query method of the repository is requested. Queries are handed out in the order requested by the
+ * caller. A query that has not been picked up by the {@link Executor} yet is resolved on the calling thread so that
+ * resolution cannot starve when the {@link Executor} is busy with other repositories. Startup metrics per repository
+ * are reported on the calling thread once the last query of the repository was handed out.
+ *
+ * @since 4.2
+ */
+class ConcurrentQueryLookupStrategy implements QueryLookupStrategy {
+
+	private static final Log logger = LogFactory.getLog(ConcurrentQueryLookupStrategy.class);
+
+	private final QueryLookupStrategy delegate;
+	private final Executor executor;
+	private final ApplicationStartup applicationStartup;
+	private final Map<Class<?>, RepositoryInformation> repositories;
+	private final Map<Method, QueryResolution> resolutions = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link ConcurrentQueryLookupStrategy}.
+	 *
+	 * @param delegate the actual strategy to resolve queries.
+	 * @param executor the executor to resolve queries with.
+	 * @param applicationStartup startup metrics to report per-repository timings to.
+	 * @param repositories repository information of repositories to be created keyed by repository interface. Entries
+	 *          are consumed once query resolution for a repository starts.
+	 */
+	ConcurrentQueryLookupStrategy(QueryLookupStrategy delegate, Executor executor, ApplicationStartup applicationStartup,
+			Map<Class<?>, RepositoryInformation> repositories) {
+
+		this.delegate = delegate;
+		this.executor = executor;
+		this.applicationStartup = applicationStartup;
+		this.repositories = repositories;
+	}
+
+	@Override
+	public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+			NamedQueries namedQueries) {
+
+		RepositoryInformation information = repositories.remove(metadata.getRepositoryInterface());
+
+		if (information != null) {
+			resolveConcurrently(information, metadata, factory, namedQueries);
+		}
+
+		QueryResolution resolution = resolutions.remove(method);
+
+		if (resolution == null) {
+			return delegate.resolveQuery(method, metadata, factory, namedQueries);
+		}
+
+		boolean resolved = false;
+
+		try {
+
+			RepositoryQuery query = resolution.get();
+			resolved = true;
+
+			return query;
+		} finally {
+			resolution.repository.handedOut(resolved);
+		}
+	}
+
+	private void resolveConcurrently(RepositoryInformation information, RepositoryMetadata metadata,
+			ProjectionFactory factory, NamedQueries namedQueries) {
+
+		List<Method> methods = new ArrayList<>();
+		information.getQueryMethods().forEach(methods::add);
+
+		RepositoryResolution repository = new RepositoryResolution(information.getRepositoryInterface(),
+				applicationStartup, methods.size());
+
+		for (Method method : methods) {
+
+			QueryResolution resolution = new QueryResolution(repository,
+					() -> delegate.resolveQuery(method, metadata, factory, namedQueries));
+
+			resolutions.put(method, resolution);
+			executor.execute(resolution::run);
+		}
+	}
+
+	/**
+	 * Tracks the queries of a repository handed out to the caller to report startup metrics on the calling thread.
+	 */
+	private static class RepositoryResolution {
+
+		private final Class<?> repositoryInterface;
+		private final StartupStep step;
+		private final int queries;
+		private final long start = System.nanoTime();
+		private final AtomicInteger remaining;
+		private final AtomicBoolean ended = new AtomicBoolean();
+
+		RepositoryResolution(Class<?> repositoryInterface, ApplicationStartup applicationStartup, int queries) {
+
+			this.repositoryInterface = repositoryInterface;
+			this.step = applicationStartup.start("spring.data.jpa.repository.queries");
+			this.step.tag("repository", repositoryInterface.getName());
+			this.step.tag("queries", Integer.toString(queries));
+			this.queries = queries;
+			this.remaining = new AtomicInteger(queries);
+		}
+
+		/**
+		 * Record that a query was handed out. Ends the startup step once all queries were handed out or resolving a
+		 * query failed as the caller does not request further queries in that case.
+		 *
+		 * @param resolved whether the query was resolved successfully.
+		 */
+		void handedOut(boolean resolved) {
+
+			if ((remaining.decrementAndGet() > 0 && resolved) || !ended.compareAndSet(false, true)) {
+				return;
+			}
+
+			long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			step.tag("duration", duration + "ms");
+
+			if (!resolved) {
+				step.tag("failed", "true");
+			}
+
+			step.end();
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Resolved %d query methods of %s in %d ms".formatted(queries, repositoryInterface.getName(),
+						duration));
+			}
+		}
+	}
+
+	/**
+	 * Resolution of a single query that is run either by the {@link Executor} or by the thread requesting the query,
+	 * whichever comes first.
+	 */
+	private static class QueryResolution {
+
+		private final RepositoryResolution repository;
+		private final Supplier<RepositoryQuery> resolver;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		private final CompletableFuture<RepositoryQuery> future = new CompletableFuture<>();
+
+		QueryResolution(RepositoryResolution repository, Supplier<RepositoryQuery> resolver) {
+
+			this.repository = repository;
+			this.resolver = resolver;
+		}
+
+		void run() {
+
+			if (!claimed.compareAndSet(false, true)) {
+				return;
+			}
+
+			try {
+				future.complete(resolver.get());
+			} catch (Throwable ex) {
+				future.completeExceptionally(ex);
+			}
+		}
+
+		RepositoryQuery get() {
+
+			run();
+
+			try {
+				return future.join();
+			} catch (CompletionException ex) {
+
+				if (ex.getCause() instanceof RuntimeException re) {
+					throw re;
+				}
+
+				if (ex.getCause() instanceof Error error) {
+					throw error;
+				}
+
+				throw ex;
+			}
+		}
+	}
+
+}
@@ -79,6 +79,17 @@ public interface CrudMethodMetadata {
 	@Nullable
 	EntityGraph getEntityGraph();
 
+	/**
+	 * Returns whether the total of a page shall be obtained through a {@code count(*) over ()} window function.
+	 *
+	 * @return {@literal true} if the method is annotated with
+	 *         {@link org.springframework.data.jpa.repository.WindowFunctionCount}.
+	 * @since 4.2
+	 */
+	default boolean isWindowFunctionCount() {
+		return false;
+	}
+
 	/**
 	 * Returns the {@link Method} to be used.
 	 *
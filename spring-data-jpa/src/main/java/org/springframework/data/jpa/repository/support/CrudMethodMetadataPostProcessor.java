@@ -39,6 +39,7 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Meta;
 import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.WindowFunctionCount;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -186,6 +187,7 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 		private final org.springframework.data.jpa.repository.support.QueryHints queryHintsForCount;
 		private final @Nullable String comment;
 		private final @Nullable EntityGraph entityGraph;
+		private final boolean windowFunctionCount;
 		private final Method method;
 
 		/**
@@ -202,6 +204,7 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 			this.queryHintsForCount = findQueryHints(method, QueryHints::forCounting);
 			this.comment = findComment(method);
 			this.entityGraph = findEntityGraph(method);
+			this.windowFunctionCount = AnnotatedElementUtils.hasAnnotation(method, WindowFunctionCount.class);
 			this.method = method;
 		}
 
@@ -269,6 +272,11 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 			return entityGraph;
 		}
 
+		@Override
+		public boolean isWindowFunctionCount() {
+			return windowFunctionCount;
+		}
+
 		@Override
 		public Method getMethod() {
 			return method;
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Coalesces concurrent lookups of entities by their identifier into batches that are resolved with a single
+ * {@code IN} query. The first lookup opens a batch and waits for further lookups until the batch window elapses or the
+ * batch reaches its maximum size. All lookups of the batch complete once the batch query returns. Lookups of an
+ * identifier that is already part of the open batch are resolved individually so that each lookup obtains its own
+ * entity instance.
+ * <p>
+ * Batching trades latency of the lookup opening a batch (bounded by the batch window) for fewer database round trips
+ * under concurrent load. {@link #getStatistics() Statistics} report how well batches are filled per entity type and
+ * help to tune window and batch size.
+ *
+ * @param <T> the entity type.
+ * @param <ID> the identifier type.
+ * @since 4.2
+ * @see org.springframework.data.jpa.repository.config.EnableJpaRepositories#batchIdLookups()
+ */
+public final class IdLookupBatcher<T, ID> {
+
+	private static final Set<IdLookupBatcher<?, ?>> batchers = Collections.newSetFromMap(new WeakHashMap<>());
+
+	private final Class<T> entityType;
+	private final Function<Collection<ID>, ? extends Collection<T>> loader;
+	private final Function<ID, @Nullable T> individualLoader;
+	private final Function<T, @Nullable Object> idExtractor;
+	private final long windowNanos;
+	private final int maxBatchSize;
+
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder lookups = new LongAdder();
+	private final LongAdder ids = new LongAdder();
+
+	private @Nullable Batch<T, ID> current;
+
+	IdLookupBatcher(Class<T> entityType, Function<Collection<ID>, ? extends Collection<T>> loader,
+			Function<ID, @Nullable T> individualLoader, Function<T, @Nullable Object> idExtractor, Duration window,
+			int maxBatchSize) {
+
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "Batch window must be positive");
+		Assert.isTrue(maxBatchSize > 0, "Maximum batch size must be greater than zero");
+
+		this.entityType = entityType;
+		this.loader = loader;
+		this.individualLoader = individualLoader;
+		this.idExtractor = idExtractor;
+		this.windowNanos = window.toNanos();
+		this.maxBatchSize = maxBatchSize;
+
+		synchronized (batchers) {
+			batchers.add(this);
+		}
+	}
+
+	/**
+	 * Return the statistics of all batchers, e.g. to expose them as metrics. Batchers are held on to as long as their
+	 * repository is referenced.
+	 *
+	 * @return the statistics of all batchers.
+	 */
+	public static List<Statistics> getStatistics() {
+
+		List<IdLookupBatcher<?, ?>> copy;
+
+		synchronized (batchers) {
+			copy = List.copyOf(batchers);
+		}
+
+		List<Statistics> result = new ArrayList<>(copy.size());
+
+		for (IdLookupBatcher<?, ?> batcher : copy) {
+			result.add(batcher.getBatchStatistics());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Look up the entity with the given identifier as part of a batch or individually if the identifier is already part
+	 * of the open batch.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return the entity or {@link Optional#empty()} if none found.
+	 */
+	Optional<T> find(ID id) {
+
+		Batch<T, ID> batch;
+		boolean leader = false;
+		boolean duplicate = false;
+
+		synchronized (this) {
+
+			batch = current;
+
+			if (batch == null) {
+
+				batch = new Batch<>();
+				current = batch;
+				leader = true;
+			}
+
+			if (!batch.ids.add(id)) {
+				duplicate = true;
+			} else if (batch.ids.size() >= maxBatchSize) {
+				current = null;
+				batch.full.countDown();
+			}
+		}
+
+		if (duplicate) {
+			return Optional.ofNullable(individualLoader.apply(id));
+		}
+
+		lookups.increment();
+
+		if (leader) {
+			await(batch);
+			execute(batch);
+		}
+
+		try {
+			return Optional.ofNullable(batch.result.join().get(id));
+		} catch (CompletionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw ex;
+		}
+	}
+
+	/**
+	 * Return the statistics of this batcher.
+	 *
+	 * @return the current statistics.
+	 */
+	Statistics getBatchStatistics() {
+		return new Statistics(entityType, batches.sum(), lookups.sum(), ids.sum(), maxBatchSize);
+	}
+
+	private void await(Batch<T, ID> batch) {
+
+		try {
+			batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+
+		synchronized (this) {
+			if (current == batch) {
+				current = null;
+			}
+		}
+	}
+
+	private void execute(Batch<T, ID> batch) {
+
+		List<ID> batchIds;
+
+		synchronized (this) {
+			batchIds = List.copyOf(batch.ids);
+		}
+
+		batches.increment();
+		ids.add(batchIds.size());
+
+		try {
+
+			Map<Object, T> result = new HashMap<>(batchIds.size());
+
+			for (T entity : loader.apply(batchIds)) {
+
+				Object id = idExtractor.apply(entity);
+
+				if (id != null) {
+					result.put(id, entity);
+				}
+			}
+
+			batch.result.complete(result);
+		} catch (RuntimeException | Error ex) {
+			batch.result.completeExceptionally(ex);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "IdLookupBatcher " + entityType.getName();
+	}
+
+	/**
+	 * Batch statistics of an entity type.
+	 *
+	 * @param entityType the entity type looked up.
+	 * @param batches the number of executed batch queries.
+	 * @param lookups the number of lookups resolved by batch queries.
+	 * @param ids the number of identifiers queried by batch queries.
+	 * @param maxBatchSize the maximum batch size.
+	 */
+	public record Statistics(Class<?> entityType, long batches, long lookups, long ids, int maxBatchSize) {
+
+		/**
+		 * Return the average number of identifiers per batch query.
+		 *
+		 * @return the average batch size or {@literal 0} if no batch was executed yet.
+		 */
+		public double getAverageBatchSize() {
+			return batches == 0 ? 0 : (double) ids / batches;
+		}
+
+		/**
+		 * Return the ratio of the average batch size to the maximum batch size. A low fill rate indicates that batches are
+		 * closed by the batch window rather than by reaching the maximum batch size.
+		 *
+		 * @return the fill rate between {@literal 0} and {@literal 1}.
+		 */
+		public double getFillRate() {
+			return getAverageBatchSize() / maxBatchSize;
+		}
+
+	}
+
+	/**
+	 * Identifiers collected for a single batch query and its result.
+	 */
+	private static class Batch<T, ID> {
+
+		private final Set<ID> ids = new LinkedHashSet<>();
+		private final CountDownLatch full = new CountDownLatch(1);
+		private final CompletableFuture<Map<Object, T>> result = new CompletableFuture<>();
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.repository.core.RepositoryInformation;
+
+/**
+ * {@link MethodInterceptor} resolving batchable {@code findById(…)} invocations ahead of the transaction interceptor
+ * of the repository proxy. Lookups waiting for their batch therefore run as if declared with
+ * {@link org.springframework.transaction.annotation.Propagation#NOT_SUPPORTED} and do not hold on to a connection
+ * while the batch query obtains its own one. The propagation is not declared on
+ * {@link SimpleJpaRepository#findById(Object)} itself as lookups that cannot be batched, for example because they
+ * apply a lock mode, must still run within a transaction.
+ *
+ * @since 4.2
+ * @see SimpleJpaRepository#setIdLookupBatching(java.time.Duration, int)
+ */
+class IdLookupBatchingMethodInterceptor implements MethodInterceptor {
+
+	private final RepositoryInformation repositoryInformation;
+
+	IdLookupBatchingMethodInterceptor(RepositoryInformation repositoryInformation) {
+		this.repositoryInformation = repositoryInformation;
+	}
+
+	@Override
+	public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+		Object[] arguments = invocation.getArguments();
+
+		if (!isFindById(method) || arguments[0] == null) {
+			return invocation.proceed();
+		}
+
+		if (invocation.getThis() instanceof SimpleJpaRepository<?, ?> repository && repository.isIdLookupBatchable()) {
+			return findById(repository, arguments[0]);
+		}
+
+		return invocation.proceed();
+	}
+
+	private boolean isFindById(Method method) {
+		return method.getName().equals("findById") && method.getParameterCount() == 1
+				&& repositoryInformation.isBaseClassMethod(method);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T, ID> Optional<T> findById(SimpleJpaRepository<T, ID> repository, Object id) {
+		return repository.findById((ID) id);
+	}
+
+}
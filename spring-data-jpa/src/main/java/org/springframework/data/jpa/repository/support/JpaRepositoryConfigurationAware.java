@@ -15,8 +15,13 @@
  */
 package org.springframework.data.jpa.repository.support;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.data.jpa.repository.query.QueryResultCaches;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Interface to be implemented by classes that want to be aware of their configuration in a JPA repository context.
@@ -52,4 +57,58 @@ public interface JpaRepositoryConfigurationAware {
 	default void setRepositoryMethodMetadata(CrudMethodMetadata metadata) {
 
 	}
+
+	/**
+	 * Configures whether to render {@link org.springframework.data.jpa.domain.Specification}s to JPQL instead of
+	 * building Criteria queries.
+	 *
+	 * @param renderSpecifications whether to render specifications to JPQL.
+	 * @since 4.2
+	 */
+	default void setRenderSpecifications(boolean renderSpecifications) {
+
+	}
+
+	/**
+	 * Configures whether to cache the JPQL serialized for Querydsl queries by the structure of the query.
+	 *
+	 * @param cacheQuerydslQueries whether to cache serialized Querydsl queries.
+	 * @since 4.2
+	 */
+	default void setCacheQuerydslQueries(boolean cacheQuerydslQueries) {
+
+	}
+
+	/**
+	 * Configures batching of concurrent lookups by identifier into a single query.
+	 *
+	 * @param window time to collect lookups for a batch, must not be {@literal null}.
+	 * @param maxBatchSize maximum number of identifiers per batch.
+	 * @since 4.2
+	 * @see IdLookupBatcher
+	 */
+	default void setIdLookupBatching(Duration window, int maxBatchSize) {
+
+	}
+
+	/**
+	 * Configures the {@link PlatformTransactionManager} to run operations in separate transactions, such as the chunks
+	 * of a {@link org.springframework.data.jpa.repository.ChunkedExecution chunked execution}.
+	 *
+	 * @param transactionManager supplier of the transaction manager, must not be {@literal null}.
+	 * @since 4.2
+	 */
+	default void setTransactionManager(Supplier<PlatformTransactionManager> transactionManager) {
+
+	}
+
+	/**
+	 * Configures the {@link QueryResultCaches} to invalidate when running bulk operations.
+	 *
+	 * @param queryResultCaches must not be {@literal null}.
+	 * @since 4.2
+	 */
+	default void setQueryResultCaches(QueryResultCaches queryResultCaches) {
+
+	}
 }
@@ -20,7 +20,17 @@ import jakarta.persistence.Tuple;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
@@ -30,6 +40,9 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.data.jpa.projection.CollectionAwareProjectionFactory;
 import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -49,8 +62,10 @@ import org.springframework.data.repository.core.support.SurroundingTransactionDe
 import org.springframework.data.repository.query.CachingValueExpressionDelegate;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
@@ -73,6 +88,9 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 	private final EntityManager entityManager;
 	private final CrudMethodMetadataPostProcessor crudMethodMetadataPostProcessor;
 	private final CrudMethodMetadata crudMethodMetadata;
+	private final Map<Class<?>, RepositoryInformation> pendingQueryResolution = new ConcurrentHashMap<>();
+	private final Queue<LazyJpaQuery> lazyQueries = new ConcurrentLinkedQueue<>();
+	private final List<QueryCreationListener<?>> queryCreationListeners = new CopyOnWriteArrayList<>();
 
 	private EntityPathResolver entityPathResolver;
 	private EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
@@ -80,6 +98,17 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 	private QueryEnhancerSelector queryEnhancerSelector = QueryEnhancerSelector.DEFAULT_SELECTOR;
 	private JpaQueryMethodFactory queryMethodFactory;
 	private QueryRewriterProvider queryRewriterProvider;
+	private QueryValidator queryValidator = QueryValidator.immediate();
+	private QueryObserver queryObserver = QueryObserver.NONE;
+	private QueryResultCaches queryResultCaches = new QueryResultCaches();
+	private @Nullable Executor bootstrapExecutor;
+	private boolean lazyQueryCreation = false;
+	private boolean renderSpecifications = false;
+	private boolean cacheQuerydslQueries = false;
+	private @Nullable Duration idLookupBatchWindow;
+	private int idLookupMaxBatchSize = 100;
+	private @Nullable Supplier<PlatformTransactionManager> transactionManager;
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
 
 	/**
 	 * Creates a new {@link JpaRepositoryFactory}.
@@ -100,9 +129,13 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		addRepositoryProxyPostProcessor(crudMethodMetadataPostProcessor);
 		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
 
-			if (isTransactionNeeded(repositoryInformation.getRepositoryInterface())) {
+			if (idLookupBatchWindow != null || isTransactionNeeded(repositoryInformation.getRepositoryInterface())) {
 				factory.addAdvice(SurroundingTransactionDetectorMethodInterceptor.INSTANCE);
 			}
+
+			if (idLookupBatchWindow != null) {
+				factory.addAdvice(new IdLookupBatchingMethodInterceptor(repositoryInformation));
+			}
 		});
 
 		if (extractor.equals(PersistenceProvider.ECLIPSELINK)) {
@@ -119,6 +152,17 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		this.crudMethodMetadataPostProcessor.setBeanClassLoader(classLoader);
 	}
 
+	/**
+	 * Also applies the listener to queries created lazily when using {@link #setLazyQueryCreation(boolean) lazy query
+	 * creation} once the actual query is created.
+	 */
+	@Override
+	public void addQueryCreationListener(QueryCreationListener<?> listener) {
+
+		super.addQueryCreationListener(listener);
+		this.queryCreationListeners.add(listener);
+	}
+
 	/**
 	 * If a {@link BeanFactory} is being set, this is clearly in a Spring context, and so we can capture the
 	 * {@link QueryRewriterProvider} being a {@link BeanFactoryQueryRewriterProvider}.
@@ -134,6 +178,10 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		Assert.notNull(beanFactory, "BeanFactory must not be null");
 
 		setQueryRewriterProvider(new BeanFactoryQueryRewriterProvider(beanFactory));
+
+		if (beanFactory instanceof ConfigurableBeanFactory cbf) {
+			this.applicationStartup = cbf.getApplicationStartup();
+		}
 	}
 
 	/**
@@ -206,9 +254,153 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		this.queryRewriterProvider = queryRewriterProvider;
 	}
 
+	/**
+	 * Configures the {@link QueryValidator} to validate declared queries. Defaults to
+	 * {@link QueryValidator#immediate()}.
+	 *
+	 * @param queryValidator must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setQueryValidator(QueryValidator queryValidator) {
+
+		Assert.notNull(queryValidator, "QueryValidator must not be null");
+		this.queryValidator = queryValidator;
+	}
+
+	/**
+	 * Configures the {@link QueryObserver} to report the phases of query method invocations to. Defaults to
+	 * {@link QueryObserver#NONE}.
+	 *
+	 * @param queryObserver must not be {@literal null}.
+	 * @since 4.2
+	 * @see org.springframework.data.jpa.observability.ObservationQueryObserver
+	 */
+	public void setQueryObserver(QueryObserver queryObserver) {
+
+		Assert.notNull(queryObserver, "QueryObserver must not be null");
+		this.queryObserver = queryObserver;
+	}
+
+	/**
+	 * Configures the {@link QueryResultCaches} to register the result caches of
+	 * {@link org.springframework.data.jpa.repository.CacheableQuery cacheable} query methods with. Defaults to a
+	 * registry owned by this factory. Share a registry across factories to invalidate the caches of all their
+	 * repositories, e.g. through {@link QueryResultCacheEntityListener}.
+	 *
+	 * @param queryResultCaches must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setQueryResultCaches(QueryResultCaches queryResultCaches) {
+
+		Assert.notNull(queryResultCaches, "QueryResultCaches must not be null");
+		this.queryResultCaches = queryResultCaches;
+	}
+
+	/**
+	 * Configures the {@link Executor} to resolve the query methods of a repository concurrently. Query methods are
+	 * resolved one after another on the calling thread if no executor is configured (default).
+	 *
+	 * @param bootstrapExecutor the executor to use, can be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setBootstrapExecutor(@Nullable Executor bootstrapExecutor) {
+		this.bootstrapExecutor = bootstrapExecutor;
+	}
+
+	/**
+	 * Configures whether to defer the creation of repository queries until a query method is first invoked. Lazily
+	 * created queries are validated on first use. Defaults to {@literal false}.
+	 *
+	 * @param lazyQueryCreation whether to create queries lazily.
+	 * @since 4.2
+	 * @see #warmUpQueries(Predicate)
+	 */
+	public void setLazyQueryCreation(boolean lazyQueryCreation) {
+		this.lazyQueryCreation = lazyQueryCreation;
+	}
+
+	/**
+	 * Configures whether to render {@link org.springframework.data.jpa.domain.Specification}s to JPQL strings with bind
+	 * parameters cached by their structure instead of building a Criteria query for each invocation. Specifications that
+	 * cannot be rendered are executed through the Criteria API. Defaults to {@literal false}.
+	 *
+	 * @param renderSpecifications whether to render specifications to JPQL.
+	 * @since 4.2
+	 */
+	public void setRenderSpecifications(boolean renderSpecifications) {
+		this.renderSpecifications = renderSpecifications;
+	}
+
+	/**
+	 * Configures whether to cache the JPQL serialized for Querydsl queries by the structure of the query so that queries
+	 * differing only in their constants are not serialized again. Defaults to {@literal false}.
+	 *
+	 * @param cacheQuerydslQueries whether to cache serialized Querydsl queries.
+	 * @since 4.2
+	 */
+	public void setCacheQuerydslQueries(boolean cacheQuerydslQueries) {
+		this.cacheQuerydslQueries = cacheQuerydslQueries;
+	}
+
+	/**
+	 * Configures batching of concurrent {@code findById} invocations that do not participate in a surrounding
+	 * transaction. Lookups are collected for the given window or until reaching the maximum batch size and resolved with
+	 * a single query. Batched lookups return entities that are detached from the persistence context of the caller and
+	 * do not start a repository transaction so that lookups waiting for their batch do not hold on to a connection.
+	 * Batching is disabled by default.
+	 *
+	 * @param window time to collect lookups for a batch, {@literal null} to disable batching.
+	 * @param maxBatchSize maximum number of identifiers per batch, must be greater than zero.
+	 * @since 4.2
+	 * @see IdLookupBatcher
+	 */
+	public void setIdLookupBatching(@Nullable Duration window, int maxBatchSize) {
+
+		Assert.isTrue(window == null || (!window.isNegative() && !window.isZero()), "Batch window must be positive");
+		Assert.isTrue(maxBatchSize > 0, "Maximum batch size must be greater than zero");
+
+		this.idLookupBatchWindow = window;
+		this.idLookupMaxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Configures the {@link PlatformTransactionManager} that repositories use to run operations in separate
+	 * transactions, such as the chunks of a {@link org.springframework.data.jpa.repository.ChunkedExecution chunked
+	 * execution}. Chunks participate in the surrounding transaction if no transaction manager is configured.
+	 *
+	 * @param transactionManager supplier of the transaction manager, can be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setTransactionManager(@Nullable Supplier<PlatformTransactionManager> transactionManager) {
+		this.transactionManager = transactionManager;
+	}
+
+	/**
+	 * Create lazily created queries of repositories obtained from this factory that match the given {@link Predicate}
+	 * and have not been created yet. Allows warming up frequently used query methods before the application accepts
+	 * requests when using {@link #setLazyQueryCreation(boolean) lazy query creation}.
+	 *
+	 * @param filter predicate to select the query methods to warm up, must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void warmUpQueries(Predicate<Method> filter) {
+
+		Assert.notNull(filter, "Filter must not be null");
+
+		for (LazyJpaQuery query : lazyQueries) {
+			if (!query.isInitialized() && filter.test(query.getMethod())) {
+				query.initialize();
+			}
+		}
+	}
+
 	@Override
 	protected final JpaRepositoryImplementation<?, ?> getTargetRepository(RepositoryInformation information) {
 
+		if (bootstrapExecutor != null) {
+			pendingQueryResolution.put(information.getRepositoryInterface(), information);
+		}
+
 		JpaRepositoryImplementation<?, ?> repository = getTargetRepository(information, entityManager);
 
 		invokeAwareMethods(repository);
@@ -259,9 +451,53 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 			ValueExpressionDelegate valueExpressionDelegate) {
 
 		JpaQueryConfiguration queryConfiguration = new JpaQueryConfiguration(queryRewriterProvider, queryEnhancerSelector,
-				new CachingValueExpressionDelegate(valueExpressionDelegate), escapeCharacter);
+				new CachingValueExpressionDelegate(valueExpressionDelegate), escapeCharacter, queryValidator)
+				.withQueryObserver(queryObserver).withQueryResultCaches(queryResultCaches);
+
+		QueryLookupStrategy strategy = JpaQueryLookupStrategy.create(entityManager, queryMethodFactory, key,
+				queryConfiguration, lazyQueryCreation);
 
-		return Optional.of(JpaQueryLookupStrategy.create(entityManager, queryMethodFactory, key, queryConfiguration));
+		if (lazyQueryCreation) {
+
+			QueryLookupStrategy lazyStrategy = strategy;
+			strategy = (method, metadata, factory, namedQueries) -> {
+
+				RepositoryQuery query = lazyStrategy.resolveQuery(method, metadata, factory, namedQueries);
+
+				if (query instanceof LazyJpaQuery lazyQuery) {
+					lazyQuery.onInitialization(this::onLazyQueryCreation);
+					lazyQueries.add(lazyQuery);
+				}
+
+				return query;
+			};
+		}
+
+		Executor executor = this.bootstrapExecutor;
+		if (executor != null) {
+			strategy = new ConcurrentQueryLookupStrategy(strategy, executor, applicationStartup, pendingQueryResolution);
+		}
+
+		return Optional.of(strategy);
+	}
+
+	/**
+	 * Notify {@link QueryCreationListener}s about a lazily created query. Listeners accepting {@link LazyJpaQuery} were
+	 * already notified when the {@link LazyJpaQuery} was created.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void onLazyQueryCreation(RepositoryQuery query) {
+
+		for (QueryCreationListener listener : queryCreationListeners) {
+
+			Class<?> typeArgument = GenericTypeResolver.resolveTypeArgument(listener.getClass(),
+					QueryCreationListener.class);
+
+			if (typeArgument != null && !typeArgument.isAssignableFrom(LazyJpaQuery.class)
+					&& typeArgument.isAssignableFrom(query.getClass())) {
+				listener.onCreation(query);
+			}
+		}
 	}
 
 	@Override
@@ -312,6 +548,21 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		repository.setRepositoryMethodMetadata(crudMethodMetadata);
 		repository.setEscapeCharacter(escapeCharacter);
 		repository.setProjectionFactory(getProjectionFactory());
+		repository.setRenderSpecifications(renderSpecifications);
+		repository.setCacheQuerydslQueries(cacheQuerydslQueries);
+		repository.setQueryResultCaches(queryResultCaches);
+
+		Duration idLookupBatchWindow = this.idLookupBatchWindow;
+
+		if (idLookupBatchWindow != null) {
+			repository.setIdLookupBatching(idLookupBatchWindow, idLookupMaxBatchSize);
+		}
+
+		Supplier<PlatformTransactionManager> transactionManager = this.transactionManager;
+
+		if (transactionManager != null) {
+			repository.setTransactionManager(transactionManager);
+		}
 	}
 
 	private static boolean isTransactionNeeded(Class<?> repositoryClass) {
@@ -18,6 +18,11 @@ package org.springframework.data.jpa.repository.support;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
@@ -25,18 +30,28 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.data.jpa.repository.query.JpaQueryMethodFactory;
 import org.springframework.data.jpa.repository.query.QueryEnhancerSelector;
+import org.springframework.data.jpa.repository.query.QueryObserver;
+import org.springframework.data.jpa.repository.query.QueryResultCaches;
+import org.springframework.data.jpa.repository.query.QueryValidationMode;
+import org.springframework.data.jpa.repository.query.QueryValidator;
+import org.springframework.data.jpa.util.BackgroundExecutor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.querydsl.EntityPathResolver;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
+import org.springframework.data.util.Lazy;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
@@ -50,7 +65,7 @@ import org.springframework.util.Assert;
  * @param <T> the type of the repository
  */
 public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
-		extends TransactionalRepositoryFactoryBeanSupport<T, S, ID> {
+		extends TransactionalRepositoryFactoryBeanSupport<T, S, ID> implements SmartInitializingSingleton {
 
 	private @Nullable BeanFactory beanFactory;
 	private @Nullable EntityManager entityManager;
@@ -59,6 +74,26 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 	private EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
 	private @Nullable JpaQueryMethodFactory queryMethodFactory;
 	private @Nullable Function<@Nullable BeanFactory, QueryEnhancerSelector> queryEnhancerSelectorSource;
+	private QueryValidationMode queryValidation = QueryValidationMode.IMMEDIATE;
+	private @Nullable Path queryValidationCache;
+	private @Nullable QueryValidator queryValidator;
+	private QueryObserver queryObserver = QueryObserver.NONE;
+	private @Nullable QueryResultCaches queryResultCaches;
+	private boolean parallelBootstrap = false;
+	private boolean lazyInit = false;
+	private boolean lazyQueryCreation = false;
+	private boolean renderSpecifications = false;
+	private boolean cacheQuerydslQueries = false;
+	private boolean asyncQueryExecution = false;
+	private @Nullable Executor asyncQueryExecutor;
+	private @Nullable String transactionManagerName;
+	private @Nullable Duration idLookupBatchWindow;
+	private int idLookupMaxBatchSize = 100;
+	private boolean readReplicaRouting = false;
+	private @Nullable ReplicationLagMonitor replicationLagMonitor;
+	private Duration maxReplicationLag = Duration.ofSeconds(1);
+	private Set<String> warmUpQueries = Set.of();
+	private @Nullable JpaRepositoryFactory repositoryFactory;
 
 	/**
 	 * Creates a new {@link JpaRepositoryFactoryBean} for the given repository interface.
@@ -158,6 +193,195 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		};
 	}
 
+	/**
+	 * Configures the {@link QueryValidationMode} to validate declared queries. Defaults to
+	 * {@link QueryValidationMode#IMMEDIATE}.
+	 *
+	 * @param queryValidation must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setQueryValidation(QueryValidationMode queryValidation) {
+
+		Assert.notNull(queryValidation, "QueryValidationMode must not be null");
+		this.queryValidation = queryValidation;
+	}
+
+	/**
+	 * Configures the file to record successfully validated queries in. Queries recorded in the file are not validated
+	 * again as long as the persistence provider version and the mapped metamodel remain unchanged.
+	 *
+	 * @param queryValidationCache the cache file location, may be {@literal null} or empty to disable caching.
+	 * @since 4.2
+	 */
+	public void setQueryValidationCache(@Nullable String queryValidationCache) {
+		this.queryValidationCache = StringUtils.hasText(queryValidationCache) ? Path.of(queryValidationCache) : null;
+	}
+
+	/**
+	 * Configures the {@link QueryValidator} to validate declared queries. Takes precedence over
+	 * {@link #setQueryValidation(QueryValidationMode)} and {@link #setQueryValidationCache(String)}.
+	 *
+	 * @param queryValidator must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setQueryValidator(QueryValidator queryValidator) {
+
+		Assert.notNull(queryValidator, "QueryValidator must not be null");
+		this.queryValidator = queryValidator;
+	}
+
+	/**
+	 * Configures whether to resolve the query methods of the repository concurrently. Uses the application context's
+	 * {@link ConfigurableApplicationContext#BOOTSTRAP_EXECUTOR_BEAN_NAME bootstrap executor} if available and the
+	 * {@link BackgroundExecutor#shared() shared background executor} otherwise. Defaults to {@literal false}.
+	 *
+	 * @param parallelBootstrap whether to resolve query methods concurrently.
+	 * @since 4.2
+	 */
+	public void setParallelBootstrap(boolean parallelBootstrap) {
+		this.parallelBootstrap = parallelBootstrap;
+	}
+
+	/**
+	 * Configures whether to defer the creation of repository queries until a query method is first invoked. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param lazyQueryCreation whether to create queries lazily.
+	 * @since 4.2
+	 */
+	public void setLazyQueryCreation(boolean lazyQueryCreation) {
+		this.lazyQueryCreation = lazyQueryCreation;
+	}
+
+	/**
+	 * Configures whether to render {@link org.springframework.data.jpa.domain.Specification}s to cached JPQL instead of
+	 * building Criteria queries. Defaults to {@literal false}.
+	 *
+	 * @param renderSpecifications whether to render specifications to JPQL.
+	 * @since 4.2
+	 * @see JpaRepositoryFactory#setRenderSpecifications(boolean)
+	 */
+	public void setRenderSpecifications(boolean renderSpecifications) {
+		this.renderSpecifications = renderSpecifications;
+	}
+
+	/**
+	 * Configures whether to cache serialized Querydsl queries by their structure. Defaults to {@literal false}.
+	 *
+	 * @param cacheQuerydslQueries whether to cache serialized Querydsl queries.
+	 * @since 4.2
+	 * @see JpaRepositoryFactory#setCacheQuerydslQueries(boolean)
+	 */
+	public void setCacheQuerydslQueries(boolean cacheQuerydslQueries) {
+		this.cacheQuerydslQueries = cacheQuerydslQueries;
+	}
+
+	/**
+	 * Configures whether to execute query methods returning {@link java.util.concurrent.CompletableFuture} or
+	 * {@link java.util.concurrent.Future} asynchronously, each in its own transaction. Defaults to {@literal false}.
+	 *
+	 * @param asyncQueryExecution whether to execute query methods returning futures asynchronously.
+	 * @since 4.2
+	 * @see #setAsyncQueryExecutor(Executor)
+	 */
+	public void setAsyncQueryExecution(boolean asyncQueryExecution) {
+		this.asyncQueryExecution = asyncQueryExecution;
+	}
+
+	/**
+	 * Configures the {@link Executor} to run asynchronous query methods on. Defaults to the
+	 * {@link BackgroundExecutor#shared() shared background executor} that limits the number of concurrently running
+	 * queries.
+	 *
+	 * @param asyncQueryExecutor the executor to use, can be {@literal null} to use the default executor.
+	 * @since 4.2
+	 */
+	public void setAsyncQueryExecutor(@Nullable Executor asyncQueryExecutor) {
+		this.asyncQueryExecutor = asyncQueryExecutor;
+	}
+
+	/**
+	 * Configures the time to collect concurrent {@code findById} invocations for a single query. Batching is disabled if
+	 * no window is configured.
+	 *
+	 * @param idLookupBatchWindow the batch window, can be {@literal null} to disable batching.
+	 * @since 4.2
+	 * @see JpaRepositoryFactory#setIdLookupBatching(Duration, int)
+	 */
+	public void setIdLookupBatchWindow(@Nullable Duration idLookupBatchWindow) {
+		this.idLookupBatchWindow = idLookupBatchWindow;
+	}
+
+	/**
+	 * Configures the maximum number of identifiers to look up with a single query when batching {@code findById}
+	 * invocations. Defaults to {@literal 100}.
+	 *
+	 * @param idLookupMaxBatchSize the maximum batch size, must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setIdLookupMaxBatchSize(int idLookupMaxBatchSize) {
+		this.idLookupMaxBatchSize = idLookupMaxBatchSize;
+	}
+
+	/**
+	 * Configures whether to route read-only repository methods that are invoked outside of a transaction to the read
+	 * replica of a {@link ReadReplicaRoutingDataSource}. Defaults to {@literal false}.
+	 *
+	 * @param readReplicaRouting whether to route read-only methods to the read replica.
+	 * @since 4.2
+	 * @see org.springframework.data.jpa.repository.ReadReplica
+	 */
+	public void setReadReplicaRouting(boolean readReplicaRouting) {
+		this.readReplicaRouting = readReplicaRouting;
+	}
+
+	/**
+	 * Configures the {@link ReplicationLagMonitor} to consult before routing to the read replica. Defaults to a
+	 * {@link ReplicationLagMonitor#fixed(Duration) fixed} replication lag of the
+	 * {@link #setMaxReplicationLag(Duration) maximum replication lag} so that reads following a write of the same
+	 * thread use the primary database until the maximum replication lag has elapsed.
+	 *
+	 * @param replicationLagMonitor must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setReplicationLagMonitor(ReplicationLagMonitor replicationLagMonitor) {
+
+		Assert.notNull(replicationLagMonitor, "ReplicationLagMonitor must not be null");
+		this.replicationLagMonitor = replicationLagMonitor;
+	}
+
+	/**
+	 * Configures the maximum replication lag up to which read-only methods are routed to the read replica. Reads use the
+	 * primary database while the replication lag exceeds the maximum. Defaults to one second.
+	 *
+	 * @param maxReplicationLag must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setMaxReplicationLag(Duration maxReplicationLag) {
+
+		Assert.notNull(maxReplicationLag, "Maximum replication lag must not be null");
+		this.maxReplicationLag = maxReplicationLag;
+	}
+
+	@Override
+	public void setTransactionManager(String transactionManager) {
+
+		super.setTransactionManager(transactionManager);
+		this.transactionManagerName = transactionManager;
+	}
+
+	/**
+	 * Configures the names of query methods whose queries to create once all singletons are instantiated when using
+	 * {@link #setLazyQueryCreation(boolean) lazy query creation}. A method name applies to all overloads of the method,
+	 * {@code *} selects all query methods.
+	 *
+	 * @param warmUpQueries the query method names.
+	 * @since 4.2
+	 */
+	public void setWarmUpQueries(String... warmUpQueries) {
+		this.warmUpQueries = Set.copyOf(Arrays.asList(warmUpQueries));
+	}
+
 	/**
 	 * Configures the {@link JpaQueryMethodFactory} to be used. Will expect a canonical bean to be present but will
 	 * fallback to {@link org.springframework.data.jpa.repository.query.DefaultJpaQueryMethodFactory} in case none is
@@ -175,6 +399,31 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		}
 	}
 
+	/**
+	 * Configures the {@link QueryObserver} to report query method invocations to. Will use a canonical bean if present
+	 * and fall back to {@link QueryObserver#NONE} otherwise.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @since 4.2
+	 */
+	@Autowired
+	public void setQueryObserver(ObjectProvider<QueryObserver> resolver) {
+		this.queryObserver = resolver.getIfAvailable(() -> QueryObserver.NONE);
+	}
+
+	/**
+	 * Configures the {@link QueryResultCaches} of the application context to register the result caches of
+	 * {@link org.springframework.data.jpa.repository.CacheableQuery cacheable} query methods with. Will use a canonical
+	 * bean if present and fall back to a registry owned by the repository factory otherwise.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @since 4.2
+	 */
+	@Autowired
+	public void setQueryResultCaches(ObjectProvider<QueryResultCaches> resolver) {
+		this.queryResultCaches = resolver.getIfUnique();
+	}
+
 	@Override
 	protected RepositoryFactorySupport doCreateRepositoryFactory() {
 
@@ -201,6 +450,41 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 			factory.setQueryEnhancerSelector(queryEnhancerSelectorSource.apply(beanFactory));
 		}
 
+		factory.setQueryValidator(getQueryValidator());
+		factory.setQueryObserver(queryObserver);
+
+		if (queryResultCaches != null) {
+			factory.setQueryResultCaches(queryResultCaches);
+		}
+
+		if (parallelBootstrap) {
+			factory.setBootstrapExecutor(getBootstrapExecutor());
+		}
+
+		factory.setLazyQueryCreation(lazyQueryCreation);
+		factory.setRenderSpecifications(renderSpecifications);
+		factory.setCacheQuerydslQueries(cacheQuerydslQueries);
+		factory.setIdLookupBatching(idLookupBatchWindow, idLookupMaxBatchSize);
+
+		if (beanFactory != null) {
+			factory.setTransactionManager(Lazy.of(this::getTransactionManager));
+		}
+
+		if (asyncQueryExecution) {
+			factory.addRepositoryProxyPostProcessor(new AsyncQueryMethodPostProcessor(
+					asyncQueryExecutor != null ? asyncQueryExecutor : BackgroundExecutor.shared(),
+					this::getTransactionManager));
+		}
+
+		if (readReplicaRouting) {
+			ReplicationLagMonitor monitor = replicationLagMonitor != null ? replicationLagMonitor
+					: ReplicationLagMonitor.fixed(maxReplicationLag);
+
+			factory.addRepositoryProxyPostProcessor(new ReadReplicaRoutingPostProcessor(monitor, maxReplicationLag));
+		}
+
+		this.repositoryFactory = factory;
+
 		return factory;
 	}
 
@@ -210,6 +494,97 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		Assert.state(entityManager != null, "EntityManager must not be null");
 
 		super.afterPropertiesSet();
+
+		// within an application context, validation is awaited once all singletons are instantiated
+		if (beanFactory == null) {
+			awaitQueryValidation();
+		}
+	}
+
+	@Override
+	public void setLazyInit(boolean lazy) {
+
+		super.setLazyInit(lazy);
+		this.lazyInit = lazy;
+	}
+
+	@Override
+	public T getObject() {
+
+		T repository = super.getObject();
+
+		// lazily initialized repositories create their queries on first access
+		if (lazyInit) {
+			awaitQueryValidation();
+		}
+
+		return repository;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		JpaRepositoryFactory factory = this.repositoryFactory;
+
+		if (factory != null && lazyQueryCreation && !warmUpQueries.isEmpty()) {
+			factory.warmUpQueries(it -> warmUpQueries.contains("*") || warmUpQueries.contains(it.getName()));
+		}
+
+		QueryValidator validator = getQueryValidator();
+
+		if (validator.getMode() == QueryValidationMode.DEFERRED) {
+			validator.startDeferredValidation();
+		} else {
+			validator.awaitValidation();
+		}
+	}
+
+	private QueryValidator getQueryValidator() {
+
+		QueryValidator validator = this.queryValidator;
+
+		if (validator == null) {
+
+			validator = QueryValidator.create(queryValidation);
+
+			if (queryValidationCache != null) {
+				validator = validator.withCache(queryValidationCache);
+			}
+
+			this.queryValidator = validator;
+		}
+
+		return validator;
+	}
+
+	private PlatformTransactionManager getTransactionManager() {
+
+		BeanFactory beanFactory = this.beanFactory;
+		String transactionManagerName = this.transactionManagerName;
+
+		Assert.state(beanFactory != null, "BeanFactory is required to look up the PlatformTransactionManager");
+
+		return StringUtils.hasText(transactionManagerName)
+				? beanFactory.getBean(transactionManagerName, PlatformTransactionManager.class)
+				: beanFactory.getBean(PlatformTransactionManager.class);
+	}
+
+	private Executor getBootstrapExecutor() {
+
+		if (beanFactory != null && beanFactory.containsBean(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)) {
+			return beanFactory.getBean(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME, Executor.class);
+		}
+
+		return BackgroundExecutor.shared();
+	}
+
+	private void awaitQueryValidation() {
+
+		QueryValidator validator = getQueryValidator();
+
+		if (validator.getMode() != QueryValidationMode.DEFERRED) {
+			validator.awaitValidation();
+		}
 	}
 
 }
@@ -0,0 +1,824 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.ManagedType;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.core.PropertyPath;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.DefaultJpaEntityMetadata;
+import org.springframework.data.jpa.repository.query.JpqlQueryBuilder;
+import org.springframework.data.jpa.repository.query.JpqlQueryBuilder.Entity;
+import org.springframework.data.jpa.repository.query.JpqlQueryBuilder.Join;
+import org.springframework.data.jpa.repository.query.JpqlQueryBuilder.Origin;
+import org.springframework.data.jpa.repository.query.JpqlQueryBuilder.ParameterPlaceholder;
+import org.springframework.data.jpa.repository.query.JpqlQueryBuilder.Select;
+import org.springframework.data.jpa.repository.query.JpqlQueryBuilder.SelectStep;
+import org.springframework.data.jpa.repository.query.JpqlQueryBuilder.WhereStep;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Renders {@link Specification}s to JPQL through {@link JpqlQueryBuilder} instead of building a Criteria query for
+ * each invocation. The specification is applied to recording {@link CriteriaBuilder}, {@link CriteriaQuery} and
+ * {@link Root} proxies that capture the structure of its predicate and turn literal values into bind parameters. The
+ * rendered JPQL is cached by that structure so that specifications differing only in their values share the same query
+ * string and thus the query plan cache of the persistence provider.
+ * <p>
+ * Only a subset of the Criteria API is supported: attribute paths, inner and left joins, comparisons, {@code BETWEEN},
+ * {@code LIKE}, {@code IN}, null and emptiness checks, {@code LOWER}/{@code UPPER}, {@code DISTINCT} and boolean
+ * composition. Specifications using other parts of the Criteria API, such as subqueries, fetches, metamodel
+ * introspection or expressions created by another {@link CriteriaBuilder}, are not rendered and callers are expected
+ * to fall back to the Criteria API. The same applies to specifications casting Criteria API objects to types of the
+ * persistence provider. The class of a specification that could not be rendered is remembered so that subsequent
+ * invocations fall back without applying the specification to the recording proxies first. Only the first invocation
+ * of such a specification class therefore invokes the specification twice. Specifications composed through
+ * {@link Specification#and(Specification)}, {@link Specification#or(Specification)} and
+ * {@link Specification#not(Specification)} share their class across all compositions and are therefore remembered
+ * per instance.
+ *
+ * @since 4.2
+ */
+final class JpqlSpecificationRenderer {
+
+	static final int DEFAULT_CACHE_SIZE = 256;
+
+	private static final Log logger = LogFactory.getLog(JpqlSpecificationRenderer.class);
+
+	private static final RootNode ROOT = new RootNode();
+
+	private final EntityManager entityManager;
+	private final ConcurrentLruCache<Shape, String> queries;
+	private final Set<Object> unsupported = Collections.newSetFromMap(new ConcurrentReferenceHashMap<>());
+
+	JpqlSpecificationRenderer(EntityManager entityManager) {
+		this(entityManager, DEFAULT_CACHE_SIZE);
+	}
+
+	JpqlSpecificationRenderer(EntityManager entityManager, int cacheSize) {
+
+		this.entityManager = entityManager;
+		this.queries = new ConcurrentLruCache<>(cacheSize, JpqlSpecificationRenderer::render);
+	}
+
+	/**
+	 * Create a query selecting the entities matching the given {@link Specification}.
+	 *
+	 * @param spec must not be {@literal null}.
+	 * @param domainClass must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @return the query or {@literal null} if the specification cannot be rendered to JPQL.
+	 */
+	<S> @Nullable TypedQuery<S> createQuery(Specification<S> spec, Class<S> domainClass, Sort sort) {
+
+		RenderedQuery rendered = render(spec, domainClass, sort, false);
+		return rendered != null ? rendered.bind(entityManager.createQuery(rendered.query(), domainClass)) : null;
+	}
+
+	/**
+	 * Create a query counting the entities matching the given {@link Specification}.
+	 *
+	 * @param spec must not be {@literal null}.
+	 * @param domainClass must not be {@literal null}.
+	 * @return the query or {@literal null} if the specification cannot be rendered to JPQL.
+	 */
+	<S> @Nullable TypedQuery<Long> createCountQuery(Specification<S> spec, Class<S> domainClass) {
+
+		RenderedQuery rendered = render(spec, domainClass, Sort.unsorted(), true);
+		return rendered != null ? rendered.bind(entityManager.createQuery(rendered.query(), Long.class)) : null;
+	}
+
+	/**
+	 * Render the given {@link Specification} to JPQL.
+	 *
+	 * @param spec must not be {@literal null}.
+	 * @param domainClass must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param count whether to render a count query.
+	 * @return the rendered query along with its bind parameters or {@literal null} if the specification cannot be
+	 *         rendered to JPQL.
+	 */
+	<S> @Nullable RenderedQuery render(Specification<S> spec, Class<S> domainClass, Sort sort, boolean count) {
+
+		if (unsupported.contains(getFailureKey(spec))) {
+			return null;
+		}
+
+		List<OrderNode> orders;
+
+		try {
+			orders = count ? List.of() : getOrders(sort, domainClass);
+		} catch (UnsupportedCriteriaException ex) {
+			return fallback(domainClass, ex);
+		}
+
+		Recorder recorder = new Recorder(domainClass, count ? Long.class : domainClass);
+
+		try {
+
+			Predicate predicate = spec.toPredicate(recorder.root(), recorder.query(), recorder.builder());
+			Node where = predicate != null ? recorder.condition(predicate) : null;
+
+			Shape shape = new Shape(domainClass, count, recorder.distinct, List.copyOf(recorder.joins), where, orders);
+
+			return new RenderedQuery(queries.get(shape), recorder.parameters);
+		} catch (UnsupportedCriteriaException | ClassCastException ex) {
+
+			// specifications are expected to use the same Criteria API features on each invocation
+			unsupported.add(getFailureKey(spec));
+			return fallback(domainClass, ex);
+		}
+	}
+
+	/**
+	 * Returns the key to remember a {@link Specification} that cannot be rendered by. Compositions created by
+	 * {@link Specification} and {@link org.springframework.data.jpa.domain.PredicateSpecification} share their lambda
+	 * class regardless of the composed specifications and are remembered by identity instead.
+	 */
+	private static Object getFailureKey(Specification<?> spec) {
+
+		Class<?> type = spec.getClass();
+		return type.getNestHost().getPackageName().equals(Specification.class.getPackageName()) ? spec : type;
+	}
+
+	private static @Nullable RenderedQuery fallback(Class<?> domainClass, RuntimeException ex) {
+
+		if (logger.isTraceEnabled()) {
+			logger.trace(
+					"Cannot render specification for %s to JPQL: %s".formatted(domainClass.getName(), ex.getMessage()));
+		}
+
+		return null;
+	}
+
+	/**
+	 * Sort orders are rendered only for basic attributes of the entity itself as ordering by nested or plural attributes
+	 * requires joins that the Criteria API would create implicitly.
+	 */
+	private List<OrderNode> getOrders(Sort sort, Class<?> domainClass) {
+
+		if (sort.isUnsorted()) {
+			return List.of();
+		}
+
+		List<OrderNode> orders = new ArrayList<>();
+
+		try {
+
+			ManagedType<?> type = entityManager.getMetamodel().managedType(domainClass);
+
+			for (Sort.Order order : sort) {
+
+				if (order instanceof JpaSort.JpaOrder jpaOrder && jpaOrder.isUnsafe()) {
+					throw new UnsupportedCriteriaException("Unsafe sort order " + order);
+				}
+
+				Attribute<?, ?> attribute = type.getAttribute(order.getProperty());
+
+				if (attribute.getPersistentAttributeType() != PersistentAttributeType.BASIC) {
+					throw new UnsupportedCriteriaException("Sort order by non-basic attribute " + order.getProperty());
+				}
+
+				orders.add(new OrderNode(order.getProperty(), order.getDirection(),
+						order.isIgnoreCase() && String.class.equals(attribute.getJavaType()), order.getNullHandling()));
+			}
+		} catch (IllegalArgumentException ex) {
+			throw new UnsupportedCriteriaException(ex.getMessage());
+		}
+
+		return orders;
+	}
+
+	private static String render(Shape shape) {
+
+		Entity entity = JpqlQueryBuilder.entity(new DefaultJpaEntityMetadata<>(shape.domainClass()));
+		Map<Node, Origin> origins = new HashMap<>();
+		origins.put(ROOT, entity);
+
+		SelectStep step = JpqlQueryBuilder.selectFrom(entity);
+
+		if (shape.distinct()) {
+			step = step.distinct();
+		}
+
+		Select select = shape.count() ? step.count() : step.entity();
+
+		for (JoinNode join : shape.joins()) {
+
+			Origin parent = origins.get(join.parent());
+			Join rendered = join.type() == JoinType.LEFT ? JpqlQueryBuilder.leftJoin(parent, join.attribute())
+					: JpqlQueryBuilder.innerJoin(parent, join.attribute());
+
+			origins.put(join, rendered);
+			select.join(rendered);
+		}
+
+		if (shape.where() != null) {
+			select.where(toPredicate(shape.where(), origins));
+		}
+
+		for (OrderNode order : shape.orders()) {
+
+			JpqlQueryBuilder.Expression expression = context -> context.prefixWithAlias(entity, order.property());
+
+			if (order.ignoreCase()) {
+				expression = JpqlQueryBuilder.function("LOWER", expression);
+			}
+
+			select.orderBy(JpqlQueryBuilder.orderBy(expression,
+					new Sort.Order(order.direction(), order.property()).with(order.nullHandling())));
+		}
+
+		return select.toString();
+	}
+
+	private static JpqlQueryBuilder.Predicate toPredicate(Node node, Map<Node, Origin> origins) {
+
+		if (node instanceof Comparison comparison) {
+
+			List<Node> operands = comparison.operands();
+			WhereStep where = JpqlQueryBuilder.where(toExpression(operands.get(0), origins));
+
+			return switch (comparison.operator()) {
+				case EQUAL -> where.eq(toExpression(operands.get(1), origins));
+				case NOT_EQUAL -> where.neq(toExpression(operands.get(1), origins));
+				case GREATER_THAN -> where.gt(toExpression(operands.get(1), origins));
+				case GREATER_THAN_OR_EQUAL -> where.gte(toExpression(operands.get(1), origins));
+				case LESS_THAN -> where.lt(toExpression(operands.get(1), origins));
+				case LESS_THAN_OR_EQUAL -> where.lte(toExpression(operands.get(1), origins));
+				case BETWEEN -> where.between(toExpression(operands.get(1), origins), toExpression(operands.get(2), origins));
+				case IN -> where.in(toExpression(operands.get(1), origins));
+				case IS_NULL -> where.isNull();
+				case IS_NOT_NULL -> where.isNotNull();
+				case IS_TRUE -> where.isTrue();
+				case IS_FALSE -> where.isFalse();
+				case IS_EMPTY -> where.isEmpty();
+				case IS_NOT_EMPTY -> where.isNotEmpty();
+			};
+		}
+
+		if (node instanceof Like like) {
+
+			JpqlQueryBuilder.Expression expression = toExpression(like.expression(), origins);
+			JpqlQueryBuilder.Expression pattern = toExpression(like.pattern(), origins);
+
+			if (like.escape() != null) {
+
+				WhereStep where = JpqlQueryBuilder.where(expression);
+				String escape = like.escape().toString();
+				return like.negated() ? where.notLike(pattern, escape) : where.like(pattern, escape);
+			}
+
+			String operator = like.negated() ? "NOT LIKE" : "LIKE";
+			return context -> "%s %s %s".formatted(expression.render(context), operator, pattern.render(context));
+		}
+
+		if (node instanceof Negation negation) {
+
+			JpqlQueryBuilder.Predicate predicate = toPredicate(negation.condition(), origins).nest();
+			return context -> "NOT " + predicate.render(context);
+		}
+
+		if (node instanceof Junction junction) {
+
+			if (junction.conditions().isEmpty()) {
+				return context -> junction.conjunction() ? "1 = 1" : "1 = 0";
+			}
+
+			JpqlQueryBuilder.Predicate result = null;
+
+			for (Node condition : junction.conditions()) {
+
+				JpqlQueryBuilder.Predicate predicate = toPredicate(condition, origins);
+
+				if (condition instanceof Junction nested && nested.conditions().size() > 1) {
+					predicate = predicate.nest();
+				}
+
+				result = result == null ? predicate : junction.conjunction() ? result.and(predicate) : result.or(predicate);
+			}
+
+			return result;
+		}
+
+		throw new IllegalStateException("Unexpected condition " + node);
+	}
+
+	private static JpqlQueryBuilder.Expression toExpression(Node node, Map<Node, Origin> origins) {
+
+		if (node instanceof PathNode path) {
+
+			Origin origin = origins.get(path.origin());
+			return context -> context.prefixWithAlias(origin, path.path());
+		}
+
+		if (node instanceof ParameterNode parameter) {
+			return JpqlQueryBuilder.parameter(ParameterPlaceholder.indexed(parameter.index() + 1));
+		}
+
+		if (node instanceof FunctionNode function) {
+			return JpqlQueryBuilder.function(function.function(), toExpression(function.argument(), origins));
+		}
+
+		Origin origin = origins.get(node);
+
+		if (origin != null) {
+			return context -> context.getAlias(origin);
+		}
+
+		throw new IllegalStateException("Unexpected expression " + node);
+	}
+
+	/**
+	 * Rendered JPQL query along with the values to bind to its positional parameters.
+	 *
+	 * @param query the JPQL query.
+	 * @param parameters parameter values in the order of their position.
+	 */
+	record RenderedQuery(String query, List<Object> parameters) {
+
+		<Q extends Query> Q bind(Q query) {
+
+			for (int i = 0; i < parameters.size(); i++) {
+				query.setParameter(i + 1, parameters.get(i));
+			}
+
+			return query;
+		}
+
+	}
+
+	/**
+	 * Cache key capturing the structure of a rendered query.
+	 */
+	record Shape(Class<?> domainClass, boolean count, boolean distinct, List<JoinNode> joins, @Nullable Node where,
+			List<OrderNode> orders) {
+	}
+
+	/**
+	 * Structural node recorded from a Criteria expression. Nodes implement {@link Object#equals(Object)} by their
+	 * structure and are therefore suitable as part of a cache key.
+	 */
+	interface Node {}
+
+	/**
+	 * Marker for nodes that represent a condition.
+	 */
+	interface Condition extends Node {}
+
+	record RootNode() implements Node {}
+
+	/**
+	 * @param index the index of the join within the query to distinguish multiple joins of the same attribute.
+	 */
+	record JoinNode(int index, Node parent, String attribute, JoinType type) implements Node {}
+
+	record PathNode(Node origin, String path) implements Node {}
+
+	record ParameterNode(int index) implements Node {}
+
+	record FunctionNode(String function, Node argument) implements Node {}
+
+	record Comparison(Operator operator, List<Node> operands) implements Condition {}
+
+	record Like(Node expression, Node pattern, boolean negated, @Nullable Character escape) implements Condition {}
+
+	record Negation(Node condition) implements Condition {}
+
+	record Junction(boolean conjunction, List<Node> conditions) implements Condition {}
+
+	record OrderNode(String property, Sort.Direction direction, boolean ignoreCase,
+			Sort.NullHandling nullHandling) {}
+
+	enum Operator {
+		EQUAL, NOT_EQUAL, GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL, BETWEEN, IN, IS_NULL,
+		IS_NOT_NULL, IS_TRUE, IS_FALSE, IS_EMPTY, IS_NOT_EMPTY
+	}
+
+	/**
+	 * Records the Criteria API calls of a single {@link Specification} invocation.
+	 */
+	private static class Recorder {
+
+		private final Class<?> domainClass;
+		private final Class<?> resultType;
+		private final List<JoinNode> joins = new ArrayList<>();
+		private final List<Object> parameters = new ArrayList<>();
+		private boolean distinct;
+
+		Recorder(Class<?> domainClass, Class<?> resultType) {
+			this.domainClass = domainClass;
+			this.resultType = resultType;
+		}
+
+		@SuppressWarnings("unchecked")
+		<S> Root<S> root() {
+			return (Root<S>) proxy(Root.class, new NodeHandler(ROOT));
+		}
+
+		CriteriaQuery<?> query() {
+			return proxy(CriteriaQuery.class, this::invokeQuery);
+		}
+
+		CriteriaBuilder builder() {
+			return proxy(CriteriaBuilder.class, this::invokeBuilder);
+		}
+
+		private @Nullable Object invokeQuery(Object proxy, Method method, Object[] args) {
+
+			return switch (method.getName()) {
+				case "distinct" -> {
+					distinct = (Boolean) args[0];
+					yield proxy;
+				}
+				case "isDistinct" -> distinct;
+				case "getResultType" -> resultType;
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "toString" -> "Recording CriteriaQuery for " + domainClass.getName();
+				default -> throw unsupported(method);
+			};
+		}
+
+		private @Nullable Object invokeBuilder(Object proxy, Method method, Object[] args) {
+
+			String name = method.getName();
+			int arguments = args != null ? args.length : 0;
+
+			return switch (name) {
+				case "equal" -> comparison(Operator.EQUAL, args);
+				case "notEqual" -> comparison(Operator.NOT_EQUAL, args);
+				case "greaterThan", "gt" -> comparison(Operator.GREATER_THAN, args);
+				case "greaterThanOrEqualTo", "ge" -> comparison(Operator.GREATER_THAN_OR_EQUAL, args);
+				case "lessThan", "lt" -> comparison(Operator.LESS_THAN, args);
+				case "lessThanOrEqualTo", "le" -> comparison(Operator.LESS_THAN_OR_EQUAL, args);
+				case "between" -> comparison(Operator.BETWEEN, args);
+				case "isNull" -> comparison(Operator.IS_NULL, args);
+				case "isNotNull" -> comparison(Operator.IS_NOT_NULL, args);
+				case "isTrue" -> comparison(Operator.IS_TRUE, args);
+				case "isFalse" -> comparison(Operator.IS_FALSE, args);
+				case "isEmpty" -> comparison(Operator.IS_EMPTY, args);
+				case "isNotEmpty" -> comparison(Operator.IS_NOT_EMPTY, args);
+				case "like", "notLike" -> like(name.equals("notLike"), args);
+				case "and", "or" -> junction(name.equals("and"), args);
+				case "not" -> predicate(new Negation(condition(args[0])));
+				case "conjunction" -> predicate(new Junction(true, List.of()));
+				case "disjunction" -> predicate(new Junction(false, List.of()));
+				case "lower", "upper" -> {
+
+					if (arguments != 1) {
+						throw unsupported(method);
+					}
+
+					yield expression(new FunctionNode(name.toUpperCase(Locale.ROOT), expressionNode(args[0])));
+				}
+				case "literal" -> expression(parameter(args[0]));
+				case "in" -> proxy(CriteriaBuilder.In.class,
+						new NodeHandler(new Comparison(Operator.IN, List.of(expressionNode(args[0]), parameter(new ArrayList<>())))));
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "toString" -> "Recording CriteriaBuilder for " + domainClass.getName();
+				default -> throw unsupported(method);
+			};
+		}
+
+		private Predicate comparison(Operator operator, Object[] args) {
+
+			List<Node> operands = new ArrayList<>();
+			operands.add(expressionNode(args[0]));
+
+			for (int i = 1; i < args.length; i++) {
+				operands.add(operand(args[i]));
+			}
+
+			return predicate(new Comparison(operator, List.copyOf(operands)));
+		}
+
+		private Predicate like(boolean negated, Object[] args) {
+
+			@Nullable Character escape = null;
+
+			if (args.length > 2) {
+
+				if (!(args[2] instanceof Character character) || character == '\'') {
+					throw new UnsupportedCriteriaException("Escape character " + args[2]);
+				}
+
+				escape = character;
+			}
+
+			return predicate(new Like(expressionNode(args[0]), operand(args[1]), negated, escape));
+		}
+
+		private Predicate junction(boolean conjunction, Object[] args) {
+
+			List<Object> predicates = new ArrayList<>();
+
+			if (args != null) {
+				for (Object argument : args) {
+
+					if (argument instanceof Object[] array) {
+						predicates.addAll(Arrays.asList(array));
+					} else if (argument instanceof Collection<?> collection) {
+						predicates.addAll(collection);
+					} else {
+						predicates.add(argument);
+					}
+				}
+			}
+
+			List<Node> conditions = new ArrayList<>(predicates.size());
+
+			for (Object predicate : predicates) {
+				conditions.add(condition(predicate));
+			}
+
+			return predicate(new Junction(conjunction, List.copyOf(conditions)));
+		}
+
+		/**
+		 * Resolve the condition represented by the given {@link Expression}. Boolean attribute paths are considered a
+		 * condition as well.
+		 */
+		Node condition(@Nullable Object argument) {
+
+			Node node = unwrap(argument);
+
+			if (node instanceof Condition) {
+				return node;
+			}
+
+			if (node instanceof PathNode) {
+				return new Comparison(Operator.IS_TRUE, List.of(node));
+			}
+
+			throw new UnsupportedCriteriaException("Condition " + node);
+		}
+
+		private Node expressionNode(@Nullable Object argument) {
+
+			Node node = unwrap(argument);
+
+			if (node instanceof Condition) {
+				throw new UnsupportedCriteriaException("Condition used as expression " + node);
+			}
+
+			return node;
+		}
+
+		/**
+		 * Resolve an operand that is either an {@link Expression} recorded by this recorder or a value to bind.
+		 */
+		private Node operand(@Nullable Object argument) {
+			return argument instanceof Expression<?> ? expressionNode(argument) : parameter(argument);
+		}
+
+		private ParameterNode parameter(@Nullable Object value) {
+
+			if (value == null) {
+				throw new UnsupportedCriteriaException("Null literal");
+			}
+
+			parameters.add(value);
+			return new ParameterNode(parameters.size() - 1);
+		}
+
+		private Node unwrap(@Nullable Object argument) {
+
+			if (argument != null && Proxy.isProxyClass(argument.getClass())
+					&& Proxy.getInvocationHandler(argument) instanceof NodeHandler handler && handler.recorder() == this) {
+				return handler.node;
+			}
+
+			throw new UnsupportedCriteriaException("Expression " + argument);
+		}
+
+		private Predicate predicate(Condition condition) {
+			return proxy(Predicate.class, new NodeHandler(condition));
+		}
+
+		private Expression<?> expression(Node node) {
+			return proxy(Expression.class, new NodeHandler(node));
+		}
+
+		private Class<?> getJavaType(Node node) {
+
+			try {
+
+				if (node instanceof RootNode) {
+					return domainClass;
+				}
+
+				if (node instanceof JoinNode join) {
+					return PropertyPath.from(join.attribute(), getJavaType(join.parent())).getType();
+				}
+
+				if (node instanceof PathNode path) {
+					return PropertyPath.from(path.path(), getJavaType(path.origin())).getLeafProperty().getTypeInformation()
+							.getType();
+				}
+			} catch (RuntimeException ex) {
+				throw new UnsupportedCriteriaException(ex.getMessage());
+			}
+
+			if (node instanceof FunctionNode) {
+				return String.class;
+			}
+
+			throw new UnsupportedCriteriaException("Java type of " + node);
+		}
+
+		private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+			return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+		}
+
+		private static String getAttributeName(Object attribute) {
+
+			if (attribute instanceof String name) {
+				return name;
+			}
+
+			if (attribute instanceof Attribute<?, ?> metamodelAttribute) {
+				return metamodelAttribute.getName();
+			}
+
+			throw new UnsupportedCriteriaException("Attribute " + attribute);
+		}
+
+		private static UnsupportedCriteriaException unsupported(Method method) {
+			return new UnsupportedCriteriaException(
+					"%s.%s(…)".formatted(method.getDeclaringClass().getSimpleName(), method.getName()));
+		}
+
+		/**
+		 * {@link InvocationHandler} for roots, joins, paths, expressions and predicates.
+		 */
+		private class NodeHandler implements InvocationHandler {
+
+			private final Node node;
+
+			NodeHandler(Node node) {
+				this.node = node;
+			}
+
+			Recorder recorder() {
+				return Recorder.this;
+			}
+
+			@Override
+			public @Nullable Object invoke(Object proxy, Method method, Object[] args) {
+
+				return switch (method.getName()) {
+					case "get" -> {
+
+						String attribute = getAttributeName(args[0]);
+						Node path = node instanceof PathNode parent ? new PathNode(parent.origin(), parent.path() + "." + attribute)
+								: new PathNode(origin(), attribute);
+
+						yield proxy(method.getReturnType(), new NodeHandler(path));
+					}
+					case "join", "joinSet", "joinList", "joinCollection" -> {
+
+						JoinType type = args.length > 1 ? (JoinType) args[1] : JoinType.INNER;
+						yield proxy(method.getReturnType(), new NodeHandler(join(getAttributeName(args[0]), type)));
+					}
+					case "getJavaType" -> getJavaType(node);
+					case "getAlias" -> null;
+					case "isNull" -> predicate(new Comparison(Operator.IS_NULL, List.of(expressionNode(proxy))));
+					case "isNotNull" -> predicate(new Comparison(Operator.IS_NOT_NULL, List.of(expressionNode(proxy))));
+					case "equalTo" -> comparison(Operator.EQUAL, new Object[] { proxy, args[0] });
+					case "notEqualTo" -> comparison(Operator.NOT_EQUAL, new Object[] { proxy, args[0] });
+					case "in" -> in(proxy, method, args[0]);
+					case "value" -> value(proxy, args[0]);
+					case "not" -> predicate(new Negation(condition(proxy)));
+					case "isNegated" -> node instanceof Negation;
+					case "equals" -> proxy == args[0];
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "toString" -> node.toString();
+					default -> throw unsupported(method);
+				};
+			}
+
+			private Node origin() {
+
+				if (node instanceof RootNode || node instanceof JoinNode) {
+					return node;
+				}
+
+				throw new UnsupportedCriteriaException("Path origin " + node);
+			}
+
+			private JoinNode join(String attribute, JoinType type) {
+
+				if (type == JoinType.RIGHT) {
+					throw new UnsupportedCriteriaException("Right join");
+				}
+
+				Node parent = origin();
+
+				for (JoinNode join : joins) {
+					if (join.parent().equals(parent) && join.attribute().equals(attribute) && join.type() == type) {
+						throw new UnsupportedCriteriaException("Repeated join of " + attribute);
+					}
+				}
+
+				JoinNode join = new JoinNode(joins.size(), parent, attribute, type);
+				joins.add(join);
+
+				return join;
+			}
+
+			private Predicate in(Object proxy, Method method, Object values) {
+
+				Class<?> parameterType = method.getParameterTypes()[0];
+				List<Object> list;
+
+				if (parameterType == Object[].class) {
+					list = Arrays.asList((Object[]) values);
+				} else if (parameterType == Collection.class) {
+					list = new ArrayList<>((Collection<?>) values);
+				} else {
+					throw unsupported(method);
+				}
+
+				for (Object value : list) {
+					if (value instanceof Expression<?>) {
+						throw new UnsupportedCriteriaException("Expression in IN list");
+					}
+				}
+
+				return predicate(new Comparison(Operator.IN, List.of(expressionNode(proxy), parameter(list))));
+			}
+
+			@SuppressWarnings("unchecked")
+			private Object value(Object proxy, Object value) {
+
+				if (!(node instanceof Comparison comparison) || comparison.operator() != Operator.IN
+						|| value instanceof Expression<?>) {
+					throw new UnsupportedCriteriaException("IN value " + value);
+				}
+
+				ParameterNode parameter = (ParameterNode) comparison.operands().get(1);
+				((List<Object>) parameters.get(parameter.index())).add(value);
+
+				return proxy;
+			}
+		}
+	}
+
+	/**
+	 * Exception signalling a Criteria API usage that cannot be rendered to JPQL. Does not capture a stack trace as it is
+	 * used for control flow only.
+	 */
+	private static class UnsupportedCriteriaException extends RuntimeException {
+
+		UnsupportedCriteriaException(@Nullable String message) {
+			super(message, null, false, false);
+		}
+
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Configurable;
+import org.springframework.data.jpa.repository.query.QueryResultCaches;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.util.Assert;
+
+/**
+ * JPA entity listener to invalidate the results of {@link org.springframework.data.jpa.repository.CacheableQuery
+ * cacheable} query methods when entities are persisted, updated or removed. Callbacks are triggered when the change is
+ * flushed to the database. Register the listener for the entities used by cacheable query methods through
+ * {@link jakarta.persistence.EntityListeners @EntityListeners} or for all entities in your {@code orm.xml}:
+ *
+ * <pre>
+ * &lt;persistence-unit-metadata&gt;
+ *     &lt;persistence-unit-defaults&gt;
+ *         &lt;entity-listeners&gt;
+ *             &lt;entity-listener class="org.springframework.data.jpa.repository.support.QueryResultCacheEntityListener" /&gt;
+ *         &lt;/entity-listeners&gt;
+ *     &lt;/persistence-unit-defaults&gt;
+ * &lt;/persistence-unit-metadata&gt;
+ * </pre>
+ *
+ * The listener invalidates the {@link QueryResultCaches} of the application context and therefore needs to be
+ * instantiated by the application context, e.g. through Hibernate's {@code SpringBeanContainer} or
+ * {@link Configurable @Configurable} support. Listeners that are not configured do not invalidate any cache.
+ *
+ * @since 4.2
+ * @see QueryResultCaches#invalidate(Class)
+ */
+@Configurable
+public class QueryResultCacheEntityListener {
+
+	private static final Log logger = LogFactory.getLog(QueryResultCacheEntityListener.class);
+
+	private @Nullable ObjectFactory<QueryResultCaches> queryResultCaches;
+	private boolean warned;
+
+	/**
+	 * Configures the {@link QueryResultCaches} to invalidate when entities change.
+	 *
+	 * @param queryResultCaches must not be {@literal null}.
+	 */
+	@Autowired
+	public void setQueryResultCaches(ObjectFactory<QueryResultCaches> queryResultCaches) {
+
+		Assert.notNull(queryResultCaches, "QueryResultCaches must not be null");
+		this.queryResultCaches = queryResultCaches;
+	}
+
+	/**
+	 * Invalidate cached results after persisting the given entity.
+	 *
+	 * @param target the persisted entity.
+	 */
+	@PostPersist
+	public void afterPersist(Object target) {
+		invalidate(target);
+	}
+
+	/**
+	 * Invalidate cached results after updating the given entity.
+	 *
+	 * @param target the updated entity.
+	 */
+	@PostUpdate
+	public void afterUpdate(Object target) {
+		invalidate(target);
+	}
+
+	/**
+	 * Invalidate cached results after removing the given entity.
+	 *
+	 * @param target the removed entity.
+	 */
+	@PostRemove
+	public void afterRemove(Object target) {
+		invalidate(target);
+	}
+
+	private void invalidate(Object target) {
+
+		Assert.notNull(target, "Entity must not be null");
+
+		ObjectFactory<QueryResultCaches> queryResultCaches = this.queryResultCaches;
+
+		if (queryResultCaches == null) {
+
+			if (!warned && logger.isWarnEnabled()) {
+				logger.warn("QueryResultCacheEntityListener is not configured with the QueryResultCaches of the "
+						+ "application context; Cached query results are not invalidated on entity changes");
+			}
+
+			warned = true;
+			return;
+		}
+
+		queryResultCaches.getObject().invalidate(ProxyUtils.getUserClass(target));
+	}
+
+}
@@ -19,6 +19,8 @@ import jakarta.persistence.EntityManager;
 
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.data.core.PropertyPath;
 import org.springframework.data.core.PropertyReferenceException;
 import org.springframework.data.domain.Pageable;
@@ -59,6 +61,7 @@ public class Querydsl {
 	private final EntityManager em;
 	private final PersistenceProvider provider;
 	private final PathBuilder<?> builder;
+	private final @Nullable QuerydslQueryCache queryCache;
 
 	/**
 	 * Creates a new {@link Querydsl} for the given {@link EntityManager} and {@link PathBuilder}.
@@ -67,6 +70,18 @@ public class Querydsl {
 	 * @param builder must not be {@literal null}.
 	 */
 	public Querydsl(EntityManager em, PathBuilder<?> builder) {
+		this(em, builder, false);
+	}
+
+	/**
+	 * Creates a new {@link Querydsl} for the given {@link EntityManager} and {@link PathBuilder}.
+	 *
+	 * @param em must not be {@literal null}.
+	 * @param builder must not be {@literal null}.
+	 * @param cacheQueries whether to cache serialized queries by their structure.
+	 * @since 4.2
+	 */
+	Querydsl(EntityManager em, PathBuilder<?> builder, boolean cacheQueries) {
 
 		Assert.notNull(em, "EntityManager must not be null");
 		Assert.notNull(builder, "PathBuilder must not be null");
@@ -74,6 +89,8 @@ public class Querydsl {
 		this.em = em;
 		this.provider = PersistenceProvider.fromEntityManager(em);
 		this.builder = builder;
+		this.queryCache = cacheQueries ? new QuerydslQueryCache(getTemplates(), QuerydslQueryCache.DEFAULT_CACHE_SIZE)
+				: null;
 	}
 
 	/**
@@ -82,7 +99,7 @@ public class Querydsl {
 	public <T> AbstractJPAQuery<T, JPAQuery<T>> createQuery() {
 
 		JPQLTemplates templates = getTemplates();
-		return templates != null ? new SpringDataJpaQuery<>(em, templates) : new SpringDataJpaQuery<>(em);
+		return templates != null ? new SpringDataJpaQuery<>(em, templates, queryCache) : new SpringDataJpaQuery<>(em);
 	}
 
 	/**
@@ -18,6 +18,7 @@ package org.springframework.data.jpa.repository.support;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -33,6 +34,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.query.KeysetScrollDelegate;
 import org.springframework.data.jpa.repository.query.KeysetScrollDelegate.QueryStrategy;
@@ -85,7 +87,7 @@ public class QuerydslJpaPredicateExecutor<T> implements QuerydslPredicateExecuto
 
 	private final JpaEntityInformation<T, ?> entityInformation;
 	private final EntityPath<T> path;
-	private final Querydsl querydsl;
+	private Querydsl querydsl;
 	private final QuerydslQueryStrategy scrollQueryAdapter;
 	private final EntityManager entityManager;
 	private @Nullable CrudMethodMetadata metadata;
@@ -108,7 +110,8 @@ public class QuerydslJpaPredicateExecutor<T> implements QuerydslPredicateExecuto
 		this.path = resolver.createPath(entityInformation.getJavaType());
 		this.querydsl = new Querydsl(entityManager, new PathBuilder<T>(path.getType(), path.getMetadata()));
 		this.entityManager = entityManager;
-		this.scrollQueryAdapter = new QuerydslQueryStrategy();
+		this.scrollQueryAdapter = new QuerydslQueryStrategy(
+				PersistenceProvider.fromEntityManager(entityManager).supportsRowValueComparison());
 	}
 
 	@Override
@@ -121,6 +124,12 @@ public class QuerydslJpaPredicateExecutor<T> implements QuerydslPredicateExecuto
 		this.projectionFactory = projectionFactory;
 	}
 
+	@Override
+	public void setCacheQuerydslQueries(boolean cacheQuerydslQueries) {
+		this.querydsl = new Querydsl(entityManager, new PathBuilder<T>(path.getType(), path.getMetadata()),
+				cacheQuerydslQueries);
+	}
+
 	@Override
 	public Optional<T> findOne(Predicate predicate) {
 
@@ -397,6 +406,12 @@ public class QuerydslJpaPredicateExecutor<T> implements QuerydslPredicateExecuto
 
 	class QuerydslQueryStrategy implements QueryStrategy<Expression<?>, BooleanExpression> {
 
+		private final boolean rowValueComparison;
+
+		QuerydslQueryStrategy(boolean rowValueComparison) {
+			this.rowValueComparison = rowValueComparison;
+		}
+
 		@Override
 		public Expression<?> createExpression(String property) {
 			return querydsl.createExpression(property);
@@ -429,6 +444,39 @@ public class QuerydslJpaPredicateExecutor<T> implements QuerydslPredicateExecuto
 					: Expressions.booleanOperation(Ops.EQ, propertyExpression, ConstantImpl.create(value));
 		}
 
+		@Override
+		public @Nullable BooleanExpression compare(List<Order> orders, List<Expression<?>> propertyExpressions,
+				List<Object> values) {
+
+			if (!rowValueComparison) {
+				return null;
+			}
+
+			int size = propertyExpressions.size();
+			StringBuilder lhs = new StringBuilder();
+			StringBuilder rhs = new StringBuilder();
+			List<Object> args = new ArrayList<>(size * 2);
+
+			for (int i = 0; i < size; i++) {
+
+				if (i > 0) {
+					lhs.append(", ");
+					rhs.append(", ");
+				}
+
+				lhs.append('{').append(i).append('}');
+				rhs.append('{').append(size + i).append('}');
+				args.add(propertyExpressions.get(i));
+			}
+
+			for (Object value : values) {
+				args.add(ConstantImpl.create(value));
+			}
+
+			String operator = orders.get(0).isAscending() ? " > " : " < ";
+			return Expressions.booleanTemplate("(" + lhs + ")" + operator + "(" + rhs + ")", args);
+		}
+
 		@Override
 		public BooleanExpression and(List<BooleanExpression> intermediate) {
 			return Expressions.allOf(intermediate.toArray(new BooleanExpression[0]));
@@ -0,0 +1,609 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.core.types.TemplateExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+
+/**
+ * Cache for serialized Querydsl JPQL queries. Queries are fingerprinted by their structure (joins, paths, operators,
+ * templates and the position and type of constants) so that queries differing only in constant values share the
+ * serialized JPQL string and only need to rebind their constants.
+ * <p>
+ * When a query shape is serialized for the first time, the constants reported by the {@link JPQLSerializer} are mapped
+ * back to the constants of the expression tree. Constants that are transformed during serialization (such as
+ * {@code like} patterns for {@code startsWith} or lower-cased values for {@code equalsIgnoreCase}) are re-created by
+ * serializing only their enclosing operation. Query shapes using parameters, query flags or custom expression types as
+ * well as shapes whose constants cannot be mapped unambiguously are serialized on each invocation. Constants are mapped
+ * by value, so invocations that use equal values for different constants are serialized without consulting the cache
+ * as their constants cannot be told apart.
+ * <p>
+ * Caching is opt-in through {@link JpaRepositoryFactory#setCacheQuerydslQueries(boolean)}.
+ *
+ * @since 4.2
+ */
+class QuerydslQueryCache {
+
+	static final int DEFAULT_CACHE_SIZE = 256;
+
+	private static final String STRING_PROBE = "Probe%_!\\";
+
+	private final JPQLTemplates templates;
+	private final Map<Shape, SerializedShape> cache;
+
+	/**
+	 * Creates a new {@link QuerydslQueryCache} for the given {@link JPQLTemplates}.
+	 *
+	 * @param templates must not be {@literal null}.
+	 * @param size maximum number of query shapes to cache.
+	 */
+	@SuppressWarnings("serial")
+	QuerydslQueryCache(JPQLTemplates templates, int size) {
+
+		this.templates = templates;
+		this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Shape, SerializedShape> eldest) {
+				return size() > size;
+			}
+		});
+	}
+
+	/**
+	 * Obtain the serialized query and its constants for the given {@link QueryMetadata}.
+	 *
+	 * @param metadata the query metadata to serialize.
+	 * @param forCount whether to serialize a count query.
+	 * @param serializer supplier to serialize the query if its shape was not serialized yet.
+	 * @return the serialized query or {@literal null} if the query shape cannot be cached and the query must be
+	 *         serialized by the caller.
+	 */
+	@Nullable
+	SerializedQuery getSerializedQuery(QueryMetadata metadata, boolean forCount, Supplier<JPQLSerializer> serializer) {
+
+		Fingerprint fingerprint = Fingerprint.of(metadata, forCount);
+
+		if (fingerprint == null || fingerprint.hasEqualConstants()) {
+			return null;
+		}
+
+		List<ConstantSlot> slots = fingerprint.slots();
+		SerializedShape serialized = cache.get(fingerprint.shape());
+
+		if (serialized == null) {
+
+			serialized = serialize(slots, serializer.get());
+
+			// depends on the constant values of this invocation, other invocations of the same shape may be cacheable
+			if (serialized.isAmbiguous()) {
+				return null;
+			}
+
+			cache.put(fingerprint.shape(), serialized);
+		}
+
+		List<Object> constants = serialized.bind(slots, this);
+		return constants != null ? new SerializedQuery(serialized.queryString(), constants) : null;
+	}
+
+	/**
+	 * Compute how the constants of the given query are to be bound using the constants reported by its serializer.
+	 */
+	private SerializedShape serialize(List<ConstantSlot> slots, JPQLSerializer serializer) {
+
+		String queryString = serializer.toString();
+		List<Object> constants = serializer.getConstants();
+
+		int size = slots.size();
+		@Nullable Object[] resolved = new Object[size];
+		boolean[] transformed = new boolean[size];
+		boolean[] bindable = new boolean[size];
+
+		for (int i = 0; i < size; i++) {
+
+			ConstantSlot slot = slots.get(i);
+
+			if (slot.fixed()) {
+				resolved[i] = slot.value();
+				continue;
+			}
+
+			Object probe = slot.value() instanceof String ? STRING_PROBE : slot.value();
+			Object serializedProbe = serializeConstant(slot, probe);
+
+			if (serializedProbe == null) {
+
+				// empty collections are rendered as literal predicate
+				if (slot.value() instanceof Collection<?> collection && collection.isEmpty()) {
+					continue;
+				}
+
+				return SerializedShape.UNCACHEABLE;
+			}
+
+			transformed[i] = serializedProbe != probe;
+			resolved[i] = transformed[i] ? serializeConstant(slot, slot.value()) : slot.value();
+			bindable[i] = true;
+		}
+
+		Binding[] bindings = new Binding[constants.size()];
+		boolean[] used = new boolean[size];
+
+		for (int j = 0; j < constants.size(); j++) {
+
+			Object constant = constants.get(j);
+			int match = -1;
+			boolean fixedMatch = false;
+
+			for (int i = 0; i < size; i++) {
+
+				ConstantSlot slot = slots.get(i);
+
+				if ((!slot.fixed() && !bindable[i]) || !Objects.equals(resolved[i], constant)) {
+					continue;
+				}
+
+				if (slot.fixed()) {
+					fixedMatch = true;
+					continue;
+				}
+
+				if (match != -1) {
+					return SerializedShape.AMBIGUOUS;
+				}
+
+				match = i;
+			}
+
+			if (match == -1) {
+
+				if (!fixedMatch) {
+					return SerializedShape.UNCACHEABLE;
+				}
+
+				bindings[j] = Binding.fixed(constant);
+				continue;
+			}
+
+			// a transformed constant equal to a fixed one
+			if (fixedMatch) {
+				return SerializedShape.AMBIGUOUS;
+			}
+
+			if (used[match]) {
+				return SerializedShape.UNCACHEABLE;
+			}
+
+			used[match] = true;
+			bindings[j] = Binding.slot(match, transformed[match]);
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (bindable[i] && !used[i]) {
+				return SerializedShape.UNCACHEABLE;
+			}
+		}
+
+		return new SerializedShape(queryString, bindings);
+	}
+
+	/**
+	 * Serialize the operation enclosing the given {@link ConstantSlot} with the given value as constant and all other
+	 * operands replaced by paths.
+	 *
+	 * @return the single constant reported by the serializer or {@literal null} if the operation did not report exactly
+	 *         one constant.
+	 */
+	@Nullable
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	Object serializeConstant(ConstantSlot slot, Object value) {
+
+		Operation<?> operation = slot.operation();
+
+		Assert.state(operation != null, "Fixed constants have no enclosing operation");
+
+		List<Expression<?>> args = operation.getArgs();
+		Expression<?>[] operands = new Expression<?>[args.size()];
+
+		for (int i = 0; i < operands.length; i++) {
+			operands[i] = i == slot.index() ? Expressions.constant(value)
+					: Expressions.path(args.get(i).getType(), "_" + i);
+		}
+
+		JPQLSerializer serializer = new JPQLSerializer(templates);
+		serializer.handle(Expressions.operation((Class) operation.getType(), operation.getOperator(), operands));
+
+		List<Object> constants = serializer.getConstants();
+		return constants.size() == 1 ? constants.get(0) : null;
+	}
+
+	/**
+	 * A serialized query along with the constants to bind.
+	 *
+	 * @param queryString the JPQL query.
+	 * @param constants constants to bind in the order of their positional parameters.
+	 */
+	record SerializedQuery(String queryString, List<Object> constants) {
+
+	}
+
+	/**
+	 * Cached serialization of a query shape.
+	 */
+	private record SerializedShape(String queryString, Binding @Nullable [] bindings) {
+
+		static final SerializedShape UNCACHEABLE = new SerializedShape("", null);
+		static final SerializedShape AMBIGUOUS = new SerializedShape("", null);
+
+		boolean isAmbiguous() {
+			return this == AMBIGUOUS;
+		}
+
+		@Nullable
+		List<Object> bind(List<ConstantSlot> slots, QuerydslQueryCache cache) {
+
+			if (bindings == null) {
+				return null;
+			}
+
+			List<Object> constants = new ArrayList<>(bindings.length);
+
+			for (Binding binding : bindings) {
+
+				if (binding.slot() == -1) {
+					constants.add(binding.value());
+					continue;
+				}
+
+				ConstantSlot slot = slots.get(binding.slot());
+				Object value = binding.transformed() ? cache.serializeConstant(slot, slot.value()) : slot.value();
+
+				if (value == null) {
+					return null;
+				}
+
+				constants.add(value);
+			}
+
+			return constants;
+		}
+	}
+
+	/**
+	 * Binding of a positional parameter either to a constant slot of the query shape or to a fixed value.
+	 */
+	private record Binding(int slot, boolean transformed, @Nullable Object value) {
+
+		static Binding fixed(Object value) {
+			return new Binding(-1, false, value);
+		}
+
+		static Binding slot(int slot, boolean transformed) {
+			return new Binding(slot, transformed, null);
+		}
+	}
+
+	/**
+	 * A constant within the query. Fixed constants are part of the shape by value, all other constants are rebound.
+	 *
+	 * @param value the constant value.
+	 * @param operation the enclosing operation, {@literal null} for fixed constants.
+	 * @param index index of the constant within the operation arguments.
+	 * @param fixed whether the constant value is part of the shape.
+	 */
+	record ConstantSlot(Object value, @Nullable Operation<?> operation, int index, boolean fixed) {
+
+	}
+
+	/**
+	 * Marker for a constant that is rebound within a shape.
+	 */
+	private record ConstantMarker(Class<?> type, boolean empty) {
+
+	}
+
+	private enum Token {
+		DISTINCT, JOIN, WHERE, GROUP_BY, HAVING, ORDER_BY, PROJECTION, SUBQUERY, NULL, END
+	}
+
+	/**
+	 * The {@link Shape} of a query along with its constants.
+	 *
+	 * @param shape the structural fingerprint used as cache key.
+	 * @param slots the constants of the query in traversal order.
+	 */
+	record Fingerprint(Shape shape, List<ConstantSlot> slots) {
+
+		/**
+		 * Create a {@link Fingerprint} for the given {@link QueryMetadata}.
+		 *
+		 * @return the fingerprint or {@literal null} if the query cannot be fingerprinted.
+		 */
+		static @Nullable Fingerprint of(QueryMetadata metadata, boolean forCount) {
+
+			ShapeBuilder builder = new ShapeBuilder();
+			builder.tokens.add(forCount);
+
+			if (!builder.metadata(metadata)) {
+				return null;
+			}
+
+			return new Fingerprint(new Shape(builder.tokens), List.copyOf(builder.slots));
+		}
+
+		/**
+		 * @return {@literal true} if constants to be rebound are equal to each other or to a fixed constant so that
+		 *         serialized constants cannot be mapped back to the query.
+		 */
+		boolean hasEqualConstants() {
+
+			Set<Object> values = new HashSet<>();
+
+			for (ConstantSlot slot : slots) {
+				if (slot.fixed() || slot.value() instanceof Collection<?> c && c.isEmpty()) {
+					continue;
+				}
+
+				if (!values.add(slot.value())) {
+					return true;
+				}
+			}
+
+			for (ConstantSlot slot : slots) {
+				if (slot.fixed() && values.contains(slot.value())) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * Immutable structural fingerprint of a query.
+	 */
+	static final class Shape {
+
+		private final List<Object> tokens;
+		private final int hashCode;
+
+		private Shape(List<Object> tokens) {
+
+			this.tokens = Collections.unmodifiableList(new ArrayList<>(tokens));
+			this.hashCode = this.tokens.hashCode();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			return o instanceof Shape that && hashCode == that.hashCode && tokens.equals(that.tokens);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/**
+	 * Traverses {@link QueryMetadata} and its expressions to collect structural tokens and constants.
+	 */
+	private static class ShapeBuilder {
+
+		private final List<Object> tokens = new ArrayList<>();
+		private final List<ConstantSlot> slots = new ArrayList<>();
+
+		boolean metadata(QueryMetadata metadata) {
+
+			if (!metadata.getParams().isEmpty() || !metadata.getFlags().isEmpty()) {
+				return false;
+			}
+
+			tokens.add(metadata.isDistinct() ? Token.DISTINCT : Token.NULL);
+
+			for (JoinExpression join : metadata.getJoins()) {
+
+				tokens.add(Token.JOIN);
+				tokens.add(join.getType());
+				tokens.add(join.getFlags());
+
+				if (!expression(join.getTarget(), false, null, -1)
+						|| !expression(join.getCondition(), false, null, -1)) {
+					return false;
+				}
+			}
+
+			tokens.add(Token.WHERE);
+
+			if (!expression(metadata.getWhere(), false, null, -1)) {
+				return false;
+			}
+
+			tokens.add(Token.GROUP_BY);
+
+			for (Expression<?> expression : metadata.getGroupBy()) {
+				if (!expression(expression, false, null, -1)) {
+					return false;
+				}
+			}
+
+			tokens.add(Token.HAVING);
+
+			if (!expression(metadata.getHaving(), false, null, -1)) {
+				return false;
+			}
+
+			tokens.add(Token.ORDER_BY);
+
+			for (OrderSpecifier<?> order : metadata.getOrderBy()) {
+
+				tokens.add(order.getOrder());
+				tokens.add(order.getNullHandling());
+
+				if (!expression(order.getTarget(), true, null, -1)) {
+					return false;
+				}
+			}
+
+			tokens.add(Token.PROJECTION);
+
+			if (!expression(metadata.getProjection(), true, null, -1)) {
+				return false;
+			}
+
+			tokens.add(Token.END);
+			return true;
+		}
+
+		boolean expression(@Nullable Expression<?> expression, boolean fixed, @Nullable Operation<?> parent, int index) {
+
+			if (expression == null) {
+				tokens.add(Token.NULL);
+				return true;
+			}
+
+			if (expression instanceof BooleanBuilder builder) {
+				return expression(builder.getValue(), fixed, parent, index);
+			}
+
+			if (expression instanceof Constant<?> constant) {
+				return constant(constant.getConstant(), fixed || parent == null, parent, index);
+			}
+
+			if (expression instanceof Path<?> path) {
+
+				tokens.add(path.getType());
+				tokens.add(path.getMetadata());
+				return true;
+			}
+
+			if (expression instanceof Operation<?> operation) {
+
+				List<Expression<?>> args = operation.getArgs();
+
+				tokens.add(operation.getOperator());
+				tokens.add(operation.getType());
+				tokens.add(args.size());
+
+				for (int i = 0; i < args.size(); i++) {
+					if (!expression(args.get(i), fixed, operation, i)) {
+						return false;
+					}
+				}
+
+				return true;
+			}
+
+			if (expression instanceof TemplateExpression<?> template) {
+
+				tokens.add(template.getType());
+				tokens.add(template.getTemplate().toString());
+				tokens.add(template.getArgs().size());
+
+				for (Object arg : template.getArgs()) {
+
+					boolean visited = arg instanceof Expression<?> argExpression ? expression(argExpression, true, null, -1)
+							: constant(arg, true, null, -1);
+
+					if (!visited) {
+						return false;
+					}
+				}
+
+				return true;
+			}
+
+			if (expression instanceof FactoryExpression<?> factory) {
+
+				tokens.add(factory.getClass());
+				tokens.add(factory.getType());
+				tokens.add(factory.getArgs().size());
+
+				for (Expression<?> arg : factory.getArgs()) {
+					if (!expression(arg, fixed, null, -1)) {
+						return false;
+					}
+				}
+
+				return true;
+			}
+
+			if (expression instanceof SubQueryExpression<?> subquery) {
+
+				tokens.add(Token.SUBQUERY);
+				return metadata(subquery.getMetadata());
+			}
+
+			// parameters and custom expression types
+			return false;
+		}
+
+		private boolean constant(@Nullable Object value, boolean fixed, @Nullable Operation<?> parent, int index) {
+
+			if (value == null) {
+				tokens.add(Token.NULL);
+				return true;
+			}
+
+			// type tokens, escape characters and boolean literals are typically rendered inline
+			if (fixed || parent == null || value instanceof Boolean || value instanceof Character
+					|| value instanceof Class<?>) {
+
+				tokens.add(value.getClass());
+				tokens.add(value);
+				slots.add(new ConstantSlot(value, null, -1, true));
+				return true;
+			}
+
+			tokens.add(new ConstantMarker(value.getClass(), value instanceof Collection<?> c && c.isEmpty()));
+			slots.add(new ConstantSlot(value, parent, index, false));
+			return true;
+		}
+	}
+
+}
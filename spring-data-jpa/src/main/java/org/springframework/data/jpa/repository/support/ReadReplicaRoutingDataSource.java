@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DataSource} routing connections to a read replica while a repository method that was identified as read-only
+ * by {@link org.springframework.data.jpa.repository.config.EnableJpaRepositories#readReplicaRouting() read replica
+ * routing} obtains its connection and to the primary database otherwise. Use it as the {@link DataSource} of the
+ * {@link jakarta.persistence.EntityManagerFactory} so that a single set of repositories serves reads from the replica
+ * and writes from the primary database:
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * DataSource dataSource(DataSource primary, DataSource replica) {
+ * 	return new ReadReplicaRoutingDataSource(primary, replica);
+ * }
+ * </pre>
+ *
+ * The replica can be a pool of replicas, e.g. a load-balancing {@link DataSource} of the JDBC driver.
+ *
+ * @since 4.2
+ * @see org.springframework.data.jpa.repository.ReadReplica
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	private static final ThreadLocal<Boolean> replicaRouted = new NamedThreadLocal<>("Read replica routing");
+	private static final ThreadLocal<Long> lastWrite = new NamedThreadLocal<>("Last primary write");
+
+	private static final String PRIMARY = "primary";
+	private static final String REPLICA = "replica";
+
+	/**
+	 * Creates a new {@link ReadReplicaRoutingDataSource} for the given primary and replica {@link DataSource}.
+	 *
+	 * @param primary must not be {@literal null}.
+	 * @param replica must not be {@literal null}.
+	 */
+	public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+
+		Assert.notNull(primary, "Primary DataSource must not be null");
+		Assert.notNull(replica, "Replica DataSource must not be null");
+
+		setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+		afterPropertiesSet();
+	}
+
+	/**
+	 * Return whether connections obtained by the current thread are routed to the read replica.
+	 *
+	 * @return {@literal true} if the current thread is routed to the read replica.
+	 */
+	public static boolean isReplicaRouted() {
+		return Boolean.TRUE.equals(replicaRouted.get());
+	}
+
+	/**
+	 * Configure whether connections obtained by the current thread are routed to the read replica.
+	 *
+	 * @param routed whether to route to the read replica.
+	 * @return whether the current thread was routed to the read replica before.
+	 */
+	static boolean setReplicaRouted(boolean routed) {
+
+		boolean previous = isReplicaRouted();
+
+		if (routed) {
+			replicaRouted.set(Boolean.TRUE);
+		} else {
+			replicaRouted.remove();
+		}
+
+		return previous;
+	}
+
+	/**
+	 * Forget about previous writes of the current thread so that subsequent reads are routed to the read replica without
+	 * waiting for the replication lag to elapse. Records of writes are cleared once the replication lag has elapsed when
+	 * the thread reads again. Threads of a pool that might not read again can clear the record when completing their
+	 * unit of work, e.g. in a servlet filter or a task decorator.
+	 */
+	public static void clearWrites() {
+		lastWrite.remove();
+	}
+
+	/**
+	 * Record a write of the current thread to the primary database.
+	 */
+	static void recordWrite() {
+		lastWrite.set(System.nanoTime());
+	}
+
+	/**
+	 * Return whether the current thread wrote to the primary database within the given replication lag. Clears the
+	 * record of the write once the replication lag has elapsed.
+	 *
+	 * @param replicationLag the current replication lag.
+	 * @return {@literal true} if the replica might not reflect the last write of the current thread yet.
+	 */
+	static boolean hasWrittenWithin(Duration replicationLag) {
+
+		Long lastWriteTime = lastWrite.get();
+
+		if (lastWriteTime == null) {
+			return false;
+		}
+
+		if (System.nanoTime() - lastWriteTime <= replicationLag.toNanos()) {
+			return true;
+		}
+
+		lastWrite.remove();
+
+		return false;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return isReplicaRouted() ? REPLICA : PRIMARY;
+	}
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.ReadReplica;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link RepositoryProxyPostProcessor} routing read-only repository methods invoked outside of a transaction to the
+ * read replica of a {@link ReadReplicaRoutingDataSource}. Methods are considered read-only if they are annotated with
+ * {@link ReadReplica @ReadReplica}, declare a read-only {@link Transactional @Transactional} definition or, for query
+ * methods, if their name starts with a reading prefix such as {@code find} or {@code count}. Modifying and locking
+ * methods always use the primary database.
+ * <p>
+ * Invocations within a transaction stay on the connection of that transaction, so that reads see the writes of the
+ * transaction. Reads following a write on the same thread use the primary database until the current replication lag
+ * has elapsed, and all reads use the primary database while the replication lag exceeds the configured maximum. Writes
+ * are recorded per thread in {@link ReadReplicaRoutingDataSource} and cleared once the replication lag has elapsed or
+ * by {@link ReadReplicaRoutingDataSource#clearWrites()}. Only modifying query methods, derived delete query methods
+ * and methods declaring a read-write {@link Transactional @Transactional} definition record a write, once they have
+ * completed successfully and their transaction has been committed. Other methods that are not read-only, such as
+ * {@link Object} methods or methods of custom fragments, use the primary database without recording a write.
+ *
+ * @since 4.2
+ */
+class ReadReplicaRoutingPostProcessor implements RepositoryProxyPostProcessor {
+
+	private final ReplicationLagMonitor replicationLagMonitor;
+	private final Duration maxReplicationLag;
+
+	/**
+	 * @param replicationLagMonitor must not be {@literal null}.
+	 * @param maxReplicationLag must not be {@literal null}.
+	 */
+	ReadReplicaRoutingPostProcessor(ReplicationLagMonitor replicationLagMonitor, Duration maxReplicationLag) {
+
+		Assert.notNull(replicationLagMonitor, "ReplicationLagMonitor must not be null");
+		Assert.notNull(maxReplicationLag, "Maximum replication lag must not be null");
+
+		this.replicationLagMonitor = replicationLagMonitor;
+		this.maxReplicationLag = maxReplicationLag;
+	}
+
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		// added before the transaction interceptor so that the routing decision precedes obtaining a connection
+		factory.addAdvice(new ReadReplicaRoutingInterceptor(repositoryInformation, replicationLagMonitor,
+				maxReplicationLag));
+	}
+
+	/**
+	 * {@link MethodInterceptor} routing read-only methods to the read replica.
+	 */
+	static class ReadReplicaRoutingInterceptor implements MethodInterceptor {
+
+		private static final Set<String> READ_PREFIXES = Set.of("find", "read", "get", "query", "search", "stream", "count",
+				"exists");
+
+		private static final Set<String> DELETE_PREFIXES = Set.of("delete", "remove");
+
+		private final RepositoryInformation repositoryInformation;
+		private final ReplicationLagMonitor replicationLagMonitor;
+		private final Duration maxReplicationLag;
+		private final ConcurrentMap<Method, Routing> routings = new ConcurrentHashMap<>();
+
+		ReadReplicaRoutingInterceptor(RepositoryInformation repositoryInformation,
+				ReplicationLagMonitor replicationLagMonitor, Duration maxReplicationLag) {
+
+			this.repositoryInformation = repositoryInformation;
+			this.replicationLagMonitor = replicationLagMonitor;
+			this.maxReplicationLag = maxReplicationLag;
+		}
+
+		@Override
+		public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Routing routing = routings.computeIfAbsent(invocation.getMethod(), this::getRouting);
+
+			if (routing != Routing.REPLICA) {
+				return proceedOnPrimary(invocation, routing == Routing.WRITE);
+			}
+
+			if (TransactionSynchronizationManager.isActualTransactionActive() || !isReplicaCurrent()) {
+				return invocation.proceed();
+			}
+
+			boolean previous = ReadReplicaRoutingDataSource.setReplicaRouted(true);
+
+			try {
+				return invocation.proceed();
+			} finally {
+				ReadReplicaRoutingDataSource.setReplicaRouted(previous);
+			}
+		}
+
+		/**
+		 * Run a method on the primary database. A successful write is recorded once it is committed so that subsequent
+		 * reads of the current thread can see it. Failed invocations and rolled back transactions are not recorded.
+		 */
+		private @Nullable Object proceedOnPrimary(MethodInvocation invocation, boolean write) throws Throwable {
+
+			boolean previous = ReadReplicaRoutingDataSource.setReplicaRouted(false);
+			Object result;
+
+			try {
+				result = invocation.proceed();
+			} finally {
+				ReadReplicaRoutingDataSource.setReplicaRouted(previous);
+			}
+
+			if (write) {
+				recordWriteOnCommit();
+			}
+
+			return result;
+		}
+
+		/**
+		 * Record a write after the surrounding transaction has been committed or immediately if there is none, e.g. as
+		 * the transaction of the repository method has already been committed.
+		 */
+		private static void recordWriteOnCommit() {
+
+			if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+				ReadReplicaRoutingDataSource.recordWrite();
+				return;
+			}
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+
+					if (status == STATUS_COMMITTED) {
+						ReadReplicaRoutingDataSource.recordWrite();
+					}
+				}
+			});
+		}
+
+		/**
+		 * Return whether the replica is expected to reflect previous writes of the current thread and is within the
+		 * maximum replication lag.
+		 */
+		private boolean isReplicaCurrent() {
+
+			Duration lag = replicationLagMonitor.getReplicationLag();
+
+			if (lag == null || lag.compareTo(maxReplicationLag) > 0) {
+				return false;
+			}
+
+			return !ReadReplicaRoutingDataSource.hasWrittenWithin(lag);
+		}
+
+		private Routing getRouting(Method method) {
+
+			if (isReadOnly(method)) {
+				return Routing.REPLICA;
+			}
+
+			return isWrite(method) ? Routing.WRITE : Routing.PRIMARY;
+		}
+
+		boolean isReadOnly(Method method) {
+
+			ReadReplica readReplica = AnnotatedElementUtils.findMergedAnnotation(method, ReadReplica.class);
+
+			if (readReplica == null) {
+				readReplica = AnnotatedElementUtils.findMergedAnnotation(repositoryInformation.getRepositoryInterface(),
+						ReadReplica.class);
+			}
+
+			if (readReplica != null) {
+				return readReplica.value();
+			}
+
+			if (AnnotatedElementUtils.hasAnnotation(method, Modifying.class)
+					|| AnnotatedElementUtils.hasAnnotation(method, Lock.class)) {
+				return false;
+			}
+
+			Method baseClassMethod = ClassUtils.getMostSpecificMethod(method, repositoryInformation.getRepositoryBaseClass());
+
+			Transactional transactional = getTransactional(method);
+
+			if (transactional == null && baseClassMethod != method) {
+				transactional = getTransactional(baseClassMethod);
+			}
+
+			if (transactional == null) {
+				transactional = AnnotatedElementUtils.findMergedAnnotation(repositoryInformation.getRepositoryInterface(),
+						Transactional.class);
+			}
+
+			if (transactional != null) {
+				return transactional.readOnly();
+			}
+
+			if (repositoryInformation.isQueryMethod(method)) {
+				return isReadingMethodName(method.getName());
+			}
+
+			transactional = AnnotatedElementUtils.findMergedAnnotation(repositoryInformation.getRepositoryBaseClass(),
+					Transactional.class);
+
+			return baseClassMethod != method && transactional != null && transactional.readOnly();
+		}
+
+		/**
+		 * Return whether the given method writes to the database: modifying query methods, derived delete query methods
+		 * and methods declaring a read-write {@link Transactional @Transactional} definition themselves or through their
+		 * base class implementation.
+		 */
+		boolean isWrite(Method method) {
+
+			if (AnnotatedElementUtils.hasAnnotation(method, Modifying.class)) {
+				return true;
+			}
+
+			Transactional transactional = getTransactional(method);
+
+			if (transactional == null) {
+
+				Method baseClassMethod = ClassUtils.getMostSpecificMethod(method,
+						repositoryInformation.getRepositoryBaseClass());
+
+				if (baseClassMethod != method) {
+					transactional = getTransactional(baseClassMethod);
+				}
+			}
+
+			if (transactional != null) {
+				return !transactional.readOnly();
+			}
+
+			return repositoryInformation.isQueryMethod(method) && hasPrefix(method.getName(), DELETE_PREFIXES);
+		}
+
+		private static @Nullable Transactional getTransactional(Method method) {
+			return AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+		}
+
+		private static boolean isReadingMethodName(String name) {
+			return hasPrefix(name, READ_PREFIXES);
+		}
+
+		private static boolean hasPrefix(String name, Set<String> prefixes) {
+
+			for (String prefix : prefixes) {
+				if (name.startsWith(prefix) && (name.length() == prefix.length()
+						|| !Character.isLowerCase(name.charAt(prefix.length())))) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * Routing of a repository method.
+	 */
+	enum Routing {
+
+		/**
+		 * Read-only method eligible for the read replica.
+		 */
+		REPLICA,
+
+		/**
+		 * Method using the primary database without writing to it.
+		 */
+		PRIMARY,
+
+		/**
+		 * Method writing to the primary database.
+		 */
+		WRITE
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Strategy to report the replication lag of the read replica used by
+ * {@link org.springframework.data.jpa.repository.config.EnableJpaRepositories#readReplicaRouting() read replica
+ * routing}, typically from a heartbeat table or a monitoring system. Implementations are called for each routed
+ * invocation and should therefore cache their measurement.
+ *
+ * @since 4.2
+ * @see ReadReplicaRoutingDataSource
+ */
+@FunctionalInterface
+public interface ReplicationLagMonitor {
+
+	/**
+	 * Return the current replication lag.
+	 *
+	 * @return the replication lag or {@literal null} if the replica is unavailable or the lag is unknown.
+	 */
+	@Nullable
+	Duration getReplicationLag();
+
+	/**
+	 * Create a {@link ReplicationLagMonitor} assuming a fixed replication lag, e.g. the lag observed under peak load.
+	 * Reads following a write of the same thread use the primary database until the assumed lag has elapsed.
+	 *
+	 * @param replicationLag the assumed replication lag, must not be {@literal null} or negative.
+	 * @return a {@link ReplicationLagMonitor} reporting the given replication lag.
+	 */
+	static ReplicationLagMonitor fixed(Duration replicationLag) {
+
+		Assert.notNull(replicationLag, "Replication lag must not be null");
+		Assert.isTrue(!replicationLag.isNegative(), "Replication lag must not be negative");
+
+		return () -> replicationLag;
+	}
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.ScrollPosition.Direction;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.util.BackgroundExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Flow.Publisher} emitting the results of a scroll query window by window. Windows are fetched on demand on an
+ * {@link Executor}: A window is only requested from the database once the subscriber has requested more elements than
+ * the previously fetched windows provided. Each window is obtained through a separate call to the window function so
+ * that a database connection is only held while a window is fetched and not while the subscriber processes elements.
+ * <p>
+ * The window function typically delegates to a scroll query method or a
+ * {@link org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery#scroll(ScrollPosition) fluent
+ * scroll query}. Keyset-based scrolling is recommended as it does not degrade with the number of windows fetched:
+ *
+ * <pre class="code">
+ * Flow.Publisher&lt;User&gt; users = ScrollPublisher.of(
+ * 		position -&gt; repository.findFirst100ByLastnameOrderByFirstname(lastname, position), ScrollPosition.keyset());
+ *
+ * Flow.Publisher&lt;User&gt; active = ScrollPublisher.of(position -&gt; repository.findBy(isActive(),
+ * 		q -&gt; q.sortBy(Sort.by("id")).limit(100).scroll(position)), ScrollPosition.keyset());
+ * </pre>
+ *
+ * Windows should not be fetched within a surrounding transaction as the connection would not be released between
+ * windows. Reactor can adapt the publisher using {@code JdkFlowAdapter.flowPublisherToFlux(…)}.
+ *
+ * @param <T> the element type.
+ * @since 4.2
+ */
+public final class ScrollPublisher<T> implements Flow.Publisher<T> {
+
+	private final Function<ScrollPosition, Window<T>> windowFunction;
+	private final ScrollPosition initialPosition;
+	private final Executor executor;
+
+	private ScrollPublisher(Function<ScrollPosition, Window<T>> windowFunction, ScrollPosition initialPosition,
+			Executor executor) {
+
+		this.windowFunction = windowFunction;
+		this.initialPosition = initialPosition;
+		this.executor = executor;
+	}
+
+	/**
+	 * Create a new {@link ScrollPublisher} for the given window function starting at {@code initialPosition}. Windows
+	 * are fetched on the {@link BackgroundExecutor#shared() shared background executor}.
+	 *
+	 * @param windowFunction function to fetch the window for a {@link ScrollPosition}, must not be {@literal null}.
+	 * @param initialPosition the initial position, must not be {@literal null}.
+	 * @return a new {@link ScrollPublisher}.
+	 */
+	public static <T> ScrollPublisher<T> of(Function<ScrollPosition, Window<T>> windowFunction,
+			ScrollPosition initialPosition) {
+
+		Assert.notNull(windowFunction, "Window function must not be null");
+		Assert.notNull(initialPosition, "Initial ScrollPosition must not be null");
+
+		return new ScrollPublisher<>(windowFunction, initialPosition, BackgroundExecutor.shared());
+	}
+
+	/**
+	 * Return a new {@link ScrollPublisher} fetching windows on the given {@link Executor}. Use a bounded executor to
+	 * limit the number of concurrently fetched windows.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return a new {@link ScrollPublisher}.
+	 */
+	public ScrollPublisher<T> executeOn(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		return new ScrollPublisher<>(windowFunction, initialPosition, executor);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+
+		Assert.notNull(subscriber, "Subscriber must not be null");
+
+		subscriber.onSubscribe(new ScrollSubscription<>(subscriber, windowFunction, initialPosition, executor));
+	}
+
+	/**
+	 * Subscription draining windows serially on the executor. Only one drain task is active at a time.
+	 */
+	private static class ScrollSubscription<T> implements Flow.Subscription, Runnable {
+
+		private final Flow.Subscriber<? super T> subscriber;
+		private final Function<ScrollPosition, Window<T>> windowFunction;
+		private final Executor executor;
+
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean cancelled;
+		private volatile @Nullable Throwable invalidRequest;
+
+		// accessed only from the drain loop
+		private ScrollPosition position;
+		private @Nullable Iterator<T> current;
+		private boolean lastWindow;
+
+		ScrollSubscription(Flow.Subscriber<? super T> subscriber, Function<ScrollPosition, Window<T>> windowFunction,
+				ScrollPosition position, Executor executor) {
+
+			this.subscriber = subscriber;
+			this.windowFunction = windowFunction;
+			this.position = position;
+			this.executor = executor;
+		}
+
+		@Override
+		public void request(long n) {
+
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException("Request must be positive (§3.9) but was %d".formatted(n));
+			} else {
+				demand.getAndUpdate(it -> it + n < 0 ? Long.MAX_VALUE : it + n);
+			}
+
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		private void schedule() {
+
+			if (wip.getAndIncrement() == 0) {
+				executor.execute(this);
+			}
+		}
+
+		@Override
+		public void run() {
+
+			int missed = 1;
+
+			do {
+
+				long requested = demand.get();
+				long emitted = 0;
+
+				while (!cancelled) {
+
+					Throwable error = invalidRequest;
+
+					if (error != null) {
+						terminate(error);
+						return;
+					}
+
+					Iterator<T> iterator = this.current;
+
+					if (iterator == null || !iterator.hasNext()) {
+
+						if (lastWindow) {
+							terminate(null);
+							return;
+						}
+
+						if (emitted == requested) {
+							break;
+						}
+
+						try {
+							fetchWindow();
+						} catch (RuntimeException e) {
+							terminate(e);
+							return;
+						}
+
+						continue;
+					}
+
+					if (emitted == requested) {
+						break;
+					}
+
+					subscriber.onNext(iterator.next());
+					emitted++;
+				}
+
+				if (cancelled) {
+					return;
+				}
+
+				if (emitted != 0 && requested != Long.MAX_VALUE) {
+					demand.addAndGet(-emitted);
+				}
+
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void fetchWindow() {
+
+			Window<T> window = windowFunction.apply(position);
+
+			this.current = window.iterator();
+			this.lastWindow = !window.hasNext() || window.isEmpty();
+
+			if (!window.isEmpty()) {
+				this.position = window.positionAt(
+						position instanceof KeysetScrollPosition keyset && keyset.getDirection() == Direction.BACKWARD ? 0 : window.size() - 1);
+			}
+		}
+
+		private void terminate(@Nullable Throwable error) {
+
+			cancelled = true;
+			current = null;
+
+			if (error != null) {
+				subscriber.onError(error);
+			} else {
+				subscriber.onComplete();
+			}
+		}
+	}
+
+}
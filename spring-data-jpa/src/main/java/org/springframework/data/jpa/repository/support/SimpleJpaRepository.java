@@ -20,16 +20,20 @@ import static org.springframework.data.jpa.repository.query.QueryUtils.*;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Type.PersistenceType;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -41,6 +45,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import org.jspecify.annotations.Nullable;
 
@@ -56,13 +62,17 @@ import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
 import org.springframework.data.jpa.domain.DeleteSpecification;
+import org.springframework.data.jpa.domain.PredicateSpecification;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.domain.UpdateSpecification;
 import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.ChunkedExecution;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaUpsertExecutor;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.data.jpa.repository.query.KeysetScrollDelegate;
 import org.springframework.data.jpa.repository.query.KeysetScrollSpecification;
+import org.springframework.data.jpa.repository.query.QueryResultCaches;
 import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.data.jpa.repository.support.FetchableFluentQueryBySpecification.SpecificationScrollDelegate;
 import org.springframework.data.jpa.repository.support.FluentQuerySupport.ScrollQueryFactory;
@@ -70,6 +80,7 @@ import org.springframework.data.jpa.repository.support.QueryHints.NoHints;
 import org.springframework.data.jpa.support.PageableUtils;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.SurroundingTransactionDetectorMethodInterceptor;
 import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.data.repository.query.ReturnedType;
@@ -77,9 +88,17 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.ProxyUtils;
 import org.springframework.data.util.Streamable;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Default implementation of the {@link org.springframework.data.repository.CrudRepository} interface. This will offer
@@ -108,7 +127,7 @@ import org.springframework.util.Assert;
  */
 @Repository
 @Transactional(readOnly = true)
-public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T, ID> {
+public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T, ID>, JpaUpsertExecutor<T> {
 
 	private static final String ID_MUST_NOT_BE_NULL = "The given id must not be null";
 	private static final String IDS_MUST_NOT_BE_NULL = "Ids must not be null";
@@ -118,16 +137,23 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 	private static final String SPECIFICATION_MUST_NOT_BE_NULL = "Specification must not be null";
 	private static final String QUERY_FUNCTION_MUST_NOT_BE_NULL = "Query function must not be null";
 
+	private static final String CHUNK_BOUNDARY_QUERY_STRING = "select x.%1$s from %2$s x%3$s order by x.%1$s";
+
 	private final JpaEntityInformation<T, ?> entityInformation;
 	private final EntityManager entityManager;
 	private final PersistenceProvider provider;
 
 	private final Lazy<String> deleteAllQueryString;
 	private final Lazy<String> countQueryString;
+	private final QueryByExamplePredicateBuilder.PlanCache examplePlans = new QueryByExamplePredicateBuilder.PlanCache();
 
 	private @Nullable CrudMethodMetadata metadata;
 	private ProjectionFactory projectionFactory;
 	private EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
+	private @Nullable JpqlSpecificationRenderer specificationRenderer;
+	private @Nullable IdLookupBatcher<T, ID> idLookupBatcher;
+	private @Nullable Supplier<PlatformTransactionManager> transactionManager;
+	private @Nullable QueryResultCaches queryResultCaches;
 
 	/**
 	 * Creates a new {@link SimpleJpaRepository} to manage objects of the given {@link JpaEntityInformation}.
@@ -183,6 +209,65 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		this.projectionFactory = projectionFactory;
 	}
 
+	@Override
+	public void setRenderSpecifications(boolean renderSpecifications) {
+		this.specificationRenderer = renderSpecifications ? new JpqlSpecificationRenderer(entityManager) : null;
+	}
+
+	/**
+	 * Configures batching of concurrent {@link #findById(Object)} invocations that do not participate in a surrounding
+	 * transaction and do not run with an {@link EntityManager} bound to the thread. Batched lookups are resolved with a
+	 * single query using a separate {@link EntityManager} and therefore return detached entities. Concurrent lookups of
+	 * the same identifier are resolved individually so that callers never share an entity instance. Entities with a
+	 * composite identifier are not batched.
+	 *
+	 * @param window time to collect lookups for a batch, must not be {@literal null}.
+	 * @param maxBatchSize maximum number of identifiers per batch.
+	 * @since 4.2
+	 */
+	@Override
+	public void setIdLookupBatching(Duration window, int maxBatchSize) {
+
+		if (entityInformation.hasCompositeId()) {
+			return;
+		}
+
+		String queryString = String.format("select x from %s x where x.%s in :ids", entityInformation.getEntityName(),
+				entityInformation.getRequiredIdAttribute().getName());
+
+		this.idLookupBatcher = new IdLookupBatcher<>(getDomainClass(), ids -> findAllDetached(queryString, ids),
+				this::findDetached, entityInformation::getId, window, maxBatchSize);
+	}
+
+	/**
+	 * Configures the {@link PlatformTransactionManager} to run each chunk of a {@link ChunkedExecution} in its own
+	 * transaction.
+	 *
+	 * @param transactionManager supplier of the transaction manager, must not be {@literal null}.
+	 * @since 4.2
+	 */
+	@Override
+	public void setTransactionManager(Supplier<PlatformTransactionManager> transactionManager) {
+
+		Assert.notNull(transactionManager, "PlatformTransactionManager supplier must not be null");
+
+		this.transactionManager = transactionManager;
+	}
+
+	/**
+	 * Configures the {@link QueryResultCaches} to invalidate after bulk operations.
+	 *
+	 * @param queryResultCaches must not be {@literal null}.
+	 * @since 4.2
+	 */
+	@Override
+	public void setQueryResultCaches(QueryResultCaches queryResultCaches) {
+
+		Assert.notNull(queryResultCaches, "QueryResultCaches must not be null");
+
+		this.queryResultCaches = queryResultCaches;
+	}
+
 	protected @Nullable CrudMethodMetadata getRepositoryMethodMetadata() {
 		return metadata;
 	}
@@ -276,6 +361,7 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			applyQueryHints(query);
 
 			query.executeUpdate();
+			invalidateQueryResultCaches();
 		}
 	}
 
@@ -302,6 +388,7 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 		applyAndBind(getQueryString(DELETE_ALL_QUERY_STRING, entityInformation.getEntityName()), entities, entityManager)
 				.executeUpdate();
+		invalidateQueryResultCaches();
 	}
 
 	@Override
@@ -322,6 +409,7 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		applyQueryHints(query);
 
 		query.executeUpdate();
+		invalidateQueryResultCaches();
 	}
 
 	@Override
@@ -330,6 +418,11 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
 
 		Class<T> domainType = getDomainClass();
+		IdLookupBatcher<T, ID> idLookupBatcher = this.idLookupBatcher;
+
+		if (idLookupBatcher != null && isIdLookupBatchable()) {
+			return idLookupBatcher.find(id);
+		}
 
 		if (metadata == null) {
 			return Optional.ofNullable(entityManager.find(domainType, id));
@@ -475,6 +568,15 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		Specification<T> specToUse = spec == null ? Specification.unrestricted() : spec;
 		Specification<T> countSpecToUse = countSpec == null ? Specification.unrestricted() : countSpec;
 
+		if (pageable.isPaged() && specToUse == countSpecToUse && metadata != null && metadata.isWindowFunctionCount()) {
+
+			Page<T> page = readWindowFunctionCountPage(specToUse, getDomainClass(), pageable);
+
+			if (page != null) {
+				return page;
+			}
+		}
+
 		TypedQuery<T> query = getQuery(specToUse, pageable);
 		return pageable.isUnpaged() ? new PageImpl<>(query.getResultList())
 				: readPage(query, getDomainClass(), pageable, countSpecToUse);
@@ -506,7 +608,10 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 		Assert.notNull(spec, "Specification must not be null");
 
-		return getUpdate(spec, getDomainClass()).executeUpdate();
+		long affected = getUpdate(spec, getDomainClass()).executeUpdate();
+		invalidateQueryResultCaches();
+
+		return affected;
 	}
 
 	@Override
@@ -515,7 +620,28 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 		Assert.notNull(spec, "Specification must not be null");
 
-		return getDelete(spec, getDomainClass()).executeUpdate();
+		long affected = getDelete(spec, getDomainClass()).executeUpdate();
+		invalidateQueryResultCaches();
+
+		return affected;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public long update(UpdateSpecification<T> spec, ChunkedExecution execution) {
+
+		Assert.notNull(spec, "Specification must not be null");
+
+		return executeInChunks(execution, range -> getUpdate(spec.and(range), getDomainClass()).executeUpdate());
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public long delete(DeleteSpecification<T> spec, ChunkedExecution execution) {
+
+		Assert.notNull(spec, "Specification must not be null");
+
+		return executeInChunks(execution, range -> getDelete(spec.and(range), getDomainClass()).executeUpdate());
 	}
 
 	@Override
@@ -541,7 +667,8 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			Sort sort = q.sort;
 
 			if (scrollPosition instanceof KeysetScrollPosition keyset) {
-				KeysetScrollSpecification<T> keysetSpec = new KeysetScrollSpecification<>(keyset, sort, entityInformation);
+				KeysetScrollSpecification<T> keysetSpec = new KeysetScrollSpecification<>(keyset, sort,
+						entityInformation, provider);
 				sort = keysetSpec.sort();
 				specToUse = specToUse.and(keysetSpec);
 			}
@@ -578,22 +705,21 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 	@Override
 	public <S extends T> Optional<S> findOne(Example<S> example) {
 
-		TypedQuery<S> query = getQuery(new ExampleSpecification<>(example, escapeCharacter), example.getProbeType(),
-				Sort.unsorted()).setMaxResults(2);
+		TypedQuery<S> query = getQuery(exampleSpecification(example), example.getProbeType(), Sort.unsorted())
+				.setMaxResults(2);
 
 		return Optional.ofNullable(query.getSingleResultOrNull());
 	}
 
 	@Override
 	public <S extends T> long count(Example<S> example) {
-		return executeCountQuery(
-				getCountQuery(new ExampleSpecification<>(example, escapeCharacter), example.getProbeType()));
+		return executeCountQuery(getCountQuery(exampleSpecification(example), example.getProbeType()));
 	}
 
 	@Override
 	public <S extends T> boolean exists(Example<S> example) {
 
-		Specification<S> spec = new ExampleSpecification<>(example, this.escapeCharacter);
+		Specification<S> spec = exampleSpecification(example);
 		CriteriaQuery<Integer> cq = this.entityManager.getCriteriaBuilder() //
 				.createQuery(Integer.class) //
 				.select(this.entityManager.getCriteriaBuilder().literal(1));
@@ -606,21 +732,20 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 	@Override
 	public <S extends T> List<S> findAll(Example<S> example) {
-		return getQuery(new ExampleSpecification<>(example, escapeCharacter), example.getProbeType(), Sort.unsorted())
-				.getResultList();
+		return getQuery(exampleSpecification(example), example.getProbeType(), Sort.unsorted()).getResultList();
 	}
 
 	@Override
 	public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
-		return getQuery(new ExampleSpecification<>(example, escapeCharacter), example.getProbeType(), sort).getResultList();
+		return getQuery(exampleSpecification(example), example.getProbeType(), sort).getResultList();
 	}
 
 	@Override
 	public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
 
-		ExampleSpecification<S> spec = new ExampleSpecification<>(example, escapeCharacter);
+		ExampleSpecification<S> spec = exampleSpecification(example);
 		Class<S> probeType = example.getProbeType();
-		TypedQuery<S> query = getQuery(new ExampleSpecification<>(example, escapeCharacter), probeType, pageable);
+		TypedQuery<S> query = getQuery(exampleSpecification(example), probeType, pageable);
 
 		return pageable.isUnpaged() ? new PageImpl<>(query.getResultList()) : readPage(query, probeType, pageable, spec);
 	}
@@ -633,7 +758,7 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		Assert.notNull(example, EXAMPLE_MUST_NOT_BE_NULL);
 		Assert.notNull(queryFunction, QUERY_FUNCTION_MUST_NOT_BE_NULL);
 
-		ExampleSpecification<S> spec = new ExampleSpecification<>(example, escapeCharacter);
+		ExampleSpecification<S> spec = exampleSpecification(example);
 		Class<S> probeType = example.getProbeType();
 
 		return doFindBy((Specification<T>) spec, (Class<T>) probeType, queryFunction);
@@ -703,12 +828,182 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		return result;
 	}
 
+	@Override
+	@Transactional
+	public <S extends T> List<S> upsertAll(Iterable<S> entities) {
+
+		Assert.notNull(entities, ENTITIES_MUST_NOT_BE_NULL);
+
+		List<S> result = new ArrayList<>();
+
+		for (S entity : entities) {
+
+			Assert.notNull(entity, ENTITY_MUST_NOT_BE_NULL);
+			result.add(entity);
+		}
+
+		if (result.isEmpty()) {
+			return result;
+		}
+
+		entityManager.flush();
+		provider.upsertAll(entityManager, getDomainClass(), result);
+		invalidateQueryResultCaches();
+
+		return result;
+	}
+
 	@Override
 	@Transactional
 	public void flush() {
 		entityManager.flush();
 	}
 
+	/**
+	 * Execute a bulk operation in keyset windows over the entity identifiers. Each window is determined by the
+	 * identifier of its last row and executed in a separate transaction if a transaction manager is configured.
+	 * Executions within a surrounding transaction are rejected in that case as chunks would wait for locks held by the
+	 * suspended surrounding transaction and obtain a second connection while it holds on to its own.
+	 *
+	 * @param execution the chunked execution settings.
+	 * @param chunk function executing the bulk operation restricted to the given identifier range.
+	 * @return the total number of affected rows.
+	 */
+	private long executeInChunks(ChunkedExecution execution, ToIntFunction<PredicateSpecification<T>> chunk) {
+
+		Assert.notNull(execution, "ChunkedExecution must not be null");
+
+		if (entityInformation.hasCompositeId()
+				|| entityInformation.getRequiredIdAttribute().getType().getPersistenceType() != PersistenceType.BASIC) {
+			throw new InvalidDataAccessApiUsageException("Chunked execution requires a single basic identifier attribute for "
+					+ entityInformation.getJavaType());
+		}
+
+		String idAttribute = entityInformation.getRequiredIdAttribute().getName();
+		TransactionOperations transactions = getChunkTransactions();
+
+		Object lowerBound = execution.getStartAfter();
+		long totalAffected = 0;
+		int chunkNumber = 0;
+
+		while (true) {
+
+			Object lower = lowerBound;
+			ChunkResult result = transactions.execute(status -> {
+
+				Object upper = findChunkUpperBound(idAttribute, lower, execution.getChunkSize());
+				int affected = chunk.applyAsInt(idRange(idAttribute, lower, upper));
+				invalidateQueryResultCaches();
+
+				return new ChunkResult(upper, affected);
+			});
+
+			Assert.state(result != null, "Chunk result must not be null");
+
+			totalAffected += result.affected();
+			execution.getProgressListener().accept(new ChunkedExecution.Progress(++chunkNumber, lower,
+					result.upperBound(), result.affected(), totalAffected));
+
+			if (result.upperBound() == null) {
+				return totalAffected;
+			}
+
+			lowerBound = result.upperBound();
+			throttle(execution.getThrottle());
+		}
+	}
+
+	/**
+	 * Invalidate cached query results depending on the domain type after a bulk operation that bypasses entity lifecycle
+	 * callbacks.
+	 */
+	private void invalidateQueryResultCaches() {
+
+		QueryResultCaches queryResultCaches = this.queryResultCaches;
+
+		if (queryResultCaches != null) {
+			queryResultCaches.invalidate(getDomainClass());
+		}
+	}
+
+	private TransactionOperations getChunkTransactions() {
+
+		Supplier<PlatformTransactionManager> transactionManager = this.transactionManager;
+
+		if (transactionManager == null) {
+			return TransactionOperations.withoutTransaction();
+		}
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new InvalidDataAccessApiUsageException("Chunked execution runs each chunk in a transaction of its own"
+					+ " and must not be invoked within a transaction");
+		}
+
+		TransactionTemplate template = new TransactionTemplate(transactionManager.get());
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		template.setName(ClassUtils.getShortName(getClass()) + ".chunk");
+
+		return template;
+	}
+
+	/**
+	 * Look up the identifier of the last row of the window following {@code lowerBound}.
+	 *
+	 * @return the identifier or {@literal null} if the window is not full.
+	 */
+	private @Nullable Object findChunkUpperBound(String idAttribute, @Nullable Object lowerBound, int chunkSize) {
+
+		String entityName = entityInformation.getEntityName();
+		Query query;
+
+		if (lowerBound == null) {
+			query = entityManager.createQuery(CHUNK_BOUNDARY_QUERY_STRING.formatted(idAttribute, entityName, ""));
+		} else {
+			query = entityManager.createQuery(CHUNK_BOUNDARY_QUERY_STRING.formatted(idAttribute, entityName,
+					" where x.%s > :lower".formatted(idAttribute))).setParameter("lower", lowerBound);
+		}
+
+		List<?> result = query.setFirstResult(chunkSize - 1).setMaxResults(1).getResultList();
+
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private PredicateSpecification<T> idRange(String idAttribute, @Nullable Object lowerBound,
+			@Nullable Object upperBound) {
+
+		return (from, builder) -> {
+
+			Path<Comparable> id = from.get(idAttribute);
+			List<Predicate> predicates = new ArrayList<>(2);
+
+			if (lowerBound != null) {
+				predicates.add(builder.greaterThan(id, (Comparable) lowerBound));
+			}
+
+			if (upperBound != null) {
+				predicates.add(builder.lessThanOrEqualTo(id, (Comparable) upperBound));
+			}
+
+			return builder.and(predicates.toArray(Predicate[]::new));
+		};
+	}
+
+	private static void throttle(Duration throttle) {
+
+		if (throttle.isZero()) {
+			return;
+		}
+
+		try {
+			Thread.sleep(throttle.toMillis());
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while throttling chunked execution", e);
+		}
+	}
+
 	/**
 	 * Reads the given {@link TypedQuery} into a {@link Page} applying the given {@link Pageable} and
 	 * {@link Specification}.
@@ -746,6 +1041,58 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 				() -> executeCountQuery(getCountQuery(spec, domainClass)));
 	}
 
+	/**
+	 * Reads a {@link Page} for the given {@link Specification} using a single query that selects the total number of
+	 * matching rows through a {@code count(*) over ()} window function along with the page content.
+	 *
+	 * @param spec must not be {@literal null}.
+	 * @param domainClass must not be {@literal null}.
+	 * @param pageable must be paged.
+	 * @return the page or {@literal null} if the query cannot be expressed using a window function so that the caller
+	 *         must fall back to a separate count query.
+	 */
+	private <S extends T> @Nullable Page<S> readWindowFunctionCountPage(Specification<S> spec, Class<S> domainClass,
+			Pageable pageable) {
+
+		if (metadata == null || metadata.getLockModeType() != null || metadata.getEntityGraph() != null) {
+			return null;
+		}
+
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = builder.createTupleQuery();
+		Root<S> root = applySpecificationToCriteria(spec, domainClass, query);
+		Expression<Long> total = provider.createWindowFunctionCount(builder, root);
+
+		if (total == null || query.isDistinct() || !query.getGroupList().isEmpty()) {
+			return null;
+		}
+
+		query.multiselect(root, total);
+
+		if (pageable.getSort().isSorted()) {
+			query.orderBy(toOrders(pageable.getSort(), root, builder));
+		}
+
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+
+		getQueryHints().forEach(typedQuery::setHint);
+		applyComment(metadata, typedQuery::setHint);
+
+		typedQuery.setFirstResult(PageableUtils.getOffsetAsInteger(pageable));
+		typedQuery.setMaxResults(pageable.getPageSize());
+
+		List<Tuple> rows = typedQuery.getResultList();
+		List<S> content = new ArrayList<>(rows.size());
+
+		for (Tuple row : rows) {
+			content.add(row.get(0, domainClass));
+		}
+
+		return PageableExecutionUtils.getPage(content, pageable, () -> rows.isEmpty() //
+				? executeCountQuery(getCountQuery(spec, domainClass)) //
+				: ((Number) rows.get(0).get(1)).longValue());
+	}
+
 	/**
 	 * Creates a new {@link TypedQuery} from the given {@link Specification}.
 	 *
@@ -804,6 +1151,15 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 		Assert.notNull(spec, "Specification must not be null");
 
+		if (specificationRenderer != null && !returnedType.needsCustomConstruction()) {
+
+			TypedQuery<S> rendered = specificationRenderer.createQuery(spec, domainClass, sort);
+
+			if (rendered != null) {
+				return applyRepositoryMethodMetadata(rendered);
+			}
+		}
+
 		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
 		CriteriaQuery<S> query;
 
@@ -927,6 +1283,15 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 		Assert.notNull(spec, "Specification must not be null");
 
+		if (specificationRenderer != null) {
+
+			TypedQuery<Long> rendered = specificationRenderer.createCountQuery(spec, domainClass);
+
+			if (rendered != null) {
+				return applyRepositoryMethodMetadataForCount(rendered);
+			}
+		}
+
 		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
 		CriteriaQuery<Long> query = builder.createQuery(Long.class);
 
@@ -1059,6 +1424,48 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		applyComment(metadata, query::setHint);
 	}
 
+	/**
+	 * Lookups are batchable if they run outside of a surrounding transaction or an {@link EntityManager} bound to the
+	 * thread that would expect the entity to be attached to its persistence context and do not require a lock or hints
+	 * that cannot be shared with other lookups.
+	 *
+	 * @see IdLookupBatchingMethodInterceptor
+	 */
+	boolean isIdLookupBatchable() {
+
+		if (idLookupBatcher == null
+				|| SurroundingTransactionDetectorMethodInterceptor.INSTANCE.isSurroundingTransactionActive()
+				|| TransactionSynchronizationManager.hasResource(entityManager.getEntityManagerFactory())) {
+			return false;
+		}
+
+		return metadata == null || (metadata.getLockModeType() == null && getHints().isEmpty());
+	}
+
+	private List<T> findAllDetached(String queryString, Collection<ID> ids) {
+		return doWithSeparateEntityManager(
+				em -> em.createQuery(queryString, getDomainClass()).setParameter("ids", ids).getResultList());
+	}
+
+	private @Nullable T findDetached(ID id) {
+		return doWithSeparateEntityManager(em -> em.find(getDomainClass(), id));
+	}
+
+	private <R extends @Nullable Object> R doWithSeparateEntityManager(Function<EntityManager, R> callback) {
+
+		EntityManager em = entityManager.getEntityManagerFactory().createEntityManager();
+
+		try {
+			return callback.apply(em);
+		} catch (RuntimeException ex) {
+
+			RuntimeException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(ex);
+			throw translated != null ? translated : ex;
+		} finally {
+			em.close();
+		}
+	}
+
 	private Map<String, Object> getHints() {
 
 		Map<String, Object> hints = new HashMap<>();
@@ -1107,6 +1514,10 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		return total;
 	}
 
+	private <S extends T> ExampleSpecification<S> exampleSpecification(Example<S> example) {
+		return new ExampleSpecification<>(example, escapeCharacter, examplePlans);
+	}
+
 	/**
 	 * {@link Specification} that gives access to the {@link Predicate} instance representing the values contained in the
 	 * {@link Example}.
@@ -1115,14 +1526,15 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 	 * @author Christoph Strobl
 	 * @since 1.10
 	 */
-	private record ExampleSpecification<T>(Example<T> example,
-			EscapeCharacter escapeCharacter) implements Specification<T> {
+	private record ExampleSpecification<T>(Example<T> example, EscapeCharacter escapeCharacter,
+			QueryByExamplePredicateBuilder.PlanCache plans) implements Specification<T> {
 
 		/**
 		 * Creates new {@link ExampleSpecification}.
 		 *
 		 * @param example the example to base the specification of. Must not be {@literal null}.
 		 * @param escapeCharacter the escape character to use for like expressions. Must not be {@literal null}.
+		 * @param plans the cache of compiled example plans of the repository. Must not be {@literal null}.
 		 */
 		private ExampleSpecification {
 
@@ -1133,7 +1545,17 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 		@Override
 		public @Nullable Predicate toPredicate(Root<T> root, @Nullable CriteriaQuery<?> query, CriteriaBuilder cb) {
-			return QueryByExamplePredicateBuilder.getPredicate(root, cb, example, escapeCharacter);
+			return QueryByExamplePredicateBuilder.getPredicate(root, cb, example, escapeCharacter, plans);
 		}
 	}
+
+	/**
+	 * Result of a single chunk of a {@link ChunkedExecution}.
+	 *
+	 * @param upperBound the inclusive identifier upper bound of the chunk, {@literal null} for the last chunk.
+	 * @param affected the number of affected rows.
+	 */
+	private record ChunkResult(@Nullable Object upperBound, int affected) {
+
+	}
 }
@@ -20,6 +20,7 @@ import jakarta.persistence.Query;
 import jakarta.persistence.Tuple;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import com.querydsl.core.QueryModifiers;
@@ -33,32 +34,56 @@ import org.jspecify.annotations.Nullable;
 
 /**
  * Customized String-Query implementation that specifically routes tuple query creation to
- * {@code EntityManager#createQuery(queryString, Tuple.class)}.
+ * {@code EntityManager#createQuery(queryString, Tuple.class)}. Can reuse serialized queries through a
+ * {@link QuerydslQueryCache}.
  *
  * @author Mark Paluch
  * @since 3.5
  */
 class SpringDataJpaQuery<T> extends JPAQuery<T> {
 
+	private final @Nullable QuerydslQueryCache queryCache;
+
 	public SpringDataJpaQuery(EntityManager em) {
 		super(em);
+		this.queryCache = null;
 	}
 
 	public SpringDataJpaQuery(EntityManager em, JPQLTemplates templates) {
+		this(em, templates, null);
+	}
+
+	SpringDataJpaQuery(EntityManager em, JPQLTemplates templates, @Nullable QuerydslQueryCache queryCache) {
 		super(em, templates);
+		this.queryCache = queryCache;
 	}
 
 	protected Query createQuery(@Nullable QueryModifiers modifiers, boolean forCount) {
 
-		JPQLSerializer serializer = serialize(forCount);
-		String queryString = serializer.toString();
+		QuerydslQueryCache.SerializedQuery serialized = queryCache != null
+				? queryCache.getSerializedQuery(getMetadata(), forCount, () -> serialize(forCount))
+				: null;
+
+		String queryString;
+		List<Object> constants;
+
+		if (serialized != null) {
+			queryString = serialized.queryString();
+			constants = serialized.constants();
+		} else {
+
+			JPQLSerializer serializer = serialize(forCount);
+			queryString = serializer.toString();
+			constants = serializer.getConstants();
+		}
+
 		logQuery(queryString);
 
 		Query query = getMetadata().getProjection() instanceof JakartaTuple
 				? entityManager.createQuery(queryString, Tuple.class)
 				: entityManager.createQuery(queryString);
 
-		JPAUtil.setConstants(query, serializer.getConstants(), getMetadata().getParams());
+		JPAUtil.setConstants(query, constants, getMetadata().getParams());
 		if (modifiers != null && modifiers.isRestricting()) {
 			Integer limit = modifiers.getLimitAsInteger();
 			Integer offset = modifiers.getOffsetAsInteger();
@@ -67,6 +67,7 @@ public class ClasspathScanningPersistenceUnitPostProcessor
 	private Environment environment = new StandardEnvironment();
 	private ResourceLoader resourceLoader = new DefaultResourceLoader();
 	private @Nullable String mappingFileNamePattern;
+	private boolean indexEnabled = true;
 
 	/**
 	 * Creates a new {@link ClasspathScanningPersistenceUnitPostProcessor} using the given base package as scan base.
@@ -93,6 +94,18 @@ public class ClasspathScanningPersistenceUnitPostProcessor
 		this.mappingFileNamePattern = mappingFilePattern;
 	}
 
+	/**
+	 * Configures whether to read managed classes and mapping files from a {@link PersistenceUnitIndex} generated at
+	 * build time instead of scanning the classpath. The classpath is scanned if no index is present or if the index
+	 * references classes or mapping files that do not exist anymore. Enabled by default.
+	 *
+	 * @param indexEnabled whether to use a {@link PersistenceUnitIndex} if present.
+	 * @since 4.2
+	 */
+	public void setIndexEnabled(boolean indexEnabled) {
+		this.indexEnabled = indexEnabled;
+	}
+
 	@Override
 	public void setResourceLoader(ResourceLoader resourceLoader) {
 
@@ -113,6 +126,60 @@ public class ClasspathScanningPersistenceUnitPostProcessor
 	@Override
 	public void postProcessPersistenceUnitInfo(MutablePersistenceUnitInfo pui) {
 
+		PersistenceUnitIndex index = indexEnabled ? loadIndex() : null;
+
+		if (index != null && index.containsManagedClasses(basePackage)) {
+
+			for (String className : index.getManagedClassNames(basePackage)) {
+
+				LOG.debug(String.format("Registering indexed entity %s in persistence unit info", className));
+
+				pui.addManagedClassName(className);
+			}
+		} else {
+			scanForManagedClasses(pui);
+		}
+
+		Set<String> mappingFileLocations = index != null && StringUtils.hasText(mappingFileNamePattern)
+				&& index.containsMappingFiles(basePackage, mappingFileNamePattern)
+						? index.getMappingFileNames(basePackage, mappingFileNamePattern)
+						: scanForMappingFileLocations();
+
+		for (String location : mappingFileLocations) {
+
+			LOG.debug(String.format("Registering entity mapping file %s in persistence unit info", location));
+
+			pui.addMappingFileName(location);
+		}
+	}
+
+	/**
+	 * Loads the {@link PersistenceUnitIndex} if present and current.
+	 *
+	 * @return the index or {@literal null} if the classpath needs to be scanned.
+	 */
+	private @Nullable PersistenceUnitIndex loadIndex() {
+
+		ClassLoader classLoader = resourceLoader.getClassLoader();
+
+		if (classLoader == null) {
+			return null;
+		}
+
+		PersistenceUnitIndex index = PersistenceUnitIndex.load(classLoader);
+
+		if (index != null && !index.isCurrent(basePackage, classLoader)) {
+
+			LOG.warn(String.format("Persistence unit index at %s is stale; Scanning base package %s instead",
+					PersistenceUnitIndex.INDEX_LOCATION, basePackage));
+			return null;
+		}
+
+		return index;
+	}
+
+	private void scanForManagedClasses(MutablePersistenceUnitInfo pui) {
+
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
 
 		provider.setEnvironment(environment);
@@ -128,13 +195,6 @@ public class ClasspathScanningPersistenceUnitPostProcessor
 				pui.addManagedClassName(definition.getBeanClassName());
 			}
 		}
-
-		for (String location : scanForMappingFileLocations()) {
-
-			LOG.debug(String.format("Registering classpath-scanned entity mapping file %s in persistence unit info", location));
-
-			pui.addMappingFileName(location);
-		}
 	}
 
 	/**
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.orm.jpa.persistenceunit.MutablePersistenceUnitInfo;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Index of managed classes and JPA mapping files that is generated at build time and read by
+ * {@link ClasspathScanningPersistenceUnitPostProcessor} instead of scanning the classpath on startup.
+ * <p>
+ * The index is stored as properties file at {@value #INDEX_LOCATION} mapping the indexed base packages to
+ * {@code base-package}, fully qualified class names to {@code managed-class} and mapping file paths to
+ * {@code mapping-file}. Index files contained in multiple classpath entries are merged. Base packages that are not
+ * covered by the index are scanned as usual. Generate the index as part of the build by running {@link #main(String[])} with the classes
+ * output directory followed by the base packages to index, for example through the {@code exec-maven-plugin}:
+ *
+ * <pre class="code">
+ * java org.springframework.data.jpa.support.PersistenceUnitIndex target/classes com.acme.domain --mapping-files=*-orm.xml
+ * </pre>
+ * <p>
+ * An index within a classpath directory is considered stale if class files below an indexed base package are newer
+ * than the index. Generate the index after any step that rewrites class files, such as bytecode enhancement.
+ *
+ * @since 4.2
+ * @see ClasspathScanningPersistenceUnitPostProcessor#setIndexEnabled(boolean)
+ */
+public class PersistenceUnitIndex {
+
+	/**
+	 * Classpath location of the index.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-data-jpa/persistence-unit.index";
+
+	static final String BASE_PACKAGE = "base-package";
+	static final String MAPPING_FILE_PATTERN = "mapping-file-pattern";
+	static final String MANAGED_CLASS = "managed-class";
+	static final String MAPPING_FILE = "mapping-file";
+
+	private static final String MAPPING_FILES_OPTION = "--mapping-files=";
+
+	private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	private final Set<String> basePackages;
+	private final Set<String> mappingFilePatterns;
+	private final Set<String> managedClassNames;
+	private final Set<String> mappingFileNames;
+
+	private PersistenceUnitIndex(Set<String> basePackages, Set<String> mappingFilePatterns,
+			Set<String> managedClassNames, Set<String> mappingFileNames) {
+
+		this.basePackages = basePackages;
+		this.mappingFilePatterns = mappingFilePatterns;
+		this.managedClassNames = managedClassNames;
+		this.mappingFileNames = mappingFileNames;
+	}
+
+	/**
+	 * Load and merge all indexes available through the given {@link ClassLoader}.
+	 *
+	 * @param classLoader the class loader to look up index files, can be {@literal null} to use the default class
+	 *          loader.
+	 * @return the merged index or {@literal null} if no index is available.
+	 * @throws IllegalStateException if an index cannot be read.
+	 */
+	public static @Nullable PersistenceUnitIndex load(@Nullable ClassLoader classLoader) {
+
+		ClassLoader classLoaderToUse = classLoader != null ? classLoader
+				: PersistenceUnitIndex.class.getClassLoader();
+
+		Set<String> basePackages = new LinkedHashSet<>();
+		Set<String> mappingFilePatterns = new LinkedHashSet<>();
+		Set<String> managedClassNames = new LinkedHashSet<>();
+		Set<String> mappingFileNames = new LinkedHashSet<>();
+		boolean found = false;
+
+		try {
+
+			Enumeration<URL> urls = classLoaderToUse.getResources(INDEX_LOCATION);
+
+			while (urls.hasMoreElements()) {
+
+				URL url = urls.nextElement();
+				Properties properties = new Properties();
+
+				try (InputStream is = url.openStream()) {
+					properties.load(is);
+				}
+
+				for (String name : properties.stringPropertyNames()) {
+
+					switch (properties.getProperty(name)) {
+						case BASE_PACKAGE -> basePackages.add(name);
+						case MAPPING_FILE_PATTERN -> mappingFilePatterns.add(name);
+						case MANAGED_CLASS -> managedClassNames.add(name);
+						case MAPPING_FILE -> mappingFileNames.add(name);
+						default -> {}
+					}
+				}
+
+				found = true;
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot load persistence unit index from " + INDEX_LOCATION, e);
+		}
+
+		return found ? new PersistenceUnitIndex(basePackages, mappingFilePatterns, managedClassNames, mappingFileNames)
+				: null;
+	}
+
+	/**
+	 * Return whether the index contains the managed classes of the given base package, i.e. whether the package itself
+	 * or one of its parent packages was indexed.
+	 *
+	 * @param basePackage must not be {@literal null} or empty.
+	 * @return {@literal true} if the index covers the given base package.
+	 */
+	public boolean containsManagedClasses(String basePackage) {
+
+		Assert.hasText(basePackage, "Base package must not be null or empty");
+
+		for (String indexed : basePackages) {
+			if (basePackage.equals(indexed) || basePackage.startsWith(indexed + ".")) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Return whether the index contains the mapping files for the given base package and file name pattern.
+	 *
+	 * @param basePackage must not be {@literal null} or empty.
+	 * @param mappingFileNamePattern must not be {@literal null} or empty.
+	 * @return {@literal true} if the mapping files were indexed for the same base package and file name pattern.
+	 */
+	public boolean containsMappingFiles(String basePackage, String mappingFileNamePattern) {
+		return mappingFilePatterns.contains(getMappingFileLocationPattern(basePackage, mappingFileNamePattern));
+	}
+
+	/**
+	 * Return the names of indexed managed classes that are located in the given base package or its sub-packages.
+	 *
+	 * @param basePackage must not be {@literal null} or empty.
+	 * @return the managed class names.
+	 */
+	public Set<String> getManagedClassNames(String basePackage) {
+
+		Assert.hasText(basePackage, "Base package must not be null or empty");
+
+		String prefix = basePackage + ".";
+		Set<String> result = new LinkedHashSet<>();
+
+		for (String className : managedClassNames) {
+			if (className.startsWith(prefix)) {
+				result.add(className);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Return the paths of indexed mapping files that match the given file name pattern relative to the given base
+	 * package.
+	 *
+	 * @param basePackage must not be {@literal null} or empty.
+	 * @param mappingFileNamePattern must not be {@literal null} or empty.
+	 * @return the mapping file paths.
+	 */
+	public Set<String> getMappingFileNames(String basePackage, String mappingFileNamePattern) {
+
+		Assert.hasText(basePackage, "Base package must not be null or empty");
+		Assert.hasText(mappingFileNamePattern, "Mapping file pattern must not be null or empty");
+
+		String pattern = getMappingFileLocationPattern(basePackage, mappingFileNamePattern);
+		Set<String> result = new LinkedHashSet<>();
+
+		for (String mappingFileName : mappingFileNames) {
+			if (PATH_MATCHER.match(pattern, mappingFileName)) {
+				result.add(mappingFileName);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Return whether all indexed classes and mapping files below the given base package are present on the classpath
+	 * and whether no classes were compiled into the indexed classpath directories after the index was written. A stale
+	 * index referencing removed or renamed types or missing newly added types is not considered complete.
+	 *
+	 * @param basePackage must not be {@literal null} or empty.
+	 * @param classLoader the class loader to check resources against.
+	 * @return {@literal true} if all entries resolve and no newer classes are present.
+	 */
+	boolean isCurrent(String basePackage, ClassLoader classLoader) {
+
+		for (String className : getManagedClassNames(basePackage)) {
+			if (classLoader.getResource(className.replace('.', '/') + ".class") == null) {
+				return false;
+			}
+		}
+
+		String basePackagePath = basePackage.replace('.', '/') + '/';
+
+		for (String mappingFileName : mappingFileNames) {
+			if (mappingFileName.startsWith(basePackagePath) && classLoader.getResource(mappingFileName) == null) {
+				return false;
+			}
+		}
+
+		return !hasClassesNewerThanIndex(basePackage, classLoader);
+	}
+
+	/**
+	 * Return whether a classpath directory that contains an index also contains class files below the given base package
+	 * that were written after the index, for example entities added and compiled without regenerating the index. Class
+	 * files inside of archives are not checked as archives are expected to be packaged along with their index.
+	 */
+	private static boolean hasClassesNewerThanIndex(String basePackage, ClassLoader classLoader) {
+
+		try {
+
+			Enumeration<URL> urls = classLoader.getResources(basePackage.replace('.', '/'));
+
+			while (urls.hasMoreElements()) {
+
+				URL url = urls.nextElement();
+
+				if (!ResourceUtils.URL_PROTOCOL_FILE.equals(url.getProtocol())) {
+					continue;
+				}
+
+				Path packageDirectory = Paths.get(url.toURI());
+				Path root = packageDirectory;
+				int segments = StringUtils.countOccurrencesOf(basePackage, ".") + 1;
+
+				for (int i = 0; i < segments && root != null; i++) {
+					root = root.getParent();
+				}
+
+				Path index = root != null ? root.resolve(INDEX_LOCATION) : null;
+
+				if (index == null || !Files.isRegularFile(index)) {
+					continue;
+				}
+
+				FileTime indexed = Files.getLastModifiedTime(index);
+
+				try (Stream<Path> files = Files.walk(packageDirectory)) {
+					if (files.anyMatch(it -> it.getFileName().toString().endsWith(".class") && isNewer(it, indexed))) {
+						return true;
+					}
+				}
+			}
+		} catch (IOException | URISyntaxException | UncheckedIOException e) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static boolean isNewer(Path file, FileTime time) {
+
+		try {
+			return Files.getLastModifiedTime(file).compareTo(time) > 0;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Write an index for the given base packages, managed classes and mapping files. Entries are written in
+	 * {@link Properties} format sorted by key and without a timestamp so that the index is reproducible.
+	 *
+	 * @param writer the target to write to.
+	 * @param basePackages the base packages that were scanned.
+	 * @param mappingFileNamePattern the mapping file name pattern used for scanning, can be {@literal null} if mapping
+	 *          files were not scanned.
+	 * @param managedClassNames the managed class names to index.
+	 * @param mappingFileNames the mapping files to index.
+	 * @throws IOException in case of I/O errors.
+	 */
+	public static void write(Writer writer, Collection<String> basePackages, @Nullable String mappingFileNamePattern,
+			Collection<String> managedClassNames, Collection<String> mappingFileNames) throws IOException {
+
+		Map<String, String> entries = new TreeMap<>();
+
+		for (String basePackage : basePackages) {
+
+			entries.put(basePackage, BASE_PACKAGE);
+
+			if (StringUtils.hasText(mappingFileNamePattern)) {
+				entries.put(getMappingFileLocationPattern(basePackage, mappingFileNamePattern), MAPPING_FILE_PATTERN);
+			}
+		}
+
+		managedClassNames.forEach(it -> entries.put(it, MANAGED_CLASS));
+		mappingFileNames.forEach(it -> entries.put(it, MAPPING_FILE));
+
+		Properties properties = new SortedProperties();
+		properties.putAll(entries);
+
+		StringWriter buffer = new StringWriter();
+		properties.store(buffer, null);
+
+		// skip the timestamp comment
+		for (String line : buffer.toString().lines().toList()) {
+			if (!line.startsWith("#")) {
+				writer.write(line);
+				writer.write('\n');
+			}
+		}
+
+		writer.flush();
+	}
+
+	/**
+	 * Scan the given base packages and write the index below the given output directory.
+	 *
+	 * @param args the output directory (typically the classes output directory of the build) followed by the base
+	 *          packages to scan and an optional {@code --mapping-files=<pattern>} option.
+	 * @throws IOException in case of I/O errors.
+	 */
+	public static void main(String[] args) throws IOException {
+
+		Assert.isTrue(args.length > 1,
+				"Usage: PersistenceUnitIndex <output directory> <base package>... [--mapping-files=<pattern>]");
+
+		Path output = Paths.get(args[0]).resolve(INDEX_LOCATION);
+		String mappingFileNamePattern = null;
+		Set<String> basePackages = new LinkedHashSet<>();
+
+		for (String arg : Arrays.asList(args).subList(1, args.length)) {
+
+			if (arg.startsWith(MAPPING_FILES_OPTION)) {
+				mappingFileNamePattern = arg.substring(MAPPING_FILES_OPTION.length());
+			} else if (StringUtils.hasText(arg)) {
+				basePackages.add(arg);
+			}
+		}
+
+		MutablePersistenceUnitInfo pui = new MutablePersistenceUnitInfo();
+
+		for (String basePackage : basePackages) {
+
+			ClasspathScanningPersistenceUnitPostProcessor processor = new ClasspathScanningPersistenceUnitPostProcessor(
+					basePackage);
+			processor.setIndexEnabled(false);
+
+			if (StringUtils.hasText(mappingFileNamePattern)) {
+				processor.setMappingFileNamePattern(mappingFileNamePattern);
+			}
+
+			processor.postProcessPersistenceUnitInfo(pui);
+		}
+
+		Files.createDirectories(output.getParent());
+
+		try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+			write(writer, basePackages, mappingFileNamePattern, pui.getManagedClassNames(), pui.getMappingFileNames());
+		}
+	}
+
+	private static String getMappingFileLocationPattern(String basePackage, String mappingFileNamePattern) {
+		return basePackage.replace('.', '/') + '/' + mappingFileNamePattern;
+	}
+
+	/**
+	 * {@link Properties} exposing their entries sorted by key to write them in a stable order.
+	 */
+	@SuppressWarnings("serial")
+	private static class SortedProperties extends Properties {
+
+		@Override
+		public Set<Map.Entry<Object, Object>> entrySet() {
+
+			Set<Map.Entry<Object, Object>> entries = new TreeSet<>(Comparator.comparing(it -> it.getKey().toString()));
+			entries.addAll(super.entrySet());
+
+			return Collections.unmodifiableSet(entries);
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Bounded {@link Executor} used by default to run background work such as parallel query validation, concurrent query
+ * lookup, asynchronous query methods and scroll windows. Tasks typically hold a JDBC connection while running, so the
+ * number of concurrently running tasks is limited to avoid exhausting the connection pool. Tasks exceeding the limit
+ * are queued instead of blocking the submitting thread.
+ * <p>
+ * Tasks run on virtual threads if the Java runtime supports them and on daemon platform threads otherwise. Idle
+ * threads are released after a minute so that the executor does not require an explicit shutdown.
+ *
+ * @since 4.2
+ */
+public final class BackgroundExecutor implements Executor {
+
+	private static final String THREAD_NAME_PREFIX = "spring-data-jpa-";
+
+	/**
+	 * Default number of concurrently running tasks.
+	 */
+	public static final int DEFAULT_CONCURRENCY_LIMIT = Math.min(Math.max(2, Runtime.getRuntime().availableProcessors()),
+			8);
+
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Create a new {@link BackgroundExecutor} running at most {@code concurrencyLimit} tasks at a time.
+	 *
+	 * @param concurrencyLimit must be greater than zero.
+	 */
+	public BackgroundExecutor(int concurrencyLimit) {
+
+		Assert.isTrue(concurrencyLimit > 0, "Concurrency limit must be greater than zero");
+
+		this.executor = new ThreadPoolExecutor(concurrencyLimit, concurrencyLimit, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), createThreadFactory());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Return the shared {@link BackgroundExecutor} using the {@link #DEFAULT_CONCURRENCY_LIMIT default concurrency
+	 * limit}.
+	 *
+	 * @return the shared {@link BackgroundExecutor}.
+	 */
+	public static BackgroundExecutor shared() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * @return the maximum number of concurrently running tasks.
+	 */
+	public int getConcurrencyLimit() {
+		return executor.getMaximumPoolSize();
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		executor.execute(command);
+	}
+
+	private static ThreadFactory createThreadFactory() {
+
+		if (ClassUtils.hasMethod(Thread.class, "ofVirtual")) {
+			return new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX).getVirtualThreadFactory();
+		}
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+		threadFactory.setDaemon(true);
+
+		return threadFactory;
+	}
+
+	private static class Holder {
+		static final BackgroundExecutor INSTANCE = new BackgroundExecutor(DEFAULT_CONCURRENCY_LIMIT);
+	}
+
+}
@@ -36,6 +36,7 @@ import jakarta.persistence.metamodel.Type;
 
 import java.lang.reflect.Member;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -52,6 +53,7 @@ import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.ExampleMatcher.GenericPropertyMatcher;
 import org.springframework.data.domain.ExampleMatcher.MatchMode;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder.PlanCache;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.util.ObjectUtils;
 
@@ -292,6 +294,87 @@ class QueryByExamplePredicateBuilderUnitTests {
 		verify(root, times(1)).join("father", expectedJoinType);
 	}
 
+	@Test
+	void reusesCompiledPlanForSameMatcher() {
+
+		Person first = new Person();
+		first.firstname = "foo";
+
+		Person second = new Person();
+		second.age = 2L;
+
+		PlanCache plans = new PlanCache();
+
+		QueryByExamplePredicateBuilder.getPredicate(root, cb, of(first), EscapeCharacter.DEFAULT, plans);
+		QueryByExamplePredicateBuilder.getPredicate(root, cb, of(second), EscapeCharacter.DEFAULT, plans);
+
+		verify(personEntityType, times(1)).getSingularAttributes();
+		verify(cb, times(1)).equal(any(Expression.class), eq("foo"));
+		verify(cb, times(1)).equal(any(Expression.class), eq(2L));
+		assertThat(plans.size()).isOne();
+	}
+
+	@Test
+	void compilesPlanPerMatcher() {
+
+		Person person = new Person();
+		person.firstname = "foo";
+
+		PlanCache plans = new PlanCache();
+
+		QueryByExamplePredicateBuilder.getPredicate(root, cb, of(person), EscapeCharacter.DEFAULT, plans);
+		QueryByExamplePredicateBuilder.getPredicate(root, cb,
+				of(person, ExampleMatcher.matching().withIgnorePaths("firstname")), EscapeCharacter.DEFAULT, plans);
+
+		verify(personEntityType, times(2)).getSingularAttributes();
+		verify(cb, times(1)).equal(any(Expression.class), eq("foo"));
+		assertThat(plans.size()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotRetainPlansWithoutCache() {
+
+		Person person = new Person();
+		person.firstname = "foo";
+
+		QueryByExamplePredicateBuilder.getPredicate(root, cb, of(person), EscapeCharacter.DEFAULT);
+		QueryByExamplePredicateBuilder.getPredicate(root, cb, of(person), EscapeCharacter.DEFAULT);
+
+		verify(personEntityType, times(2)).getSingularAttributes();
+	}
+
+	@Test
+	void doesNotCachePlansForCapturingTransformers() {
+
+		Person person = new Person();
+		person.firstname = "foo";
+
+		PlanCache plans = new PlanCache();
+
+		for (String suffix : List.of("a", "b")) {
+
+			ExampleMatcher matcher = ExampleMatcher.matching().withTransformer("firstname",
+					value -> value.map(it -> (Object) (it + suffix)));
+
+			QueryByExamplePredicateBuilder.getPredicate(root, cb, of(person, matcher), EscapeCharacter.DEFAULT, plans);
+		}
+
+		verify(cb).equal(any(Expression.class), eq("fooa"));
+		verify(cb).equal(any(Expression.class), eq("foob"));
+		assertThat(plans.size()).isZero();
+	}
+
+	@Test
+	void prefersGetterOverFieldAccess() {
+
+		AccessorPerson person = new AccessorPerson();
+		person.firstname = "foo";
+
+		QueryByExamplePredicateBuilder.getPredicate(root, cb, of(person), EscapeCharacter.DEFAULT);
+
+		verify(cb, times(1)).equal(any(Expression.class), eq("FOO"));
+	}
+
 	@SuppressWarnings("unused")
 	static class Person {
 
@@ -304,6 +387,13 @@ class QueryByExamplePredicateBuilderUnitTests {
 		Skill skill;
 	}
 
+	static class AccessorPerson extends Person {
+
+		public String getFirstname() {
+			return firstname.toUpperCase();
+		}
+	}
+
 	@SuppressWarnings("unused")
 	static class Address {
 
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.observability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.query.JpaQueryMethod;
+import org.springframework.data.jpa.repository.query.QueryObserver.Cache;
+import org.springframework.data.jpa.repository.query.QueryObserver.Phase;
+import org.springframework.data.jpa.repository.query.QueryObserver.Recording;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Unit tests for {@link ObservationQueryObserver}.
+ */
+class ObservationQueryObserverUnitTests {
+
+	ObservationRegistry registry = ObservationRegistry.create();
+	List<JpaQueryObservationContext> stopped = new ArrayList<>();
+	JpaQueryMethod method = mock(JpaQueryMethod.class);
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		registry.observationConfig().observationHandler(new ObservationHandler<JpaQueryObservationContext>() {
+
+			@Override
+			public void onStop(JpaQueryObservationContext context) {
+				stopped.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return context instanceof JpaQueryObservationContext;
+			}
+		});
+
+		when(method.getMethod()).thenReturn(SampleRepository.class.getMethod("findByLastname", String.class));
+	}
+
+	@Test
+	void reportsNestedPhases() {
+
+		ObservationQueryObserver observer = new ObservationQueryObserver(registry);
+
+		try (Recording invocation = observer.start(method, Phase.INVOCATION)) {
+
+			try (Recording execution = observer.start(method, Phase.EXECUTION)) {
+
+				try (Recording preparation = observer.start(method, Phase.PREPARATION)) {
+					observer.cacheAccessed(Cache.PART_TREE, true);
+				}
+
+				execution.rows(3);
+			}
+
+			try (Recording conversion = observer.start(method, Phase.CONVERSION)) {}
+		}
+
+		assertThat(stopped).extracting(JpaQueryObservationContext::getPhase).containsExactly(Phase.PREPARATION,
+				Phase.EXECUTION, Phase.CONVERSION, Phase.INVOCATION);
+
+		JpaQueryObservationContext preparation = stopped.get(0);
+		JpaQueryObservationContext execution = stopped.get(1);
+		JpaQueryObservationContext invocation = stopped.get(3);
+
+		assertThat(preparation.getParentObservation().getContextView()).isSameAs(execution);
+		assertThat(execution.getParentObservation().getContextView()).isSameAs(invocation);
+
+		assertThat(preparation.getName()).isEqualTo("spring.data.jpa.query");
+		assertThat(preparation.getContextualName()).isEqualTo("SampleRepository.findByLastname preparation");
+		assertThat(preparation.getLowCardinalityKeyValue("spring.data.repository.method").getValue())
+				.isEqualTo("SampleRepository.findByLastname");
+		assertThat(preparation.getLowCardinalityKeyValue("spring.data.jpa.query.phase").getValue())
+				.isEqualTo("preparation");
+		assertThat(preparation.getLowCardinalityKeyValue("spring.data.jpa.query.cache").getValue()).isEqualTo("part-tree");
+		assertThat(preparation.getLowCardinalityKeyValue("spring.data.jpa.query.cache.outcome").getValue())
+				.isEqualTo("hit");
+
+		assertThat(execution.getLowCardinalityKeyValue("spring.data.jpa.query.cache.outcome").getValue())
+				.isEqualTo("none");
+		assertThat(execution.getHighCardinalityKeyValue("spring.data.jpa.query.result.rows").getValue()).isEqualTo("3");
+
+		assertThat(invocation.getContextualName()).isEqualTo("SampleRepository.findByLastname");
+		assertThat(invocation.getHighCardinalityKeyValue("spring.data.jpa.query.result.rows")).isNull();
+	}
+
+	@Test
+	void reportsCacheMissOfResultCache() {
+
+		ObservationQueryObserver observer = new ObservationQueryObserver(registry);
+
+		try (Recording invocation = observer.start(method, Phase.INVOCATION)) {
+			observer.cacheAccessed(Cache.RESULT, false);
+		}
+
+		assertThat(stopped).hasSize(1);
+		assertThat(stopped.get(0).getLowCardinalityKeyValue("spring.data.jpa.query.cache").getValue())
+				.isEqualTo("result");
+		assertThat(stopped.get(0).getLowCardinalityKeyValue("spring.data.jpa.query.cache.outcome").getValue())
+				.isEqualTo("miss");
+	}
+
+	@Test
+	void reportsErrors() {
+
+		ObservationQueryObserver observer = new ObservationQueryObserver(registry);
+		IllegalStateException error = new IllegalStateException();
+
+		try (Recording execution = observer.start(method, Phase.EXECUTION)) {
+			execution.error(error);
+		}
+
+		assertThat(stopped).hasSize(1);
+		assertThat(stopped.get(0).getError()).isSameAs(error);
+		assertThat(registry.getCurrentObservation()).isNull();
+	}
+
+	@Test
+	void ignoresCacheAccessOutsideOfObservation() {
+
+		ObservationQueryObserver observer = new ObservationQueryObserver(registry);
+
+		assertThatNoException().isThrownBy(() -> observer.cacheAccessed(Cache.SORTED_QUERY, true));
+		assertThat(stopped).isEmpty();
+	}
+
+	@Test
+	void doesNotObserveWithNoopRegistry() {
+
+		ObservationQueryObserver observer = new ObservationQueryObserver(ObservationRegistry.NOOP);
+
+		assertThat(observer.start(method, Phase.INVOCATION)).isSameAs(Recording.NONE);
+	}
+
+	interface SampleRepository extends Repository<User, Integer> {
+
+		List<User> findByLastname(String lastname);
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.provider;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.provider.HibernateUpserts.Statements;
+import org.springframework.data.jpa.provider.HibernateUpserts.Syntax;
+
+/**
+ * Unit tests for {@link HibernateUpserts}.
+ */
+class HibernateUpsertsUnitTests {
+
+	private static final String[] ID = { "id" };
+	private static final List<String> COLUMNS = List.of("id", "name", "country");
+	private static final List<String> UPDATE_COLUMNS = List.of("name", "country");
+
+	@Test
+	void rendersInsertOnConflict() {
+
+		assertThat(Statements.render(Syntax.ON_CONFLICT, "customer", ID, COLUMNS, UPDATE_COLUMNS))
+				.isEqualTo("insert into customer (id, name, country) values (?, ?, ?) on conflict (id) "
+						+ "do update set name = excluded.name, country = excluded.country");
+		assertThat(Statements.render(Syntax.ON_CONFLICT, "customer", ID, List.of("id"), List.of()))
+				.isEqualTo("insert into customer (id) values (?) on conflict (id) do nothing");
+	}
+
+	@Test
+	void rendersInsertOnDuplicateKey() {
+
+		assertThat(Statements.render(Syntax.ON_DUPLICATE_KEY, "customer", ID, COLUMNS, UPDATE_COLUMNS))
+				.isEqualTo("insert into customer (id, name, country) values (?, ?, ?) on duplicate key update "
+						+ "name = values(name), country = values(country)");
+		assertThat(Statements.render(Syntax.ON_DUPLICATE_KEY, "customer", ID, List.of("id"), List.of()))
+				.isEqualTo("insert into customer (id) values (?) on duplicate key update id = id");
+	}
+
+	@Test
+	void rendersMerge() {
+
+		assertThat(Statements.render(Syntax.MERGE, "customer", ID, COLUMNS, UPDATE_COLUMNS))
+				.isEqualTo("merge into customer t using (values (?, ?, ?)) s (id, name, country) on (t.id = s.id) "
+						+ "when matched then update set t.name = s.name, t.country = s.country "
+						+ "when not matched then insert (id, name, country) values (s.id, s.name, s.country)");
+		assertThat(Statements.render(Syntax.TERMINATED_MERGE, "customer", ID, COLUMNS, UPDATE_COLUMNS)).endsWith(");");
+	}
+
+	@Test
+	void assignsGeneratedKeys() throws SQLException {
+
+		PreparedStatement statement = mock(PreparedStatement.class);
+		ResultSet keys = mock(ResultSet.class);
+		EntityPersister persister = mockPersister();
+		SessionImplementor session = mock(SessionImplementor.class);
+		Object first = new Object();
+		Object second = new Object();
+
+		when(statement.getGeneratedKeys()).thenReturn(keys);
+		when(keys.next()).thenReturn(true, true, false);
+		when(keys.getObject(1, Long.class)).thenReturn(1L, 2L);
+
+		HibernateUpserts.assignGeneratedKeys(statement, persister, List.of(first, second), session);
+
+		verify(persister).setIdentifier(first, 1L, session);
+		verify(persister).setIdentifier(second, 2L, session);
+		verify(keys).close();
+	}
+
+	@Test
+	void rejectsMissingGeneratedKeys() throws SQLException {
+
+		PreparedStatement statement = mock(PreparedStatement.class);
+		ResultSet keys = mock(ResultSet.class);
+		EntityPersister persister = mockPersister();
+		SessionImplementor session = mock(SessionImplementor.class);
+
+		when(statement.getGeneratedKeys()).thenReturn(keys);
+		when(keys.next()).thenReturn(true, false);
+		when(keys.getObject(1, Long.class)).thenReturn(1L);
+
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> HibernateUpserts.assignGeneratedKeys(statement,
+				persister, List.of(new Object(), new Object()), session)).withMessageContaining("received 1");
+		verify(keys).close();
+	}
+
+	@Test
+	void rendersMergeFromDual() {
+
+		assertThat(Statements.render(Syntax.MERGE_FROM_DUAL, "customer", new String[] { "first", "second" },
+				List.of("first", "second"), List.of()))
+				.isEqualTo("merge into customer t using (select ? first, ? second from dual) s "
+						+ "on (t.first = s.first and t.second = s.second) "
+						+ "when not matched then insert (first, second) values (s.first, s.second)");
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static EntityPersister mockPersister() {
+
+		EntityPersister persister = mock(EntityPersister.class);
+		Type identifierType = mock(Type.class);
+
+		when(persister.getIdentifierType()).thenReturn(identifierType);
+		when(persister.getEntityName()).thenReturn("Customer");
+		when(identifierType.getReturnedClass()).thenReturn((Class) Long.class);
+
+		return persister;
+	}
+
+}
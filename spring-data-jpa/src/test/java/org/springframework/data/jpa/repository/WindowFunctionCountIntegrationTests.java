@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.query.Param;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link WindowFunctionCount} executing derived, string-based and {@link Specification} queries.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration("classpath:hibernate-h2-infrastructure.xml")
+@Transactional
+class WindowFunctionCountIntegrationTests {
+
+	@PersistenceContext EntityManager em;
+
+	private WindowFunctionCountUserRepository repository;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+
+		repository = new JpaRepositoryFactory(em).getRepository(WindowFunctionCountUserRepository.class);
+
+		em.persist(new User("Boyd", "Tinsley", "boyd@dmband.com"));
+		em.persist(new User("Carter", "Beauford", "carter@dmband.com"));
+		em.persist(new User("Dave", "Matthews", "dave@dmband.com"));
+		em.persist(new User("Jeff", "Coffin", "jeff@dmband.com"));
+		em.persist(new User("Stefan", "Lessard", "stefan@dmband.com"));
+		em.persist(new User("Tim", "Reynolds", "tim@dmband.com"));
+		em.flush();
+		em.clear();
+
+		statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+	}
+
+	@Test
+	void derivedQueryReturnsContentAndTotalUsingSingleStatement() {
+
+		Page<User> page = executeSingleStatement(() -> repository.findByEmailAddressEndingWith("@dmband.com",
+				PageRequest.of(1, 2, Sort.by("firstname"))));
+
+		assertThat(page.getContent()).extracting(User::getFirstname).containsExactly("Dave", "Jeff");
+		assertThat(page.getTotalElements()).isEqualTo(6);
+		assertThat(page.getTotalPages()).isEqualTo(3);
+	}
+
+	@Test
+	void stringQueryReturnsContentAndTotalUsingSingleStatement() {
+
+		Page<User> page = executeSingleStatement(
+				() -> repository.findByDomain("%@dmband.com", PageRequest.of(0, 4, Sort.by("firstname"))));
+
+		assertThat(page.getContent()).extracting(User::getFirstname).containsExactly("Boyd", "Carter", "Dave", "Jeff");
+		assertThat(page.getTotalElements()).isEqualTo(6);
+	}
+
+	@Test
+	void specificationQueryReturnsContentAndTotalUsingSingleStatement() {
+
+		Specification<User> spec = (root, query, cb) -> cb.notEqual(root.get("lastname"), "Matthews");
+
+		Page<User> page = executeSingleStatement(
+				() -> repository.findAll(spec, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "firstname"))));
+
+		assertThat(page.getContent()).extracting(User::getFirstname).containsExactly("Tim", "Stefan");
+		assertThat(page.getTotalElements()).isEqualTo(5);
+	}
+
+	@Test
+	void fallsBackToCountQueryBeyondLastRow() {
+
+		Page<User> page = repository.findByEmailAddressEndingWith("@dmband.com", PageRequest.of(5, 2));
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isEqualTo(6);
+	}
+
+	private <T> T executeSingleStatement(Supplier<T> execution) {
+
+		T result = execution.get();
+
+		assertThat(statistics.getPrepareStatementCount()).isOne();
+
+		return result;
+	}
+
+	interface WindowFunctionCountUserRepository
+			extends JpaRepository<User, Integer>, JpaSpecificationExecutor<User> {
+
+		@WindowFunctionCount
+		Page<User> findByEmailAddressEndingWith(String suffix, Pageable pageable);
+
+		@WindowFunctionCount
+		@Query("select u from User u where u.emailAddress like :domain")
+		Page<User> findByDomain(@Param("domain") String domain, Pageable pageable);
+
+		@WindowFunctionCount
+		@Override
+		Page<User> findAll(Specification<User> spec, Pageable pageable);
+	}
+
+}
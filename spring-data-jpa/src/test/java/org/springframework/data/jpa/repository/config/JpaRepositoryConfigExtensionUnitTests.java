@@ -41,6 +41,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigUtils;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.data.jpa.repository.config.JpaRepositoryConfigExtension.JpaProperties;
+import org.springframework.data.jpa.repository.query.QueryResultCaches;
 import org.springframework.data.repository.config.RepositoryConfigurationExtension;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.instrument.classloading.ShadowingClassLoader;
@@ -74,6 +75,17 @@ class JpaRepositoryConfigExtensionUnitTests {
 		assertThat(names).contains(AnnotationConfigUtils.PERSISTENCE_ANNOTATION_PROCESSOR_BEAN_NAME);
 	}
 
+	@Test
+	void registersQueryResultCachesOfContext() {
+
+		DefaultListableBeanFactory factory = new DefaultListableBeanFactory();
+
+		RepositoryConfigurationExtension extension = new JpaRepositoryConfigExtension();
+		extension.registerBeansForRoot(factory, configSource);
+
+		assertThat(factory.getBean(QueryResultCaches.class)).isNotNull();
+	}
+
 	@Test
 	void doesNotRegisterProcessorIfAlreadyPresent() {
 
@@ -30,6 +30,7 @@ import java.net.URL;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.hibernate.dialect.PostgreSQLDialect;
 import org.jspecify.annotations.Nullable;
@@ -100,6 +101,38 @@ class PostgresStoredProcedureIntegrationTests {
 				new Employee(4, "Gabriel"));
 	}
 
+	@Test
+	void streamsEntitiesFromResultSet() {
+
+		try (Stream<Employee> employees = repository.streamEntitiesFromResultSet()) {
+
+			assertThat(employees).containsExactly( //
+					new Employee(3, "Fanny"), //
+					new Employee(4, "Gabriel"));
+		}
+	}
+
+	@Test
+	void streamsGenericObjectsFromResultSetWithFetchSize() {
+
+		try (Stream<Object[]> employees = repository.streamGenericObjectsFromResultSet()) {
+
+			assertThat(employees.map(it -> it[1])).containsExactly("Fanny", "Gabriel");
+		}
+	}
+
+	@Test
+	void closingStreamReleasesProcedureCall() {
+
+		for (int i = 0; i < 5; i++) {
+			try (Stream<Employee> employees = repository.streamEntitiesFromResultSet()) {
+				assertThat(employees.findFirst()).contains(new Employee(3, "Fanny"));
+			}
+		}
+
+		assertThat(repository.entityListFromResultSet()).hasSize(2);
+	}
+
 	@Test // 2256
 	void testNamedOutputParameter() {
 
@@ -268,6 +301,12 @@ class PostgresStoredProcedureIntegrationTests {
 		@Procedure(value = "get_employees", refCursor = true)
 		List<Employee> entityListFromResultSet();
 
+		@Procedure(value = "get_employees", refCursor = true)
+		Stream<Employee> streamEntitiesFromResultSet();
+
+		@Procedure(value = "get_employees", refCursor = true, fetchSize = 1)
+		Stream<Object[]> streamGenericObjectsFromResultSet();
+
 		@Procedure(value = "get_employees", outputParameterName = "p_employees", refCursor = true)
 		List<Employee> namedOutputParameter();
 
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.domain.sample.User;
+
+/**
+ * Unit tests for {@link EntityReferences}.
+ */
+class EntityReferencesUnitTests {
+
+	private final EntityManager em = mock(EntityManager.class);
+	private final EntityReferences references = new EntityReferences(em);
+	@SuppressWarnings("unchecked") private final EntityType<User> entityType = mock(EntityType.class);
+
+	@BeforeEach
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void setUp() {
+
+		Metamodel metamodel = mock(Metamodel.class);
+		EntityManagerFactory emf = mock(EntityManagerFactory.class);
+		PersistenceUnitUtil util = mock(PersistenceUnitUtil.class);
+
+		when(em.getMetamodel()).thenReturn(metamodel);
+		when(metamodel.getEntities()).thenReturn((Set) Set.of(entityType));
+		when(entityType.getJavaType()).thenReturn(User.class);
+		when(metamodel.entity(User.class)).thenReturn(entityType);
+		when(em.getEntityManagerFactory()).thenReturn(emf);
+		when(emf.getPersistenceUnitUtil()).thenReturn(util);
+		when(util.getIdentifier(any())).thenAnswer(it -> it.<User> getArgument(0).getId());
+	}
+
+	@Test
+	void resolvesEntitiesThroughEntityManager() {
+
+		User dave = new User();
+		dave.setId(42);
+		User managed = new User();
+
+		when(em.find(User.class, 42)).thenReturn(managed);
+
+		Object reference = references.toReference(dave);
+
+		assertThat(reference).isNotSameAs(dave);
+		assertThat(references.resolve(reference)).isSameAs(managed);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void resolvesEntitiesOfCollectionResultsThroughSingleQuery() {
+
+		SingularAttribute idAttribute = mock(SingularAttribute.class);
+		CriteriaBuilder builder = mock(CriteriaBuilder.class);
+		CriteriaQuery<User> criteria = mock(CriteriaQuery.class);
+		Root<User> root = mock(Root.class);
+		Path<Object> path = mock(Path.class);
+		TypedQuery<User> query = mock(TypedQuery.class);
+
+		User dave = user(1);
+		User oliver = user(2);
+
+		when(entityType.hasSingleIdAttribute()).thenReturn(true);
+		when(entityType.getSingularAttributes()).thenReturn((Set) Set.of(idAttribute));
+		when(idAttribute.isId()).thenReturn(true);
+		when(idAttribute.getName()).thenReturn("id");
+		when(idAttribute.getPersistentAttributeType()).thenReturn(PersistentAttributeType.BASIC);
+		when(em.getCriteriaBuilder()).thenReturn(builder);
+		when(builder.createQuery(User.class)).thenReturn(criteria);
+		when(criteria.from(User.class)).thenReturn(root);
+		when(criteria.select(root)).thenReturn(criteria);
+		when(root.get("id")).thenReturn(path);
+		when(path.in(anyCollection())).thenReturn(mock(Predicate.class));
+		when(em.createQuery(criteria)).thenReturn(query);
+		when(query.setFlushMode(FlushModeType.COMMIT)).thenReturn(query);
+		when(query.getResultList()).thenReturn(List.of(oliver, dave));
+
+		List<Object> cached = Arrays.asList(references.toReference(user(1)), "Dave", references.toReference(user(2)),
+				references.toReference(user(3)));
+
+		assertThat(references.resolveAll(cached)).containsExactly(dave, "Dave", oliver, null);
+		verify(path).in(List.of(1, 2, 3));
+		verify(em).createQuery(criteria);
+		verify(em, never()).find(any(Class.class), any());
+	}
+
+	@Test
+	void keepsOtherElements() {
+
+		assertThat(references.toReference("Dave")).isEqualTo("Dave");
+		assertThat(references.resolve("Dave")).isEqualTo("Dave");
+		assertThat(references.toReference(new User())).isInstanceOf(User.class);
+	}
+
+	@Test
+	void resolvesRemovedEntityToNull() {
+
+		User dave = new User();
+		dave.setId(42);
+
+		assertThat(references.resolve(references.toReference(dave))).isNull();
+	}
+
+	private static User user(int id) {
+
+		User user = new User();
+		user.setId(id);
+		return user;
+	}
+
+}
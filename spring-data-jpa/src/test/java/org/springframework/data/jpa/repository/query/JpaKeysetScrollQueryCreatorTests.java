@@ -66,13 +66,32 @@ class JpaKeysetScrollQueryCreatorTests {
 
 		assertThat(query).containsIgnoringWhitespaces("""
 				SELECT u FROM User u WHERE (u.firstname LIKE :firstname ESCAPE '\\')
-				AND (u.firstname < :keyset_firstname
-				OR u.firstname = :keyset_firstname AND u.emailAddress < :keyset_emailAddress
-				OR u.firstname = :keyset_firstname AND u.emailAddress = :keyset_emailAddress AND u.id < :keyset_id)
+				AND ((u.firstname, u.emailAddress, u.id) < (:keyset_firstname, :keyset_emailAddress, :keyset_id))
 				ORDER BY u.firstname desc, u.emailAddress desc, u.id desc
 				""");
 	}
 
+	@Test
+	void shouldCreateContinuationQueryForMixedSortDirections() throws Exception {
+
+		Map<String, Object> keys = Map.of("id", "10", "firstname", "John", "emailAddress", "john@example.com");
+		KeysetScrollPosition position = ScrollPosition.of(keys, ScrollPosition.Direction.FORWARD);
+
+		Method method = MyRepo.class.getMethod("findTop3ByFirstnameStartingWithOrderByFirstnameAscEmailAddressDesc",
+				String.class, ScrollPosition.class);
+		JpaKeysetScrollQueryCreator creator = getJpaKeysetScrollQueryCreator(position, method);
+
+		String query = creator.createQuery();
+
+		assertThat(query).containsIgnoringWhitespaces("""
+				SELECT u FROM User u WHERE (u.firstname LIKE :firstname ESCAPE '\\')
+				AND (u.firstname > :keyset_firstname
+				OR u.firstname = :keyset_firstname AND u.emailAddress < :keyset_emailAddress
+				OR u.firstname = :keyset_firstname AND u.emailAddress = :keyset_emailAddress AND u.id > :keyset_id)
+				ORDER BY u.firstname asc, u.emailAddress desc, u.id asc
+				""");
+	}
+
 	@Test // GH-4156
 	void shouldCreateForwardContinuationQueryWithNullKeysetSortValue() throws Exception {
 
@@ -118,6 +137,9 @@ class JpaKeysetScrollQueryCreatorTests {
 		Window<User> findTop3ByFirstnameStartingWithOrderByFirstnameAscEmailAddressAsc(String firstname,
 				ScrollPosition position);
 
+		Window<User> findTop3ByFirstnameStartingWithOrderByFirstnameAscEmailAddressDesc(String firstname,
+				ScrollPosition position);
+
 	}
 
 }
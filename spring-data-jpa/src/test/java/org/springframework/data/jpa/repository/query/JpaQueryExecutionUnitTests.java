@@ -39,6 +39,10 @@ import org.mockito.quality.Strictness;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Score;
+import org.springframework.data.domain.SearchResult;
+import org.springframework.data.domain.SearchResults;
+import org.springframework.data.domain.VectorScoringFunctions;
 import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.provider.QueryExtractor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -332,6 +336,78 @@ class JpaQueryExecutionUnitTests {
 		assertThat(result).isInstanceOf(String.class);
 	}
 
+	@Test
+	void rescoresOversampledCandidatesByExactDistance() {
+
+		ReturnedType returnedType = mock(ReturnedType.class);
+		doReturn(SearchResults.class).when(method).getReturnType();
+		when(query.getMaxResults()).thenReturn(2);
+
+		WithEmbedding near = new WithEmbedding(1, 0);
+		WithEmbedding nearest = new WithEmbedding(0, 0);
+		WithEmbedding far = new WithEmbedding(3, 4);
+		when(query.getResultList()).thenReturn(Arrays.asList(new Object[] { far, 0.1 }, new Object[] { near, 0.2 },
+				new Object[] { nearest, 0.3 }));
+
+		JpaQueryExecution.SearchResultExecution.Rescoring rescoring = new JpaQueryExecution.SearchResultExecution.Rescoring(
+				4, "embedding", new float[] { 0, 0 }, null, null);
+		JpaQueryExecution execution = new JpaQueryExecution.SearchResultExecution(
+				new JpaQueryExecution.CollectionExecution(), returnedType, VectorScoringFunctions.EUCLIDEAN, false, rescoring);
+
+		SearchResults<?> results = (SearchResults<?>) execution.execute(jpaQuery, accessor);
+
+		verify(query).setMaxResults(8);
+		assertThat(results.getContent()).extracting(SearchResult::getContent).containsExactly(nearest, near);
+		assertThat(results.getContent()).extracting(it -> it.getScore().getValue()).containsExactly(0d, 1d);
+	}
+
+	@Test
+	void rescoringAppliesScoreThresholdToExactDistance() {
+
+		ReturnedType returnedType = mock(ReturnedType.class);
+		doReturn(SearchResults.class).when(method).getReturnType();
+		when(query.getMaxResults()).thenReturn(Integer.MAX_VALUE);
+
+		WithEmbedding near = new WithEmbedding(1, 0);
+		WithEmbedding far = new WithEmbedding(3, 4);
+		when(query.getResultList())
+				.thenReturn(Arrays.asList(new Object[] { far, 0.1 }, new Object[] { near, 0.2 }));
+
+		JpaQueryExecution.SearchResultExecution.Rescoring rescoring = new JpaQueryExecution.SearchResultExecution.Rescoring(
+				4, "embedding", new float[] { 0, 0 }, Score.of(2, VectorScoringFunctions.EUCLIDEAN), null);
+		JpaQueryExecution execution = new JpaQueryExecution.SearchResultExecution(
+				new JpaQueryExecution.CollectionExecution(), returnedType, VectorScoringFunctions.EUCLIDEAN, false, rescoring);
+
+		SearchResults<?> results = (SearchResults<?>) execution.execute(jpaQuery, accessor);
+
+		verify(query, never()).setMaxResults(anyInt());
+		assertThat(results.getContent()).extracting(SearchResult::getContent).containsExactly(near);
+	}
+
+	@Test
+	void resolvesDistanceColumnOncePerResult() {
+
+		ReturnedType returnedType = mock(ReturnedType.class);
+		doReturn(SearchResults.class).when(method).getReturnType();
+		when(query.getResultList()).thenReturn(Arrays.asList(new Object[] { "a", 0.5 }, new Object[] { "b", "n/a" }));
+
+		JpaQueryExecution execution = new JpaQueryExecution.SearchResultExecution(
+				new JpaQueryExecution.CollectionExecution(), returnedType, VectorScoringFunctions.EUCLIDEAN, false);
+
+		SearchResults<?> results = (SearchResults<?>) execution.execute(jpaQuery, accessor);
+
+		assertThat(results.getContent()).extracting(it -> it.getScore().getValue()).containsExactly(0.5d, 0d);
+	}
+
+	static class WithEmbedding {
+
+		float[] embedding;
+
+		WithEmbedding(float... embedding) {
+			this.embedding = embedding;
+		}
+	}
+
 	static class StubQueryExecution extends JpaQueryExecution {
 
 		@Override
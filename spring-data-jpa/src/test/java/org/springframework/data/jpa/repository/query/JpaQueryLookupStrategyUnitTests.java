@@ -140,6 +140,39 @@ class JpaQueryLookupStrategyUnitTests {
 		assertThat(query.getCountQuery().getQueryString()).isEqualTo("select count(foo) from Foo foo");
 	}
 
+	@Test
+	void lazyStrategyDefersQueryCreation() throws Exception {
+
+		QueryLookupStrategy strategy = JpaQueryLookupStrategy.create(em, queryMethodFactory, Key.CREATE_IF_NOT_FOUND,
+				CONFIG, true);
+		Method method = UserRepository.class.getMethod("findByFoo", String.class);
+		RepositoryMetadata metadata = new DefaultRepositoryMetadata(UserRepository.class);
+
+		RepositoryQuery repositoryQuery = strategy.resolveQuery(method, metadata, projectionFactory, namedQueries);
+
+		assertThat(repositoryQuery).isInstanceOf(LazyJpaQuery.class);
+		assertThat(repositoryQuery.getQueryMethod().getName()).isEqualTo("findByFoo");
+
+		LazyJpaQuery lazyQuery = (LazyJpaQuery) repositoryQuery;
+		assertThat(lazyQuery.isInitialized()).isFalse();
+		assertThatExceptionOfType(BadJpqlGrammarException.class).isThrownBy(lazyQuery::initialize);
+	}
+
+	@Test
+	void lazyStrategyCreatesQueryOnce() throws Exception {
+
+		QueryLookupStrategy strategy = JpaQueryLookupStrategy.create(em, queryMethodFactory, Key.CREATE_IF_NOT_FOUND,
+				CONFIG, true);
+		Method method = UserRepository.class.getMethod("annotatedQueryWithQueryAndQueryName");
+		RepositoryMetadata metadata = new DefaultRepositoryMetadata(UserRepository.class);
+
+		LazyJpaQuery lazyQuery = (LazyJpaQuery) strategy.resolveQuery(method, metadata, projectionFactory, namedQueries);
+
+		assertThat(lazyQuery.initialize()).isInstanceOf(AbstractStringBasedJpaQuery.class)
+				.isSameAs(lazyQuery.initialize());
+		assertThat(lazyQuery.isInitialized()).isTrue();
+	}
+
 	@Test // GH-2319
 	void prefersDeclaredQuery() throws Exception {
 
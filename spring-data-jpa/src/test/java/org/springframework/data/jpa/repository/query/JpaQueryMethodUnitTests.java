@@ -42,6 +42,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.sample.User;
 import org.springframework.data.jpa.provider.QueryExtractor;
+import org.springframework.data.jpa.repository.CacheableQuery;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -56,6 +57,7 @@ import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.repository.query.QueryMethod;
 
 /**
@@ -210,6 +212,17 @@ class JpaQueryMethodUnitTests {
 		assertThatIllegalArgumentException().isThrownBy(() -> new JpaQueryMethod(method, metadata, factory, extractor));
 	}
 
+	@Test
+	void rejectsCacheableModifyingLockingAndPagingMethods() {
+
+		assertThatExceptionOfType(QueryCreationException.class)
+				.isThrownBy(() -> getQueryMethod(InvalidRepository.class, "updateCached", String.class));
+		assertThatExceptionOfType(QueryCreationException.class)
+				.isThrownBy(() -> getQueryMethod(InvalidRepository.class, "findCachedByLastname", String.class));
+		assertThatExceptionOfType(QueryCreationException.class).isThrownBy(
+				() -> getQueryMethod(InvalidRepository.class, "findCachedByFirstname", String.class, Pageable.class));
+	}
+
 	@Test
 	void discoversHintsCorrectly() throws Exception {
 
@@ -516,6 +529,21 @@ class JpaQueryMethodUnitTests {
 		@Modifying
 		void updateMethod(String firstname, Sort sort);
 
+		// Cacheable and modifying is not allowed
+		@CacheableQuery
+		@Modifying
+		@Query("update User u set u.lastname = ?1")
+		void updateCached(String lastname);
+
+		// Cacheable and locking is not allowed
+		@CacheableQuery
+		@Lock(LockModeType.PESSIMISTIC_WRITE)
+		List<User> findCachedByLastname(String lastname);
+
+		// Cacheable and paging is not allowed
+		@CacheableQuery
+		Page<User> findCachedByFirstname(String firstname, Pageable pageable);
+
 	}
 
 	interface ValidRepository extends Repository<User, Integer> {
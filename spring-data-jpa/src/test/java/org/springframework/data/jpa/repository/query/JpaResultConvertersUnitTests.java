@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+
+import javax.sql.rowset.serial.SerialBlob;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * Unit tests for {@link JpaResultConverters}.
+ */
+class JpaResultConvertersUnitTests {
+
+	@Test
+	void convertsBlobToByteArray() throws Exception {
+
+		byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(JpaResultConverters.BlobToByteArrayConverter.INSTANCE.convert(new SerialBlob(content)))
+				.isEqualTo(content);
+	}
+
+	@Test
+	void convertsBlobToByteArrayWithoutKnownLength() throws Exception {
+
+		Blob blob = mock(Blob.class);
+		when(blob.length()).thenReturn(-1L);
+		when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+
+		assertThat(JpaResultConverters.BlobToByteArrayConverter.INSTANCE.convert(blob)).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void truncatesByteArrayIfBlobIsShorterThanReported() throws Exception {
+
+		Blob blob = mock(Blob.class);
+		when(blob.length()).thenReturn(5L);
+		when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+
+		assertThat(JpaResultConverters.BlobToByteArrayConverter.INSTANCE.convert(blob)).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void streamsBlobAndFreesItOnClose() throws Exception {
+
+		Blob blob = mock(Blob.class);
+		when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+
+		try (InputStream stream = JpaResultConverters.BlobToInputStreamConverter.INSTANCE.convert(blob)) {
+			assertThat(stream.readAllBytes()).containsExactly(1, 2, 3);
+		}
+
+		verify(blob).free();
+		verify(blob, never()).length();
+	}
+
+	@Test
+	void streamsBlobThroughChannel() throws Exception {
+
+		ByteBuffer buffer = ByteBuffer.allocate(8);
+
+		try (ReadableByteChannel channel = JpaResultConverters.BlobToReadableByteChannelConverter.INSTANCE
+				.convert(new SerialBlob(new byte[] { 1, 2, 3 }))) {
+			assertThat(channel.read(buffer)).isEqualTo(3);
+		}
+	}
+
+	@Test
+	void streamsClob() throws Exception {
+
+		Clob clob = mock(Clob.class);
+		when(clob.getCharacterStream()).thenReturn(new StringReader("content"));
+
+		try (Reader reader = JpaResultConverters.ClobToReaderConverter.INSTANCE.convert(clob)) {
+			assertThat(FileCopyUtils.copyToString(reader)).isEqualTo("content");
+		}
+
+		verify(clob).free();
+	}
+
+	@Test
+	void closesStreamOnTransactionCompletion() throws Exception {
+
+		Blob blob = mock(Blob.class);
+		when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			JpaResultConverters.BlobToInputStreamConverter.INSTANCE.convert(blob);
+
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verify(blob).free();
+	}
+
+	@Test
+	void convertsNullToNull() {
+
+		assertThat(JpaResultConverters.BlobToByteArrayConverter.INSTANCE.convert(null)).isNull();
+		assertThat(JpaResultConverters.BlobToInputStreamConverter.INSTANCE.convert(null)).isNull();
+		assertThat(JpaResultConverters.BlobToReadableByteChannelConverter.INSTANCE.convert(null)).isNull();
+		assertThat(JpaResultConverters.ClobToReaderConverter.INSTANCE.convert(null)).isNull();
+	}
+
+}
@@ -156,6 +156,22 @@ class JpqlQueryBuilderUnitTests {
 		ctx.assertThat(where.neq(expression("'AT'"))).isEqualTo("o.country != 'AT'");
 	}
 
+	@Test
+	void tupleComparisonRendering() {
+
+		Entity entity = entity(Order.class);
+		ContextualAssert ctx = contextual(ctx(entity));
+
+		Expression tuple = JpqlQueryBuilder.tuple(
+				List.of(JpqlQueryBuilder.path(entity, "country"), JpqlQueryBuilder.path(entity, "date")));
+		Expression parameters = JpqlQueryBuilder.tuple(List.of(parameter(":country"), parameter(":date")));
+
+		ctx.assertThat(JpqlQueryBuilder.where(tuple).gt(parameters))
+				.isEqualTo("(o.country, o.date) > (:country, :date)");
+		ctx.assertThat(JpqlQueryBuilder.where(tuple).lt(parameters))
+				.isEqualTo("(o.country, o.date) < (:country, :date)");
+	}
+
 	@Test // GH-3961
 	void inPredicateWithNestedExpression() {
 
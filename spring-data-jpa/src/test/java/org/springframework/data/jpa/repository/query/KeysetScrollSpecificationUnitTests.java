@@ -19,14 +19,21 @@ import static org.assertj.core.api.Assertions.*;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.jpa.domain.sample.SampleWithIdClass;
 import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.repository.support.JpaMetamodelEntityInformation;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -74,4 +81,30 @@ class KeysetScrollSpecificationUnitTests {
 		assertThat(sort).extracting(Order::getProperty).containsExactly("id", "firstname");
 	}
 
+	@Test
+	void shouldScrollUsingRowValueComparison() {
+
+		User dave = new User("Dave", "Matthews", "dave@dmband.com");
+		User carter = new User("Carter", "Beauford", "carter@dmband.com");
+		User oliver = new User("Oliver", "Matthews", "oliver@dmband.com");
+
+		em.persist(dave);
+		em.persist(carter);
+		em.persist(oliver);
+		em.flush();
+
+		KeysetScrollPosition position = ScrollPosition.forward(Map.of("lastname", "Beauford", "id", carter.getId()));
+		KeysetScrollSpecification<User> spec = new KeysetScrollSpecification<>(position, Sort.by("lastname"),
+				new JpaMetamodelEntityInformation<>(User.class, em.getMetamodel(),
+						em.getEntityManagerFactory().getPersistenceUnitUtil()),
+				PersistenceProvider.fromEntityManager(em));
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<User> query = cb.createQuery(User.class);
+		Root<User> root = query.from(User.class);
+		query.where(spec.toPredicate(root, query, cb)).orderBy(QueryUtils.toOrders(spec.sort(), root, cb));
+
+		assertThat(em.createQuery(query).getResultList()).containsExactly(dave, oliver);
+	}
+
 }
@@ -24,8 +24,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.expression.ValueEvaluationContext;
+import org.springframework.data.expression.ValueEvaluationContextProvider;
+import org.springframework.data.expression.ValueExpressionParser;
+import org.springframework.data.jpa.domain.sample.User;
 import org.springframework.data.jpa.repository.query.JpaParameters.JpaParameter;
 import org.springframework.data.jpa.repository.query.ParameterBinding.ParameterOrigin;
+import org.springframework.data.jpa.repository.query.QueryParameterSetterFactory.BoundExpression;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.query.ParametersSource;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 /**
  * Unit tests for {@link QueryParameterSetterFactory}.
@@ -86,4 +95,58 @@ class QueryParameterSetterFactoryUnitTests {
 								QueryEnhancerSelector.DEFAULT_SELECTOR))) //
 				.withMessage("At least 1 parameter(s) provided but only 0 parameter(s) present in query");
 	}
+
+	@Test
+	void sharesEvaluationContextAcrossExpressionsOfSameInvocation() throws Exception {
+
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setVariable("tenant", "acme");
+
+		ValueEvaluationContextProvider provider = mock(ValueEvaluationContextProvider.class);
+		when(provider.getEvaluationContext(any())).thenReturn(ValueEvaluationContext.of(new StandardEnvironment(), context));
+
+		JpaParametersParameterAccessor accessor = createAccessor("Dave", new User());
+
+		BoundExpression first = BoundExpression.of(ValueExpressionParser.create().parse("#{#tenant + '-1'}"));
+		BoundExpression second = BoundExpression.of(ValueExpressionParser.create().parse("#{#tenant.toUpperCase()}"));
+
+		assertThat(first.evaluate(accessor, provider)).isEqualTo("acme-1");
+		assertThat(second.evaluate(accessor, provider)).isEqualTo("ACME");
+		assertThat(first.evaluate(accessor, provider)).isEqualTo("acme-1");
+
+		verify(provider).getEvaluationContext(any());
+	}
+
+	@Test
+	void readsParameterReferencesWithoutEvaluationContext() throws Exception {
+
+		ValueEvaluationContextProvider provider = mock(ValueEvaluationContextProvider.class);
+
+		User user = new User();
+		user.setFirstname("Dave");
+
+		JpaParametersParameterAccessor accessor = createAccessor("Matthews", user);
+
+		assertThat(BoundExpression.of(ValueExpressionParser.create().parse("#{#lastname}")).evaluate(accessor, provider))
+				.isEqualTo("Matthews");
+		assertThat(
+				BoundExpression.of(ValueExpressionParser.create().parse("#{#user.firstname}")).evaluate(accessor, provider))
+				.isEqualTo("Dave");
+
+		verifyNoInteractions(provider);
+	}
+
+	private static JpaParametersParameterAccessor createAccessor(String lastname, User user) throws Exception {
+
+		JpaParameters parameters = new JpaParameters(
+				ParametersSource.of(SampleRepository.class.getMethod("findBy", String.class, User.class)));
+
+		return new JpaParametersParameterAccessor(parameters, new Object[] { lastname, user });
+	}
+
+	interface SampleRepository {
+
+		User findBy(@Param("lastname") String lastname, @Param("user") User user);
+	}
+
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.jpa.repository.query.QueryTokens.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QueryRenderer}.
+ */
+class QueryRendererUnitTests {
+
+	@Test
+	void rendersNestedRenderersInSinglePass() {
+
+		QueryRenderer.QueryRendererBuilder builder = QueryRenderer.builder();
+		builder.append(expression("select"));
+		builder.appendExpression(QueryRenderer.from(List.of(expression("u"))));
+		builder.append(expression("from"));
+		builder.append(QueryRenderer.inline(QueryRenderer.from(List.of(expression("User"), expression("u")))));
+		builder.append(TOKEN_SPACE);
+		builder.append(QueryTokenStream.group(QueryRenderer.from(List.of(expression("a"), expression("b")))));
+
+		QueryRenderer renderer = builder.build();
+
+		assertThat(renderer.render()).isEqualTo("select u from User u (a b)");
+		assertThat(QueryRenderer.render(builder)).isEqualTo("select u from User u (a b)");
+	}
+
+	@Test
+	void rendersIntoExistingBuilderRelativeToItsLength() {
+
+		StringBuilder builder = new StringBuilder("prefix");
+		QueryRenderer.from(List.of(expression("select"), expression("u"))).render(builder);
+
+		assertThat(builder).hasToString("prefixselect u");
+	}
+
+	@Test
+	void rendersEmptyRenderers() {
+
+		assertThat(QueryRenderer.empty().render()).isEmpty();
+		assertThat(QueryRenderer.from(List.of()).render()).isEmpty();
+		assertThat(QueryRenderer.render(QueryTokenStream.empty())).isEmpty();
+	}
+
+	@Test
+	void sharesCommonTokens() {
+
+		assertThat(token("select")).isSameAs(token("select"));
+		assertThat(expression("FROM")).isSameAs(expression("FROM"));
+		assertThat(token("select")).isNotSameAs(expression("select"));
+		assertThat(token("select").isExpression()).isFalse();
+		assertThat(expression("select").isExpression()).isTrue();
+	}
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.InstanceOfAssertFactories.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.domain.sample.Role;
+import org.springframework.data.jpa.domain.sample.SpecialUser;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * Unit tests for {@link QueryResultCache} and {@link QueryResultCaches}.
+ */
+class QueryResultCacheUnitTests {
+
+	private final AtomicInteger executions = new AtomicInteger();
+	private final QueryResultCaches caches = new QueryResultCaches();
+
+	@AfterEach
+	void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void cachesResultsByArguments() {
+
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ZERO);
+
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-1");
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-1");
+		assertThat(get(cache, "Oliver")).isEqualTo("Oliver-2");
+		assertThat(cache.get(new Object[] { new byte[] { 1 } }, this::execute))
+				.isEqualTo(cache.get(new Object[] { new byte[] { 1 } }, this::execute));
+
+		assertThat(executions).hasValue(3);
+		assertThat(cache.getStatistics()).isEqualTo(new QueryResultCache.Statistics(2, 3, 0, 0, 3));
+		assertThat(cache.getStatistics().hitRatio()).isEqualTo(0.4);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedResults() {
+
+		QueryResultCache cache = create(Set.of(User.class), 2, Duration.ZERO);
+
+		get(cache, "Dave");
+		get(cache, "Oliver");
+		get(cache, "Dave");
+		get(cache, "Carter");
+
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-1");
+		assertThat(get(cache, "Oliver")).isEqualTo("Oliver-4");
+		assertThat(cache.getStatistics().evictions()).isEqualTo(2);
+	}
+
+	@Test
+	void expiresResults() throws InterruptedException {
+
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ofMillis(1));
+
+		get(cache, "Dave");
+		Thread.sleep(5);
+
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-2");
+	}
+
+	@Test
+	void invalidatesCachesDependingOnChangedEntityType() {
+
+		QueryResultCache users = create(Set.of(User.class), 10, Duration.ZERO);
+		QueryResultCache roles = create(Set.of(Role.class), 10, Duration.ZERO);
+
+		get(users, "Dave");
+		get(roles, "Admin");
+
+		caches.invalidate(SpecialUser.class);
+
+		assertThat(get(users, "Dave")).isEqualTo("Dave-3");
+		assertThat(get(roles, "Admin")).isEqualTo("Admin-2");
+		assertThat(users.getStatistics().invalidations()).isOne();
+		assertThat(caches.getCaches()).contains(users, roles);
+	}
+
+	@Test
+	void doesNotInvalidateCachesOfOtherRegistries() {
+
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ZERO);
+		get(cache, "Dave");
+
+		new QueryResultCaches().invalidate(User.class);
+
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-1");
+		assertThat(new QueryResultCaches().getCaches()).isEmpty();
+	}
+
+	@Test
+	void doesNotCacheResultsReadConcurrentlyWithInvalidation() {
+
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ZERO);
+
+		cache.get(new Object[] { "Dave" }, () -> {
+			caches.invalidate(User.class);
+			return execute();
+		});
+
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-2");
+	}
+
+	@Test
+	void bypassesCacheWithinTransactionChangingEntitiesAndInvalidatesAfterCompletion() {
+
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ZERO);
+		get(cache, "Dave");
+
+		TransactionSynchronizationManager.initSynchronization();
+		caches.invalidate(User.class);
+
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-2");
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-3");
+
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+
+		get(cache, "Dave");
+		TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-5");
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void returnsCopyOfCachedListToEachCaller() {
+
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ZERO);
+
+		List<Object> first = (List<Object>) cache.get(new Object[] { "Dave" }, () -> new ArrayList<>(List.of("Dave")));
+		first.add("Oliver");
+
+		List<Object> second = (List<Object>) cache.get(new Object[] { "Dave" }, this::execute);
+		List<Object> third = (List<Object>) cache.get(new Object[] { "Dave" }, this::execute);
+
+		assertThat(second).containsExactly("Dave").isNotSameAs(third);
+		assertThat(executions).hasValue(0);
+	}
+
+	@Test
+	void resolvesCachedReferencesForEachCaller() {
+
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ZERO);
+		QueryResultCache.References references = new QueryResultCache.References() {
+
+			@Override
+			public Object toReference(Object element) {
+				return ((User) element).getId();
+			}
+
+			@Override
+			public Object resolve(Object reference) {
+
+				User user = new User();
+				user.setId((Integer) reference);
+				return user;
+			}
+		};
+
+		User dave = new User();
+		dave.setId(42);
+
+		Object loaded = cache.get(new Object[] { "Dave" }, () -> List.of(dave), references);
+		Object first = cache.get(new Object[] { "Dave" }, this::execute, references);
+		Object second = cache.get(new Object[] { "Dave" }, this::execute, references);
+
+		assertThat(loaded).isEqualTo(List.of(dave));
+		assertThat(first).asInstanceOf(LIST).singleElement().isNotSameAs(dave).extracting("id").isEqualTo(42);
+		assertThat(second).asInstanceOf(LIST).singleElement().isNotSameAs(((List<?>) first).get(0));
+		assertThat(executions).hasValue(0);
+	}
+
+	@Test
+	void resolvesReferencesOfCollectionResultsTogether() {
+
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ZERO);
+		List<List<Object>> batches = new ArrayList<>();
+		QueryResultCache.References references = new QueryResultCache.References() {
+
+			@Override
+			public Object toReference(Object element) {
+				return element;
+			}
+
+			@Override
+			public Object resolve(Object reference) {
+				throw new IllegalStateException("Expected references to be resolved together");
+			}
+
+			@Override
+			public List<@Nullable Object> resolveAll(List<Object> references) {
+
+				batches.add(references);
+				return new ArrayList<>(references);
+			}
+		};
+
+		cache.get(new Object[] { "Dave" }, () -> Arrays.asList("Dave", null, "Oliver"), references);
+
+		assertThat(cache.get(new Object[] { "Dave" }, this::execute, references)).asInstanceOf(LIST)
+				.containsExactly("Dave", null, "Oliver");
+		assertThat(batches).containsExactly(List.of("Dave", "Oliver"));
+	}
+
+	@Test
+	void reloadsResultIfReferenceCannotBeResolved() {
+
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ZERO);
+		QueryResultCache.References references = new QueryResultCache.References() {
+
+			@Override
+			public Object toReference(Object element) {
+				return element;
+			}
+
+			@Override
+			public @Nullable Object resolve(Object reference) {
+				return null;
+			}
+		};
+
+		cache.get(new Object[] { "Dave" }, this::execute, references);
+
+		assertThat(cache.get(new Object[] { "Dave" }, this::execute, references)).isEqualTo("result-2");
+		assertThat(cache.getStatistics().hits()).isZero();
+	}
+
+	@Test
+	void invalidatesCachesOfSubtypesOnChangesToSupertype() {
+
+		QueryResultCache cache = create(Set.of(SpecialUser.class), 10, Duration.ZERO);
+		get(cache, "Dave");
+
+		caches.invalidate(User.class);
+
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-2");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void invalidatesCachesOnRepositoryBulkOperations() {
+
+		EntityManager em = mock(EntityManager.class);
+		JpaEntityInformation<User, Integer> information = mock(JpaEntityInformation.class);
+		Query query = mock(Query.class);
+
+		when(information.getJavaType()).thenReturn(User.class);
+		when(information.getEntityName()).thenReturn("User");
+		when(em.getDelegate()).thenReturn(em);
+		when(em.createQuery(anyString())).thenReturn(query);
+
+		SimpleJpaRepository<User, Integer> repository = new SimpleJpaRepository<>(information, em);
+		repository.setQueryResultCaches(caches);
+		QueryResultCache cache = create(Set.of(User.class), 10, Duration.ZERO);
+		get(cache, "Dave");
+
+		repository.deleteAllInBatch();
+
+		assertThat(get(cache, "Dave")).isEqualTo("Dave-2");
+		assertThat(cache.getStatistics().invalidations()).isOne();
+	}
+
+	private QueryResultCache create(Set<Class<?>> entityTypes, int maxSize, Duration timeToLive) {
+		return caches.create("UserRepository.findByFirstname", entityTypes, maxSize, timeToLive);
+	}
+
+	private Object get(QueryResultCache cache, String argument) {
+		return cache.get(new Object[] { argument }, () -> argument + "-" + executions.incrementAndGet());
+	}
+
+	private Object execute() {
+		return "result-" + executions.incrementAndGet();
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Unit tests for {@link QueryValidator}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QueryValidatorUnitTests {
+
+	static final Executor DIRECT = Runnable::run;
+
+	@Mock EntityManagerFactory emf;
+	@Mock EntityManager em;
+	@Mock Metamodel metamodel;
+
+	@BeforeEach
+	void setUp() {
+
+		when(emf.createEntityManager()).thenReturn(em);
+		when(emf.getMetamodel()).thenReturn(metamodel);
+		when(metamodel.getManagedTypes()).thenReturn(Collections.emptySet());
+		when(em.createQuery("invalid")).thenThrow(new IllegalArgumentException("invalid"));
+	}
+
+	@Test
+	void immediateValidationFailsRightAway() {
+
+		QueryValidator validator = QueryValidator.immediate();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> validator.validate(emf, "invalid", e -> new IllegalStateException("translated", e)))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void parallelValidationReportsFailuresOnAwait() {
+
+		QueryValidator validator = QueryValidator.create(QueryValidationMode.PARALLEL, DIRECT);
+
+		validator.validate(emf, "invalid", e -> new IllegalStateException("first", e));
+		validator.validate(emf, "valid", IllegalStateException::new);
+		validator.validate(emf, "invalid", e -> new IllegalStateException("second", e));
+
+		assertThatThrownBy(validator::awaitValidation).isInstanceOf(IllegalStateException.class).hasMessage("first")
+				.satisfies(it -> assertThat(it.getSuppressed()).hasSize(1));
+
+		assertThatNoException().isThrownBy(validator::awaitValidation);
+	}
+
+	@Test
+	void deferredValidationRunsOnStart() {
+
+		QueryValidator validator = QueryValidator.create(QueryValidationMode.DEFERRED, DIRECT);
+
+		validator.validate(emf, "invalid", IllegalStateException::new);
+
+		verify(emf, never()).createEntityManager();
+
+		validator.startDeferredValidation();
+
+		verify(em).createQuery("invalid");
+		assertThatIllegalStateException().isThrownBy(validator::awaitValidation);
+	}
+
+	@Test
+	void skipsValidationOfCachedQueries(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("validated-queries");
+
+		QueryValidator validator = QueryValidator.create(QueryValidationMode.PARALLEL, DIRECT).withCache(file);
+		validator.validate(emf, "valid", IllegalStateException::new);
+		validator.validate(emf, "invalid", IllegalStateException::new);
+
+		assertThatIllegalStateException().isThrownBy(validator::awaitValidation);
+		assertThat(Files.readAllLines(file)).hasSize(1);
+
+		QueryValidator.immediate().withCache(file).validate(emf, "valid", IllegalStateException::new);
+
+		verify(em, times(1)).createQuery("valid");
+	}
+
+	@Test
+	void prunesUnusedEntriesFromCache(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("validated-queries");
+		Files.writeString(file, "stale\n");
+
+		QueryValidator validator = QueryValidator.create(QueryValidationMode.PARALLEL, DIRECT).withCache(file);
+		validator.validate(emf, "valid", IllegalStateException::new);
+		validator.awaitValidation();
+
+		assertThat(Files.readAllLines(file)).hasSize(1).doesNotContain("stale");
+	}
+
+	@Test
+	void doesNotRewriteUnchangedCache(@TempDir Path directory) throws Exception {
+
+		Path file = directory.resolve("validated-queries");
+
+		QueryValidator validator = QueryValidator.create(QueryValidationMode.PARALLEL, DIRECT).withCache(file);
+		validator.validate(emf, "valid", IllegalStateException::new);
+		validator.awaitValidation();
+
+		Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+
+		validator.validate(emf, "valid", IllegalStateException::new);
+		validator.awaitValidation();
+
+		assertThat(Files.getLastModifiedTime(file)).isEqualTo(FileTime.fromMillis(0));
+	}
+
+}
@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -361,6 +362,23 @@ class StoredProcedureAttributeSourceUnitTests {
 				.isEqualTo(expectedOut);
 	}
 
+	@Test
+	void considersFetchSize() {
+
+		StoredProcedureAttributes attr = creator.createFrom(method("streamEntitiesFromRefCursor"), entityMetadata);
+
+		assertThat(attr.getFetchSize()).isEqualTo(500);
+		assertThat(attr.getOutputProcedureParameters().get(0).getMode()).isEqualTo(ParameterMode.REF_CURSOR);
+	}
+
+	@Test
+	void usesProviderDefaultFetchSizeByDefault() {
+
+		StoredProcedureAttributes attr = creator.createFrom(method("plus1inout", Integer.class), entityMetadata);
+
+		assertThat(attr.getFetchSize()).isZero();
+	}
+
 	private static Method method(String name, Class<?>... paramTypes) {
 		return ReflectionUtils.findMethod(DummyRepository.class, name, paramTypes);
 	}
@@ -438,6 +456,9 @@ class StoredProcedureAttributeSourceUnitTests {
 		@Procedure("1_input_1_resultset") // DATAJPA-1657
 		List<Dummy> entityListFromResultSetWithInput(Integer arg);
 
+		@Procedure(value = "stream_report", refCursor = true, fetchSize = 500)
+		Stream<Dummy> streamEntitiesFromRefCursor();
+
 		@Procedure("1_input_1_resultset") // DATAJPA-1657
 		List<Object[]> genericObjectListFromResultSetWithInput(Integer arg);
 
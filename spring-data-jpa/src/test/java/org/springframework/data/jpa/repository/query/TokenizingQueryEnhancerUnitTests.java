@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.Assumptions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+
+/**
+ * TCK Tests for {@link TokenizingQueryEnhancer}.
+ */
+class TokenizingQueryEnhancerUnitTests extends QueryEnhancerTckTests {
+
+	@Override
+	QueryEnhancer createQueryEnhancer(DeclaredQuery query) {
+		return new TokenizingQueryEnhancer(query);
+	}
+
+	@Override
+	@ParameterizedTest
+	@MethodSource("jpqlCountQueries")
+	void shouldDeriveJpqlCountQuery(String query, String expected) {
+		assumeThat(query).as("TokenizingQueryEnhancer only supports native queries").isNull();
+	}
+
+	@Test
+	void appendsSortToExistingOrderByBeforeTrailingClauses() {
+
+		assertThat(rewrite("select * from users u order by id limit 10 offset 5", Sort.by("name")))
+				.isEqualTo("select * from users u order by id, u.name asc limit 10 offset 5");
+		assertThat(rewrite("select t.id from \"my table\" t where t.x = 'from x order by y' for update", Sort.by("name")))
+				.isEqualTo("select t.id from \"my table\" t where t.x = 'from x order by y' order by t.name asc for update");
+	}
+
+	@Test
+	void appliesSortToMainQueryOfCommonTableExpression() {
+
+		String query = "with recent as (select * from orders o order by o.id) select r.id from recent r";
+
+		assertThat(rewrite(query, Sort.by("name")))
+				.isEqualTo("with recent as (select * from orders o order by o.id) select r.id from recent r order by r.name asc");
+		assertThat(createQueryEnhancer(DeclaredQuery.nativeQuery(query)).createCountQueryFor(null))
+				.isEqualTo("with recent as (select * from orders o order by o.id) select count(r.id) from recent r");
+	}
+
+	@Test
+	void wrapsSetOperationsForCountQueries() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(
+				DeclaredQuery.nativeQuery("select a from t1 union select a from t2 order by a"));
+
+		assertThat(enhancer.detectAlias()).isNull();
+		assertThat(enhancer.createCountQueryFor(null))
+				.isEqualTo("select count(*) from (select a from t1 union select a from t2) count_query");
+		assertThat(rewrite("select a from t1 union select a from t2 order by a", Sort.by("name")))
+				.isEqualTo("select a from t1 union select a from t2 order by a, name asc");
+	}
+
+	@Test
+	void detectsJoinAndSelectionAliases() {
+
+		TokenizingQueryEnhancer enhancer = new TokenizingQueryEnhancer(DeclaredQuery.nativeQuery(
+				"select u.name, a.city as city from users u left join address a on a.user_id = u.id, roles r"));
+
+		assertThat(enhancer.detectAlias()).isEqualTo("u");
+		assertThat(enhancer.getProjection()).isEqualTo("u.name, a.city as city");
+		assertThat(enhancer.getJoinAliases()).containsExactly("a", "r");
+		assertThat(enhancer.getSelectionAliases()).containsExactly("city");
+	}
+
+	@Test
+	void ignoresKeywordsInLiteralsAndDollarQuotedStrings() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(
+				DeclaredQuery.nativeQuery("select u.id from users u where u.body = $$ from 'x' $$ and u.x = $1"));
+
+		assertThat(enhancer.createCountQueryFor(null))
+				.isEqualTo("select count(u.id) from users u where u.body = $$ from 'x' $$ and u.x = $1");
+	}
+
+	@Test // GH-3869
+	void shouldWorkWithParenthesesSelect() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(
+				DeclaredQuery.nativeQuery("(SELECT is_contained_in(:innerId, :outerId))"));
+
+		assertThat(enhancer.detectAlias()).isNull();
+		assertThat(enhancer.getProjection()).isEqualTo("is_contained_in(:innerId, :outerId)");
+	}
+
+	@Test
+	void rejectsSortingAndCountingOfModifyingQueries() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(DeclaredQuery.nativeQuery("update users u set u.name = ?1"));
+
+		assertThat(enhancer.isSelectQuery()).isFalse();
+		assertThatIllegalStateException().isThrownBy(() -> rewrite("update users u set u.name = ?1", Sort.by("name")));
+		assertThatIllegalStateException().isThrownBy(() -> enhancer.createCountQueryFor(null));
+	}
+
+	private String rewrite(String query, Sort sort) {
+
+		return createQueryEnhancer(DeclaredQuery.nativeQuery(query)).rewrite(new DefaultQueryRewriteInformation(sort,
+				ReturnedType.of(Object.class, Object.class, new SpelAwareProxyProjectionFactory())));
+	}
+
+}
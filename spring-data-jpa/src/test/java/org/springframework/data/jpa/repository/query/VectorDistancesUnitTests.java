@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.ScoringFunction;
+import org.springframework.data.domain.Vector;
+import org.springframework.data.domain.VectorScoringFunctions;
+
+/**
+ * Unit tests for {@link VectorDistances}.
+ */
+class VectorDistancesUnitTests {
+
+	float[] a = { 1, 2, 3, 4, 5 };
+	float[] b = { 2, 0, 3, 1, 5 };
+
+	@Test
+	void computesEuclideanDistance() {
+		assertThat(VectorDistances.distance(VectorScoringFunctions.EUCLIDEAN, a, b)).isCloseTo(Math.sqrt(14),
+				within(1e-6));
+	}
+
+	@Test
+	void computesTaxicabDistance() {
+		assertThat(VectorDistances.distance(VectorScoringFunctions.TAXICAB, a, b)).isEqualTo(6);
+	}
+
+	@Test
+	void computesHammingDistance() {
+		assertThat(VectorDistances.distance(VectorScoringFunctions.HAMMING, a, b)).isEqualTo(3);
+	}
+
+	@Test
+	void computesNegativeInnerProduct() {
+		assertThat(VectorDistances.distance(VectorScoringFunctions.DOT_PRODUCT, a, b)).isEqualTo(-40);
+	}
+
+	@Test
+	void computesCosineDistance() {
+
+		assertThat(VectorDistances.distance(VectorScoringFunctions.COSINE, a, a)).isCloseTo(0, within(1e-6));
+		assertThat(VectorDistances.distance(VectorScoringFunctions.COSINE, new float[] { 1, 0 }, new float[] { 0, 1 }))
+				.isCloseTo(1, within(1e-6));
+		assertThat(VectorDistances.distance(VectorScoringFunctions.COSINE, new float[] { 1, 0 }, new float[] { -1, 0 }))
+				.isCloseTo(2, within(1e-6));
+	}
+
+	@Test
+	void rejectsMismatchingDimensions() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> VectorDistances.distance(VectorScoringFunctions.EUCLIDEAN, a, new float[] { 1 }));
+	}
+
+	@Test
+	void supportsDatabaseDistanceFunctionsOnly() {
+
+		assertThat(VectorDistances.supports(VectorScoringFunctions.COSINE)).isTrue();
+		assertThat(VectorDistances.supports(ScoringFunction.unspecified())).isFalse();
+	}
+
+	@Test
+	void convertsVectorValues() {
+
+		assertThat(VectorDistances.toFloatArray(Vector.of(1f, 2f))).containsExactly(1f, 2f);
+		assertThat(VectorDistances.toFloatArray(new double[] { 1, 2 })).containsExactly(1f, 2f);
+		assertThat(VectorDistances.toFloatArray("foo")).isNull();
+	}
+
+}
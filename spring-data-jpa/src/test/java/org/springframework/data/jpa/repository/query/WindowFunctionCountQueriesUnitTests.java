@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for {@link WindowFunctionCountQueries}.
+ */
+class WindowFunctionCountQueriesUnitTests {
+
+	@Test
+	void addsWindowFunctionToJpqlSelection() {
+
+		assertThat(WindowFunctionCountQueries.addWindowFunctionCount("SELECT u FROM User u WHERE u.lastname = ?1"))
+				.isEqualTo("SELECT u, count(*) over () FROM User u WHERE u.lastname = ?1");
+	}
+
+	@Test
+	void addsWindowFunctionToNativeSelection() {
+
+		assertThat(WindowFunctionCountQueries
+				.addWindowFunctionCount("select firstname, lastname from users where lastname = :lastname order by id"))
+				.isEqualTo(
+						"select firstname, lastname, count(*) over () from users where lastname = :lastname order by id");
+	}
+
+	@Test
+	void ignoresFromInSubqueriesLiteralsAndComments() {
+
+		String query = "select u.id, (select count(a) from Address a where a.user = u) /* from */ from User u where u.name = 'from'";
+
+		assertThat(WindowFunctionCountQueries.addWindowFunctionCount(query)).isEqualTo(
+				"select u.id, (select count(a) from Address a where a.user = u) /* from */, count(*) over () from User u where u.name = 'from'");
+	}
+
+	@Test
+	void ignoresKeywordsUsedAsPropertiesOrParameters() {
+
+		assertThat(WindowFunctionCountQueries
+				.addWindowFunctionCount("select u from User u where u.group = :distinct")).isNotNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "from User u", //
+			"select distinct u from User u", //
+			"select u.lastname, count(u) from User u group by u.lastname", //
+			"select new com.acme.Dto(u.firstname) from User u", //
+			"select u.id from User u union select a.id from Address a", //
+			"update User u set u.active = false", //
+			"(select u from User u)", //
+			"select 1" })
+	void rejectsIneligibleQueries(String query) {
+		assertThat(WindowFunctionCountQueries.addWindowFunctionCount(query)).isNull();
+	}
+
+	@Test
+	void splitsRowsIntoContentAndTotal() {
+
+		Object[] single = { "entity", 42L };
+		Object[] multi = { "a", "b", 42 };
+
+		assertThat(WindowFunctionCountQueries.getContent(single)).isEqualTo("entity");
+		assertThat(WindowFunctionCountQueries.getContent(multi)).isEqualTo(new Object[] { "a", "b" });
+		assertThat(WindowFunctionCountQueries.getTotal(single)).isEqualTo(42L);
+		assertThat(WindowFunctionCountQueries.getTotal(multi)).isEqualTo(42L);
+		assertThat(WindowFunctionCountQueries.getTotal("entity")).isNull();
+	}
+
+}
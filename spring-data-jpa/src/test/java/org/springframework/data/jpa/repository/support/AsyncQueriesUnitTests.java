@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Unit tests for {@link AsyncQueries}.
+ */
+class AsyncQueriesUnitTests {
+
+	@Test
+	void awaitsAllFutures() {
+
+		CompletableFuture<String> first = new CompletableFuture<>();
+		CompletableFuture<String> second = CompletableFuture.completedFuture("second");
+
+		CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS)
+				.execute(() -> first.complete("first"));
+
+		AsyncQueries.awaitAll(first, second);
+
+		assertThat(first).isCompletedWithValue("first");
+		assertThat(second).isCompletedWithValue("second");
+	}
+
+	@Test
+	void failsFastAndCancelsRemainingFutures() {
+
+		DataRetrievalFailureException failure = new DataRetrievalFailureException("boom");
+
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		CompletableFuture<String> failing = CompletableFuture.failedFuture(failure);
+
+		assertThatException().isThrownBy(() -> AsyncQueries.awaitAll(pending, failing)).isSameAs(failure);
+		assertThat(pending).isCancelled();
+	}
+
+	@Test
+	void cancelsFuturesOnTimeout() {
+
+		CompletableFuture<String> pending = new CompletableFuture<>();
+
+		assertThatExceptionOfType(QueryTimeoutException.class)
+				.isThrownBy(() -> AsyncQueries.awaitAll(Duration.ofMillis(10), pending));
+		assertThat(pending).isCancelled();
+	}
+
+}
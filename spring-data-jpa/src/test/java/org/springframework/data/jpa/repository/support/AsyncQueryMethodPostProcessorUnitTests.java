@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.support.AsyncQueryMethodPostProcessor.AsyncQueryMethodInterceptor;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Unit tests for {@link AsyncQueryMethodPostProcessor}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AsyncQueryMethodPostProcessorUnitTests {
+
+	@Mock MethodInvocation invocation;
+	@Mock RepositoryInformation information;
+	@Mock PlatformTransactionManager transactionManager;
+
+	List<Runnable> tasks = new ArrayList<>();
+	AsyncQueryMethodInterceptor interceptor;
+
+	@BeforeEach
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void setUp() {
+
+		when(information.getRepositoryInterface()).thenReturn((Class) Sample.class);
+		when(information.isQueryMethod(any())).thenReturn(true);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+		interceptor = new AsyncQueryMethodInterceptor(information, tasks::add, () -> transactionManager);
+	}
+
+	@Test
+	void executesFutureQueryMethodsOnExecutorInReadOnlyTransaction() throws Throwable {
+
+		when(invocation.getMethod()).thenReturn(Sample.class.getMethod("findAsync"));
+		when(invocation.proceed()).thenReturn(CompletableFuture.completedFuture("result"));
+
+		CompletableFuture<?> future = (CompletableFuture<?>) interceptor.invoke(invocation);
+
+		assertThat(future).isNotDone();
+		verify(invocation, never()).proceed();
+
+		AtomicReference<TransactionDefinition> definition = new AtomicReference<>();
+		when(transactionManager.getTransaction(any())).thenAnswer(it -> {
+			definition.set(it.getArgument(0));
+			return new SimpleTransactionStatus();
+		});
+
+		tasks.forEach(Runnable::run);
+
+		assertThat(future).isCompletedWithValue("result");
+		assertThat(definition.get().isReadOnly()).isTrue();
+		verify(transactionManager).commit(any());
+	}
+
+	@Test
+	void usesReadWriteTransactionForModifyingQueries() throws Throwable {
+
+		when(invocation.getMethod()).thenReturn(Sample.class.getMethod("deleteAsync"));
+		when(invocation.proceed()).thenReturn(CompletableFuture.completedFuture(1));
+
+		CompletableFuture<?> future = (CompletableFuture<?>) interceptor.invoke(invocation);
+		tasks.forEach(Runnable::run);
+
+		assertThat(future).isCompletedWithValue(1);
+		verify(transactionManager).getTransaction(argThat(it -> !it.isReadOnly()));
+	}
+
+	@Test
+	void propagatesQueryFailures() throws Throwable {
+
+		IllegalStateException failure = new IllegalStateException("boom");
+
+		when(invocation.getMethod()).thenReturn(Sample.class.getMethod("findAsync"));
+		when(invocation.proceed()).thenThrow(failure);
+
+		CompletableFuture<?> future = (CompletableFuture<?>) interceptor.invoke(invocation);
+		tasks.forEach(Runnable::run);
+
+		assertThat(future).isCompletedExceptionally();
+		assertThatException().isThrownBy(future::join).havingCause().isSameAs(failure);
+		verify(transactionManager).rollback(any());
+	}
+
+	@Test
+	void doesNotRunQueriesCancelledBeforeExecution() throws Throwable {
+
+		when(invocation.getMethod()).thenReturn(Sample.class.getMethod("findAsync"));
+
+		CompletableFuture<?> future = (CompletableFuture<?>) interceptor.invoke(invocation);
+		future.cancel(true);
+		tasks.forEach(Runnable::run);
+
+		assertThat(future).isCancelled();
+		verify(invocation, never()).proceed();
+		verifyNoInteractions(transactionManager);
+	}
+
+	@Test
+	void proceedsSynchronouslyForOtherMethods() throws Throwable {
+
+		when(invocation.proceed()).thenReturn("result");
+
+		for (String name : new String[] { "find", "findWithAsyncAnnotation" }) {
+
+			when(invocation.getMethod()).thenReturn(Sample.class.getMethod(name));
+
+			assertThat(interceptor.invoke(invocation)).isEqualTo("result");
+		}
+
+		assertThat(tasks).isEmpty();
+		verifyNoInteractions(transactionManager);
+	}
+
+	@Test
+	void proceedsSynchronouslyForNonQueryMethods() throws Throwable {
+
+		when(invocation.getMethod()).thenReturn(Sample.class.getMethod("findAsync"));
+		when(information.isQueryMethod(any())).thenReturn(false);
+		when(invocation.proceed()).thenReturn("result");
+
+		assertThat(interceptor.invoke(invocation)).isEqualTo("result");
+		assertThat(tasks).isEmpty();
+	}
+
+	interface Sample {
+
+		CompletableFuture<String> findAsync();
+
+		@Modifying
+		CompletableFuture<Integer> deleteAsync();
+
+		String find();
+
+		@Async
+		CompletableFuture<String> findWithAsyncAnnotation();
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.jpa.domain.DeleteSpecification;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.ChunkedExecution;
+import org.springframework.data.jpa.repository.ChunkedExecution.Progress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for chunked execution through repositories set up by {@link JpaRepositoryFactoryBean} that run
+ * each chunk in a transaction of its own.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+class ChunkedExecutionTransactionsIntegrationTests {
+
+	@Autowired UserRepository repository;
+	@Autowired PlatformTransactionManager transactionManager;
+
+	private List<User> users;
+
+	@BeforeEach
+	void setUp() {
+
+		users = new ArrayList<>();
+
+		for (int i = 0; i < 10; i++) {
+			users.add(new User("Dave" + i, "Matthews", "dave" + i + "@dmband.com"));
+		}
+
+		users = repository.saveAll(users);
+	}
+
+	@AfterEach
+	void tearDown() {
+		repository.deleteAllInBatch();
+	}
+
+	@Test
+	void keepsCompletedChunksCommittedAndResumesAfterFailure() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		PredicateSpecification<User> failingInThirdChunk = (from, builder) -> {
+
+			if (invocations.incrementAndGet() == 3) {
+				throw new ChunkFailedException();
+			}
+
+			return builder.conjunction();
+		};
+
+		List<Progress> progress = new ArrayList<>();
+
+		assertThatExceptionOfType(ChunkFailedException.class).isThrownBy(() -> repository.delete(
+				DeleteSpecification.where(failingInThirdChunk), ChunkedExecution.ofSize(3).onProgress(progress::add)));
+
+		assertThat(progress).hasSize(2);
+		assertThat(repository.findAll()).extracting(User::getId)
+				.containsExactlyInAnyOrderElementsOf(users.subList(6, 10).stream().map(User::getId).toList());
+
+		long deleted = repository.delete(DeleteSpecification.where(failingInThirdChunk),
+				ChunkedExecution.ofSize(3).startAfter(progress.get(1).upperBound()));
+
+		assertThat(deleted).isEqualTo(4);
+		assertThat(repository.count()).isZero();
+	}
+
+	@Test
+	void rejectsInvocationWithinSurroundingTransaction() {
+
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.executeWithoutResult(
+						status -> repository.delete(DeleteSpecification.unrestricted(), ChunkedExecution.ofSize(3))))
+				.withMessageContaining("transaction");
+
+		assertThat(repository.count()).isEqualTo(10);
+	}
+
+	interface UserRepository extends JpaRepository<User, Integer>, JpaSpecificationExecutor<User> {}
+
+	static class ChunkFailedException extends RuntimeException {}
+
+	@Configuration
+	@EnableJpaRepositories(basePackageClasses = ChunkedExecutionTransactionsIntegrationTests.class,
+			considerNestedRepositories = true,
+			includeFilters = @Filter(classes = UserRepository.class, type = FilterType.ASSIGNABLE_TYPE))
+	static class Config {
+
+		@Bean
+		DataSource dataSource() {
+			return new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(EmbeddedDatabaseType.HSQL).build();
+		}
+
+		@Bean
+		LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+
+			HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter();
+			adapter.setGenerateDdl(true);
+			adapter.setDatabase(Database.HSQL);
+
+			LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+			factoryBean.setPersistenceUnitName("spring-data-jpa");
+			factoryBean.setDataSource(dataSource);
+			factoryBean.setJpaVendorAdapter(adapter);
+
+			return factoryBean;
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(EntityManagerFactory emf) {
+			return new JpaTransactionManager(emf);
+		}
+	}
+
+}
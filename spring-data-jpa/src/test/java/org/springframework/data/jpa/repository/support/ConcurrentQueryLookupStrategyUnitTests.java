@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Unit tests for {@link ConcurrentQueryLookupStrategy}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ConcurrentQueryLookupStrategyUnitTests {
+
+	@Mock QueryLookupStrategy delegate;
+	@Mock RepositoryInformation information;
+	@Mock RepositoryMetadata metadata;
+	@Mock ProjectionFactory projectionFactory;
+	@Mock NamedQueries namedQueries;
+	@Mock RepositoryQuery first, second;
+
+	Method findFirst, findSecond;
+	List<Runnable> tasks = new ArrayList<>();
+	Map<Class<?>, RepositoryInformation> repositories = new ConcurrentHashMap<>();
+	ConcurrentQueryLookupStrategy strategy;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		findFirst = SampleRepository.class.getMethod("findFirst");
+		findSecond = SampleRepository.class.getMethod("findSecond");
+
+		doReturn(SampleRepository.class).when(metadata).getRepositoryInterface();
+		doReturn(SampleRepository.class).when(information).getRepositoryInterface();
+		doReturn(Streamable.of(findFirst, findSecond)).when(information).getQueryMethods();
+
+		when(delegate.resolveQuery(eq(findFirst), any(), any(), any())).thenReturn(first);
+		when(delegate.resolveQuery(eq(findSecond), any(), any(), any())).thenReturn(second);
+
+		repositories.put(SampleRepository.class, information);
+		strategy = new ConcurrentQueryLookupStrategy(delegate, tasks::add, ApplicationStartup.DEFAULT, repositories);
+	}
+
+	@Test
+	void submitsAllQueryMethodsOnFirstLookup() {
+
+		assertThat(strategy.resolveQuery(findFirst, metadata, projectionFactory, namedQueries)).isSameAs(first);
+
+		assertThat(tasks).hasSize(2);
+		assertThat(repositories).isEmpty();
+
+		tasks.forEach(Runnable::run);
+
+		assertThat(strategy.resolveQuery(findSecond, metadata, projectionFactory, namedQueries)).isSameAs(second);
+
+		verify(delegate, times(1)).resolveQuery(eq(findFirst), any(), any(), any());
+		verify(delegate, times(1)).resolveQuery(eq(findSecond), any(), any(), any());
+	}
+
+	@Test
+	void resolvesPendingQueryOnCallingThread() {
+
+		assertThat(strategy.resolveQuery(findFirst, metadata, projectionFactory, namedQueries)).isSameAs(first);
+		assertThat(strategy.resolveQuery(findSecond, metadata, projectionFactory, namedQueries)).isSameAs(second);
+
+		tasks.forEach(Runnable::run);
+
+		verify(delegate, times(1)).resolveQuery(eq(findFirst), any(), any(), any());
+		verify(delegate, times(1)).resolveQuery(eq(findSecond), any(), any(), any());
+	}
+
+	@Test
+	void propagatesResolutionFailure() {
+
+		IllegalStateException failure = new IllegalStateException("invalid");
+		when(delegate.resolveQuery(eq(findSecond), any(), any(), any())).thenThrow(failure);
+
+		strategy.resolveQuery(findFirst, metadata, projectionFactory, namedQueries);
+		tasks.forEach(Runnable::run);
+
+		assertThatThrownBy(() -> strategy.resolveQuery(findSecond, metadata, projectionFactory, namedQueries))
+				.isSameAs(failure);
+	}
+
+	@Test
+	void endsStartupStepOnCallingThreadOnceAllQueriesWereHandedOut() {
+
+		ApplicationStartup applicationStartup = mock(ApplicationStartup.class);
+		StartupStep step = mock(StartupStep.class);
+		AtomicReference<Thread> endedOn = new AtomicReference<>();
+
+		when(applicationStartup.start(anyString())).thenReturn(step);
+		doAnswer(it -> {
+			endedOn.set(Thread.currentThread());
+			return null;
+		}).when(step).end();
+
+		strategy = new ConcurrentQueryLookupStrategy(delegate, tasks::add, applicationStartup, repositories);
+
+		strategy.resolveQuery(findFirst, metadata, projectionFactory, namedQueries);
+		tasks.forEach(Runnable::run);
+
+		verify(step, never()).end();
+
+		strategy.resolveQuery(findSecond, metadata, projectionFactory, namedQueries);
+
+		verify(step).end();
+		assertThat(endedOn).hasValue(Thread.currentThread());
+	}
+
+	@Test
+	void endsStartupStepOnResolutionFailure() {
+
+		ApplicationStartup applicationStartup = mock(ApplicationStartup.class);
+		StartupStep step = mock(StartupStep.class);
+
+		when(applicationStartup.start(anyString())).thenReturn(step);
+		when(delegate.resolveQuery(eq(findFirst), any(), any(), any())).thenThrow(new IllegalStateException("invalid"));
+
+		strategy = new ConcurrentQueryLookupStrategy(delegate, tasks::add, applicationStartup, repositories);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> strategy.resolveQuery(findFirst, metadata, projectionFactory, namedQueries));
+
+		verify(step).tag("failed", "true");
+		verify(step).end();
+	}
+
+	interface SampleRepository extends Repository<Object, Long> {
+
+		Object findFirst();
+
+		Object findSecond();
+	}
+
+}
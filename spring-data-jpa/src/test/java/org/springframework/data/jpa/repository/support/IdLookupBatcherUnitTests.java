@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DataRetrievalFailureException;
+
+/**
+ * Unit tests for {@link IdLookupBatcher}.
+ */
+class IdLookupBatcherUnitTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+	private final List<Collection<Long>> queries = new CopyOnWriteArrayList<>();
+	private final List<Long> individualLookups = new CopyOnWriteArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void coalescesConcurrentLookupsIntoSingleQuery() {
+
+		IdLookupBatcher<Item, Long> batcher = createBatcher(Duration.ofSeconds(10), 4);
+
+		List<CompletableFuture<Optional<Item>>> results = new ArrayList<>();
+
+		for (long id = 1; id <= 4; id++) {
+			long it = id;
+			results.add(CompletableFuture.supplyAsync(() -> batcher.find(it), executor));
+		}
+
+		for (int i = 0; i < results.size(); i++) {
+			assertThat(results.get(i).join()).contains(new Item(i + 1L));
+		}
+
+		assertThat(queries).hasSize(1);
+		assertThat(queries.get(0)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+	}
+
+	@Test
+	void executesPartialBatchAfterWindow() {
+
+		IdLookupBatcher<Item, Long> batcher = createBatcher(Duration.ofMillis(10), 100);
+
+		assertThat(batcher.find(1L)).contains(new Item(1L));
+		assertThat(batcher.find(2L)).contains(new Item(2L));
+
+		assertThat(queries).hasSize(2);
+	}
+
+	@Test
+	void returnsEmptyResultForMissingEntity() {
+
+		IdLookupBatcher<Item, Long> batcher = createBatcher(Duration.ofMillis(1), 10);
+
+		assertThat(batcher.find(-1L)).isEmpty();
+	}
+
+	@Test
+	void resolvesDuplicateLookupsWithinBatchIndividually() {
+
+		IdLookupBatcher<Item, Long> batcher = createBatcher(Duration.ofMillis(200), 10);
+
+		CompletableFuture<Optional<Item>> first = CompletableFuture.supplyAsync(() -> batcher.find(1L), executor);
+		CompletableFuture<Optional<Item>> second = CompletableFuture.supplyAsync(() -> batcher.find(1L), executor);
+
+		assertThat(first.join()).contains(new Item(1L));
+		assertThat(second.join()).contains(new Item(1L));
+		assertThat(first.join().get()).isNotSameAs(second.join().get());
+
+		assertThat(queries).allSatisfy(it -> assertThat(it).containsOnlyOnce(1L));
+		assertThat(individualLookups.size() + batcher.getBatchStatistics().lookups()).isEqualTo(2);
+	}
+
+	@Test
+	void propagatesQueryFailure() {
+
+		DataRetrievalFailureException failure = new DataRetrievalFailureException("boom");
+		IdLookupBatcher<Item, Long> batcher = new IdLookupBatcher<>(Item.class, ids -> {
+			throw failure;
+		}, Item::new, Item::id, Duration.ofMillis(1), 10);
+
+		assertThatException().isThrownBy(() -> batcher.find(1L)).isSameAs(failure);
+	}
+
+	@Test
+	void reportsStatistics() {
+
+		IdLookupBatcher<Item, Long> batcher = createBatcher(Duration.ofSeconds(10), 2);
+
+		CompletableFuture<Optional<Item>> first = CompletableFuture.supplyAsync(() -> batcher.find(1L), executor);
+		CompletableFuture<Optional<Item>> second = CompletableFuture.supplyAsync(() -> batcher.find(2L), executor);
+
+		CompletableFuture.allOf(first, second).join();
+
+		IdLookupBatcher.Statistics statistics = batcher.getBatchStatistics();
+
+		assertThat(statistics.entityType()).isEqualTo(Item.class);
+		assertThat(statistics.batches()).isEqualTo(1);
+		assertThat(statistics.lookups()).isEqualTo(2);
+		assertThat(statistics.getAverageBatchSize()).isEqualTo(2);
+		assertThat(statistics.getFillRate()).isEqualTo(1);
+		assertThat(IdLookupBatcher.getStatistics()).contains(statistics);
+	}
+
+	@Test
+	void rejectsInvalidConfiguration() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> createBatcher(Duration.ZERO, 10));
+		assertThatIllegalArgumentException().isThrownBy(() -> createBatcher(Duration.ofMillis(1), 0));
+	}
+
+	private IdLookupBatcher<Item, Long> createBatcher(Duration window, int maxBatchSize) {
+
+		return new IdLookupBatcher<>(Item.class, ids -> {
+
+			queries.add(List.copyOf(ids));
+			return ids.stream().filter(it -> it > 0).map(Item::new).toList();
+		}, id -> {
+
+			individualLookups.add(id);
+			return id > 0 ? new Item(id) : null;
+		}, Item::id, window, maxBatchSize);
+	}
+
+	record Item(Long id) {}
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Integration tests for batched lookups by identifier through a repository proxy using a connection pool that is
+ * smaller than the number of concurrent callers.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+class IdLookupBatchingIntegrationTests {
+
+	static final int POOL_SIZE = 2;
+
+	@Autowired UserRepository repository;
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private List<User> users;
+
+	@BeforeEach
+	void setUp() {
+
+		repository.deleteAllInBatch();
+		users = new ArrayList<>();
+
+		for (int i = 0; i < 4; i++) {
+			users.add(new User("Dave" + i, "Matthews", "dave" + i + "@dmband.com"));
+		}
+
+		users = repository.saveAll(users);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void batchesLookupsOfMoreCallersThanConnections() throws Exception {
+
+		int callers = POOL_SIZE * 4;
+		List<Integer> ids = new ArrayList<>();
+
+		for (int i = 0; i < callers; i++) {
+			ids.add(users.get(i % users.size()).getId());
+		}
+
+		List<Optional<User>> results = findConcurrently(ids);
+
+		for (int i = 0; i < callers; i++) {
+			assertThat(results.get(i)).map(User::getId).contains(ids.get(i));
+		}
+	}
+
+	@Test
+	void returnsSeparateInstancesForConcurrentLookupsOfSameIdentifier() throws Exception {
+
+		Integer id = users.get(0).getId();
+
+		List<Optional<User>> results = findConcurrently(List.of(id, id, id));
+
+		assertThat(results).allSatisfy(it -> assertThat(it).map(User::getId).contains(id));
+		assertThat(results.get(0).get()).isNotSameAs(results.get(1).get()).isNotSameAs(results.get(2).get());
+		assertThat(results.get(1).get()).isNotSameAs(results.get(2).get());
+	}
+
+	private List<Optional<User>> findConcurrently(List<Integer> ids) throws Exception {
+
+		CyclicBarrier barrier = new CyclicBarrier(ids.size());
+		List<Future<Optional<User>>> futures = new ArrayList<>();
+
+		for (Integer id : ids) {
+			futures.add(executor.submit(() -> {
+
+				barrier.await(5, TimeUnit.SECONDS);
+				return repository.findById(id);
+			}));
+		}
+
+		List<Optional<User>> results = new ArrayList<>();
+
+		for (Future<Optional<User>> future : futures) {
+			results.add(future.get(10, TimeUnit.SECONDS));
+		}
+
+		return results;
+	}
+
+	interface UserRepository extends JpaRepository<User, Integer> {}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableJpaRepositories(basePackageClasses = IdLookupBatchingIntegrationTests.class,
+			considerNestedRepositories = true,
+			includeFilters = @Filter(classes = UserRepository.class, type = FilterType.ASSIGNABLE_TYPE),
+			batchIdLookups = true, idLookupBatchWindow = 50)
+	static class Config {
+
+		@Bean
+		DataSource dataSource() {
+			return new BoundedDataSource(new EmbeddedDatabaseBuilder().generateUniqueName(true)
+					.setType(EmbeddedDatabaseType.HSQL).build(), POOL_SIZE);
+		}
+
+		@Bean
+		LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+
+			HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter();
+			adapter.setGenerateDdl(true);
+			adapter.setDatabase(Database.HSQL);
+
+			LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+			factoryBean.setPersistenceUnitName("spring-data-jpa");
+			factoryBean.setDataSource(dataSource);
+			factoryBean.setJpaVendorAdapter(adapter);
+
+			return factoryBean;
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(EntityManagerFactory emf) {
+			return new JpaTransactionManager(emf);
+		}
+	}
+
+	/**
+	 * {@link DataSource} handing out a limited number of connections at a time like a connection pool. Obtaining a
+	 * connection fails if none is returned within a second instead of waiting indefinitely.
+	 */
+	static class BoundedDataSource extends DelegatingDataSource {
+
+		private final Semaphore connections;
+
+		BoundedDataSource(DataSource dataSource, int size) {
+
+			super(dataSource);
+			this.connections = new Semaphore(size);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+
+			try {
+				if (!connections.tryAcquire(1, TimeUnit.SECONDS)) {
+					throw new SQLException("Connection pool exhausted");
+				}
+			} catch (InterruptedException ex) {
+
+				Thread.currentThread().interrupt();
+				throw new SQLException(ex);
+			}
+
+			try {
+				return releasingOnClose(super.getConnection());
+			} catch (SQLException | RuntimeException ex) {
+
+				connections.release();
+				throw ex;
+			}
+		}
+
+		private Connection releasingOnClose(Connection connection) {
+
+			boolean[] closed = { false };
+
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+					(proxy, method, args) -> {
+
+						if (method.getName().equals("close")) {
+
+							synchronized (closed) {
+								if (!closed[0]) {
+									closed[0] = true;
+									connections.release();
+								}
+							}
+						}
+
+						try {
+							return method.invoke(connection, args);
+						} catch (InvocationTargetException ex) {
+							throw ex.getTargetException();
+						}
+					});
+		}
+	}
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.query.criteria.JpaRoot;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.domain.sample.Role;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.support.JpqlSpecificationRenderer.RenderedQuery;
+
+/**
+ * Unit tests for {@link JpqlSpecificationRenderer}.
+ */
+class JpqlSpecificationRendererUnitTests {
+
+	private final EntityManager em = mock(EntityManager.class);
+	private final JpqlSpecificationRenderer renderer = new JpqlSpecificationRenderer(em, 16);
+
+	@Test
+	void rendersPredicateWithBindParameters() {
+
+		RenderedQuery query = render(firstnameAndAge("Dave", 20));
+
+		assertThat(query.query()).isEqualTo("SELECT u FROM User u WHERE u.firstname = ?1 AND u.age > ?2");
+		assertThat(query.parameters()).containsExactly("Dave", 20);
+	}
+
+	@Test
+	void reusesQueryForSpecificationsOfSameShape() {
+
+		RenderedQuery first = render(firstnameAndAge("Dave", 20));
+		RenderedQuery second = render(firstnameAndAge("Oliver", 30));
+
+		assertThat(second.query()).isSameAs(first.query());
+		assertThat(second.parameters()).containsExactly("Oliver", 30);
+	}
+
+	@Test
+	void nestsDisjunctionsAndNegations() {
+
+		Specification<User> spec = Specification.<User> where((root, query, cb) -> cb.equal(root.get("firstname"), "Dave"))
+				.and(Specification.anyOf((root, query, cb) -> cb.like(root.get("lastname"), "M%"),
+						Specification.not((root, query, cb) -> cb.isNull(root.get("emailAddress")))));
+
+		RenderedQuery query = render(spec);
+
+		assertThat(query.query()).isEqualTo(
+				"SELECT u FROM User u WHERE u.firstname = ?1 AND (u.lastname LIKE ?2 OR NOT (u.emailAddress IS NULL))");
+		assertThat(query.parameters()).containsExactly("Dave", "M%");
+	}
+
+	@Test
+	void rendersJoinsDistinctAndFunctions() {
+
+		Specification<User> spec = (root, query, cb) -> {
+
+			Join<User, Role> roles = root.join("roles", JoinType.LEFT);
+			query.distinct(true);
+
+			return cb.and(cb.equal(roles.get("name"), "admin"), cb.like(cb.lower(root.get("lastname")), "m%", '\\'));
+		};
+
+		RenderedQuery query = render(spec);
+
+		assertThat(query.query()).isEqualTo(
+				"SELECT DISTINCT u FROM User u LEFT JOIN u.roles r WHERE r.name = ?1 AND LOWER(u.lastname) LIKE ?2 ESCAPE '\\'");
+		assertThat(query.parameters()).containsExactly("admin", "m%");
+	}
+
+	@Test
+	void rendersInPredicates() {
+
+		Specification<User> spec = (root, query, cb) -> cb.or(root.get("lastname").in(List.of("Matthews", "Beauford")),
+				cb.in(root.get("firstname")).value("Dave").value("Oliver"));
+
+		RenderedQuery query = render(spec);
+
+		assertThat(query.query()).isEqualTo("SELECT u FROM User u WHERE u.lastname IN ?1 OR u.firstname IN ?2");
+		assertThat(query.parameters()).containsExactly(List.of("Matthews", "Beauford"), List.of("Dave", "Oliver"));
+	}
+
+	@Test
+	void rendersCountQuery() {
+
+		Specification<User> spec = (root, query, cb) -> {
+
+			query.distinct(true);
+			return cb.isTrue(root.get("active"));
+		};
+
+		RenderedQuery query = renderer.render(spec, User.class, Sort.unsorted(), true);
+
+		assertThat(query).isNotNull();
+		assertThat(query.query()).isEqualTo("SELECT COUNT(DISTINCT u) FROM User u WHERE u.active = TRUE");
+		assertThat(query.parameters()).isEmpty();
+	}
+
+	@Test
+	void rendersSortByBasicAttributes() {
+
+		mockAttribute("lastname", PersistentAttributeType.BASIC, String.class);
+
+		RenderedQuery query = renderer.render(firstnameAndAge("Dave", 20), User.class,
+				Sort.by(Sort.Order.desc("lastname").ignoreCase()), false);
+
+		assertThat(query).isNotNull();
+		assertThat(query.query())
+				.isEqualTo("SELECT u FROM User u WHERE u.firstname = ?1 AND u.age > ?2 ORDER BY LOWER(u.lastname) desc");
+	}
+
+	@Test
+	void doesNotRenderSortByAssociationsOrUnsafeExpressions() {
+
+		mockAttribute("manager", PersistentAttributeType.MANY_TO_ONE, User.class);
+
+		assertThat(renderer.render(firstnameAndAge("Dave", 20), User.class, Sort.by("manager"), false)).isNull();
+		assertThat(renderer.render(firstnameAndAge("Dave", 20), User.class, JpaSort.unsafe("LENGTH(firstname)"), false))
+				.isNull();
+	}
+
+	@Test
+	void doesNotRenderUnsupportedCriteriaUsage() {
+
+		Specification<User> fetch = (root, query, cb) -> {
+
+			root.fetch("roles");
+			return cb.equal(root.get("firstname"), "Dave");
+		};
+
+		Specification<User> subquery = (root, query, cb) -> cb.exists(query.subquery(User.class));
+		Specification<User> nullLiteral = (root, query, cb) -> cb.equal(root.get("firstname"), (Object) null);
+		Specification<User> repeatedJoin = (root, query, cb) -> cb.and(cb.equal(root.join("roles").get("name"), "a"),
+				cb.equal(root.join("roles").get("name"), "b"));
+
+		assertThat(renderer.render(fetch, User.class, Sort.unsorted(), false)).isNull();
+		assertThat(renderer.render(subquery, User.class, Sort.unsorted(), false)).isNull();
+		assertThat(renderer.render(nullLiteral, User.class, Sort.unsorted(), false)).isNull();
+		assertThat(renderer.render(repeatedJoin, User.class, Sort.unsorted(), false)).isNull();
+	}
+
+	@Test
+	void fallsBackForSpecificationsCastingToProviderTypes() {
+
+		Specification<User> spec = (root, query, cb) -> cb.equal(((JpaRoot<User>) root).get("firstname"), "Dave");
+
+		assertThat(renderer.render(spec, User.class, Sort.unsorted(), false)).isNull();
+	}
+
+	@Test
+	void doesNotApplySpecificationThatCannotBeRenderedAgain() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		Specification<User> spec = (root, query, cb) -> {
+
+			invocations.incrementAndGet();
+			return cb.exists(query.subquery(User.class));
+		};
+
+		assertThat(renderer.render(spec, User.class, Sort.unsorted(), false)).isNull();
+		assertThat(renderer.render(spec, User.class, Sort.unsorted(), false)).isNull();
+		assertThat(renderer.render(spec, User.class, Sort.unsorted(), true)).isNull();
+		assertThat(invocations).hasValue(1);
+	}
+
+	@Test
+	void remembersCompositionsThatCannotBeRenderedPerInstance() {
+
+		Specification<User> subquery = (root, query, cb) -> cb.exists(query.subquery(User.class));
+		Specification<User> unsupported = firstnameAndAge("Dave", 20).and(subquery);
+		Specification<User> supported = firstnameAndAge("Dave", 20).and(firstnameAndAge("Carter", 30));
+
+		assertThat(unsupported.getClass()).isEqualTo(supported.getClass());
+		assertThat(renderer.render(unsupported, User.class, Sort.unsorted(), false)).isNull();
+		assertThat(renderer.render(supported, User.class, Sort.unsorted(), false)).isNotNull();
+	}
+
+	@Test
+	void doesNotApplySpecificationIfSortCannotBeRendered() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		Specification<User> spec = (root, query, cb) -> {
+
+			invocations.incrementAndGet();
+			return cb.equal(root.get("firstname"), "Dave");
+		};
+
+		assertThat(renderer.render(spec, User.class, JpaSort.unsafe("LENGTH(firstname)"), false)).isNull();
+		assertThat(invocations).hasValue(0);
+		assertThat(renderer.render(spec, User.class, Sort.unsorted(), false)).isNotNull();
+	}
+
+	@Test
+	void rendersEmptySpecification() {
+
+		RenderedQuery query = render(Specification.unrestricted());
+
+		assertThat(query.query()).isEqualTo("SELECT u FROM User u");
+		assertThat(query.parameters()).isEmpty();
+	}
+
+	private RenderedQuery render(Specification<User> spec) {
+
+		RenderedQuery query = renderer.render(spec, User.class, Sort.unsorted(), false);
+
+		assertThat(query).isNotNull();
+		return query;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void mockAttribute(String name, PersistentAttributeType type, Class<?> javaType) {
+
+		Metamodel metamodel = mock(Metamodel.class);
+		ManagedType managedType = mock(ManagedType.class);
+		Attribute attribute = mock(Attribute.class);
+
+		when(em.getMetamodel()).thenReturn(metamodel);
+		when(metamodel.managedType(User.class)).thenReturn(managedType);
+		when(managedType.getAttribute(name)).thenReturn(attribute);
+		when(attribute.getPersistentAttributeType()).thenReturn(type);
+		when(attribute.getJavaType()).thenReturn(javaType);
+	}
+
+	private static Specification<User> firstnameAndAge(String firstname, int age) {
+		return (root, query, cb) -> cb.and(cb.equal(root.get("firstname"), firstname), cb.greaterThan(root.get("age"), age));
+	}
+
+}
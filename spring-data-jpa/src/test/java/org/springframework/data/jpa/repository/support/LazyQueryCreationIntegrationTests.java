@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.query.AbstractJpaQuery;
+import org.springframework.data.jpa.repository.query.LazyJpaQuery;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.QueryCreationListener;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for repositories using lazy query creation.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration("classpath:hibernate-infrastructure.xml")
+@Transactional
+class LazyQueryCreationIntegrationTests {
+
+	@PersistenceContext EntityManager em;
+
+	JpaRepositoryFactory factory;
+
+	@BeforeEach
+	void setUp() {
+
+		factory = new JpaRepositoryFactory(em);
+		factory.setLazyQueryCreation(true);
+	}
+
+	@Test
+	void notifiesQueryCreationListenersOnceQueryIsCreated() {
+
+		List<AbstractJpaQuery> created = new CopyOnWriteArrayList<>();
+		factory.addQueryCreationListener(new CollectingQueryCreationListener(created));
+
+		SampleRepository repository = factory.getRepository(SampleRepository.class);
+
+		assertThat(created).isEmpty();
+
+		repository.findByLastname("Matthews");
+		repository.findByLastname("Beauford");
+
+		assertThat(created).hasSize(1).extracting(it -> it.getQueryMethod().getName()).containsExactly("findByLastname");
+	}
+
+	@Test
+	void notifiesQueryCreationListenersForWarmedUpQueries() {
+
+		List<AbstractJpaQuery> created = new CopyOnWriteArrayList<>();
+		factory.addQueryCreationListener(new CollectingQueryCreationListener(created));
+		factory.getRepository(SampleRepository.class);
+
+		factory.warmUpQueries(it -> true);
+
+		assertThat(created).hasSize(1);
+	}
+
+	@Test
+	void notifiesListenersAcceptingLazyQueriesOnlyOnce() {
+
+		List<LazyJpaQuery> created = new CopyOnWriteArrayList<>();
+		factory.addQueryCreationListener(new LazyQueryCreationListener(created));
+
+		SampleRepository repository = factory.getRepository(SampleRepository.class);
+		repository.findByLastname("Matthews");
+
+		assertThat(created).hasSize(1);
+	}
+
+	interface SampleRepository extends Repository<User, Integer> {
+
+		List<User> findByLastname(String lastname);
+	}
+
+	static class CollectingQueryCreationListener implements QueryCreationListener<AbstractJpaQuery> {
+
+		private final List<AbstractJpaQuery> created;
+
+		CollectingQueryCreationListener(List<AbstractJpaQuery> created) {
+			this.created = created;
+		}
+
+		@Override
+		public void onCreation(AbstractJpaQuery query) {
+			created.add(query);
+		}
+	}
+
+	static class LazyQueryCreationListener implements QueryCreationListener<LazyJpaQuery> {
+
+		private final List<LazyJpaQuery> created;
+
+		LazyQueryCreationListener(List<LazyJpaQuery> created) {
+			this.created = created;
+		}
+
+		@Override
+		public void onCreation(LazyJpaQuery query) {
+			created.add(query);
+		}
+	}
+
+}
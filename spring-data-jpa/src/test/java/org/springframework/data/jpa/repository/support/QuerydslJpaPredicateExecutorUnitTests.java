@@ -581,7 +581,7 @@ class QuerydslJpaPredicateExecutorUnitTests {
 		KeysetScrollPosition keyset = ScrollPosition.forward(keys);
 		Sort sort = Sort.by(Order.asc("firstname"), Order.asc("lastname"), Order.asc("emailAddress"));
 
-		var strategy = predicateExecutor.new QuerydslQueryStrategy();
+		var strategy = predicateExecutor.new QuerydslQueryStrategy(true);
 		BooleanExpression predicate = KeysetScrollDelegate.of(keyset.getDirection()).createPredicate(keyset, sort,
 				strategy);
 
@@ -592,6 +592,46 @@ class QuerydslJpaPredicateExecutorUnitTests {
 		assertThat(jpql).contains("lastname is null").contains("lastname is not null").doesNotContain("= null");
 	}
 
+	@Test
+	void keysetPredicateRendersRowValueComparison() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("firstname", "Jane");
+		keys.put("emailAddress", "jane@doe2.com");
+
+		KeysetScrollPosition keyset = ScrollPosition.backward(keys);
+		Sort sort = Sort.by(Order.desc("firstname"), Order.desc("emailAddress"));
+
+		var strategy = predicateExecutor.new QuerydslQueryStrategy(true);
+		BooleanExpression predicate = KeysetScrollDelegate.of(keyset.getDirection()).createPredicate(keyset, sort,
+				strategy);
+
+		JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+		serializer.handle(predicate);
+
+		assertThat(serializer.toString()).isEqualTo("(user.firstname, user.emailAddress) < (?1, ?2)");
+	}
+
+	@Test
+	void keysetPredicateFallsBackToDisjunctionWithoutRowValueComparison() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("firstname", "Jane");
+		keys.put("emailAddress", "jane@doe2.com");
+
+		KeysetScrollPosition keyset = ScrollPosition.forward(keys);
+		Sort sort = Sort.by(Order.asc("firstname"), Order.asc("emailAddress"));
+
+		var strategy = predicateExecutor.new QuerydslQueryStrategy(false);
+		BooleanExpression predicate = KeysetScrollDelegate.of(keyset.getDirection()).createPredicate(keyset, sort,
+				strategy);
+
+		JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+		serializer.handle(predicate);
+
+		assertThat(serializer.toString()).contains(" or ").doesNotContain("(user.firstname, user.emailAddress)");
+	}
+
 	private interface UserProjectionInterfaceBased {
 
 		String getFirstname();
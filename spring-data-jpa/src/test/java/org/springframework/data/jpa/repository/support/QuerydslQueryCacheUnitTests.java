@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.domain.sample.QUser;
+import org.springframework.data.jpa.repository.support.QuerydslQueryCache.SerializedQuery;
+
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.JoinType;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Param;
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.JPQLSerializer;
+
+/**
+ * Unit tests for {@link QuerydslQueryCache}.
+ */
+class QuerydslQueryCacheUnitTests {
+
+	private static final QUser user = QUser.user;
+
+	private final QuerydslQueryCache cache = new QuerydslQueryCache(HQLTemplates.DEFAULT, 16);
+	private final AtomicInteger serializations = new AtomicInteger();
+
+	@Test
+	void reusesQueryOfSameShapeAndRebindsConstants() {
+
+		SerializedQuery first = serialize(user.firstname.eq("Dave").and(user.age.gt(20)));
+		SerializedQuery second = serialize(user.firstname.eq("Oliver").and(user.age.gt(30)));
+
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		assertThat(second.queryString()).isEqualTo(first.queryString());
+		assertThat(first.constants()).containsExactly("Dave", 20);
+		assertThat(second.constants()).containsExactly("Oliver", 30);
+		assertThat(serializations).hasValue(1);
+	}
+
+	@Test
+	void recreatesConstantsTransformedDuringSerialization() {
+
+		serialize(user.firstname.startsWithIgnoreCase("Da").or(user.lastname.contains("at")));
+
+		Predicate predicate = user.firstname.startsWithIgnoreCase("OLI_").or(user.lastname.contains("ier%"));
+		SerializedQuery serialized = serialize(predicate);
+		JPQLSerializer expected = serializer(metadata(predicate), false);
+
+		assertThat(serialized).isNotNull();
+		assertThat(serialized.queryString()).isEqualTo(expected.toString());
+		assertThat(serialized.constants()).isEqualTo(expected.getConstants());
+	}
+
+	@Test
+	void distinguishesQueryShapes() {
+
+		SerializedQuery equal = serialize(user.firstname.eq("Dave"));
+		SerializedQuery notEqual = serialize(user.firstname.ne("Dave"));
+		SerializedQuery count = serialize(user.firstname.eq("Dave"), true);
+
+		assertThat(equal.queryString()).isNotEqualTo(notEqual.queryString()).isNotEqualTo(count.queryString());
+		assertThat(serializations).hasValue(3);
+	}
+
+	@Test
+	void distinguishesEmptyCollections() {
+
+		SerializedQuery empty = serialize(user.firstname.in(List.of()));
+		SerializedQuery filled = serialize(user.firstname.in(List.of("Dave", "Oliver")));
+
+		assertThat(empty.constants()).isEmpty();
+		assertThat(filled.constants()).containsExactly(List.of("Dave", "Oliver"));
+		assertThat(serializations).hasValue(2);
+	}
+
+	@Test
+	void doesNotCacheQueriesUsingParameters() {
+
+		Param<String> firstname = new Param<>(String.class, "firstname");
+
+		assertThat(serialize(user.firstname.eq(firstname))).isNull();
+		assertThat(serializations).hasValue(0);
+	}
+
+	@Test
+	void doesNotCacheAmbiguousConstants() {
+
+		String name = "Dave";
+
+		assertThat(serialize(user.firstname.eq(name).or(user.lastname.eq(name)))).isNull();
+		assertThat(serializations).hasValue(0);
+
+		SerializedQuery serialized = serialize(user.firstname.eq("Dave").or(user.lastname.eq("Matthews")));
+
+		assertThat(serialized).isNotNull();
+		assertThat(serialized.constants()).containsExactly("Dave", "Matthews");
+		assertThat(serialize(user.firstname.eq("Oliver").or(user.lastname.eq("Oliver")))).isNull();
+		assertThat(serialize(user.firstname.eq("Oliver").or(user.lastname.eq("Gierke"))).constants())
+				.containsExactly("Oliver", "Gierke");
+		assertThat(serializations).hasValue(1);
+	}
+
+	@Test
+	void doesNotMapConstantsByIdentity() {
+
+		SerializedQuery first = serialize(user.firstname.eq(new String("Dave")).and(user.age.gt(20)));
+		SerializedQuery second = serialize(user.firstname.eq(new String("Oliver")).and(user.age.gt(30)));
+
+		assertThat(first.constants()).containsExactly("Dave", 20);
+		assertThat(second.constants()).containsExactly("Oliver", 30);
+		assertThat(serializations).hasValue(1);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedShapes() {
+
+		QuerydslQueryCache cache = new QuerydslQueryCache(HQLTemplates.DEFAULT, 1);
+
+		serialize(cache, user.firstname.eq("Dave"), false);
+		serialize(cache, user.lastname.eq("Matthews"), false);
+		serialize(cache, user.firstname.eq("Oliver"), false);
+
+		assertThat(serializations).hasValue(3);
+
+		serialize(cache, user.firstname.eq("Carter"), false);
+
+		assertThat(serializations).hasValue(3);
+	}
+
+	private SerializedQuery serialize(Predicate predicate) {
+		return serialize(predicate, false);
+	}
+
+	private SerializedQuery serialize(Predicate predicate, boolean forCount) {
+		return serialize(cache, predicate, forCount);
+	}
+
+	private SerializedQuery serialize(QuerydslQueryCache cache, Predicate predicate, boolean forCount) {
+
+		QueryMetadata metadata = metadata(predicate);
+
+		return cache.getSerializedQuery(metadata, forCount, () -> {
+			serializations.incrementAndGet();
+			return serializer(metadata, forCount);
+		});
+	}
+
+	private static QueryMetadata metadata(Predicate predicate) {
+
+		QueryMetadata metadata = new DefaultQueryMetadata();
+		metadata.addJoin(JoinType.DEFAULT, user);
+		metadata.addWhere(predicate);
+		metadata.setProjection(user);
+
+		return metadata;
+	}
+
+	private static JPQLSerializer serializer(QueryMetadata metadata, boolean forCount) {
+
+		JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+		serializer.serialize(metadata, forCount, null);
+
+		return serializer;
+	}
+
+}
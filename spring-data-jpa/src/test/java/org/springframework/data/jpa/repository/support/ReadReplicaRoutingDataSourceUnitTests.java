@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Unit tests for {@link ReadReplicaRoutingDataSource} using two in-memory H2 databases.
+ */
+class ReadReplicaRoutingDataSourceUnitTests {
+
+	EmbeddedDatabase primary;
+	EmbeddedDatabase replica;
+	ReadReplicaRoutingDataSource dataSource;
+
+	@BeforeEach
+	void setUp() {
+
+		primary = new EmbeddedDatabaseBuilder().setName("primary").setType(EmbeddedDatabaseType.H2).build();
+		replica = new EmbeddedDatabaseBuilder().setName("replica").setType(EmbeddedDatabaseType.H2).build();
+		dataSource = new ReadReplicaRoutingDataSource(primary, replica);
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		ReadReplicaRoutingDataSource.setReplicaRouted(false);
+		primary.shutdown();
+		replica.shutdown();
+	}
+
+	@Test
+	void routesToPrimaryByDefault() throws SQLException {
+
+		assertThat(ReadReplicaRoutingDataSource.isReplicaRouted()).isFalse();
+		assertThat(getDatabaseUrl()).contains("primary");
+	}
+
+	@Test
+	void routesToReplicaWhenRouted() throws SQLException {
+
+		boolean previous = ReadReplicaRoutingDataSource.setReplicaRouted(true);
+
+		assertThat(previous).isFalse();
+		assertThat(ReadReplicaRoutingDataSource.isReplicaRouted()).isTrue();
+		assertThat(getDatabaseUrl()).contains("replica");
+
+		ReadReplicaRoutingDataSource.setReplicaRouted(previous);
+
+		assertThat(getDatabaseUrl()).contains("primary");
+	}
+
+	private String getDatabaseUrl() throws SQLException {
+
+		try (Connection connection = dataSource.getConnection()) {
+			return connection.getMetaData().getURL();
+		}
+	}
+
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.LockModeType;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.ReadReplica;
+import org.springframework.data.jpa.repository.support.ReadReplicaRoutingPostProcessor.ReadReplicaRoutingInterceptor;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link ReadReplicaRoutingPostProcessor}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReadReplicaRoutingPostProcessorUnitTests {
+
+	private static final Set<String> QUERY_METHODS = Set.of("findByName", "deleteByName", "countByName",
+			"findByEmail", "findAndModifyByName", "updateName", "lockByName");
+
+	@Mock MethodInvocation invocation;
+	@Mock RepositoryInformation information;
+
+	AtomicReference<Duration> replicationLag = new AtomicReference<>(Duration.ZERO);
+	ReadReplicaRoutingInterceptor interceptor;
+
+	@BeforeEach
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void setUp() throws Throwable {
+
+		when(information.getRepositoryInterface()).thenReturn((Class) Sample.class);
+		when(information.getRepositoryBaseClass()).thenReturn((Class) SampleBase.class);
+		when(information.isQueryMethod(any()))
+				.thenAnswer(it -> QUERY_METHODS.contains(it.getArgument(0, Method.class).getName()));
+		when(invocation.proceed()).thenAnswer(it -> ReadReplicaRoutingDataSource.isReplicaRouted());
+
+		interceptor = new ReadReplicaRoutingInterceptor(information, replicationLag::get, Duration.ofSeconds(5));
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		ReadReplicaRoutingDataSource.clearWrites();
+	}
+
+	@Test
+	void detectsReadOnlyMethods() throws Exception {
+
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("findByName", String.class))).isTrue();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("countByName", String.class))).isTrue();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("findAll"))).isTrue();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("report"))).isTrue();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("custom"))).isTrue();
+	}
+
+	@Test
+	void detectsWritingMethods() throws Exception {
+
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("deleteByName", String.class))).isFalse();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("findByEmail", String.class))).isFalse();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("findAndModifyByName", String.class))).isFalse();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("updateName", String.class))).isFalse();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("lockByName", String.class))).isFalse();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("save", Object.class))).isFalse();
+		assertThat(interceptor.isReadOnly(Sample.class.getMethod("findings"))).isFalse();
+	}
+
+	@Test
+	void detectsMethodsRecordingWrites() throws Exception {
+
+		assertThat(interceptor.isWrite(Sample.class.getMethod("deleteByName", String.class))).isTrue();
+		assertThat(interceptor.isWrite(Sample.class.getMethod("findAndModifyByName", String.class))).isTrue();
+		assertThat(interceptor.isWrite(Sample.class.getMethod("updateName", String.class))).isTrue();
+		assertThat(interceptor.isWrite(Sample.class.getMethod("save", Object.class))).isTrue();
+
+		assertThat(interceptor.isWrite(Sample.class.getMethod("findByEmail", String.class))).isFalse();
+		assertThat(interceptor.isWrite(Sample.class.getMethod("lockByName", String.class))).isFalse();
+		assertThat(interceptor.isWrite(Sample.class.getMethod("findings"))).isFalse();
+		assertThat(interceptor.isWrite(Object.class.getMethod("toString"))).isFalse();
+	}
+
+	@Test
+	void routesReadOnlyMethodsToReplica() throws Throwable {
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(true);
+		assertThat(ReadReplicaRoutingDataSource.isReplicaRouted()).isFalse();
+	}
+
+	@Test
+	void routesWritingMethodsToPrimary() throws Throwable {
+		assertThat(invoke("save", Object.class)).isEqualTo(false);
+	}
+
+	@Test
+	void keepsReadsWithinTransactionOnTransactionConnection() throws Throwable {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(false);
+	}
+
+	@Test
+	void fallsBackToPrimaryWhenReplicationLagExceedsMaximum() throws Throwable {
+
+		replicationLag.set(Duration.ofSeconds(10));
+		assertThat(invoke("findByName", String.class)).isEqualTo(false);
+
+		replicationLag.set(null);
+		assertThat(invoke("findByName", String.class)).isEqualTo(false);
+	}
+
+	@Test
+	void readsOwnWritesFromPrimaryWithinReplicationLag() throws Throwable {
+
+		replicationLag.set(Duration.ofSeconds(2));
+
+		invoke("save", Object.class);
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(false);
+
+		replicationLag.set(Duration.ZERO);
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(true);
+	}
+
+	@Test
+	void readsOwnWritesFromPrimaryWithFixedReplicationLag() throws Throwable {
+
+		interceptor = new ReadReplicaRoutingInterceptor(information, ReplicationLagMonitor.fixed(Duration.ofSeconds(5)),
+				Duration.ofSeconds(5));
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(true);
+
+		invoke("save", Object.class);
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(false);
+	}
+
+	@Test
+	void clearsRecordedWrites() throws Throwable {
+
+		replicationLag.set(Duration.ofSeconds(2));
+
+		invoke("save", Object.class);
+
+		ReadReplicaRoutingDataSource.clearWrites();
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(true);
+	}
+
+	@Test
+	void clearsRecordedWriteOnceReplicationLagElapsed() throws Throwable {
+
+		invoke("save", Object.class);
+
+		assertThat(ReadReplicaRoutingDataSource.hasWrittenWithin(Duration.ofSeconds(2))).isTrue();
+		assertThat(ReadReplicaRoutingDataSource.hasWrittenWithin(Duration.ZERO)).isFalse();
+		assertThat(ReadReplicaRoutingDataSource.hasWrittenWithin(Duration.ofSeconds(2))).isFalse();
+	}
+
+	@Test
+	void doesNotRecordRolledBackWrites() throws Throwable {
+
+		replicationLag.set(Duration.ofSeconds(2));
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			invoke("save", Object.class);
+
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(true);
+	}
+
+	@Test
+	void recordsCommittedWrites() throws Throwable {
+
+		replicationLag.set(Duration.ofSeconds(2));
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			invoke("deleteByName", String.class);
+
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(false);
+	}
+
+	@Test
+	void doesNotRecordFailedWrites() throws Throwable {
+
+		replicationLag.set(Duration.ofSeconds(2));
+		when(invocation.proceed()).thenThrow(new IllegalStateException());
+
+		assertThatIllegalStateException().isThrownBy(() -> invoke("save", Object.class));
+		assertThat(ReadReplicaRoutingDataSource.isReplicaRouted()).isFalse();
+
+		doAnswer(it -> ReadReplicaRoutingDataSource.isReplicaRouted()).when(invocation).proceed();
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(true);
+	}
+
+	@Test
+	void doesNotRecordWritesForNonWritingMethods() throws Throwable {
+
+		replicationLag.set(Duration.ofSeconds(2));
+
+		assertThat(invoke(Object.class.getMethod("toString"))).isEqualTo(false);
+		assertThat(invoke("findings")).isEqualTo(false);
+		assertThat(invoke("lockByName", String.class)).isEqualTo(false);
+
+		assertThat(invoke("findByName", String.class)).isEqualTo(true);
+	}
+
+	@Test
+	void rejectsNegativeFixedReplicationLag() {
+		assertThatIllegalArgumentException().isThrownBy(() -> ReplicationLagMonitor.fixed(Duration.ofSeconds(-1)));
+	}
+
+	private Object invoke(String name, Class<?>... parameterTypes) throws Throwable {
+		return invoke(Sample.class.getMethod(name, parameterTypes));
+	}
+
+	private Object invoke(Method method) throws Throwable {
+
+		when(invocation.getMethod()).thenReturn(method);
+
+		return interceptor.invoke(invocation);
+	}
+
+	interface Sample {
+
+		List<Object> findByName(String name);
+
+		long countByName(String name);
+
+		void deleteByName(String name);
+
+		@ReadReplica(false)
+		List<Object> findByEmail(String email);
+
+		@Modifying
+		List<Object> findAndModifyByName(String name);
+
+		@Transactional
+		void updateName(String name);
+
+		@Lock(LockModeType.PESSIMISTIC_WRITE)
+		List<Object> lockByName(String name);
+
+		List<Object> findAll();
+
+		Object save(Object entity);
+
+		@Transactional(readOnly = true)
+		List<Object> report();
+
+		@ReadReplica
+		List<Object> custom();
+
+		List<Object> findings();
+	}
+
+	@Transactional(readOnly = true)
+	static class SampleBase {
+
+		public List<Object> findAll() {
+			return List.of();
+		}
+
+		@Transactional
+		public Object save(Object entity) {
+			return entity;
+		}
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+/**
+ * Unit tests for {@link ScrollPublisher}.
+ */
+class ScrollPublisherUnitTests {
+
+	AtomicInteger fetchedWindows = new AtomicInteger();
+
+	@Test
+	void fetchesWindowsOnDemand() {
+
+		RecordingSubscriber subscriber = subscribe(publisher(5, 2));
+
+		assertThat(fetchedWindows).hasValue(0);
+
+		subscriber.subscription.request(3);
+
+		assertThat(subscriber.elements).containsExactly(0, 1, 2);
+		assertThat(fetchedWindows).hasValue(2);
+		assertThat(subscriber.completed).isFalse();
+
+		subscriber.subscription.request(10);
+
+		assertThat(subscriber.elements).containsExactly(0, 1, 2, 3, 4);
+		assertThat(fetchedWindows).hasValue(3);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	void completesEmptyResult() {
+
+		RecordingSubscriber subscriber = subscribe(publisher(0, 2));
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.elements).isEmpty();
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	void propagatesWindowFailures() {
+
+		DataRetrievalFailureException failure = new DataRetrievalFailureException("boom");
+
+		RecordingSubscriber subscriber = subscribe(ScrollPublisher.<Integer> of(position -> {
+			throw failure;
+		}, ScrollPosition.offset()).executeOn(Runnable::run));
+
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.error).isSameAs(failure);
+	}
+
+	@Test
+	void rejectsNonPositiveRequests() {
+
+		RecordingSubscriber subscriber = subscribe(publisher(5, 2));
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+		assertThat(fetchedWindows).hasValue(0);
+	}
+
+	@Test
+	void stopsFetchingWhenCancelled() {
+
+		RecordingSubscriber subscriber = subscribe(publisher(5, 2));
+
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(10);
+
+		assertThat(subscriber.elements).containsExactly(0);
+		assertThat(fetchedWindows).hasValue(1);
+		assertThat(subscriber.completed).isFalse();
+	}
+
+	private ScrollPublisher<Integer> publisher(int total, int windowSize) {
+
+		return ScrollPublisher.of(position -> {
+
+			fetchedWindows.incrementAndGet();
+
+			OffsetScrollPosition offset = (OffsetScrollPosition) position;
+			int start = offset.isInitial() ? 0 : (int) offset.getOffset() + 1;
+			int end = Math.min(start + windowSize, total);
+			List<Integer> content = IntStream.range(start, end).boxed().toList();
+
+			return Window.from(content, index -> ScrollPosition.offset(start + index), end < total);
+		}, ScrollPosition.offset()).executeOn(Runnable::run);
+	}
+
+	private static RecordingSubscriber subscribe(Flow.Publisher<Integer> publisher) {
+
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		publisher.subscribe(subscriber);
+		return subscriber;
+	}
+
+	static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+
+		Flow.Subscription subscription;
+		List<Integer> elements = new ArrayList<>();
+		@Nullable Throwable error;
+		boolean completed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Integer item) {
+			elements.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.jpa.domain.DeleteSpecification;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.data.jpa.domain.UpdateSpecification;
+import org.springframework.data.jpa.domain.sample.SampleEntity;
+import org.springframework.data.jpa.domain.sample.SampleEntityPK;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.ChunkedExecution;
+import org.springframework.data.jpa.repository.ChunkedExecution.Progress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for chunked execution of {@link UpdateSpecification} and {@link DeleteSpecification} through
+ * {@link SimpleJpaRepository}. Chunks participate in the test transaction as no transaction manager is configured.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration("classpath:hibernate-infrastructure.xml")
+@Transactional
+class SimpleJpaRepositoryChunkedExecutionIntegrationTests {
+
+	@PersistenceContext EntityManager em;
+
+	private UserRepository repository;
+	private List<User> users;
+
+	@BeforeEach
+	void setUp() {
+
+		repository = new JpaRepositoryFactory(em).getRepository(UserRepository.class);
+		users = new ArrayList<>();
+
+		for (int i = 0; i < 10; i++) {
+
+			User user = new User("Dave" + i, "Matthews", "dave" + i + "@dmband.com");
+			user.setAge(i);
+			users.add(user);
+		}
+
+		repository.saveAllAndFlush(users);
+		em.clear();
+	}
+
+	@Test
+	void deletesInChunks() {
+
+		List<Progress> progress = new ArrayList<>();
+
+		long deleted = repository.delete(DeleteSpecification.where(youngerThan(5)),
+				ChunkedExecution.ofSize(3).onProgress(progress::add));
+
+		assertThat(deleted).isEqualTo(5);
+		assertThat(repository.count()).isEqualTo(5);
+
+		assertThat(progress).hasSize(4);
+		assertThat(progress).extracting(Progress::chunk).containsExactly(1, 2, 3, 4);
+		assertThat(progress).extracting(Progress::affected).containsExactly(3L, 2L, 0L, 0L);
+		assertThat(progress.get(0).lowerBound()).isNull();
+		assertThat(progress.get(0).upperBound()).isEqualTo(users.get(2).getId());
+		assertThat(progress.get(1).lowerBound()).isEqualTo(users.get(2).getId());
+		assertThat(progress.get(3).isLast()).isTrue();
+		assertThat(progress.get(3).totalAffected()).isEqualTo(5);
+	}
+
+	@Test
+	void updatesInChunks() {
+
+		UpdateSpecification<User> update = UpdateSpecification.<User> update((root, criteria, builder) -> {
+			criteria.set("lastname", "Beauford");
+		}).where(youngerThan(7));
+
+		long updated = repository.update(update, ChunkedExecution.ofSize(4));
+
+		assertThat(updated).isEqualTo(7);
+		assertThat(repository.findAll()).filteredOn(it -> it.getLastname().equals("Beauford")).hasSize(7);
+	}
+
+	@Test
+	void resumesAfterGivenIdentifier() {
+
+		long deleted = repository.delete(DeleteSpecification.unrestricted(),
+				ChunkedExecution.ofSize(100).startAfter(users.get(4).getId()));
+
+		assertThat(deleted).isEqualTo(5);
+		assertThat(repository.findAll()).extracting(User::getId)
+				.containsExactlyInAnyOrderElementsOf(users.subList(0, 5).stream().map(User::getId).toList());
+	}
+
+	@Test
+	void rejectsCompositeIdentifiers() {
+
+		SampleEntityRepository sampleRepository = new JpaRepositoryFactory(em)
+				.getRepository(SampleEntityRepository.class);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> sampleRepository.delete(DeleteSpecification.unrestricted(), ChunkedExecution.ofSize(10)));
+	}
+
+	@Test
+	void rejectsInvalidChunkSettings() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> ChunkedExecution.ofSize(0));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> ChunkedExecution.ofSize(1).withThrottle(Duration.ofMillis(-1)));
+	}
+
+	private static PredicateSpecification<User> youngerThan(int age) {
+		return (from, builder) -> builder.lessThan(from.<Integer> get("age"), age);
+	}
+
+	private interface UserRepository extends JpaRepository<User, Integer>, JpaSpecificationExecutor<User> {
+
+	}
+
+	private interface SampleEntityRepository
+			extends JpaRepository<SampleEntity, SampleEntityPK>, JpaSpecificationExecutor<SampleEntity> {
+
+	}
+
+}
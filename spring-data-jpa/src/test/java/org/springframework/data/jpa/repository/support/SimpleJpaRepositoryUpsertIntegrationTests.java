@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.data.jpa.domain.sample.Country;
+import org.springframework.data.jpa.domain.sample.Customer;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.domain.sample.VersionedUser;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaUpsertExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link SimpleJpaRepository#upsertAll(Iterable)}.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration("classpath:hibernate-infrastructure.xml")
+@Transactional
+class SimpleJpaRepositoryUpsertIntegrationTests {
+
+	@PersistenceContext EntityManager em;
+
+	private CustomerRepository customers;
+	private UserRepository users;
+	private VersionedUserRepository versionedUsers;
+
+	@BeforeEach
+	void setUp() {
+
+		JpaRepositoryFactory factory = new JpaRepositoryFactory(em);
+		customers = factory.getRepository(CustomerRepository.class);
+		users = factory.getRepository(UserRepository.class);
+		versionedUsers = factory.getRepository(VersionedUserRepository.class);
+	}
+
+	@Test
+	void insertsAndUpdatesRowsWithoutLoadingThem() {
+
+		customers.saveAndFlush(customer(1L, "Dave", "US"));
+		em.clear();
+
+		List<Customer> result = customers.upsertAll(List.of(customer(1L, "Carter", "DE"), customer(2L, "Oliver", "AT")));
+
+		assertThat(result).hasSize(2).noneMatch(em::contains);
+
+		em.clear();
+
+		assertThat(customers.findById(1L)).hasValueSatisfying(it -> {
+			assertThat(it.getName()).isEqualTo("Carter");
+			assertThat(it.getCountry().getCode()).isEqualTo("DE");
+		});
+		assertThat(customers.findById(2L)).map(Customer::getName).contains("Oliver");
+	}
+
+	@Test
+	void isIdempotent() {
+
+		List<Customer> batch = List.of(customer(1L, "Dave", "US"), customer(2L, "Oliver", "AT"));
+
+		customers.upsertAll(batch);
+		customers.upsertAll(batch);
+
+		assertThat(customers.count()).isEqualTo(2);
+	}
+
+	@Test
+	void flushesPendingChangesBeforeUpserting() {
+
+		customers.save(customer(1L, "Dave", "US"));
+
+		customers.upsertAll(List.of(customer(1L, "Carter", "DE")));
+		em.clear();
+
+		assertThat(customers.findById(1L)).map(Customer::getName).contains("Carter");
+	}
+
+	@Test
+	void assignsGeneratedIdentifiers() {
+
+		User user = new User("Dave", "Matthews", "dave@dmband.com");
+
+		users.upsertAll(List.of(user));
+
+		assertThat(user.getId()).isNotNull();
+		assertThat(em.contains(user)).isFalse();
+
+		em.clear();
+
+		assertThat(users.findById(user.getId())).map(User::getFirstname).contains("Dave");
+	}
+
+	@Test
+	void rejectsVersionedEntities() {
+
+		VersionedUser user = new VersionedUser();
+		user.setId(1L);
+		user.setVersion(1L);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> versionedUsers.upsertAll(List.of(user))).withMessageContaining("versioned");
+	}
+
+	@Test
+	void returnsEmptyListForNoEntities() {
+		assertThat(customers.upsertAll(List.of())).isEmpty();
+	}
+
+	private static Customer customer(Long id, String name, String country) {
+
+		Customer customer = new Customer();
+		customer.setId(id);
+		customer.setName(name);
+		customer.setCountry(Country.of(country));
+
+		return customer;
+	}
+
+	private interface CustomerRepository extends JpaRepository<Customer, Long>, JpaUpsertExecutor<Customer> {
+
+	}
+
+	private interface UserRepository extends JpaRepository<User, Integer>, JpaUpsertExecutor<User> {
+
+	}
+
+	private interface VersionedUserRepository
+			extends JpaRepository<VersionedUser, Long>, JpaUpsertExecutor<VersionedUser> {
+
+	}
+
+}
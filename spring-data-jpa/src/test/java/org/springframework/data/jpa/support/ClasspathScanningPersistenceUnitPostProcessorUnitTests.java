@@ -19,15 +19,21 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import jakarta.persistence.Entity;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -158,6 +164,90 @@ class ClasspathScanningPersistenceUnitPostProcessorUnitTests {
 		verify(pui).addMappingFileName(nestedModule3Path);
 	}
 
+	@Test
+	void registersManagedClassesFromIndex(@TempDir Path directory) throws IOException {
+
+		String indexedClassName = getClass().getName();
+		writeIndex(directory, List.of(basePackage), List.of(indexedClassName));
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+				getClass().getClassLoader())) {
+
+			ClasspathScanningPersistenceUnitPostProcessor processor = new ClasspathScanningPersistenceUnitPostProcessor(
+					basePackage);
+			processor.setResourceLoader(new DefaultResourceLoader(classLoader));
+			processor.postProcessPersistenceUnitInfo(pui);
+		}
+
+		verify(pui).addManagedClassName(indexedClassName);
+		verify(pui, never()).addManagedClassName(SampleEntity.class.getName());
+	}
+
+	@Test
+	void scansClasspathIfIndexIsStale(@TempDir Path directory) throws IOException {
+
+		writeIndex(directory, List.of(basePackage), List.of(basePackage + ".RemovedEntity"));
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+				getClass().getClassLoader())) {
+
+			ClasspathScanningPersistenceUnitPostProcessor processor = new ClasspathScanningPersistenceUnitPostProcessor(
+					basePackage);
+			processor.setResourceLoader(new DefaultResourceLoader(classLoader));
+			processor.postProcessPersistenceUnitInfo(pui);
+		}
+
+		verify(pui).addManagedClassName(SampleEntity.class.getName());
+		verify(pui, never()).addManagedClassName(basePackage + ".RemovedEntity");
+	}
+
+	@Test
+	void scansClasspathIfIndexDoesNotCoverBasePackage(@TempDir Path directory) throws IOException {
+
+		writeIndex(directory, List.of("com.acme"), List.of());
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+				getClass().getClassLoader())) {
+
+			ClasspathScanningPersistenceUnitPostProcessor processor = new ClasspathScanningPersistenceUnitPostProcessor(
+					basePackage);
+			processor.setResourceLoader(new DefaultResourceLoader(classLoader));
+			processor.postProcessPersistenceUnitInfo(pui);
+		}
+
+		verify(pui).addManagedClassName(SampleEntity.class.getName());
+	}
+
+	@Test
+	void ignoresIndexIfDisabled(@TempDir Path directory) throws IOException {
+
+		writeIndex(directory, List.of(basePackage), List.of(getClass().getName()));
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+				getClass().getClassLoader())) {
+
+			ClasspathScanningPersistenceUnitPostProcessor processor = new ClasspathScanningPersistenceUnitPostProcessor(
+					basePackage);
+			processor.setResourceLoader(new DefaultResourceLoader(classLoader));
+			processor.setIndexEnabled(false);
+			processor.postProcessPersistenceUnitInfo(pui);
+		}
+
+		verify(pui).addManagedClassName(SampleEntity.class.getName());
+		verify(pui, never()).addManagedClassName(getClass().getName());
+	}
+
+	private static void writeIndex(Path directory, List<String> basePackages, List<String> managedClassNames)
+			throws IOException {
+
+		Path index = directory.resolve(PersistenceUnitIndex.INDEX_LOCATION);
+		Files.createDirectories(index.getParent());
+
+		try (Writer writer = Files.newBufferedWriter(index)) {
+			PersistenceUnitIndex.write(writer, basePackages, null, managedClassNames, List.of());
+		}
+	}
+
 	@Entity
 	public static class SampleEntity {}
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.jpa.support.ClasspathScanningPersistenceUnitPostProcessorUnitTests.SampleEntity;
+
+/**
+ * Unit tests for {@link PersistenceUnitIndex}.
+ */
+class PersistenceUnitIndexUnitTests {
+
+	private static final String BASE_PACKAGE = "org.springframework.data.jpa.support";
+
+	@TempDir Path directory;
+
+	@Test
+	void writesSortedIndex() throws IOException {
+
+		StringWriter writer = new StringWriter();
+
+		PersistenceUnitIndex.write(writer, List.of("com.acme"), "*-orm.xml", List.of("com.acme.User", "com.acme.Address"),
+				List.of("com/acme/user-orm.xml"));
+
+		assertThat(writer.toString()).isEqualTo("""
+				com.acme=base-package
+				com.acme.Address=managed-class
+				com.acme.User=managed-class
+				com/acme/*-orm.xml=mapping-file-pattern
+				com/acme/user-orm.xml=mapping-file
+				""");
+	}
+
+	@Test
+	void escapesEntriesUsingPropertiesFormat() throws IOException {
+
+		writeIndex(List.of("com.acme"), null, List.of(), List.of("com/acme/user orm.xml", "com/acme/a=b.xml"));
+
+		assertThat(Files.readString(directory.resolve(PersistenceUnitIndex.INDEX_LOCATION))).doesNotContain("#")
+				.contains("com/acme/user\\ orm.xml=mapping-file");
+		assertThat(load().getMappingFileNames("com.acme", "*.xml")).containsExactlyInAnyOrder("com/acme/user orm.xml",
+				"com/acme/a=b.xml");
+	}
+
+	@Test
+	void returnsNullIfNoIndexPresent() throws IOException {
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+			assertThat(PersistenceUnitIndex.load(classLoader)).isNull();
+		}
+	}
+
+	@Test
+	void filtersManagedClassesAndMappingFilesByBasePackage() throws IOException {
+
+		writeIndex(List.of("com.acme"), "**/*-orm.xml",
+				List.of("com.acme.User", "com.acme.sales.Order", "com.acme2.Other"),
+				List.of("com/acme/user-orm.xml", "com/acme/sales/order-orm.xml", "com/acme/sales/order.xml"));
+
+		PersistenceUnitIndex index = load();
+
+		assertThat(index.containsManagedClasses("com.acme")).isTrue();
+		assertThat(index.containsManagedClasses("com.acme.sales")).isTrue();
+		assertThat(index.containsManagedClasses("com.acme2")).isFalse();
+		assertThat(index.getManagedClassNames("com.acme")).containsExactlyInAnyOrder("com.acme.User",
+				"com.acme.sales.Order");
+		assertThat(index.getManagedClassNames("com.acme.sales")).containsExactly("com.acme.sales.Order");
+
+		assertThat(index.containsMappingFiles("com.acme", "**/*-orm.xml")).isTrue();
+		assertThat(index.containsMappingFiles("com.acme", "*.xml")).isFalse();
+		assertThat(index.getMappingFileNames("com.acme", "**/*-orm.xml"))
+				.containsExactlyInAnyOrder("com/acme/user-orm.xml", "com/acme/sales/order-orm.xml");
+	}
+
+	@Test
+	void considersIndexWithMissingClassesStale() throws IOException {
+
+		writeIndex(List.of(BASE_PACKAGE), null, List.of(SampleEntity.class.getName()), List.of());
+		assertThat(load().isCurrent(BASE_PACKAGE, getClass().getClassLoader())).isTrue();
+
+		writeIndex(List.of(BASE_PACKAGE), null, List.of(BASE_PACKAGE + ".RemovedEntity"), List.of());
+		assertThat(load().isCurrent(BASE_PACKAGE, getClass().getClassLoader())).isFalse();
+	}
+
+	@Test
+	void considersIndexWithNewerClassesStale() throws IOException {
+
+		writeIndex(List.of("com.acme"), null, List.of(), List.of());
+
+		Path index = directory.resolve(PersistenceUnitIndex.INDEX_LOCATION);
+		Path classFile = directory.resolve("com/acme/NewEntity.class");
+		Files.createDirectories(classFile.getParent());
+		Files.write(classFile, new byte[0]);
+
+		Files.setLastModifiedTime(classFile, FileTime.fromMillis(1_000));
+		Files.setLastModifiedTime(index, FileTime.fromMillis(2_000));
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null)) {
+
+			assertThat(load().isCurrent("com.acme", classLoader)).isTrue();
+
+			Files.setLastModifiedTime(classFile, FileTime.fromMillis(3_000));
+
+			assertThat(load().isCurrent("com.acme", classLoader)).isFalse();
+		}
+	}
+
+	@Test
+	void generatesIndexByScanningBasePackages() throws IOException {
+
+		PersistenceUnitIndex.main(new String[] { directory.toString(), BASE_PACKAGE, "--mapping-files=*.xml" });
+
+		PersistenceUnitIndex index = load();
+
+		assertThat(index.containsManagedClasses(BASE_PACKAGE)).isTrue();
+		assertThat(index.getManagedClassNames(BASE_PACKAGE)).contains(SampleEntity.class.getName());
+		assertThat(index.containsMappingFiles(BASE_PACKAGE, "*.xml")).isTrue();
+		assertThat(index.getMappingFileNames(BASE_PACKAGE, "*.xml"))
+				.contains("org/springframework/data/jpa/support/mapping.xml");
+	}
+
+	private void writeIndex(List<String> basePackages, String mappingFileNamePattern, List<String> managedClassNames,
+			List<String> mappingFileNames) throws IOException {
+
+		Path index = directory.resolve(PersistenceUnitIndex.INDEX_LOCATION);
+		Files.createDirectories(index.getParent());
+
+		try (Writer writer = Files.newBufferedWriter(index)) {
+			PersistenceUnitIndex.write(writer, basePackages, mappingFileNamePattern, managedClassNames, mappingFileNames);
+		}
+	}
+
+	private PersistenceUnitIndex load() throws IOException {
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null)) {
+
+			PersistenceUnitIndex index = PersistenceUnitIndex.load(classLoader);
+
+			assertThat(index).isNotNull();
+			return index;
+		}
+	}
+
+}